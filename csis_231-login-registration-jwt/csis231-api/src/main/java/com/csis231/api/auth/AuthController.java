@@ -157,4 +157,34 @@ public class AuthController {
             throw e;
         }
     }
+
+    /**
+     * Issues a new access token and a rotated refresh token.
+     *
+     * <p>The presented refresh token is single-use; presenting it a second
+     * time revokes every token derived from the same login.</p>
+     *
+     * @param req request body containing the current refresh token
+     * @return {@code 200 OK} with a new {@link AuthResponse};
+     *         {@code 401 Unauthorized} if the refresh token is invalid,
+     *         expired, revoked or reused
+     */
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshRequest req) {
+        return ResponseEntity.ok(authService.refresh(req));
+    }
+
+    /**
+     * Revokes the refresh token family of the current session.
+     *
+     * @param req request body containing the current refresh token
+     * @return {@code 200 OK}, also when the token is unknown
+     */
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@Valid @RequestBody RefreshRequest req) {
+        authService.logout(req);
+        return ResponseEntity.ok(Map.of("message", "Logged out"));
+    }
 }
@@ -7,8 +7,9 @@ import lombok.Data;
 /**
  * Response returned after successful authentication or OTP verification.
  *
- * <p>Contains the issued JWT together with basic user profile data that
- * the frontend of the online learning platform needs.</p>
+ * <p>Contains the issued short-lived JWT and a refresh token, together
+ * with basic user profile data that the frontend of the online learning
+ * platform needs.</p>
  */
 @Data
 @AllArgsConstructor
@@ -34,4 +35,7 @@ public class AuthResponse {
 
     /** Application role of the user (for example STUDENT, INSTRUCTOR, ADMIN). */
     private String role;
+
+    /** Single-use refresh token, exchanged at {@code /api/auth/refresh} for a new pair. */
+    private String refreshToken;
 }
@@ -3,6 +3,8 @@ package com.csis231.api.auth;
 import com.csis231.api.common.BadRequestException;
 import com.csis231.api.common.UnauthorizedException;
 import com.csis231.api.jwt.JwtUtil;
+import com.csis231.api.jwt.RefreshTokenService;
+import com.csis231.api.jwt.TokenRevocationCache;
 import com.csis231.api.otp.OtpPurposes;
 import com.csis231.api.otp.OtpRequiredException;
 import com.csis231.api.otp.OtpService;
@@ -37,6 +39,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final OtpService otpService;
+    private final TokenRevocationCache revocationCache;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * Authenticates a user with username and password and optionally
@@ -81,16 +85,7 @@ public class AuthService {
         }
 
         // If you ever disable OTP for some users:
-        String token = jwtUtil.generateToken(user.getUsername());
-        return new AuthResponse(
-                token,
-                user.getId(),
-                user.getUsername(),
-                user.getEmail(),
-                user.getFirstName(),
-                user.getLastName(),
-                user.getRole().name()
-        );
+        return authResponse(user, refreshTokenService.issue(user));
     }
 
     /**
@@ -117,16 +112,7 @@ public class AuthService {
 
         otpService.verifyOtpOrThrow(user, OtpPurposes.LOGIN_2FA, code);
 
-        String token = jwtUtil.generateToken(user.getUsername());
-        return new AuthResponse(
-                token,
-                user.getId(),
-                user.getUsername(),
-                user.getEmail(),
-                user.getFirstName(),
-                user.getLastName(),
-                user.getRole().name()
-        );
+        return authResponse(user, refreshTokenService.issue(user));
     }
 
     /**
@@ -176,7 +162,7 @@ public class AuthService {
      * @throws BadCredentialsException if the e-mail is unknown or the OTP is invalid
      */
 
-    @Transactional
+    @Transactional(noRollbackFor = OtpRequiredException.class)
     public void resetPassword(ResetPasswordRequest req) {
         if (req == null || req.email() == null || req.email().isBlank()
                 || req.code() == null || req.code().isBlank()
@@ -187,5 +173,50 @@ public class AuthService {
                 .orElseThrow(() -> new UnauthorizedException("Unknown email"));
         otpService.verifyOtpOrThrow(user, OtpPurposes.PASSWORD_RESET, req.code());
         user.setPassword(passwordEncoder.encode(req.newPassword()));
+        revocationCache.revokeAll(user.getUsername());
+        refreshTokenService.revokeAll(user.getId());
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh
+     * token, without repeating the password and OTP steps.
+     *
+     * @param req request carrying the current refresh token
+     * @return an {@link AuthResponse} with the new token pair
+     * @throws BadCredentialsException if the refresh token is invalid, expired,
+     *         revoked or was already used
+     */
+
+    public AuthResponse refresh(RefreshRequest req) {
+        if (req == null || req.refreshToken() == null || req.refreshToken().isBlank()) {
+            throw new BadRequestException("Refresh token is required");
+        }
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(req.refreshToken());
+        return authResponse(rotation.user(), rotation.refreshToken());
+    }
+
+    /**
+     * Ends a session by revoking the refresh token family of the given token.
+     *
+     * @param req request carrying the current refresh token
+     */
+
+    public void logout(RefreshRequest req) {
+        if (req != null) {
+            refreshTokenService.revoke(req.refreshToken());
+        }
+    }
+
+    private AuthResponse authResponse(User user, String refreshToken) {
+        return new AuthResponse(
+                jwtUtil.generateToken(user),
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getRole().name(),
+                refreshToken
+        );
     }
 }
@@ -0,0 +1,155 @@
+package com.csis231.api.auth;
+
+import com.csis231.api.common.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt {@link PasswordEncoder} that runs every hash on a small dedicated
+ * thread pool.
+ *
+ * <p>Hashing is CPU-bound, so at most {@code workers} hashes run at once and
+ * further calls wait in a bounded queue. When the queue is full, or a caller
+ * has waited longer than {@code maxWait}, a
+ * {@link ServiceUnavailableException} is thrown instead of piling up more
+ * work; a burst of logins therefore cannot take every request thread and CPU
+ * away from the rest of the API.</p>
+ *
+ * <p>{@link #upgradeEncoding(String)} reports hashes whose cost differs from
+ * the configured one, so Spring Security re-hashes them on the next
+ * successful login (see {@link JpaUserDetailsService#updatePassword}).</p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int cost;
+    private final long maxWaitNanos;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejected;
+
+    /**
+     * Creates the encoder and starts its worker threads.
+     *
+     * @param cost          BCrypt cost factor (log2 rounds, 4..31)
+     * @param workers       number of hashes allowed to run concurrently
+     * @param queueCapacity number of hashes allowed to wait for a worker
+     * @param maxWait       longest a caller waits for its hash
+     * @param registry      registry receiving timers and the queue gauge
+     */
+    public BoundedPasswordEncoder(int cost, int workers, int queueCapacity, Duration maxWait, MeterRegistry registry) {
+        this.delegate = new BCryptPasswordEncoder(cost);
+        this.cost = cost;
+        this.maxWaitNanos = maxWait.toNanos();
+        int size = Math.max(1, workers);
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread t = new Thread(r, "password-hash-" + threads.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        String costTag = Integer.toString(cost);
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "encode").tag("cost", costTag).register(registry);
+        this.matchTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "matches").tag("cost", costTag).register(registry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Password hashes refused because the hashing pool was saturated")
+                .register(registry);
+        Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a worker")
+                .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Reports BCrypt hashes created with a different cost than the configured
+     * one; hashes in an unknown format are left alone.
+     *
+     * @param encodedPassword the stored hash
+     * @return {@code true} when the hash should be recomputed
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Integer stored = costOf(encodedPassword);
+        return stored != null && stored != cost;
+    }
+
+    /**
+     * @return the configured BCrypt cost factor
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Stops the worker threads; called by Spring when the context closes.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    static Integer costOf(String encodedPassword) {
+        if (encodedPassword == null) return null;
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        return m.find() ? Integer.valueOf(m.group(1)) : null;
+    }
+
+    private <T> T run(Timer timer, Callable<T> hash) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(hash));
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests, please retry shortly");
+        }
+        try {
+            return future.get(Math.max(0L, maxWaitNanos - (System.nanoTime() - start)), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests, please retry shortly");
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+}
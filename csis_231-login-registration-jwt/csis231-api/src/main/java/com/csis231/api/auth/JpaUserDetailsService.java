@@ -1,10 +1,13 @@
 package com.csis231.api.auth;
 
 import com.csis231.api.user.User;
+import com.csis231.api.user.UserCache;
 import com.csis231.api.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,21 +17,29 @@ import java.util.List;
  *
  * <p>It adapts the application's {@link User} entity to Spring Security's
  * {@link UserDetails} contract.</p>
+ *
+ * <p>As a {@link UserDetailsPasswordService} it also stores the re-hashed
+ * password Spring Security produces after a successful login when the
+ * stored hash uses an outdated BCrypt cost.</p>
  */
 
+@Slf4j
 @Service
-public class JpaUserDetailsService implements UserDetailsService {
+public class JpaUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
      * Creates a new {@code JpaUserDetailsService} using the given repository.
      *
      * @param userRepository repository used to look up users by username
+     * @param userCache      cache evicted when a password hash is replaced
      */
 
-    public JpaUserDetailsService(UserRepository userRepository) {
+    public JpaUserDetailsService(UserRepository userRepository, UserCache userCache) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
     }
 
     /**
@@ -60,4 +71,28 @@ public class JpaUserDetailsService implements UserDetailsService {
                 .disabled(!u.getIsActive())
                 .build();
     }
+
+    /**
+     * Stores an upgraded password hash for a user who just logged in.
+     *
+     * <p>The update only applies if the stored hash is still the one that
+     * was verified, so a password changed in the meantime is kept.</p>
+     *
+     * @param user        the authenticated user, carrying the old hash
+     * @param newPassword the new hash
+     * @return the user details carrying the new hash
+     */
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        int updated = userRepository.replacePasswordHash(user.getUsername(), user.getPassword(), newPassword);
+        if (updated > 0) {
+            userCache.evict(user.getUsername());
+            log.info("Re-hashed password of '{}' with the current BCrypt cost", user.getUsername());
+        }
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
@@ -0,0 +1,14 @@
+package com.csis231.api.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request body used to refresh or end a session.
+ *
+ * @param refreshToken the refresh token returned by login, OTP verification
+ *                     or the previous refresh
+ */
+
+public record RefreshRequest(
+        @NotBlank String refreshToken
+) {}
@@ -0,0 +1,65 @@
+package com.csis231.api.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Runs set-based deletes in bounded chunks.
+ *
+ * <p>Each chunk selects at most {@code bulk-delete.chunk-size} ids and deletes them
+ * with one statement. When called outside a transaction every chunk commits on its
+ * own, so deleting many rows never holds locks for the whole operation; inside an
+ * existing transaction the chunks simply join it.</p>
+ */
+@Component
+public class ChunkedDeleter {
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bulk-delete.chunk-size:1000}")
+    private int chunkSize;
+
+    public ChunkedDeleter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Deletes rows chunk by chunk until {@code idSource} returns no more ids.
+     *
+     * @param idSource returns the next ids to delete, limited by the given page
+     * @param deleter  deletes the given ids and returns the number of rows removed
+     * @return the total number of rows removed
+     */
+    public long deleteAll(Function<Pageable, List<Long>> idSource, ToIntFunction<List<Long>> deleter) {
+        Pageable chunk = PageRequest.of(0, Math.max(1, chunkSize));
+        long total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = idSource.apply(chunk);
+                return ids.isEmpty() ? -1 : deleter.applyAsInt(ids);
+            });
+            if (deleted == null || deleted < 0) return total;
+            total += deleted;
+        }
+    }
+
+    /**
+     * Runs the given work in a transaction (joining the caller's, if any).
+     *
+     * @param work the work to run
+     * @param <T>  the result type
+     * @return the work's result
+     */
+    public <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
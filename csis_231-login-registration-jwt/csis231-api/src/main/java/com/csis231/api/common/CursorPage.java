@@ -0,0 +1,27 @@
+package com.csis231.api.common;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated slice of results.
+ *
+ * <p>Unlike {@link PagedResponse}, a cursor page carries no page number: the
+ * client passes {@code nextCursor} back as the {@code after} parameter to fetch
+ * the following slice. {@code totalElements} is only populated when the caller
+ * explicitly asks for it, since counting is the expensive part on large tables.</p>
+ *
+ * @param content       the items in this slice
+ * @param size          the requested slice size
+ * @param nextCursor    opaque token for the next slice, or {@code null} on the last one
+ * @param hasMore       whether another slice exists after this one
+ * @param totalElements total matching rows, or {@code null} when the count was skipped
+ * @param <T>           the element type
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasMore,
+        Long totalElements
+) {
+}
@@ -2,6 +2,7 @@ package com.csis231.api.common;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -114,6 +115,20 @@ public class GlobalExceptionHandler {
                 .body(build(ex.getMessage(), ex.getCode(), request));
     }
 
+    /**
+     * Handles temporary overload, e.g. a saturated password hashing pool.
+     *
+     * @param ex      service unavailable exception
+     * @param request the current request
+     * @return a 503 response with a {@code Retry-After} hint
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(build(ex.getMessage(), ex.getCode(), request));
+    }
+
     /**
      * Handles bean validation errors from @Valid annotated payloads.
      *
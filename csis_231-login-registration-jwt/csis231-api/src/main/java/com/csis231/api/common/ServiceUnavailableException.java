@@ -0,0 +1,10 @@
+package com.csis231.api.common;
+
+/**
+ * Thrown when the server is temporarily too busy to handle a request.
+ */
+public class ServiceUnavailableException extends ApplicationException {
+    public ServiceUnavailableException(String message) {
+        super(message, "SERVICE_UNAVAILABLE");
+    }
+}
@@ -0,0 +1,28 @@
+package com.csis231.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables JDBC batching and insert/update ordering for Hibernate.
+ *
+ * <p>Values configured explicitly under {@code spring.jpa.properties} take
+ * precedence over these defaults.</p>
+ */
+@Configuration
+public class JpaBatchingConfig {
+
+    @Value("${jpa.jdbc-batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
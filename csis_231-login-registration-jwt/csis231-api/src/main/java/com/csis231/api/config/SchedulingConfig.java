@@ -0,0 +1,12 @@
+package com.csis231.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance jobs such as the expired OTP purge.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,23 +1,28 @@
 package com.csis231.api.config;
 
+import com.csis231.api.auth.BoundedPasswordEncoder;
 import com.csis231.api.jwt.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -27,9 +32,18 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /**
+     * Shared password encoder: BCrypt with a configurable cost, run on a
+     * bounded pool so hashing bursts cannot take over the request threads.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.cost:10}") int cost,
+                                           @Value("${auth.bcrypt.workers:0}") int workers,
+                                           @Value("${auth.bcrypt.queue-capacity:64}") int queueCapacity,
+                                           @Value("${auth.bcrypt.max-wait-ms:5000}") long maxWaitMillis,
+                                           MeterRegistry meterRegistry) {
+        int threads = workers > 0 ? workers : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(cost, threads, queueCapacity, Duration.ofMillis(maxWaitMillis), meterRegistry);
     }
 
     @Bean
@@ -58,6 +72,8 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // missing or expired token -> 401, so clients know to refresh; wrong role stays 403
+                .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .authorizeHttpRequests(auth -> auth
                         // --- Public endpoints (unchanged + refresh added) ---
                         .requestMatchers("/api/auth/**").permitAll()             // login/register/otp/password/refresh
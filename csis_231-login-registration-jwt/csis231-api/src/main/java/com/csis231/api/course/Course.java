@@ -19,7 +19,8 @@ import java.time.Instant;
  * via the {@code published} flag.</p>
  */
 @Entity
-@Table(name = "courses")
+@Table(name = "courses",
+        indexes = @Index(name = "idx_courses_published_created", columnList = "is_published,created_at,id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,18 +1,18 @@
 package com.csis231.api.course;
 
+import com.csis231.api.common.CursorPage;
 import com.csis231.api.common.PagedResponse;
-import com.csis231.api.common.ResourceNotFoundException;
-import com.csis231.api.common.UnauthorizedException;
+import com.csis231.api.user.CurrentUser;
 import com.csis231.api.user.User;
-import com.csis231.api.user.UserRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Locale;
+
 /**
  * REST controller exposing course catalog and management endpoints.
  */
@@ -21,8 +21,10 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class CourseController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final CourseService courseService;
-    private final UserRepository userRepository;
+    private final CourseSearchService courseSearchService;
 
     /**
      * Retrieves a paginated list of published courses, optionally filtered by category or search term.
@@ -44,16 +46,63 @@ public class CourseController {
         return PagedResponse.fromPage(springPage);
     }
 
+    /**
+     * Retrieves published courses using cursor pagination, newest first.
+     *
+     * <p>Pass the {@code nextCursor} of the previous response as {@code after}
+     * to fetch the next slice. The total count is skipped unless
+     * {@code includeTotal} is {@code true}.</p>
+     *
+     * @param after        opaque cursor from a previous response (omit for the first slice)
+     * @param size         the number of items per slice (1..100)
+     * @param categoryId   optional category filter
+     * @param search       optional search text applied to title/description
+     * @param includeTotal whether to compute the total number of matching courses
+     * @return a {@link CursorPage} containing course summaries and the next cursor
+     */
+    @GetMapping("/cursor")
+    public CursorPage<CourseDto> listByCursor(@RequestParam(required = false) String after,
+                                              @RequestParam(defaultValue = "10") int size,
+                                              @RequestParam(required = false) Long categoryId,
+                                              @RequestParam(required = false) String search,
+                                              @RequestParam(defaultValue = "false") boolean includeTotal) {
+        int bounded = Math.min(Math.max(1, size), MAX_CURSOR_PAGE_SIZE);
+        return courseService.listPublishedAfter(categoryId, search, after, bounded, includeTotal);
+    }
+
+    /**
+     * Ranked full-text search over published courses, intended for type-ahead.
+     *
+     * <p>Every word of {@code q} must match the start of a word in the title or
+     * description. Server-side latency is returned in the body and in a
+     * {@code Server-Timing} header.</p>
+     *
+     * @param q          the search text
+     * @param categoryId optional category filter
+     * @param limit      maximum number of results
+     * @return a {@link CourseSearchResponse} with ranked hits and timings
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CourseSearchResponse> search(@RequestParam(defaultValue = "") String q,
+                                                       @RequestParam(required = false) Long categoryId,
+                                                       @RequestParam(defaultValue = "20") int limit) {
+        CourseSearchResponse response = courseSearchService.search(q, categoryId, limit);
+        String timing = String.format(Locale.ROOT, "index;dur=%.2f, total;dur=%.2f",
+                response.indexMillis(), response.tookMillis());
+        return ResponseEntity.ok()
+                .header("Server-Timing", timing)
+                .body(response);
+    }
+
     /**
      * Retrieves full course details for a given course identifier.
      *
      * @param id             the course ID to fetch
-     * @param authentication the current authenticated principal (may be null)
+     * @param viewer         the current authenticated user (may be null)
      * @return a {@link CourseDetailDto} with materials and quizzes visible to the viewer
      */
     @GetMapping("/{id}")
-    public CourseDetailDto detail(@PathVariable Long id, Authentication authentication) {
-        User viewer = currentUserOrNull(authentication);
+    public CourseDetailDto detail(@PathVariable Long id, @CurrentUser(required = false) User viewer) {
         return courseService.getCourseDetail(id, viewer);
     }
 
@@ -61,13 +110,12 @@ public class CourseController {
      * Creates a new course on behalf of the authenticated instructor/admin.
      *
      * @param request        the course creation payload
-     * @param authentication the authenticated principal creating the course
+     * @param actor          the authenticated user creating the course
      * @return {@code 201 Created} with the created {@link CourseDto}
      */
     @PostMapping
     public ResponseEntity<CourseDto> create(@Valid @RequestBody CourseRequest request,
-                                            Authentication authentication) {
-        User actor = resolveUser(authentication);
+                                            @CurrentUser User actor) {
         Course created = courseService.createCourse(request, actor);
         return ResponseEntity.status(201).body(CourseMapper.toDto(created));
     }
@@ -77,14 +125,13 @@ public class CourseController {
      *
      * @param id             the course ID to update
      * @param request        the update payload
-     * @param authentication the authenticated principal performing the update
+     * @param actor          the authenticated user performing the update
      * @return the updated {@link CourseDto}
      */
     @PutMapping("/{id}")
     public CourseDto update(@PathVariable Long id,
                             @Valid @RequestBody CourseRequest request,
-                            Authentication authentication) {
-        User actor = resolveUser(authentication);
+                            @CurrentUser User actor) {
         Course updated = courseService.updateCourse(id, request, actor);
         return CourseMapper.toDto(updated);
     }
@@ -93,28 +140,12 @@ public class CourseController {
      * Deletes a course. Only the owning instructor or an admin may delete.
      *
      * @param id             the course ID to delete
-     * @param authentication the authenticated principal performing the deletion
+     * @param actor          the authenticated user performing the deletion
      * @return {@link ResponseEntity} with no content on success
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id, Authentication authentication) {
-        User actor = resolveUser(authentication);
+    public ResponseEntity<Void> delete(@PathVariable Long id, @CurrentUser User actor) {
         courseService.deleteCourse(id, actor);
         return ResponseEntity.noContent().build();
     }
-
-    private User resolveUser(Authentication authentication) {
-        if (authentication == null || authentication.getName() == null) {
-            throw new UnauthorizedException("Authentication required");
-        }
-        return userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + authentication.getName()));
-    }
-
-    private User currentUserOrNull(Authentication authentication) {
-        if (authentication == null || authentication.getName() == null) {
-            return null;
-        }
-        return userRepository.findByUsername(authentication.getName()).orElse(null);
-    }
 }
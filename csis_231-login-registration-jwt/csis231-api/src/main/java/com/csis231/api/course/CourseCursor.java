@@ -0,0 +1,68 @@
+package com.csis231.api.course;
+
+import com.csis231.api.common.BadRequestException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in the published course catalog, ordered by
+ * {@code (created_at DESC, id DESC)}.
+ *
+ * <p>Encoded as an opaque URL-safe token so clients never depend on its
+ * layout.</p>
+ *
+ * @param createdAt creation timestamp of the last course returned
+ * @param id        id of the last course returned
+ */
+record CourseCursor(Instant createdAt, long id) {
+
+    private static final int TOKEN_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    /**
+     * Builds the cursor pointing just after the given course.
+     *
+     * @param course the last course of a slice
+     * @return the cursor for the next slice
+     */
+    static CourseCursor after(Course course) {
+        return new CourseCursor(course.getCreatedAt(), course.getId());
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return the URL-safe token
+     */
+    String encode() {
+        ByteBuffer buf = ByteBuffer.allocate(TOKEN_BYTES)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buf.array());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the token, may be {@code null} or blank for the first slice
+     * @return the decoded cursor, or {@code null} when no token was supplied
+     * @throws BadRequestException if the token is malformed
+     */
+    static CourseCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            byte[] raw = Base64.getUrlDecoder().decode(token.trim());
+            if (raw.length != TOKEN_BYTES) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            ByteBuffer buf = ByteBuffer.wrap(raw);
+            Instant createdAt = Instant.ofEpochSecond(buf.getLong(), buf.getInt());
+            return new CourseCursor(createdAt, buf.getLong());
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
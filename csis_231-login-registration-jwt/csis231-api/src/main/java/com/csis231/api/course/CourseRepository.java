@@ -1,12 +1,19 @@
 package com.csis231.api.course;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data repository for {@link Course} entities.
@@ -30,4 +37,52 @@ public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecif
      * @return a list of {@link Course} entities owned by the instructor
      */
     List<Course> findByInstructor_Id(Long instructorId);
+
+    /**
+     * Retrieves the instructor's most recently created course.
+     *
+     * @param instructorId the instructor's user id
+     * @return an optional containing the newest course, ties broken by id
+     */
+    Optional<Course> findFirstByInstructor_IdOrderByCreatedAtDescIdDesc(Long instructorId);
+
+    /**
+     * Retrieves a course together with its instructor in a single query.
+     *
+     * @param id the course identifier
+     * @return an optional containing the course with its instructor initialized
+     */
+    @Query("select c from Course c join fetch c.instructor where c.id = :id")
+    Optional<Course> findWithInstructorById(@Param("id") Long id);
+
+    /**
+     * Retrieves the given courses together with their instructors in a single query.
+     *
+     * @param ids the course identifiers
+     * @return the matching courses, in no particular order
+     */
+    @Query("select c from Course c join fetch c.instructor where c.id in :ids")
+    List<Course> findWithInstructorByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads a course and locks its row for the rest of the transaction, so no
+     * quizzes, materials or enrollments can be attached to it concurrently.
+     *
+     * @param id the course identifier
+     * @return an optional containing the locked course
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Course c where c.id = :id")
+    Optional<Course> findForUpdateById(@Param("id") Long id);
+
+    /**
+     * Deletes a course row with a single statement. Its quizzes, materials and
+     * enrollments must already be removed.
+     *
+     * @param id the course identifier
+     * @return the number of rows removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Course c where c.id = :id")
+    int deleteCourseById(@Param("id") Long id);
 }
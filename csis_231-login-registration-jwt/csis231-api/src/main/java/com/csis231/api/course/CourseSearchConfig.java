@@ -0,0 +1,53 @@
+package com.csis231.api.course;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Selects the {@link CourseSearchIndex} implementation.
+ *
+ * <p>With {@code course.search.engine=auto} (the default) PostgreSQL uses its
+ * native full-text search and every other database falls back to the
+ * in-process index. {@code postgres} or {@code memory} force one engine.</p>
+ */
+@Slf4j
+@Configuration
+public class CourseSearchConfig {
+
+    @Value("${course.search.engine:auto}")
+    private String engine;
+
+    @Bean
+    public CourseSearchIndex courseSearchIndex(DataSource dataSource,
+                                               JdbcTemplate jdbcTemplate,
+                                               CourseRepository courseRepository) {
+        boolean postgres = switch (engine.trim().toLowerCase()) {
+            case "postgres" -> true;
+            case "memory" -> false;
+            default -> isPostgres(dataSource);
+        };
+        CourseSearchIndex index = postgres
+                ? new PostgresCourseSearchIndex(jdbcTemplate)
+                : new InMemoryCourseSearchIndex(courseRepository);
+        log.info("Course search engine: {}", index.engine());
+        return index;
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException ex) {
+            log.warn("Could not detect database product, using in-memory course search: {}", ex.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.csis231.api.course;
+
+/**
+ * A single ranked course search result.
+ *
+ * @param course the matching course
+ * @param rank   relevance score; higher is better and only comparable within one response
+ */
+public record CourseSearchHit(CourseDto course, double rank) {
+}
@@ -0,0 +1,44 @@
+package com.csis231.api.course;
+
+import java.util.List;
+
+/**
+ * Full-text index over published course titles and descriptions.
+ *
+ * <p>Queries are split into terms and every term must match (as a word
+ * prefix, to support type-ahead). Results are ranked with title matches
+ * weighted above description matches.</p>
+ */
+public interface CourseSearchIndex {
+
+    /**
+     * Short name of the backing engine, reported with search results.
+     *
+     * @return the engine name
+     */
+    String engine();
+
+    /**
+     * Finds published courses matching every term of the query.
+     *
+     * @param query      raw search text
+     * @param categoryId optional category filter
+     * @param limit      maximum number of matches
+     * @return matches ordered by descending rank, then descending id
+     */
+    List<CourseSearchMatch> search(String query, Long categoryId, int limit);
+
+    /**
+     * Adds or refreshes a course after it was created or updated.
+     *
+     * @param course the saved course
+     */
+    void index(Course course);
+
+    /**
+     * Drops a deleted course from the index.
+     *
+     * @param courseId the course identifier
+     */
+    void remove(Long courseId);
+}
@@ -0,0 +1,10 @@
+package com.csis231.api.course;
+
+/**
+ * A course id matched by {@link CourseSearchIndex} together with its relevance.
+ *
+ * @param courseId the matching course
+ * @param rank     relevance score; higher is better and only comparable within one query
+ */
+public record CourseSearchMatch(Long courseId, double rank) {
+}
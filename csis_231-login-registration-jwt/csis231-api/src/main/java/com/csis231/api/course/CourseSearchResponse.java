@@ -0,0 +1,21 @@
+package com.csis231.api.course;
+
+import java.util.List;
+
+/**
+ * Response payload for the course search endpoint.
+ *
+ * @param query       the search text as received
+ * @param engine      the search engine that served the request ({@code postgres} or {@code memory})
+ * @param results     ranked hits, best first
+ * @param indexMillis time spent in the full-text index lookup
+ * @param tookMillis  total server-side time including loading the matched courses
+ */
+public record CourseSearchResponse(
+        String query,
+        String engine,
+        List<CourseSearchHit> results,
+        double indexMillis,
+        double tookMillis
+) {
+}
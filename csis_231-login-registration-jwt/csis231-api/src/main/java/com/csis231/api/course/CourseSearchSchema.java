@@ -0,0 +1,55 @@
+package com.csis231.api.course;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the full-text search index used by {@link PostgresCourseSearchIndex}.
+ *
+ * <p>The schema is managed by Hibernate's {@code ddl-auto=update}, which cannot
+ * express expression GIN indexes, so the index is added here. It indexes the
+ * same {@link PostgresCourseSearchIndex#SEARCH_VECTOR} expression the queries
+ * use, so no column has to be added and {@code courses} is never rewritten. The
+ * index is built {@code CONCURRENTLY}, which does not block writes; an invalid
+ * index left behind by an interrupted build is dropped and rebuilt.</p>
+ *
+ * <p>This runs once all singletons, including the entity manager factory and its
+ * schema update, are initialized, but before the embedded web server starts, so
+ * no search is served without the index. A versioned migration would be the
+ * natural home for it once the project adopts Flyway. Nothing happens when
+ * another engine is selected.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseSearchSchema implements SmartInitializingSingleton {
+
+    static final String INDEX_NAME = "idx_courses_search";
+
+    private final CourseSearchIndex searchIndex;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!(searchIndex instanceof PostgresCourseSearchIndex)) return;
+        Boolean valid = jdbcTemplate.query("""
+                        select i.indisvalid
+                        from pg_index i join pg_class c on c.oid = i.indexrelid
+                        where c.relname = ?
+                        """,
+                rs -> rs.next() ? rs.getBoolean(1) : null,
+                INDEX_NAME);
+        if (Boolean.TRUE.equals(valid)) return;
+        if (valid != null) {
+            log.warn("Dropping invalid course search index {} left by an interrupted build", INDEX_NAME);
+            jdbcTemplate.execute("drop index concurrently if exists " + INDEX_NAME);
+        }
+        // CONCURRENTLY cannot run in a transaction block; JdbcTemplate runs in autocommit here
+        jdbcTemplate.execute("create index concurrently if not exists " + INDEX_NAME
+                + " on courses using gin ((" + PostgresCourseSearchIndex.SEARCH_VECTOR + "))");
+        log.info("Course full-text search index {} is in place", INDEX_NAME);
+    }
+}
@@ -0,0 +1,77 @@
+package com.csis231.api.course;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked, prefix-matching search over published courses.
+ *
+ * <p>Looks up matching ids in the {@link CourseSearchIndex}, then loads those
+ * courses with their instructors in one query. Each search is timed and
+ * recorded in the {@code course.search} timer, tagged with the engine.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseSearchService {
+
+    private final CourseSearchIndex searchIndex;
+    private final CourseRepository courseRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${course.search.max-results:50}")
+    private int maxResults;
+
+    /**
+     * Searches published courses. Every query term must match the start of a
+     * word in the title or description; title matches rank higher.
+     *
+     * @param query      the search text
+     * @param categoryId optional category filter
+     * @param limit      maximum number of results, capped by {@code course.search.max-results}
+     * @return ranked results with timing information
+     */
+    @Transactional(readOnly = true)
+    public CourseSearchResponse search(String query, Long categoryId, int limit) {
+        long start = System.nanoTime();
+        int bounded = Math.min(Math.max(1, limit), maxResults);
+        List<CourseSearchMatch> matches = searchIndex.search(query, categoryId, bounded);
+        long indexed = System.nanoTime();
+
+        List<CourseSearchHit> hits = new ArrayList<>(matches.size());
+        if (!matches.isEmpty()) {
+            List<Long> ids = matches.stream().map(CourseSearchMatch::courseId).toList();
+            Map<Long, Course> byId = courseRepository.findWithInstructorByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Course::getId, Function.identity()));
+            for (CourseSearchMatch match : matches) {
+                Course course = byId.get(match.courseId());
+                // the in-memory index may briefly hold courses whose transaction rolled back
+                if (course == null || !Boolean.TRUE.equals(course.getPublished())) continue;
+                hits.add(new CourseSearchHit(CourseMapper.toDto(course), match.rank()));
+            }
+        }
+        long end = System.nanoTime();
+
+        Timer.builder("course.search")
+                .description("Course full-text search latency")
+                .tag("engine", searchIndex.engine())
+                .register(meterRegistry)
+                .record(end - start, TimeUnit.NANOSECONDS);
+        return new CourseSearchResponse(query, searchIndex.engine(), hits,
+                millis(indexed - start), millis(end - start));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.csis231.api.course;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenizer shared by the course search engines so both split text the same way.
+ *
+ * <p>Terms are lower-cased runs of letters and digits. Anything else acts as a
+ * separator, which also makes the terms safe to embed in a PostgreSQL
+ * {@code tsquery}.</p>
+ */
+final class CourseSearchTerms {
+
+    /** Upper bound on terms taken from a single query. */
+    static final int MAX_QUERY_TERMS = 8;
+
+    private static final int MAX_TERM_LENGTH = 64;
+
+    private CourseSearchTerms() {
+    }
+
+    /**
+     * Splits text into distinct terms in order of first appearance.
+     *
+     * @param text the text to tokenize, may be {@code null}
+     * @return the terms, never {@code null}
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        Set<String> terms = new LinkedHashSet<>();
+        StringBuilder current = new StringBuilder();
+        text.toLowerCase(Locale.ROOT).codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                current.appendCodePoint(cp);
+            } else {
+                flush(current, terms);
+            }
+        });
+        flush(current, terms);
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * Tokenizes a user query, keeping at most {@link #MAX_QUERY_TERMS} terms.
+     *
+     * @param query the raw query
+     * @return the query terms, never {@code null}
+     */
+    static List<String> queryTerms(String query) {
+        List<String> terms = tokenize(query);
+        return terms.size() > MAX_QUERY_TERMS ? terms.subList(0, MAX_QUERY_TERMS) : terms;
+    }
+
+    private static void flush(StringBuilder current, Set<String> terms) {
+        if (current.length() == 0) return;
+        String term = current.length() > MAX_TERM_LENGTH ? current.substring(0, MAX_TERM_LENGTH) : current.toString();
+        terms.add(term);
+        current.setLength(0);
+    }
+}
@@ -3,12 +3,17 @@ package com.csis231.api.course;
 import com.csis231.api.category.Category;
 import com.csis231.api.category.CategoryRepository;
 import com.csis231.api.common.BadRequestException;
+import com.csis231.api.common.ChunkedDeleter;
+import com.csis231.api.common.CursorPage;
 import com.csis231.api.common.ResourceNotFoundException;
 import com.csis231.api.common.UnauthorizedException;
 import com.csis231.api.coursematerial.CourseMaterialDto;
 import com.csis231.api.coursematerial.CourseMaterialMapper;
 import com.csis231.api.coursematerial.CourseMaterialRepository;
 import com.csis231.api.coursematerial.CourseMaterialService;
+import com.csis231.api.enrollment.CourseEnrollmentRepository;
+import com.csis231.api.quiz.Quiz;
+import com.csis231.api.quiz.QuizDeletionService;
 import com.csis231.api.quiz.QuizRepository;
 import com.csis231.api.quiz.QuizSummaryDto;
 import com.csis231.api.quiz.QuizMapper;
@@ -19,11 +24,15 @@ import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -41,6 +50,10 @@ public class CourseService {
     private final CourseMaterialService materialService;
     private final QuizRepository quizRepository;
     private final QuizQuestionRepository questionRepository;
+    private final QuizDeletionService quizDeletionService;
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final ChunkedDeleter chunkedDeleter;
+    private final CourseSearchIndex searchIndex;
 
     /**
      * Creates a new course for the given instructor/admin actor.
@@ -71,7 +84,9 @@ public class CourseService {
                 .category(category)
                 .published(Boolean.TRUE.equals(req.published()))
                 .build();
-        return courseRepository.save(course);
+        Course saved = courseRepository.save(course);
+        searchIndex.index(saved);
+        return saved;
     }
 
     /**
@@ -103,7 +118,9 @@ public class CourseService {
             course.setCategory(category);
         }
 
-        return courseRepository.save(course);
+        Course saved = courseRepository.save(course);
+        searchIndex.index(saved);
+        return saved;
     }
 
     /**
@@ -122,17 +139,58 @@ public class CourseService {
     /**
      * Deletes a course after verifying ownership or admin privileges.
      *
+     * <p>Quizzes (with their questions, answers and results), materials and
+     * enrollments are removed with chunked set-based deletes, each chunk in its
+     * own transaction. The course row is then locked in one short transaction
+     * that sweeps up anything attached while the chunks ran and deletes the
+     * course. A failed delete leaves the course in place and can be retried. The
+     * search index entry is dropped once the delete has committed.</p>
+     *
      * @param id    the course identifier
      * @param actor the authenticated user performing the deletion
      * @throws UnauthorizedException    if actor is not allowed to delete
      * @throws ResourceNotFoundException if the course does not exist
      */
-    @Transactional
     public void deleteCourse(Long id, User actor) {
-        Course course = getCourseOrThrow(id);
+        Course course = courseRepository.findWithInstructorById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found: " + id));
         if (actor == null) throw new UnauthorizedException("Authenticated user required");
         requireOwnerOrAdmin(course, actor);
-        courseRepository.delete(course);
+
+        purgeDependents(id);
+        chunkedDeleter.inTransaction(() -> {
+            if (courseRepository.findForUpdateById(id).isEmpty()) return 0;
+            purgeDependents(id);
+            return courseRepository.deleteCourseById(id);
+        });
+        afterCommit(() -> searchIndex.remove(id));
+    }
+
+    private void purgeDependents(Long courseId) {
+        for (Long quizId : quizRepository.findIdsByCourseId(courseId)) {
+            quizDeletionService.purge(quizId);
+        }
+        chunkedDeleter.deleteAll(page -> materialRepository.findIdsByCourseId(courseId, page),
+                materialRepository::deleteByIds);
+        chunkedDeleter.deleteAll(page -> enrollmentRepository.findIdsByCourseId(courseId, page),
+                enrollmentRepository::deleteByIds);
+    }
+
+    /**
+     * Runs {@code action} once the surrounding transaction commits, or right away
+     * when there is none.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
     /**
@@ -155,6 +213,48 @@ public class CourseService {
         return courseRepository.findAll(spec, pageable);
     }
 
+    /**
+     * Lists published courses using keyset pagination over {@code (createdAt, id)},
+     * newest first.
+     *
+     * <p>Each slice is a single range scan bounded by the cursor, so the cost is
+     * the same regardless of how deep the client has paged. The total count is
+     * only computed when {@code includeTotal} is set.</p>
+     *
+     * @param categoryId   optional category filter
+     * @param search       optional search text
+     * @param after        opaque cursor from a previous slice, or {@code null} for the first
+     * @param size         maximum number of courses to return
+     * @param includeTotal whether to also count all matching courses
+     * @return a {@link CursorPage} of course DTOs
+     * @throws BadRequestException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CourseDto> listPublishedAfter(Long categoryId, String search, String after,
+                                                    int size, boolean includeTotal) {
+        CourseCursor cursor = CourseCursor.decode(after);
+        Specification<Course> filter = isPublished();
+        if (categoryId != null) {
+            filter = filter.and(hasCategory(categoryId));
+        }
+        if (search != null && !search.isBlank()) {
+            filter = filter.and(matchesSearch(search));
+        }
+        Specification<Course> slice = filter.and(fetchInstructor());
+        if (cursor != null) {
+            slice = slice.and(before(cursor));
+        }
+
+        Sort order = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        List<Course> rows = courseRepository.findBy(slice, q -> q.sortBy(order).limit(size + 1).all());
+        boolean hasMore = rows.size() > size;
+        List<Course> content = hasMore ? rows.subList(0, size) : rows;
+        String next = hasMore ? CourseCursor.after(content.get(content.size() - 1)).encode() : null;
+        Long total = includeTotal ? courseRepository.count(filter) : null;
+
+        return new CursorPage<>(content.stream().map(CourseMapper::toDto).toList(), size, next, hasMore, total);
+    }
+
     /**
      * Retrieves courses taught by a specific instructor using pagination.
      *
@@ -178,6 +278,17 @@ public class CourseService {
         return courseRepository.findByInstructor_Id(instructorId);
     }
 
+    /**
+     * Retrieves the most recently created course of an instructor.
+     *
+     * @param instructorId the instructor user id
+     * @return the newest course, if any
+     */
+    @Transactional(readOnly = true)
+    public Optional<Course> findLatestByInstructor(Long instructorId) {
+        return courseRepository.findFirstByInstructor_IdOrderByCreatedAtDescIdDesc(instructorId);
+    }
+
     /**
      * Builds a detailed course view including materials and quizzes for a given viewer.
      *
@@ -187,15 +298,18 @@ public class CourseService {
      */
     @Transactional(readOnly = true)
     public CourseDetailDto getCourseDetail(Long id, User viewer) {
-        Course course = getCourseOrThrow(id);
-        List<CourseMaterialDto> materials = materialService.listForViewer(id, viewer).stream()
+        Course course = courseRepository.findWithInstructorById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found: " + id));
+        List<CourseMaterialDto> materials = materialService.listForViewer(course, viewer).stream()
                 .map(CourseMaterialMapper::toDto)
                 .collect(Collectors.toList());
-        List<QuizSummaryDto> quizzes = quizRepository.findByCourse_Id(id).stream()
-                .map(q -> {
-                    int count = questionRepository.findByQuiz_Id(q.getId()).size();
-                    return QuizMapper.toSummaryDto(q, count);
-                })
+
+        // one query for the quizzes and one grouped count for their questions, whatever the quiz count
+        List<Quiz> courseQuizzes = quizRepository.findByCourse_Id(id);
+        Map<Long, Integer> questionCounts = questionRepository.questionCountsByQuiz(
+                courseQuizzes.stream().map(Quiz::getId).toList());
+        List<QuizSummaryDto> quizzes = courseQuizzes.stream()
+                .map(q -> QuizMapper.toSummaryDto(q, questionCounts.getOrDefault(q.getId(), 0)))
                 .collect(Collectors.toList());
         return CourseMapper.toDetailDto(course, materials, quizzes);
     }
@@ -226,6 +340,20 @@ public class CourseService {
         return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
     }
 
+    private static Specification<Course> before(CourseCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+
+    private static Specification<Course> fetchInstructor() {
+        return (root, query, cb) -> {
+            root.fetch("instructor");
+            return null;
+        };
+    }
+
     private static Specification<Course> matchesSearch(String search) {
         return (root, query, cb) -> {
             String like = "%" + search.toLowerCase() + "%";
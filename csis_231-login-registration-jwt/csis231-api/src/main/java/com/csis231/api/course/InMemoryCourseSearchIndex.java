@@ -0,0 +1,128 @@
+package com.csis231.api.course;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process inverted index used when the database has no full-text support
+ * (H2 in tests).
+ *
+ * <p>Terms are kept in a sorted map so a prefix lookup is a range scan.
+ * Postings carry the same weights as the PostgreSQL vector: title terms count
+ * {@value #TITLE_WEIGHT}, description terms {@value #DESCRIPTION_WEIGHT}. The
+ * index is loaded from the database on first use and then kept current by
+ * {@link CourseService}. It lives in one JVM only, so it is not meant for
+ * multi-instance deployments.</p>
+ */
+class InMemoryCourseSearchIndex implements CourseSearchIndex {
+
+    static final double TITLE_WEIGHT = 1.0;
+    static final double DESCRIPTION_WEIGHT = 0.4;
+
+    private record Doc(Long categoryId, boolean published, Map<String, Double> weights) {
+    }
+
+    private final CourseRepository courseRepository;
+    private final NavigableMap<String, Map<Long, Double>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    InMemoryCourseSearchIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    @Override
+    public String engine() {
+        return "memory";
+    }
+
+    @Override
+    public List<CourseSearchMatch> search(String query, Long categoryId, int limit) {
+        List<String> terms = CourseSearchTerms.queryTerms(query);
+        if (terms.isEmpty() || limit < 1) return List.of();
+        ensureLoaded();
+
+        Map<Long, Double> scores = null;
+        for (String term : terms) {
+            Map<Long, Double> termScores = new HashMap<>();
+            for (Map<Long, Double> posting : postings.subMap(term, true, term + Character.MAX_VALUE, true).values()) {
+                posting.forEach((id, weight) -> termScores.merge(id, weight, Math::max));
+            }
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) return List.of();
+        }
+
+        List<CourseSearchMatch> matches = new ArrayList<>();
+        scores.forEach((id, score) -> {
+            Doc doc = docs.get(id);
+            if (doc == null || !doc.published()) return;
+            if (categoryId != null && !categoryId.equals(doc.categoryId())) return;
+            matches.add(new CourseSearchMatch(id, score));
+        });
+        matches.sort(Comparator.comparingDouble(CourseSearchMatch::rank)
+                .thenComparing(CourseSearchMatch::courseId)
+                .reversed());
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    @Override
+    public void index(Course course) {
+        if (course == null || course.getId() == null) return;
+        put(course);
+    }
+
+    @Override
+    public void remove(Long courseId) {
+        if (courseId == null) return;
+        synchronized (this) {
+            Doc previous = docs.remove(courseId);
+            if (previous != null) unlink(courseId, previous);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) return;
+        synchronized (this) {
+            if (loaded) return;
+            courseRepository.findAll().forEach(this::put);
+            loaded = true;
+        }
+    }
+
+    private synchronized void put(Course course) {
+        Map<String, Double> weights = new HashMap<>();
+        for (String term : CourseSearchTerms.tokenize(course.getDescription())) {
+            weights.put(term, DESCRIPTION_WEIGHT);
+        }
+        for (String term : CourseSearchTerms.tokenize(course.getTitle())) {
+            weights.merge(term, TITLE_WEIGHT, Math::max);
+        }
+        Long categoryId = course.getCategory() != null ? course.getCategory().getId() : null;
+        Doc doc = new Doc(categoryId, Boolean.TRUE.equals(course.getPublished()), weights);
+
+        Doc previous = docs.put(course.getId(), doc);
+        if (previous != null) unlink(course.getId(), previous);
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(course.getId(), weight));
+    }
+
+    private void unlink(Long courseId, Doc doc) {
+        for (String term : doc.weights().keySet()) {
+            postings.computeIfPresent(term, (t, posting) -> {
+                posting.remove(courseId);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+}
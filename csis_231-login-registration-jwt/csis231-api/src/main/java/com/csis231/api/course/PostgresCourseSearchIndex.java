@@ -0,0 +1,72 @@
+package com.csis231.api.course;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link CourseSearchIndex} backed by PostgreSQL full-text search.
+ *
+ * <p>Courses are matched against a {@code tsvector} built from the title
+ * (weight A) and description (weight B). The expression is covered by a GIN
+ * index created by {@link CourseSearchSchema}; queries must use exactly
+ * {@link #SEARCH_VECTOR} for the planner to pick it. PostgreSQL keeps the index
+ * current on every write, so {@link #index(Course)} and {@link #remove(Long)}
+ * have nothing to do.</p>
+ */
+@RequiredArgsConstructor
+class PostgresCourseSearchIndex implements CourseSearchIndex {
+
+    /**
+     * The indexed search document of a {@code courses} row. Columns are left
+     * unqualified so the same text works in the index definition and in queries.
+     */
+    static final String SEARCH_VECTOR =
+            "setweight(to_tsvector('simple', coalesce(title, '')), 'A') || "
+                    + "setweight(to_tsvector('simple', coalesce(description, '')), 'B')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String engine() {
+        return "postgres";
+    }
+
+    @Override
+    public List<CourseSearchMatch> search(String query, Long categoryId, int limit) {
+        List<String> terms = CourseSearchTerms.queryTerms(query);
+        if (terms.isEmpty() || limit < 1) return List.of();
+        // every term is letters/digits only, so it can be embedded in the tsquery as is
+        String tsQuery = terms.stream().map(t -> t + ":*").collect(Collectors.joining(" & "));
+
+        StringBuilder sql = new StringBuilder(
+                "select c.id, ts_rank_cd(" + SEARCH_VECTOR + ", q) as rank"
+                        + " from courses c, to_tsquery('simple', ?) q"
+                        + " where c.is_published = true and (" + SEARCH_VECTOR + ") @@ q");
+        List<Object> args = new ArrayList<>();
+        args.add(tsQuery);
+        if (categoryId != null) {
+            sql.append(" and c.category_id = ?");
+            args.add(categoryId);
+        }
+        sql.append(" order by rank desc, c.id desc limit ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, i) -> new CourseSearchMatch(rs.getLong("id"), rs.getDouble("rank")),
+                args.toArray());
+    }
+
+    @Override
+    public void index(Course course) {
+        // maintained by the expression index
+    }
+
+    @Override
+    public void remove(Long courseId) {
+        // maintained by the expression index
+    }
+}
@@ -1,13 +1,10 @@
 package com.csis231.api.coursematerial;
 
-import com.csis231.api.common.ResourceNotFoundException;
-import com.csis231.api.common.UnauthorizedException;
+import com.csis231.api.user.CurrentUser;
 import com.csis231.api.user.User;
-import com.csis231.api.user.UserRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -20,18 +17,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CourseMaterialController {
     private final CourseMaterialService materialService;
-    private final UserRepository userRepository;
 
     /**
      * Lists materials for a course that are visible to the current user.
      *
      * @param courseId       the course identifier
-     * @param authentication the authenticated principal requesting the data
+     * @param viewer         the authenticated user requesting the data
      * @return a list of {@link CourseMaterialDto} visible to the viewer
      */
     @GetMapping("/courses/{courseId}/materials")
-    public List<CourseMaterialDto> list(@PathVariable Long courseId, Authentication authentication) {
-        User viewer = resolveUser(authentication);
+    public List<CourseMaterialDto> list(@PathVariable Long courseId, @CurrentUser User viewer) {
         return materialService.mapToDto(materialService.listForViewer(courseId, viewer));
     }
 
@@ -40,14 +35,13 @@ public class CourseMaterialController {
      *
      * @param courseId       the course identifier
      * @param request        the material payload
-     * @param authentication the authenticated principal performing the operation
+     * @param actor          the authenticated user performing the operation
      * @return {@code 201 Created} with the created {@link CourseMaterialDto}
      */
     @PostMapping("/courses/{courseId}/materials")
     public ResponseEntity<CourseMaterialDto> create(@PathVariable Long courseId,
                                                     @Valid @RequestBody CourseMaterialRequest request,
-                                                    Authentication authentication) {
-        User actor = resolveUser(authentication);
+                                                    @CurrentUser User actor) {
         CourseMaterial created = materialService.addMaterial(courseId, request, actor);
         return ResponseEntity.status(201).body(CourseMaterialMapper.toDto(created));
     }
@@ -56,21 +50,12 @@ public class CourseMaterialController {
      * Deletes a material by id after verifying permissions.
      *
      * @param id             the material identifier
-     * @param authentication the authenticated principal
+     * @param actor          the authenticated user
      * @return {@link ResponseEntity} with no content on success
      */
     @DeleteMapping("/materials/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id, Authentication authentication) {
-        User actor = resolveUser(authentication);
+    public ResponseEntity<Void> delete(@PathVariable Long id, @CurrentUser User actor) {
         materialService.deleteMaterial(id, actor);
         return ResponseEntity.noContent().build();
     }
-
-    private User resolveUser(Authentication authentication) {
-        if (authentication == null || authentication.getName() == null) {
-            throw new UnauthorizedException("Authentication required");
-        }
-        return userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + authentication.getName()));
-    }
 }
@@ -1,6 +1,10 @@
 package com.csis231.api.coursematerial;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +21,24 @@ public interface CourseMaterialRepository extends JpaRepository<CourseMaterial,
      * @return list of materials for the course
      */
     List<CourseMaterial> findByCourse_Id(Long courseId);
+
+    /**
+     * Retrieves ids of materials belonging to a course, for chunked deletion.
+     *
+     * @param courseId the course identifier
+     * @param pageable limits the number of ids returned
+     * @return the next ids to delete
+     */
+    @Query("select m.id from CourseMaterial m where m.course.id = :courseId")
+    List<Long> findIdsByCourseId(@Param("courseId") Long courseId, Pageable pageable);
+
+    /**
+     * Deletes materials by id with a single statement, bypassing the persistence context.
+     *
+     * @param ids the ids to delete
+     * @return the number of rows removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CourseMaterial m where m.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
@@ -86,6 +86,22 @@ public class CourseMaterialService {
     public List<CourseMaterial> listForViewer(Long courseId, User viewer) {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found: " + courseId));
+        return listForViewer(course, viewer);
+    }
+
+    /**
+     * Lists materials visible to the given viewer for an already loaded course,
+     * avoiding a second course lookup. Same visibility rules as
+     * {@link #listForViewer(Long, User)}.
+     *
+     * @param course the course, with its instructor accessible
+     * @param viewer the requesting user (may be null)
+     * @return list of materials visible to the viewer
+     * @throws UnauthorizedException if the viewer is not allowed to view
+     */
+    @Transactional(readOnly = true)
+    public List<CourseMaterial> listForViewer(Course course, User viewer) {
+        Long courseId = course.getId();
         if (viewer == null) {
             return Collections.emptyList();
         }
@@ -2,10 +2,31 @@ package com.csis231.api.dashboard;
 
 /**
  * Aggregated metrics for an instructor's course.
+ *
+ * <p>{@code averageScore} is a percentage (0-100) across all submissions,
+ * or {@code null} when the course has none.</p>
  */
 public record CourseStatsDto(
         Long courseId,
         String courseTitle,
         long enrollmentCount,
-        int quizCount
-) {}
+        int quizCount,
+        Double averageScore
+) {
+
+    /**
+     * Converts a grouped statistics row into a DTO.
+     *
+     * @param row the projection row
+     * @return the corresponding {@link CourseStatsDto}
+     */
+    public static CourseStatsDto fromRow(CourseStatsRow row) {
+        return new CourseStatsDto(
+                row.getCourseId(),
+                row.getCourseTitle(),
+                row.getEnrollmentCount() == null ? 0L : row.getEnrollmentCount(),
+                row.getQuizCount() == null ? 0 : row.getQuizCount().intValue(),
+                row.getAverageScore()
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.csis231.api.dashboard;
+
+import com.csis231.api.course.Course;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Read-only aggregate queries backing the instructor dashboard.
+ */
+public interface CourseStatsRepository extends Repository<Course, Long> {
+
+    /**
+     * Computes enrollment count, quiz count and average quiz score (percent)
+     * for each course taught by an instructor in a single query.
+     *
+     * <p>The average score is read from the {@code quiz_stats} rollup and is
+     * {@code null} for courses without submissions.</p>
+     *
+     * @param instructorId the instructor user id
+     * @param pageable     pagination information
+     * @return a page of {@link CourseStatsRow} ordered by course id
+     */
+    @Query(value = """
+           select c.id as courseId,
+                  c.title as courseTitle,
+                  (select count(e) from CourseEnrollment e where e.course = c) as enrollmentCount,
+                  (select count(q) from Quiz q where q.course = c) as quizCount,
+                  (select sum(s.scoreSum) * 100.0 / nullif(sum(s.questionSum), 0)
+                     from QuizStats s where s.quizId in (select q.id from Quiz q where q.course = c)) as averageScore
+           from Course c
+           where c.instructor.id = :instructorId
+           order by c.id
+           """,
+           countQuery = "select count(c) from Course c where c.instructor.id = :instructorId")
+    Page<CourseStatsRow> findStatsByInstructor(@Param("instructorId") Long instructorId, Pageable pageable);
+
+    /**
+     * Counts enrollments across all courses taught by an instructor.
+     *
+     * @param instructorId the instructor user id
+     * @return the total number of enrollments
+     */
+    @Query("select count(e) from CourseEnrollment e where e.course.instructor.id = :instructorId")
+    long countEnrollmentsByInstructor(@Param("instructorId") Long instructorId);
+}
@@ -0,0 +1,12 @@
+package com.csis231.api.dashboard;
+
+/**
+ * Projection of one row of the grouped per-course statistics query.
+ */
+public interface CourseStatsRow {
+    Long getCourseId();
+    String getCourseTitle();
+    Long getEnrollmentCount();
+    Long getQuizCount();
+    Double getAverageScore();
+}
@@ -1,25 +1,26 @@
 package com.csis231.api.dashboard;
 
-import com.csis231.api.common.ResourceNotFoundException;
 import com.csis231.api.common.UnauthorizedException;
 import com.csis231.api.course.Course;
 import com.csis231.api.course.CourseDto;
 import com.csis231.api.course.CourseMapper;
 import com.csis231.api.course.CourseService;
-import com.csis231.api.enrollment.CourseEnrollment;
-import com.csis231.api.enrollment.EnrollmentService;
-import com.csis231.api.quiz.*;
+import com.csis231.api.quiz.PendingQuizDto;
+import com.csis231.api.quiz.QuizService;
+import com.csis231.api.user.CurrentUser;
 import com.csis231.api.user.User;
-import com.csis231.api.user.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Dashboards for students and instructors.
@@ -29,92 +30,94 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final UserRepository userRepository;
+    private static final int MAX_INSTRUCTOR_PAGE_SIZE = 200;
+
     private final CourseService courseService;
-    private final EnrollmentService enrollmentService;
+    private final CourseStatsRepository courseStatsRepository;
+    private final StudentDashboardQueryService studentDashboardQueryService;
     private final QuizService quizService;
-    private final QuizRepository quizRepository;
-    private final QuizQuestionRepository questionRepository;
 
     /**
      * Builds the student dashboard with enrollments, recent quiz results, and upcoming quizzes.
      *
-     * @param authentication the authenticated principal
+     * @param student        the authenticated user
      * @return a {@link StudentDashboardResponse} containing dashboard data
      */
     @GetMapping("/student/dashboard")
-    public StudentDashboardResponse studentDashboard(Authentication authentication) {
-        User student = resolveUser(authentication);
+    public StudentDashboardResponse studentDashboard(@CurrentUser User student) {
         if (student.getRole() != User.Role.STUDENT && student.getRole() != User.Role.ADMIN) {
             throw new UnauthorizedException("Only students can access the student dashboard");
         }
-        List<CourseEnrollment> enrollments = enrollmentService.findByStudent(student.getId());
-        List<CourseDto> enrolledCourses = enrollments.stream()
-                .map(CourseEnrollment::getCourse)
-                .map(CourseMapper::toDto)
-                .toList();
-
-        List<QuizResultDto> recentResults = quizService.latestResultsForStudent(student.getId());
-
-        List<QuizSummaryDto> quizzes = enrollments.stream()
-                .flatMap(e -> quizRepository.findByCourse_Id(e.getCourse().getId()).stream())
-                .map(q -> QuizMapper.toSummaryDto(q, questionRepository.findByQuiz_Id(q.getId()).size()))
-                .collect(Collectors.toList());
-
-        return new StudentDashboardResponse(
-                student.getId(),
-                enrolledCourses.size(),
-                enrolledCourses,
-                recentResults,
-                quizzes
-        );
+        return studentDashboardQueryService.build(student);
     }
 
     /**
      * Builds the instructor dashboard with owned courses and aggregated stats.
      *
-     * @param authentication the authenticated principal
+     * <p>Per-course statistics are computed in the database by one grouped query;
+     * courses and stats are paged together, ordered by course id.</p>
+     *
+     * @param page       zero-based page index
+     * @param size       page size, clamped to 1..200
+     * @param instructor the authenticated user
      * @return an {@link InstructorDashboardResponse} summarizing instructor metrics
      */
     @GetMapping("/instructor/dashboard")
-    public InstructorDashboardResponse instructorDashboard(Authentication authentication) {
-        User instructor = resolveUser(authentication);
+    public InstructorDashboardResponse instructorDashboard(@RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "50") int size,
+                                                           @CurrentUser User instructor) {
         if (instructor.getRole() != User.Role.INSTRUCTOR && instructor.getRole() != User.Role.ADMIN) {
             throw new UnauthorizedException("Only instructors can access the instructor dashboard");
         }
-        List<Course> courses = courseService.listByInstructor(instructor.getId());
+        int bounded = Math.min(Math.max(1, size), MAX_INSTRUCTOR_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(Math.max(0, page), bounded, Sort.by("id"));
+        Page<Course> courses = courseService.listByInstructor(instructor.getId(), pageable);
         List<CourseDto> courseDtos = courses.stream().map(CourseMapper::toDto).toList();
 
-        List<CourseStatsDto> stats = courses.stream()
-                .map(c -> new CourseStatsDto(
-                        c.getId(),
-                        c.getTitle(),
-                        enrollmentService.countForCourse(c.getId()),
-                        quizRepository.findByCourse_Id(c.getId()).size()
-                ))
-                .toList();
+        List<CourseStatsDto> stats = courseStatsRepository
+                .findStatsByInstructor(instructor.getId(), PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .map(CourseStatsDto::fromRow)
+                .getContent();
 
-        long totalEnrollments = stats.stream().mapToLong(CourseStatsDto::enrollmentCount).sum();
+        long totalEnrollments = courseStatsRepository.countEnrollmentsByInstructor(instructor.getId());
+        String latestCourseTitle = courseService.findLatestByInstructor(instructor.getId())
+                .map(Course::getTitle)
+                .orElse(null);
 
         return new InstructorDashboardResponse(
                 instructor.getId(),
-                courses.size(),
+                (int) courses.getTotalElements(),
                 totalEnrollments,
+                latestCourseTitle,
                 courseDtos,
-                stats
+                stats,
+                courses.getNumber(),
+                courses.getSize(),
+                courses.getTotalPages()
         );
     }
 
+    /**
+     * Lists quizzes in the current user's enrolled courses that the user has
+     * not submitted yet.
+     *
+     * @param actor          the authenticated user
+     * @return the pending quizzes with their course titles, oldest first
+     */
+    @GetMapping("/me/pending-quizzes")
+    public List<PendingQuizDto> pendingQuizzes(@CurrentUser User actor) {
+        return quizService.pendingQuizzesFor(actor);
+    }
+
     /**
      * Lists courses belonging to the specified instructor (or all, if admin).
      *
      * @param userId         the instructor's user id
-     * @param authentication the authenticated principal
+     * @param actor          the authenticated user
      * @return a list of {@link CourseDto} owned by the instructor
      */
     @GetMapping("/instructors/{userId}/courses")
-    public List<CourseDto> coursesByInstructor(@PathVariable Long userId, Authentication authentication) {
-        User actor = resolveUser(authentication);
+    public List<CourseDto> coursesByInstructor(@PathVariable Long userId, @CurrentUser User actor) {
         if (!actor.getId().equals(userId) && actor.getRole() != User.Role.ADMIN) {
             throw new UnauthorizedException("You cannot view courses for this instructor");
         }
@@ -122,12 +125,4 @@ public class DashboardController {
                 .map(CourseMapper::toDto)
                 .toList();
     }
-
-    private User resolveUser(Authentication authentication) {
-        if (authentication == null || authentication.getName() == null) {
-            throw new UnauthorizedException("Authentication required");
-        }
-        return userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + authentication.getName()));
-    }
 }
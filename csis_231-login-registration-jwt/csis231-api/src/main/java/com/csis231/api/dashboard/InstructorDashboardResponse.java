@@ -6,11 +6,19 @@ import java.util.List;
 
 /**
  * DTO summarizing instructor-facing dashboard data.
+ *
+ * <p>{@code courses} and {@code courseStats} hold the requested page;
+ * {@code courseCount}, {@code totalEnrollments} and {@code latestCourseTitle}
+ * cover all of the instructor's courses.</p>
  */
 public record InstructorDashboardResponse(
         Long instructorUserId,
         int courseCount,
         long totalEnrollments,
+        String latestCourseTitle,
         List<CourseDto> courses,
-        List<CourseStatsDto> courseStats
+        List<CourseStatsDto> courseStats,
+        int page,
+        int size,
+        int totalPages
 ) {}
@@ -0,0 +1,32 @@
+package com.csis231.api.dashboard;
+
+import java.util.List;
+
+/**
+ * Score distribution of a quiz, in percent (0-100).
+ *
+ * <p>Percentiles use the nearest-rank method and are {@code null} when the quiz
+ * has no submissions. {@code histogram} has ten buckets of ten percentage points
+ * each; a perfect score falls into the last bucket.</p>
+ *
+ * @param quizId       quiz identifier
+ * @param quizName     quiz name
+ * @param submissions  number of submissions
+ * @param averageScore average score, weighted by question count
+ * @param p25          25th percentile
+ * @param median       50th percentile
+ * @param p75          75th percentile
+ * @param p90          90th percentile
+ * @param histogram    submission counts per score bucket
+ */
+public record QuizScoreDistributionDto(
+        Long quizId,
+        String quizName,
+        long submissions,
+        double averageScore,
+        Double p25,
+        Double median,
+        Double p75,
+        Double p90,
+        List<Long> histogram
+) { }
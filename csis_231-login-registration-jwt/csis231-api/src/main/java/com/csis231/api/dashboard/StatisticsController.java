@@ -1,9 +1,8 @@
 package com.csis231.api.dashboard;
 
+import com.csis231.api.user.CurrentUser;
 import com.csis231.api.user.User;
-import com.csis231.api.user.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,7 +18,6 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StatisticsController {
 
-    private final UserRepository userRepository;
     private final StatisticsService statisticsService;
 
     /**
@@ -27,16 +25,25 @@ public class StatisticsController {
      * Accessible by admins or the instructor who owns the course.
      *
      * @param courseId course identifier
-     * @param authentication authenticated principal
+     * @param actor    authenticated user
      * @return list of chart points (quiz name + average score)
      */
     @GetMapping("/courses/{courseId}/quiz-averages")
-    public List<ChartPoint> quizAverages(@PathVariable Long courseId, Authentication authentication) {
-        if (authentication == null || authentication.getName() == null) {
-            throw new com.csis231.api.common.UnauthorizedException("Authentication required");
-        }
-        User actor = userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new com.csis231.api.common.ResourceNotFoundException("User not found: " + authentication.getName()));
+    public List<ChartPoint> quizAverages(@PathVariable Long courseId, @CurrentUser User actor) {
         return statisticsService.quizAveragesForCourse(courseId, actor);
     }
+
+    /**
+     * Returns the score distribution per quiz for a course: average, percentiles
+     * and a ten-bucket histogram (percent 0-100).
+     * Accessible by admins or the instructor who owns the course.
+     *
+     * @param courseId course identifier
+     * @param actor    authenticated user
+     * @return list of {@link QuizScoreDistributionDto}
+     */
+    @GetMapping("/courses/{courseId}/quiz-distributions")
+    public List<QuizScoreDistributionDto> quizDistributions(@PathVariable Long courseId, @CurrentUser User actor) {
+        return statisticsService.quizDistributionsForCourse(courseId, actor);
+    }
 }
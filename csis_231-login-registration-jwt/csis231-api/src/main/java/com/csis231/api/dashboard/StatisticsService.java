@@ -6,16 +6,24 @@ import com.csis231.api.course.Course;
 import com.csis231.api.course.CourseRepository;
 import com.csis231.api.quiz.Quiz;
 import com.csis231.api.quiz.QuizRepository;
-import com.csis231.api.quiz.QuizResult;
 import com.csis231.api.quiz.QuizResultRepository;
+import com.csis231.api.quiz.QuizScoreFrequency;
+import com.csis231.api.quiz.QuizStats;
+import com.csis231.api.quiz.QuizStatsRepository;
 import com.csis231.api.user.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Read-only statistics aggregation for visualizations (2D/3D).
@@ -27,37 +35,113 @@ public class StatisticsService {
     private final CourseRepository courseRepository;
     private final QuizRepository quizRepository;
     private final QuizResultRepository quizResultRepository;
+    private final QuizStatsRepository quizStatsRepository;
 
     /**
      * Returns quiz average scores (percentage) for every quiz in the given course.
      * Access: admin, or the instructor who owns the course.
      *
+     * <p>Averages are read from the per-quiz {@link QuizStats} rollup.</p>
+     *
      * @param courseId course identifier
      * @param actor    authenticated user requesting the data
      * @return list of chart points (quiz name + average score)
      */
     @Transactional(readOnly = true)
     public List<ChartPoint> quizAveragesForCourse(Long courseId, User actor) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found: " + courseId));
-        ensureAdminOrOwner(actor, course);
+        loadAccessibleCourse(courseId, actor);
 
-        List<ChartPoint> points = new ArrayList<>();
         List<Quiz> quizzes = quizRepository.findByCourse_Id(courseId);
+        Map<Long, QuizStats> statsByQuiz = statsByQuiz(quizzes);
+
+        List<ChartPoint> points = new ArrayList<>();
         for (Quiz quiz : quizzes) {
-            List<QuizResult> results = quizResultRepository.findByQuiz_Id(quiz.getId());
-            if (results.isEmpty()) {
-                points.add(new ChartPoint(quiz.getName(), 0d));
-                continue;
-            }
-            int totalScore = results.stream().mapToInt(QuizResult::getScore).sum();
-            int totalQuestions = results.stream().mapToInt(QuizResult::getTotalQuestions).sum();
-            double avg = totalQuestions == 0 ? 0d : (double) totalScore / totalQuestions * 100.0;
-            points.add(new ChartPoint(quiz.getName(), avg));
+            QuizStats stats = statsByQuiz.get(quiz.getId());
+            points.add(new ChartPoint(quiz.getName(), stats == null ? 0d : stats.averagePercentage()));
         }
         return points;
     }
 
+    /**
+     * Returns the score distribution (average, percentiles and histogram) for every
+     * quiz in the given course. Access: admin, or the instructor who owns the course.
+     *
+     * <p>Average and histogram come from the {@link QuizStats} rollup; percentiles
+     * from a grouped query whose size depends on the number of distinct scores,
+     * not on the number of submissions.</p>
+     *
+     * @param courseId course identifier
+     * @param actor    authenticated user requesting the data
+     * @return list of {@link QuizScoreDistributionDto}, ordered by quiz id
+     */
+    @Transactional(readOnly = true)
+    public List<QuizScoreDistributionDto> quizDistributionsForCourse(Long courseId, User actor) {
+        loadAccessibleCourse(courseId, actor);
+
+        List<Quiz> quizzes = quizRepository.findByCourse_Id(courseId).stream()
+                .sorted(Comparator.comparing(Quiz::getId))
+                .toList();
+        Map<Long, QuizStats> statsByQuiz = statsByQuiz(quizzes);
+        Map<Long, List<QuizScoreFrequency>> frequenciesByQuiz = quizResultRepository.scoreFrequenciesByCourse(courseId)
+                .stream()
+                .collect(Collectors.groupingBy(QuizScoreFrequency::getQuizId));
+
+        List<QuizScoreDistributionDto> distributions = new ArrayList<>();
+        for (Quiz quiz : quizzes) {
+            QuizStats stats = statsByQuiz.getOrDefault(quiz.getId(), QuizStats.empty(quiz.getId()));
+            List<QuizScoreFrequency> frequencies =
+                    frequenciesByQuiz.getOrDefault(quiz.getId(), Collections.emptyList());
+            distributions.add(distributionOf(quiz, stats, frequencies));
+        }
+        return distributions;
+    }
+
+    private Map<Long, QuizStats> statsByQuiz(List<Quiz> quizzes) {
+        if (quizzes.isEmpty()) return Collections.emptyMap();
+        return quizStatsRepository.findByQuizIdIn(quizzes.stream().map(Quiz::getId).toList()).stream()
+                .collect(Collectors.toMap(QuizStats::getQuizId, Function.identity()));
+    }
+
+    private Course loadAccessibleCourse(Long courseId, User actor) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found: " + courseId));
+        ensureAdminOrOwner(actor, course);
+        return course;
+    }
+
+    private static QuizScoreDistributionDto distributionOf(Quiz quiz, QuizStats stats,
+                                                           List<QuizScoreFrequency> frequencies) {
+        // (percentage, count) pairs sorted ascending by percentage
+        List<double[]> outcomes = frequencies.stream()
+                .map(f -> new double[]{QuizStats.percentage(f.getScore(), f.getTotalQuestions()), f.getFrequency()})
+                .sorted(Comparator.comparingDouble(o -> o[0]))
+                .toList();
+        long submissions = outcomes.stream().mapToLong(o -> (long) o[1]).sum();
+
+        return new QuizScoreDistributionDto(
+                quiz.getId(),
+                quiz.getName(),
+                stats.getAttemptCount(),
+                stats.averagePercentage(),
+                percentile(outcomes, submissions, 25),
+                percentile(outcomes, submissions, 50),
+                percentile(outcomes, submissions, 75),
+                percentile(outcomes, submissions, 90),
+                Arrays.stream(stats.getHistogram()).boxed().toList()
+        );
+    }
+
+    private static Double percentile(List<double[]> outcomes, long submissions, int percent) {
+        if (submissions == 0) return null;
+        long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * submissions));
+        long seen = 0;
+        for (double[] outcome : outcomes) {
+            seen += (long) outcome[1];
+            if (seen >= rank) return outcome[0];
+        }
+        return outcomes.get(outcomes.size() - 1)[0];
+    }
+
     private void ensureAdminOrOwner(User actor, Course course) {
         if (actor == null) {
             throw new UnauthorizedException("Authentication required");
@@ -0,0 +1,69 @@
+package com.csis231.api.dashboard;
+
+import com.csis231.api.course.CourseDto;
+import com.csis231.api.course.CourseMapper;
+import com.csis231.api.enrollment.CourseEnrollment;
+import com.csis231.api.enrollment.CourseEnrollmentRepository;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only assembly of the student dashboard from a fixed set of queries.
+ *
+ * <p>Enrollments are loaded with their courses and instructors fetch-joined,
+ * quizzes for all enrolled courses come from one query and their question
+ * counts from one grouped count, so the cost does not grow with the number
+ * of courses or quizzes.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentDashboardQueryService {
+
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final QuizRepository quizRepository;
+    private final QuizQuestionRepository questionRepository;
+    private final QuizService quizService;
+
+    /**
+     * Builds the dashboard for the given student.
+     *
+     * @param student the student (or admin) viewing their dashboard
+     * @return a {@link StudentDashboardResponse} with courses, recent results and quizzes
+     */
+    @Transactional(readOnly = true)
+    public StudentDashboardResponse build(User student) {
+        List<CourseEnrollment> enrollments = enrollmentRepository.findWithCourseByStudentId(student.getId());
+        List<CourseDto> enrolledCourses = enrollments.stream()
+                .map(CourseEnrollment::getCourse)
+                .map(CourseMapper::toDto)
+                .toList();
+
+        List<QuizResultDto> recentResults = quizService.latestResultsForStudent(student.getId());
+
+        List<Long> courseIds = enrolledCourses.stream().map(CourseDto::id).toList();
+        List<Quiz> courseQuizzes = courseIds.isEmpty()
+                ? Collections.emptyList()
+                : quizRepository.findByCourse_IdIn(courseIds);
+        Map<Long, Integer> questionCounts = questionRepository.questionCountsByQuiz(
+                courseQuizzes.stream().map(Quiz::getId).toList());
+        List<QuizSummaryDto> quizzes = courseQuizzes.stream()
+                .map(q -> QuizMapper.toSummaryDto(q, questionCounts.getOrDefault(q.getId(), 0)))
+                .collect(Collectors.toList());
+
+        return new StudentDashboardResponse(
+                student.getId(),
+                enrolledCourses.size(),
+                enrolledCourses,
+                recentResults,
+                quizzes
+        );
+    }
+}
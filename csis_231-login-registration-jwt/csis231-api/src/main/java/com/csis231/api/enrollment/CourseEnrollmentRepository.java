@@ -1,6 +1,10 @@
 package com.csis231.api.enrollment;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -48,4 +52,39 @@ public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollme
      * @return an optional containing the enrollment if present
      */
     Optional<CourseEnrollment> findByStudent_IdAndCourse_Id(Long studentId, Long courseId);
+
+    /**
+     * Finds enrollments for a student with their courses and course instructors
+     * fetched in the same query.
+     *
+     * @param studentId the student identifier
+     * @return list of enrollments with initialized course and instructor
+     */
+    @Query("""
+           select e from CourseEnrollment e
+           join fetch e.course c
+           join fetch c.instructor
+           where e.student.id = :studentId
+           """)
+    List<CourseEnrollment> findWithCourseByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * Retrieves ids of enrollments belonging to a course, for chunked deletion.
+     *
+     * @param courseId the course identifier
+     * @param pageable limits the number of ids returned
+     * @return the next ids to delete
+     */
+    @Query("select e.id from CourseEnrollment e where e.course.id = :courseId")
+    List<Long> findIdsByCourseId(@Param("courseId") Long courseId, Pageable pageable);
+
+    /**
+     * Deletes enrollments by id with a single statement, bypassing the persistence context.
+     *
+     * @param ids the ids to delete
+     * @return the number of rows removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CourseEnrollment e where e.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
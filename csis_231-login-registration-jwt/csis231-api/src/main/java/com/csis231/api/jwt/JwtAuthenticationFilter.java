@@ -5,15 +5,21 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import com.csis231.api.auth.JpaUserDetailsService;
+import com.csis231.api.user.User;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Servlet filter that extracts a JWT from the {@code Authorization} header
@@ -21,6 +27,12 @@ import java.io.IOException;
  *
  * <p>The filter runs once per request and is typically registered in the
  * Spring Security filter chain before authentication-dependent endpoints.</p>
+ *
+ * <p>When {@code jwt.stateless} is enabled (the default) and the token carries
+ * the user id, role and active claims, the {@code Authentication} is built from
+ * a single token parse and a {@link TokenRevocationCache} check, without
+ * touching the database. Older tokens without those claims fall back to
+ * loading the user through {@link JpaUserDetailsService}.</p>
  */
 
 @Component
@@ -32,6 +44,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationCache revocationCache;
+
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
+
     /**
      * Extracts the JWT from the request, validates it and sets the
      * {@link org.springframework.security.core.Authentication} in the
@@ -50,28 +68,62 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        VerifiedToken token = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
-            } catch (Exception e) {
+                token = jwtUtil.verify(jwt);
+            } catch (JwtException | IllegalArgumentException e) {
                 logger.error("JWT token is invalid");
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (token != null && token.subject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken authToken = stateless && token.hasIdentityClaims()
+                    ? authenticateFromClaims(token)
+                    : authenticateFromDatabase(token.subject());
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            if (authToken != null) {
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(VerifiedToken token) {
+        String username = token.subject();
+        if (!Boolean.TRUE.equals(token.active())) {
+            return null;
+        }
+        if (revocationCache.isRevoked(username, token.issuedAt())) {
+            return null;
+        }
+        User.Role role;
+        try {
+            role = User.Role.valueOf(token.role());
+        } catch (IllegalArgumentException e) {
+            logger.error("JWT token carries an unknown role");
+            return null;
+        }
+
+        JwtPrincipal principal = new JwtPrincipal(token.userId(), username, role);
+        return new UsernamePasswordAuthenticationToken(principal, null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+    }
+
+    private UsernamePasswordAuthenticationToken authenticateFromDatabase(String username) {
+        UserDetails userDetails;
+        try {
+            userDetails = this.userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+        if (!userDetails.isEnabled()) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
 }
@@ -0,0 +1,30 @@
+package com.csis231.api.jwt;
+
+import com.csis231.api.user.User;
+
+import java.security.Principal;
+
+/**
+ * Lightweight principal built directly from the signed claims of a JWT.
+ *
+ * <p>Used by {@link JwtAuthenticationFilter} when stateless authentication
+ * is enabled, so that the security context can be populated without loading
+ * the {@link User} entity from the database.</p>
+ *
+ * @param id       database identifier of the user ({@code uid} claim)
+ * @param username username of the user (token subject)
+ * @param role     application role of the user ({@code role} claim)
+ */
+public record JwtPrincipal(Long id, String username, User.Role role) implements Principal {
+
+    /**
+     * Returns the username so that {@code Authentication#getName()} keeps
+     * working for controllers that resolve the current user by name.
+     *
+     * @return the username carried by the token
+     */
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -1,5 +1,6 @@
 package com.csis231.api.jwt;
 
+import com.csis231.api.user.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,8 +8,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -18,25 +25,75 @@ import java.util.function.Function;
  *
  * <p>The signing key and token expiration are configured via the
  * {@code jwt.secret} and {@code jwt.expiration} application properties.</p>
+ *
+ * <p>The HMAC key and the (thread-safe) parser are built once and reused.
+ * {@link #verify(String)} keeps recently verified tokens in a bounded LRU map
+ * keyed by the token string itself (its hash code is cached and a hit is
+ * confirmed by comparing the full token), so repeated requests with the same
+ * token skip signature verification until it expires. Only immutable
+ * {@link VerifiedToken} values are cached. The cache size is set via
+ * {@code jwt.cache.max-entries} (0 disables it); when it is full, the least
+ * recently used token is evicted in constant time. The map is guarded by its
+ * own monitor, which is only held for the lookup or insert, never while a
+ * signature is being checked.</p>
  */
 
 @Component
 public class JwtUtil {
 
+    /** Claim carrying the user's database id. */
+    public static final String CLAIM_USER_ID = "uid";
+
+    /** Claim carrying the user's role name (ADMIN, INSTRUCTOR or STUDENT). */
+    public static final String CLAIM_ROLE = "role";
+
+    /** Claim carrying the user's active flag at the time the token was issued. */
+    public static final String CLAIM_ACTIVE = "active";
+
     @Value("${jwt.secret:mySecretKey}")
     private String secret;
 
-    @Value("${jwt.expiration:86400000}")
+    @Value("${jwt.expiration:900000}")
     private Long expiration;
 
+    @Value("${jwt.cache.max-entries:1024}")
+    private int cacheMaxEntries;
+
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+    private final Map<String, VerifiedToken> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+            return size() > cacheMaxEntries;
+        }
+    };
+
     /**
      * Returns the HMAC signing key derived from the configured secret.
      *
+     * <p>The key is derived on first use and then reused for every call.</p>
+     *
      * @return the {@link SecretKey} used to sign and validate tokens
      */
 
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            synchronized (this) {
+                key = signingKey;
+                if (key == null) {
+                    key = Keys.hmacShaKeyFor(secret.getBytes());
+                    parser = Jwts.parserBuilder().setSigningKey(key).build();
+                    signingKey = key;
+                }
+            }
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        getSigningKey();
+        return parser;
     }
 
     /**
@@ -47,7 +104,7 @@ public class JwtUtil {
      */
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     /**
@@ -58,7 +115,8 @@ public class JwtUtil {
      */
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        Instant expiration = verify(token).expiration();
+        return expiration != null ? Date.from(expiration) : null;
     }
 
     /**
@@ -71,20 +129,69 @@ public class JwtUtil {
      */
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parse(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Parses and verifies the given JWT and returns all of its claims.
+     *
+     * <p>Signature and expiration are checked by the parser, so callers can
+     * read every claim they need from the result without re-parsing. The
+     * result is not cached; use {@link #verify(String)} on hot paths.</p>
+     *
+     * @param token the JWT string
+     * @return the verified claims
+     * @throws JwtException             if the token is malformed, expired or wrongly signed
+     * @throws IllegalArgumentException if the token is null or blank
+     */
+    public Claims parse(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT token is required");
+        }
+        return getParser().parseClaimsJws(token).getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Verifies the given JWT and returns an immutable view of its claims.
+     *
+     * <p>Tokens verified earlier are served from the cache until they expire.</p>
+     *
+     * @param token the JWT string
+     * @return the verified token
+     * @throws JwtException             if the token is malformed, expired or wrongly signed
+     * @throws IllegalArgumentException if the token is null or blank
+     */
+    public VerifiedToken verify(String token) {
+        if (cacheMaxEntries <= 0) {
+            return VerifiedToken.from(parse(token));
+        }
+        if (token != null) {
+            synchronized (verifiedTokens) {
+                VerifiedToken cached = verifiedTokens.get(token);
+                if (cached != null) {
+                    if (!cached.isExpired(Instant.now())) {
+                        return cached;
+                    }
+                    verifiedTokens.remove(token);
+                }
+            }
+        }
+
+        VerifiedToken verified = VerifiedToken.from(parse(token));
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(token, verified);
+        }
+        return verified;
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -92,6 +199,22 @@ public class JwtUtil {
         return createToken(claims, userDetails.getUsername());
     }
 
+    /**
+     * Generates a new JWT for the given user, embedding its id, role and
+     * active flag as signed claims so requests can be authenticated without
+     * a database lookup.
+     *
+     * @param user the authenticated user
+     * @return a signed JWT string
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_ROLE, user.getRole().name());
+        claims.put(CLAIM_ACTIVE, !Boolean.FALSE.equals(user.getIsActive()));
+        return createToken(claims, user.getUsername());
+    }
+
     /**
      * Generates a new JWT for the given username.
      *
@@ -125,8 +248,9 @@ public class JwtUtil {
 
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final VerifiedToken verified = verify(token);
+        return (verified.subject().equals(userDetails.getUsername())
+                && !verified.isExpired(Instant.now()));
     }
 
     /**
@@ -143,10 +267,7 @@ public class JwtUtil {
 
     public Boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
+            verify(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -0,0 +1,71 @@
+package com.csis231.api.jwt;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for {@link RefreshToken} entities.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Finds a token by the hash of its raw value.
+     *
+     * @param tokenHash SHA-256 hex digest of the raw token
+     * @return the token if known
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Marks a token as consumed unless it was already consumed or revoked.
+     * Of two concurrent refreshes with the same token only one succeeds.
+     *
+     * @param id  the token id
+     * @param now the consumption time
+     * @return 1 when this call consumed the token, 0 otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken t set t.consumedAt = :now " +
+            "where t.id = :id and t.consumedAt is null and t.revokedAt is null")
+    int consume(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * Revokes every live token of a family.
+     *
+     * @param familyId the family to revoke
+     * @param now      the revocation time
+     * @return the number of revoked tokens
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") Instant now);
+
+    /**
+     * Revokes every live token of a user, e.g. after a password change.
+     *
+     * @param userId the user whose tokens are revoked
+     * @param now    the revocation time
+     * @return the number of revoked tokens
+     */
+    // no clearAutomatically: callers are usually in the middle of updating the user entity
+    @Modifying(flushAutomatically = true)
+    @Query("update RefreshToken t set t.revokedAt = :now where t.userId = :userId and t.revokedAt is null")
+    int revokeAllForUser(@Param("userId") Long userId, @Param("now") Instant now);
+
+    /**
+     * Deletes tokens that expired before the cutoff.
+     *
+     * @param cutoff tokens expiring before this instant are removed
+     * @return the number of removed tokens
+     */
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,145 @@
+package com.csis231.api.jwt;
+
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens.
+ *
+ * <p>A refresh token is a random 256-bit value handed to the client once;
+ * only its SHA-256 hash is stored. Each successful {@link #rotate(String)}
+ * consumes the presented token and returns a new one from the same family,
+ * so a stolen token is only good until the legitimate client refreshes. If a
+ * consumed token is presented again, the family is revoked.</p>
+ *
+ * <p>Tokens live {@code jwt.refresh.expiration-days} (14 by default) from
+ * their last rotation; expired rows are purged periodically.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+
+    @Value("${jwt.refresh.expiration-days:14}")
+    private long expirationDays;
+
+    /**
+     * Result of a successful rotation.
+     *
+     * @param user         the token owner
+     * @param refreshToken the new raw refresh token
+     */
+    public record Rotation(User user, String refreshToken) {
+    }
+
+    /**
+     * Starts a new token family for a user who just authenticated.
+     *
+     * @param user the authenticated user
+     * @return the raw refresh token to hand to the client
+     */
+    @Transactional
+    public String issue(User user) {
+        return create(user.getId(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for its successor.
+     *
+     * @param rawToken the token presented by the client
+     * @return the owner and the new raw token
+     * @throws BadCredentialsException if the token is unknown, expired,
+     *         revoked or reused, or the owner is gone or disabled
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new BadCredentialsException("Refresh token is required");
+        }
+        Instant now = Instant.now();
+        RefreshToken token = refreshTokenRepository.findByTokenHash(JwtUtil.hash(rawToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        if (token.getRevokedAt() != null || !token.getExpiresAt().isAfter(now)) {
+            throw new BadCredentialsException("Refresh token expired or revoked");
+        }
+        if (token.getConsumedAt() != null || refreshTokenRepository.consume(token.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            log.warn("Refresh token reuse for user {}; revoked {} token(s) of its family", token.getUserId(), revoked);
+            throw new BadCredentialsException("Refresh token already used");
+        }
+        User user = userRepository.findById(token.getUserId())
+                .filter(u -> !Boolean.FALSE.equals(u.getIsActive()))
+                .orElseThrow(() -> new BadCredentialsException("Account is not available"));
+        return new Rotation(user, create(user.getId(), token.getFamilyId()));
+    }
+
+    /**
+     * Revokes the family of the given token, e.g. on logout. Unknown tokens
+     * are ignored.
+     *
+     * @param rawToken the token presented by the client
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) return;
+        refreshTokenRepository.findByTokenHash(JwtUtil.hash(rawToken))
+                .ifPresent(t -> refreshTokenRepository.revokeFamily(t.getFamilyId(), Instant.now()));
+    }
+
+    /**
+     * Revokes every refresh token of a user, e.g. after a password change or
+     * when the account is disabled.
+     *
+     * @param userId the user id
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        if (userId == null) return;
+        refreshTokenRepository.revokeAllForUser(userId, Instant.now());
+    }
+
+    /**
+     * Deletes expired tokens. Runs every {@code jwt.refresh.purge-interval-ms}
+     * (one hour by default).
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval-ms:3600000}",
+            initialDelayString = "${jwt.refresh.purge-initial-delay-ms:120000}")
+    @Transactional
+    public void purgeExpired() {
+        int removed = refreshTokenRepository.deleteExpiredBefore(Instant.now());
+        if (removed > 0) {
+            log.info("Purged {} expired refresh tokens", removed);
+        }
+    }
+
+    private String create(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(JwtUtil.hash(raw))
+                .familyId(familyId)
+                .expiresAt(Instant.now().plus(Duration.ofDays(expirationDays)))
+                .build());
+        return raw;
+    }
+}
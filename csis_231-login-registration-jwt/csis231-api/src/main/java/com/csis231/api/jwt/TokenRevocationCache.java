@@ -0,0 +1,130 @@
+package com.csis231.api.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Small in-memory deny-list used by stateless JWT authentication.
+ *
+ * <p>When an account is disabled, deleted or has its role/credentials changed,
+ * every token issued to that username up to the change is revoked. Entries
+ * only need to live as long as a token can, so they are dropped once
+ * {@code jwt.expiration} has elapsed and the map is bounded by
+ * {@code jwt.revocation.max-entries}.</p>
+ *
+ * <p>Past the bound the oldest live cutoffs are folded into a single global
+ * floor instead of being forgotten: every token issued up to the floor is
+ * rejected, whoever it belongs to. The cache therefore fails closed; unrelated
+ * users may have to sign in again, but a revoked token never becomes valid
+ * again. The floor only matches tokens older than itself, so it stops
+ * affecting anyone once {@code jwt.expiration} has elapsed.</p>
+ *
+ * <p>The deny-list lives in this JVM only. With several API instances an
+ * access token revoked on one of them stays usable on the others until it
+ * expires, i.e. for at most {@code jwt.expiration}. Refresh tokens are revoked
+ * in the database, so no instance can mint new access tokens for the user.</p>
+ */
+@Component
+public class TokenRevocationCache {
+
+    private final Map<String, Instant> revokedBefore = new ConcurrentHashMap<>();
+    private final AtomicReference<Instant> globalRevokedBefore = new AtomicReference<>();
+
+    @Value("${jwt.expiration:900000}")
+    private long expiration;
+
+    @Value("${jwt.revocation.max-entries:10000}")
+    private int maxEntries;
+
+    /**
+     * Revokes all tokens issued to the given username up to now.
+     *
+     * <p>JWT {@code iat} has second precision, so tokens issued later within the
+     * same second are rejected as well; the client simply signs in again.</p>
+     *
+     * @param username the username whose tokens must no longer be accepted
+     */
+    public void revokeAll(String username) {
+        revokeAll(username, Instant.now());
+    }
+
+    /**
+     * Revokes all tokens issued to the given username up to the given instant.
+     *
+     * @param username the username whose tokens must no longer be accepted
+     * @param at       the revocation time; truncated to seconds like {@code iat}
+     */
+    public void revokeAll(String username, Instant at) {
+        if (username == null || at == null) return;
+        revokedBefore.merge(username, at.truncatedTo(ChronoUnit.SECONDS),
+                (previous, next) -> next.isAfter(previous) ? next : previous);
+        if (revokedBefore.size() > maxEntries) {
+            purgeExpired();
+            evictOldest(username);
+        }
+    }
+
+    /**
+     * Checks whether a token issued at the given time was revoked for the username.
+     *
+     * @param username the token subject
+     * @param issuedAt the token's {@code iat} claim (may be {@code null})
+     * @return {@code true} if the token must be rejected
+     */
+    public boolean isRevoked(String username, Instant issuedAt) {
+        return coveredBy(globalRevokedBefore.get(), issuedAt)
+                || coveredBy(revokedBefore.get(username), issuedAt);
+    }
+
+    private static boolean coveredBy(Instant cutoff, Instant issuedAt) {
+        if (cutoff == null) return false;
+        return issuedAt == null || !issuedAt.isAfter(cutoff);
+    }
+
+    /**
+     * Drops entries older than the token lifetime; no token they could match is still valid.
+     */
+    void purgeExpired() {
+        Instant horizon = Instant.now().minusMillis(expiration);
+        revokedBefore.values().removeIf(cutoff -> cutoff.isBefore(horizon));
+    }
+
+    /**
+     * Moves the oldest cutoffs into the global floor until the map is back
+     * within {@code maxEntries}, never the one that was just recorded.
+     *
+     * <p>The floor is raised before an entry is removed, so a concurrent
+     * {@link #isRevoked} always sees at least one of them.</p>
+     *
+     * @param keep the username revoked by the current call
+     */
+    private void evictOldest(String keep) {
+        int excess = revokedBefore.size() - Math.max(1, maxEntries);
+        if (excess <= 0) return;
+        revokedBefore.entrySet().stream()
+                .filter(e -> !e.getKey().equals(keep))
+                .sorted(Map.Entry.comparingByValue())
+                .limit(excess)
+                .toList()
+                .forEach(e -> {
+                    globalRevokedBefore.accumulateAndGet(e.getValue(),
+                            (floor, cutoff) -> floor == null || cutoff.isAfter(floor) ? cutoff : floor);
+                    revokedBefore.remove(e.getKey(), e.getValue());
+                });
+    }
+
+    /**
+     * Returns the number of usernames currently on the deny-list.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return revokedBefore.size();
+    }
+}
@@ -0,0 +1,65 @@
+package com.csis231.api.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Immutable view of the claims of a JWT whose signature and expiration were
+ * checked by {@link JwtUtil}.
+ *
+ * <p>Unlike {@link Claims}, instances can be cached and shared between
+ * requests safely.</p>
+ *
+ * @param subject    the token subject (username)
+ * @param userId     the {@code uid} claim, or {@code null} if absent
+ * @param role       the {@code role} claim, or {@code null} if absent
+ * @param active     the {@code active} claim, or {@code null} if absent
+ * @param issuedAt   the {@code iat} claim, or {@code null} if absent
+ * @param expiration the {@code exp} claim, or {@code null} if absent
+ */
+public record VerifiedToken(String subject, Long userId, String role, Boolean active,
+                            Instant issuedAt, Instant expiration) {
+
+    /**
+     * Copies the values needed for authentication out of parsed claims.
+     *
+     * @param claims verified token claims
+     * @return the immutable token view
+     */
+    static VerifiedToken from(Claims claims) {
+        Number uid = claims.get(JwtUtil.CLAIM_USER_ID, Number.class);
+        return new VerifiedToken(
+                claims.getSubject(),
+                uid != null ? uid.longValue() : null,
+                claims.get(JwtUtil.CLAIM_ROLE, String.class),
+                claims.get(JwtUtil.CLAIM_ACTIVE, Boolean.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()));
+    }
+
+    /**
+     * Checks whether the token carries the identity data needed for stateless
+     * authentication (user id, role and active flag).
+     *
+     * @return {@code true} if all identity claims are present
+     */
+    public boolean hasIdentityClaims() {
+        return userId != null && role != null && active != null;
+    }
+
+    /**
+     * Checks whether the token has expired at the given instant.
+     *
+     * @param now the reference instant
+     * @return {@code true} if the token is no longer valid
+     */
+    public boolean isExpired(Instant now) {
+        return expiration != null && !expiration.isAfter(now);
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+}
@@ -1,14 +1,19 @@
 package com.csis231.api.otp;
 
-import com.csis231.api.user.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * {@link OtpSender} implementation that delivers OTP codes via e-mail using
@@ -16,47 +21,85 @@ import java.time.format.DateTimeFormatter;
  *
  * <p>The generated message contains the OTP code, its logical purpose and the
  * expiration time, and is sent to the e-mail address associated with the
- * {@link com.csis231.api.user.User}.</p>
+ * {@link com.csis231.api.user.User}. Batches are handed to the mail sender in
+ * a single call, which sends them over one SMTP connection.</p>
  */
 
 @Component
 @RequiredArgsConstructor
 public class EmailOtpSender implements OtpSender {
 
+    private static final DateTimeFormatter EXPIRY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
+            .withZone(ZoneId.systemDefault());
+
     private final JavaMailSender mailSender;
 
+    @Value("${mail.from:}")
+    private String from;
+
     /**
-     * Sends the provided OTP code to the e-mail address of the given user.
+     * Sends the provided OTP code to the delivery's e-mail address.
      *
-     * @param user      the recipient; their e-mail address is taken from the {@code user} entity
-     * @param purpose   the logical purpose of the OTP (for example
-     *                  {@link OtpPurposes#LOGIN_2FA})
-     * @param code      the one-time password that should be delivered
-     * @param expiresAt the instant at which the code will expire and no longer be accepted
+     * @param delivery the message to deliver
      */
+    @Override
+    public void send(OtpDelivery delivery) {
+        mailSender.send(toMessage(delivery));
+    }
 
+    /**
+     * Sends all messages in one SMTP session and maps per-message failures
+     * back to their deliveries.
+     *
+     * @param deliveries the messages to deliver
+     * @return failures keyed by {@link OtpDelivery#id()}
+     */
     @Override
-    public void send(User user, String purpose, String code, Instant expiresAt) {
-        String subject = switch (purpose) {
+    public Map<Long, Exception> sendAll(List<OtpDelivery> deliveries) {
+        Map<Long, Exception> failures = new LinkedHashMap<>();
+        if (deliveries.isEmpty()) return failures;
+        Map<SimpleMailMessage, OtpDelivery> byMessage = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[deliveries.size()];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = toMessage(deliveries.get(i));
+            byMessage.put(messages[i], deliveries.get(i));
+        }
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException ex) {
+            if (ex.getFailedMessages().isEmpty()) {
+                deliveries.forEach(d -> failures.put(d.id(), ex));
+            } else {
+                ex.getFailedMessages().forEach((message, cause) -> {
+                    OtpDelivery failed = byMessage.get(message);
+                    if (failed != null) failures.put(failed.id(), cause);
+                });
+            }
+        } catch (MailException ex) {
+            deliveries.forEach(d -> failures.put(d.id(), ex));
+        }
+        return failures;
+    }
+
+    private SimpleMailMessage toMessage(OtpDelivery delivery) {
+        String subject = delivery.subject() != null ? delivery.subject() : switch (delivery.purpose()) {
             case OtpPurposes.LOGIN_2FA -> "Your login verification code";
             case OtpPurposes.PASSWORD_RESET -> "Your password reset code";
             default -> "Your verification code";
         };
 
-        String expiresAtLocal = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
-                .withZone(ZoneId.systemDefault())
-                .format(expiresAt);
-
         // plain text body
-        String text = "Hello " + (user.getFirstName() != null ? user.getFirstName() : user.getUsername()) + ",\n\n"
-                + "Your one-time code is: " + code + "\n"
-                + "It will expire at: " + expiresAtLocal + "\n\n"
+        String text = delivery.body() != null ? delivery.body()
+                : "Hello " + delivery.recipientName() + ",\n\n"
+                + "Your one-time code is: " + delivery.code() + "\n"
+                + "It will expire at: " + EXPIRY_FORMAT.format(delivery.expiresAt()) + "\n\n"
                 + "If you did not request this, you can ignore this email.";
 
         SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setTo(user.getEmail());              // <- send to the user who is logging in
+        if (from != null && !from.isBlank()) msg.setFrom(from);
+        msg.setTo(delivery.recipient());
         msg.setSubject(subject);
         msg.setText(text);
-        mailSender.send(msg);
+        return msg;
     }
 }
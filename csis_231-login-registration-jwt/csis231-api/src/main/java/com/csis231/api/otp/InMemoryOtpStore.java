@@ -0,0 +1,160 @@
+package com.csis231.api.otp;
+
+import com.csis231.api.user.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OtpStore} that keeps codes in memory, with no database round trips.
+ *
+ * <p>Active codes live in a concurrent map keyed by user and purpose. Expiry
+ * is driven by a hashed timer wheel: each code is filed in the slot of its
+ * expiry tick, and a single thread clears one slot per tick, so removal costs
+ * nothing per request and sweeping never scans the whole map. Verification
+ * also checks the expiry itself, so the wheel only has to reclaim memory.</p>
+ *
+ * <p>Codes do not survive a restart and are not shared between instances, so
+ * this store suits single-node deployments and tests. Enable it with
+ * {@code otp.store=memory}.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "otp.store", havingValue = "memory")
+public class InMemoryOtpStore implements OtpStore {
+
+    private static final int WHEEL_SLOTS = 512;
+
+    private record Key(Long userId, String purpose) {
+    }
+
+    private static final class Entry {
+        final String code;
+        final Instant expiresAt;
+        int failedAttempts;
+
+        Entry(String code, Instant expiresAt) {
+            this.code = code;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final Map<Key, Entry> codes = new ConcurrentHashMap<>();
+    @SuppressWarnings("unchecked")
+    private final Set<Key>[] wheel = new Set[WHEEL_SLOTS];
+    private ScheduledExecutorService ticker;
+
+    @Value("${otp.memory.tick-ms:1000}")
+    private long tickMillis;
+
+    public InMemoryOtpStore() {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "otp-expiry-wheel");
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) ticker.shutdownNow();
+    }
+
+    @Override
+    public void issue(User user, String purpose, String code, Instant expiresAt) {
+        Key key = new Key(user.getId(), purpose);
+        codes.put(key, new Entry(code, expiresAt));
+        wheel[slotOf(expiresAt)].add(key);
+    }
+
+    @Override
+    public boolean consume(User user, String purpose, String code, int maxAttempts, Instant now) {
+        Key key = new Key(user.getId(), purpose);
+        Entry entry = codes.get(key);
+        if (entry == null) return false;
+        if (!now.isBefore(entry.expiresAt)) {
+            codes.remove(key, entry);
+            return false;
+        }
+        boolean matches = OtpStore.matches(entry.code, code);
+        synchronized (entry) {
+            // a wrong guess racing ahead of this one may already have burned the code
+            if (entry.failedAttempts >= maxAttempts) {
+                codes.remove(key, entry);
+                return false;
+            }
+            if (matches) {
+                // only one concurrent caller can win the removal
+                return codes.remove(key, entry);
+            }
+            if (++entry.failedAttempts >= maxAttempts) {
+                codes.remove(key, entry);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long purgeExpired(Instant now) {
+        long removed = 0;
+        for (Map.Entry<Key, Entry> e : codes.entrySet()) {
+            if (!now.isBefore(e.getValue().expiresAt) && codes.remove(e.getKey(), e.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Number of codes currently held, including expired ones not yet swept.
+     *
+     * @return the map size
+     */
+    public int size() {
+        return codes.size();
+    }
+
+    /**
+     * Clears the slot for the current tick, dropping entries whose expiry has
+     * passed. Keys whose code was replaced with a later expiry are filed in a
+     * later slot as well, so they are skipped here.
+     */
+    void tick() {
+        Instant now = Instant.now();
+        Set<Key> slot = wheel[slotOf(now)];
+        for (Key key : slot) {
+            Entry entry = codes.get(key);
+            if (entry == null) {
+                slot.remove(key);
+            } else if (!now.isBefore(entry.expiresAt)) {
+                codes.remove(key, entry);
+                slot.remove(key);
+            } else if (slotOf(entry.expiresAt) != slotOf(now)) {
+                // re-issued with a later expiry; the later slot owns it now
+                slot.remove(key);
+            }
+        }
+    }
+
+    private int slotOf(Instant instant) {
+        long tick = instant.toEpochMilli() / Math.max(1, tickMillis);
+        return (int) Math.floorMod(tick, (long) WHEEL_SLOTS);
+    }
+}
@@ -0,0 +1,61 @@
+package com.csis231.api.otp;
+
+import com.csis231.api.common.ChunkedDeleter;
+import com.csis231.api.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * {@link OtpStore} backed by the {@code otp_codes} table.
+ *
+ * <p>Issuing is one bulk update plus one insert; verifying is one indexed
+ * lookup of the newest active row plus one conditional update, which rechecks
+ * the row so concurrent guesses cannot exceed the attempt limit or consume a
+ * code twice. Expired rows are removed in chunks by
+ * {@link #purgeExpired(Instant)}, which {@link OtpPurgeJob} runs periodically.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "otp.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaOtpStore implements OtpStore {
+
+    private final OtpCodeRepository repo;
+    private final ChunkedDeleter chunkedDeleter;
+
+    @Override
+    @Transactional
+    public void issue(User user, String purpose, String code, Instant expiresAt) {
+        repo.consumeActive(user.getId(), purpose, Instant.now());
+        repo.save(OtpCode.builder()
+                .user(user)
+                .code(code)
+                .purpose(purpose)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public boolean consume(User user, String purpose, String code, int maxAttempts, Instant now) {
+        OtpCode active = repo.findFirstByUser_IdAndPurposeAndConsumedAtIsNullAndExpiresAtAfterOrderByIdDesc(
+                user.getId(), purpose, now).orElse(null);
+        if (active == null) return false;
+        // the row may have changed since it was read; the conditional updates decide
+        if (OtpStore.matches(active.getCode(), code)) {
+            return repo.consumeIfActive(active.getId(), maxAttempts, now) == 1;
+        }
+        repo.recordFailedAttempt(active.getId(), maxAttempts, now);
+        return false;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long purgeExpired(Instant now) {
+        return chunkedDeleter.deleteAll(page -> repo.findIdsExpiredBefore(now, page), repo::deleteByIds);
+    }
+}
@@ -59,6 +59,14 @@ import java.time.Instant;
         @Column(name = "consumed_at")
         private Instant consumedAt;
 
+    /**
+     * Number of wrong codes submitted against this OTP; it is burned once the
+     * configured maximum is reached.
+     */
+
+        @Column(name = "failed_attempts")
+        private Integer failedAttempts;
+
     /**
      * Checks whether this OTP is currently valid.
      *
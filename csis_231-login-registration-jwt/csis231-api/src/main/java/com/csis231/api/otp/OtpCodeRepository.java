@@ -1,6 +1,8 @@
 package com.csis231.api.otp;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -53,4 +55,103 @@ public interface OtpCodeRepository extends JpaRepository<OtpCode, Long> {
                                                @Param("purpose") String purpose,
                                                @Param("now") Instant now);
 
+    /**
+     * Returns the newest code for the given user and purpose that is neither
+     * consumed nor expired.
+     *
+     * @param userId  database identifier of the user
+     * @param purpose logical purpose of the OTP
+     * @param now     the reference instant used to test expiration
+     * @return the active code, if any
+     */
+    Optional<OtpCode> findFirstByUser_IdAndPurposeAndConsumedAtIsNullAndExpiresAtAfterOrderByIdDesc(
+            Long userId, String purpose, Instant now);
+
+    /**
+     * Marks every unconsumed code of the given user and purpose as consumed
+     * with a single statement.
+     *
+     * @param userId  database identifier of the user
+     * @param purpose logical purpose of the OTP
+     * @param now     the consumption timestamp to record
+     * @return the number of codes invalidated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           update OtpCode c
+           set c.consumedAt = :now
+           where c.user.id = :userId
+             and c.purpose = :purpose
+             and c.consumedAt is null
+           """)
+    int consumeActive(@Param("userId") Long userId,
+                      @Param("purpose") String purpose,
+                      @Param("now") Instant now);
+
+    /**
+     * Consumes a code after a successful guess, provided it is still active and
+     * has not reached the attempt limit. The conditions are checked by the
+     * update itself, so of several concurrent callers at most one succeeds.
+     *
+     * @param id          the code identifier
+     * @param maxAttempts the number of failed attempts that burns a code
+     * @param now         the consumption timestamp to record
+     * @return {@code 1} if this call consumed the code, {@code 0} otherwise
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           update OtpCode c
+           set c.consumedAt = :now
+           where c.id = :id
+             and c.consumedAt is null
+             and c.expiresAt > :now
+             and coalesce(c.failedAttempts, 0) < :maxAttempts
+           """)
+    int consumeIfActive(@Param("id") Long id,
+                        @Param("maxAttempts") int maxAttempts,
+                        @Param("now") Instant now);
+
+    /**
+     * Counts a failed guess against a code that is still unconsumed, and burns
+     * the code when the count reaches {@code maxAttempts}. The increment is a
+     * single statement, so concurrent failed guesses are all counted.
+     *
+     * @param id          the code identifier
+     * @param maxAttempts the number of failed attempts that burns a code
+     * @param now         the timestamp recorded if the code is burned
+     * @return the number of codes updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           update OtpCode c
+           set c.failedAttempts = coalesce(c.failedAttempts, 0) + 1,
+               c.consumedAt = case when coalesce(c.failedAttempts, 0) + 1 >= :maxAttempts
+                                   then :now else null end
+           where c.id = :id
+             and c.consumedAt is null
+           """)
+    int recordFailedAttempt(@Param("id") Long id,
+                            @Param("maxAttempts") int maxAttempts,
+                            @Param("now") Instant now);
+
+    /**
+     * Returns ids of codes that expired before the given instant.
+     *
+     * @param cutoff   the expiry cutoff
+     * @param pageable limits how many ids are returned
+     * @return the next ids to purge
+     */
+    @Query("select c.id from OtpCode c where c.expiresAt < :cutoff")
+    List<Long> findIdsExpiredBefore(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+    /**
+     * Deletes the given codes with a single statement.
+     *
+     * @param ids the code identifiers
+     * @return the number of rows removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from OtpCode c where c.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
 }
@@ -0,0 +1,28 @@
+package com.csis231.api.otp;
+
+import java.time.Instant;
+
+/**
+ * A single OTP message to deliver, detached from the persistence context so it
+ * can be sent outside a transaction.
+ *
+ * @param id            outbox row id, used to report per-message failures
+ * @param recipient     destination address
+ * @param recipientName name used in the greeting
+ * @param purpose       the OTP purpose, e.g. {@link OtpPurposes#LOGIN_2FA}
+ * @param code          the one-time code
+ * @param expiresAt     when the code stops being accepted
+ * @param subject       optional subject override; the sender picks one by purpose when {@code null}
+ * @param body          optional body override; the sender renders one when {@code null}
+ */
+public record OtpDelivery(
+        Long id,
+        String recipient,
+        String recipientName,
+        String purpose,
+        String code,
+        Instant expiresAt,
+        String subject,
+        String body
+) {
+}
@@ -0,0 +1,286 @@
+package com.csis231.api.otp;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers queued {@link OtpOutboxMessage}s outside the request path.
+ *
+ * <p>A single poller thread claims due rows in a short transaction (leasing
+ * them by pushing {@code nextAttemptAt} forward), splits them into batches and
+ * hands each batch to a small pool of worker threads. Each batch goes to
+ * {@link OtpSender#sendAll(List)} so e-mail is sent over one SMTP session per
+ * batch. Failures are retried with exponential backoff until
+ * {@code otp.outbox.max-attempts} is reached or the code has expired.</p>
+ *
+ * <p>The poller runs every {@code otp.outbox.poll-interval-ms} and is also
+ * woken up right after a transaction that enqueued a message commits, so
+ * codes normally go out immediately.</p>
+ */
+@Slf4j
+@Component
+public class OtpOutboxDispatcher {
+
+    private static final Set<OtpOutboxMessage.Status> CLAIMABLE =
+            EnumSet.of(OtpOutboxMessage.Status.PENDING, OtpOutboxMessage.Status.SENDING);
+    private static final Set<OtpOutboxMessage.Status> FINISHED =
+            EnumSet.of(OtpOutboxMessage.Status.SENT, OtpOutboxMessage.Status.FAILED);
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(10);
+
+    private final OtpOutboxRepository outboxRepository;
+    private final OtpSender otpSender;
+    private final TransactionTemplate tx;
+    private final AtomicBoolean wakeUpQueued = new AtomicBoolean();
+    private volatile Instant lastPurge = Instant.EPOCH;
+    private ScheduledExecutorService poller;
+    private ExecutorService workers;
+
+    @Value("${otp.outbox.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${otp.outbox.poll-interval-ms:2000}")
+    private long pollIntervalMillis;
+
+    @Value("${otp.outbox.workers:2}")
+    private int workerCount;
+
+    @Value("${otp.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${otp.outbox.messages-per-session:10}")
+    private int messagesPerSession;
+
+    @Value("${otp.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${otp.outbox.initial-backoff-ms:2000}")
+    private long initialBackoffMillis;
+
+    @Value("${otp.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    public OtpOutboxDispatcher(OtpOutboxRepository outboxRepository,
+                               OtpSender otpSender,
+                               PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.otpSender = otpSender;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, named("otp-outbox-poller"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        poller = scheduler;
+        int size = Math.max(1, workerCount);
+        // bounded queue: when workers fall behind, the poller sends the batch itself instead of claiming more
+        workers = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(size * 4), named("otp-outbox-worker"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        poller.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (poller != null) poller.shutdownNow();
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(10, TimeUnit.SECONDS)) workers.shutdownNow();
+            } catch (InterruptedException ex) {
+                workers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Requests an immediate poll once the current transaction commits (or right
+     * away when there is none). Repeated calls before the poll runs coalesce.
+     */
+    public void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    /**
+     * Claims and delivers every due message on the calling thread. Used by
+     * tests and available for manual draining; joins the caller's transaction
+     * when there is one.
+     *
+     * @return the number of messages attempted
+     */
+    public int dispatchDue() {
+        int attempted = 0;
+        List<OtpDelivery> claimed;
+        while (!(claimed = claim()).isEmpty()) {
+            for (List<OtpDelivery> batch : partition(claimed)) {
+                deliver(batch);
+            }
+            attempted += claimed.size();
+        }
+        return attempted;
+    }
+
+    private void wakeUp() {
+        if (poller == null || poller.isShutdown()) return;
+        if (wakeUpQueued.compareAndSet(false, true)) {
+            poller.execute(() -> {
+                wakeUpQueued.set(false);
+                pollSafely();
+            });
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            poll(workers);
+            purgeFinished();
+        } catch (RuntimeException ex) {
+            log.warn("OTP outbox poll failed: {}", ex.toString());
+        }
+    }
+
+    private void poll(Executor executor) {
+        List<OtpDelivery> claimed;
+        while (!(claimed = claim()).isEmpty()) {
+            for (List<OtpDelivery> batch : partition(claimed)) {
+                executor.execute(() -> deliver(batch));
+            }
+            if (claimed.size() < batchSize) return;
+        }
+    }
+
+    private List<OtpDelivery> claim() {
+        List<OtpDelivery> claimed = tx.execute(status -> {
+            Instant now = Instant.now();
+            List<OtpOutboxMessage> due = outboxRepository.findDueForUpdate(CLAIMABLE, now,
+                    PageRequest.of(0, Math.max(1, batchSize)));
+            List<OtpDelivery> deliveries = new ArrayList<>(due.size());
+            for (OtpOutboxMessage message : due) {
+                if (message.getExpiresAt().isBefore(now) || message.getCode() == null) {
+                    finish(message, OtpOutboxMessage.Status.FAILED, "Code expired before delivery");
+                    continue;
+                }
+                message.setStatus(OtpOutboxMessage.Status.SENDING);
+                message.setAttempts(message.getAttempts() + 1);
+                message.setNextAttemptAt(now.plus(LEASE));
+                deliveries.add(message.toDelivery());
+            }
+            return deliveries;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void deliver(List<OtpDelivery> batch) {
+        Map<Long, Exception> failures;
+        try {
+            failures = otpSender.sendAll(batch);
+        } catch (RuntimeException ex) {
+            failures = new HashMap<>();
+            for (OtpDelivery delivery : batch) failures.put(delivery.id(), ex);
+        }
+        Map<Long, Exception> failed = failures;
+        tx.executeWithoutResult(status -> {
+            Instant now = Instant.now();
+            for (OtpOutboxMessage message : outboxRepository.findAllById(batch.stream().map(OtpDelivery::id).toList())) {
+                Exception error = failed.get(message.getId());
+                if (error == null) {
+                    message.setSentAt(now);
+                    finish(message, OtpOutboxMessage.Status.SENT, null);
+                } else if (message.getAttempts() >= maxAttempts || !message.getExpiresAt().isAfter(now)) {
+                    log.warn("Giving up on OTP email to {} after {} attempts: {}",
+                            message.getRecipient(), message.getAttempts(), error.toString());
+                    finish(message, OtpOutboxMessage.Status.FAILED, error.toString());
+                } else {
+                    message.setStatus(OtpOutboxMessage.Status.PENDING);
+                    message.setNextAttemptAt(now.plus(backoff(message.getAttempts())));
+                    message.setLastError(truncate(error.toString()));
+                }
+            }
+        });
+    }
+
+    private void purgeFinished() {
+        Instant now = Instant.now();
+        if (Duration.between(lastPurge, now).compareTo(PURGE_INTERVAL) < 0) return;
+        lastPurge = now;
+        Integer removed = tx.execute(status ->
+                outboxRepository.deleteFinishedBefore(FINISHED, now.minus(Duration.ofHours(retentionHours))));
+        if (removed != null && removed > 0) {
+            log.info("Purged {} finished OTP outbox rows", removed);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long factor = 1L << Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = Duration.ofMillis(initialBackoffMillis).multipliedBy(factor);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private List<List<OtpDelivery>> partition(List<OtpDelivery> deliveries) {
+        int size = Math.max(1, messagesPerSession);
+        List<List<OtpDelivery>> batches = new ArrayList<>();
+        for (int i = 0; i < deliveries.size(); i += size) {
+            batches.add(List.copyOf(deliveries.subList(i, Math.min(i + size, deliveries.size()))));
+        }
+        return batches;
+    }
+
+    private static void finish(OtpOutboxMessage message, OtpOutboxMessage.Status status, String error) {
+        message.setStatus(status);
+        message.setCode(null);
+        message.setLastError(truncate(error));
+    }
+
+    private static String truncate(String value) {
+        return value == null || value.length() <= 500 ? value : value.substring(0, 500);
+    }
+
+    private static ThreadFactory named(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
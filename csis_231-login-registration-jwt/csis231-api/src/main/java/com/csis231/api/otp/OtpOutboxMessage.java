@@ -0,0 +1,88 @@
+package com.csis231.api.otp;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Pending OTP delivery, written in the same transaction that issues the code.
+ *
+ * <p>{@link OtpOutboxDispatcher} picks up rows whose {@code nextAttemptAt} has
+ * passed and hands them to the {@link OtpSender}. While a row is being sent,
+ * {@code nextAttemptAt} doubles as a lease so another dispatcher skips it; if
+ * the sending node dies, the row becomes due again once the lease expires.
+ * The code is cleared once the message is sent or given up on.</p>
+ */
+@Entity
+@Table(name = "otp_outbox",
+        indexes = @Index(name = "idx_otp_outbox_due", columnList = "status,next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OtpOutboxMessage {
+
+    /** Delivery state of an outbox row. */
+    public enum Status { PENDING, SENDING, SENT, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(name = "recipient_name")
+    private String recipientName;
+
+    @Column(nullable = false, length = 20)
+    private String purpose;
+
+    @Column(length = 6)
+    private String code;
+
+    private String subject;
+
+    @Column(length = 2000)
+    private String body;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 12)
+    private Status status = Status.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    /**
+     * Snapshot of this row handed to the {@link OtpSender}.
+     *
+     * @return the delivery payload
+     */
+    public OtpDelivery toDelivery() {
+        return new OtpDelivery(id, recipient, recipientName, purpose, code, expiresAt, subject, body);
+    }
+}
@@ -0,0 +1,55 @@
+package com.csis231.api.otp;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data repository for {@link OtpOutboxMessage} rows.
+ */
+public interface OtpOutboxRepository extends JpaRepository<OtpOutboxMessage, Long> {
+
+    /**
+     * Locks the oldest rows that are due for a delivery attempt.
+     *
+     * <p>Rows already locked by another dispatcher are skipped
+     * ({@code SKIP LOCKED} where the database supports it).</p>
+     *
+     * @param statuses the claimable states (pending, or sending with an expired lease)
+     * @param now      the reference instant
+     * @param pageable maximum number of rows to claim
+     * @return due rows in id order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+           select m from OtpOutboxMessage m
+           where m.status in :statuses and m.nextAttemptAt <= :now
+           order by m.id
+           """)
+    List<OtpOutboxMessage> findDueForUpdate(@Param("statuses") Collection<OtpOutboxMessage.Status> statuses,
+                                            @Param("now") Instant now,
+                                            Pageable pageable);
+
+    /**
+     * Deletes delivered or abandoned rows older than the cutoff.
+     *
+     * @param statuses the finished states
+     * @param cutoff   rows created before this instant are removed
+     * @return the number of rows removed
+     */
+    @Modifying
+    @Query("delete from OtpOutboxMessage m where m.status in :statuses and m.createdAt < :cutoff")
+    int deleteFinishedBefore(@Param("statuses") Collection<OtpOutboxMessage.Status> statuses,
+                             @Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,37 @@
+package com.csis231.api.otp;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Periodically removes expired one-time codes from the active {@link OtpStore},
+ * so {@code otp_codes} no longer grows without bound.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OtpPurgeJob {
+
+    private final OtpStore otpStore;
+
+    /**
+     * Deletes expired codes in chunks. Runs every {@code otp.purge.interval-ms}
+     * (ten minutes by default).
+     */
+    @Scheduled(fixedDelayString = "${otp.purge.interval-ms:600000}",
+            initialDelayString = "${otp.purge.initial-delay-ms:60000}")
+    public void purgeExpired() {
+        try {
+            long removed = otpStore.purgeExpired(Instant.now());
+            if (removed > 0) {
+                log.info("Purged {} expired OTP codes", removed);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("OTP purge failed: {}", ex.toString());
+        }
+    }
+}
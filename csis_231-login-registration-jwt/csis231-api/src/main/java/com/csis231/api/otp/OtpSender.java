@@ -3,6 +3,9 @@ package com.csis231.api.otp;
 import com.csis231.api.user.User;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 /**
  * Strategy interface for sending one-time password (OTP) codes to a user.
  *
@@ -21,5 +24,34 @@ public interface OtpSender {
      * @param code      the generated one-time code that will be validated later
      * @param expiresAt the instant at which the code will no longer be accepted
      */
-    void send(User user, String purpose, String code, Instant expiresAt);
+    default void send(User user, String purpose, String code, Instant expiresAt) {
+        String name = user.getFirstName() != null ? user.getFirstName() : user.getUsername();
+        send(new OtpDelivery(null, user.getEmail(), name, purpose, code, expiresAt, null, null));
+    }
+
+    /**
+     * Sends a single OTP message.
+     *
+     * @param delivery the message to deliver
+     */
+    void send(OtpDelivery delivery);
+
+    /**
+     * Sends several OTP messages, ideally over one connection to the delivery
+     * channel. The default implementation sends them one by one.
+     *
+     * @param deliveries the messages to deliver
+     * @return failures keyed by {@link OtpDelivery#id()}; empty when all were sent
+     */
+    default Map<Long, Exception> sendAll(List<OtpDelivery> deliveries) {
+        Map<Long, Exception> failures = new LinkedHashMap<>();
+        for (OtpDelivery delivery : deliveries) {
+            try {
+                send(delivery);
+            } catch (Exception ex) {
+                failures.put(delivery.id(), ex);
+            }
+        }
+        return failures;
+    }
 }
@@ -6,16 +6,10 @@ import com.csis231.api.user.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.net.ConnectException;
-import java.net.SocketTimeoutException;
-import java.net.UnknownHostException;
 import java.time.Instant;
-import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -25,7 +19,9 @@ import java.util.concurrent.ThreadLocalRandom;
  *
  * <p>This service coordinates the persistence of {@link OtpCode} entities
  * and the delivery of codes via mail, and encapsulates all rules related to
- * OTP creation, expiration, reuse and invalidation.</p>
+ * OTP creation, expiration, reuse and invalidation. Mail is never sent inside
+ * the request transaction: a row is added to the {@link OtpOutboxMessage}
+ * outbox and {@link OtpOutboxDispatcher} delivers it after commit.</p>
  */
 
 @Service
@@ -33,12 +29,16 @@ import java.util.concurrent.ThreadLocalRandom;
 @Slf4j
 public class OtpService {
 
-    private final OtpCodeRepository repo;
-    private final JavaMailSender mailSender;
+    private final OtpStore otpStore;
+    private final OtpOutboxRepository outboxRepository;
+    private final OtpOutboxDispatcher outboxDispatcher;
 
     @Value("${mail.from:}")
     private String from;
 
+    @Value("${otp.max-attempts:5}")
+    private int maxAttempts;
+
 
     // Default variant (keeps your existing login OTP flow working)
     /**
@@ -73,7 +73,7 @@ public class OtpService {
 
     // New flexible variant used by password reset
     /**
-     * Creates and sends an OTP with custom TTL and messaging.
+     * Creates an OTP with custom TTL and messaging and queues it for delivery.
      *
      * @param user       the target user
      * @param purpose    the OTP purpose
@@ -95,38 +95,28 @@ public class OtpService {
         if (ttlMinutes <= 0) {
             throw new BadRequestException("OTP TTL must be positive");
         }
-        List<OtpCode> actives = repo.findActiveByUserIdAndPurpose(user.getId(), purpose, Instant.now());
-
-        actives.forEach(c -> c.setConsumedAt(Instant.now()));
-
         // Generate 6-digit code
         String code = String.format("%06d", ThreadLocalRandom.current().nextInt(0, 1_000_000));
-
-        // Persist
-        OtpCode entity = OtpCode.builder()
-                .user(user)
-                .code(code)
-                .purpose(purpose)
-                .expiresAt(Instant.now().plusSeconds(ttlMinutes * 60L))
-                .build();
-        repo.save(entity);
-
-        // Email
-        try {
-            if (from != null && !from.isBlank() && user.getEmail() != null) {
-                SimpleMailMessage msg = new SimpleMailMessage();
-                msg.setFrom(from);
-                msg.setTo(user.getEmail());
-                msg.setSubject(subject);
-                msg.setText(body != null ? body : ("Your one-time code is: " + code + " (valid " + ttlMinutes + " minutes)"));
-                mailSender.send(msg);
-            }
-        } catch (Exception ex) {
-            log.warn("Failed to send OTP email to {}: {}", user.getEmail(), ex.toString());
-            if (isConnectivityIssue(ex)) {
-                throw new BadRequestException("No internet connection. Unable to send verification email.");
-            }
-            throw new BadRequestException("Could not send verification email. Please try again later.");
+        Instant expiresAt = Instant.now().plusSeconds(ttlMinutes * 60L);
+
+        // Persist (replaces any active code for this user and purpose)
+        otpStore.issue(user, purpose, code, expiresAt);
+
+        // Email: queued in this transaction, delivered by OtpOutboxDispatcher after commit
+        if (from != null && !from.isBlank() && user.getEmail() != null) {
+            String name = user.getFirstName() != null ? user.getFirstName() : user.getUsername();
+            outboxRepository.save(OtpOutboxMessage.builder()
+                    .userId(user.getId())
+                    .recipient(user.getEmail())
+                    .recipientName(name)
+                    .purpose(purpose)
+                    .code(code)
+                    .subject(subject)
+                    .body(body)
+                    .expiresAt(expiresAt)
+                    .nextAttemptAt(Instant.now())
+                    .build());
+            outboxDispatcher.wakeUpAfterCommit();
         }
 
         log.info("OTP for user={} purpose={} CODE={}", user.getUsername(), purpose, code);
@@ -137,6 +127,10 @@ public class OtpService {
     /**
      * Verifies an OTP for a user and purpose, marking it consumed if valid.
      *
+     * <p>A wrong code counts as a failed attempt and is recorded even though
+     * this method throws; after {@code otp.max-attempts} failures the code is
+     * invalidated and a new one must be requested.</p>
+     *
      * @param user    the user to validate against
      * @param purpose the OTP purpose
      * @param code    the OTP code to verify
@@ -144,7 +138,7 @@ public class OtpService {
      * @throws BadRequestException   if purpose/code are missing
      * @throws OtpRequiredException  if the OTP is invalid or expired
      */
-    @Transactional
+    @Transactional(noRollbackFor = OtpRequiredException.class)
     public void verifyOtpOrThrow(User user, String purpose, String code) {
         if (user == null) {
             throw new UnauthorizedException("Unknown user");
@@ -152,40 +146,9 @@ public class OtpService {
         if (purpose == null || purpose.isBlank() || code == null || code.isBlank()) {
             throw new BadRequestException("Purpose and code are required");
         }
-        Instant now = Instant.now();
-
-        OtpCode latest = repo.findTopByUser_IdAndPurposeOrderByIdDesc(user.getId(), purpose)
-                .orElseThrow(() -> new OtpRequiredException("Invalid email or code"));
-
-        boolean invalid = latest.getConsumedAt() != null
-                || now.isAfter(latest.getExpiresAt())
-                || !latest.getCode().equals(code);
-
-        if (invalid) {
+        if (!otpStore.consume(user, purpose, code, maxAttempts, Instant.now())) {
             throw new OtpRequiredException("Invalid email or code");
         }
-
-        latest.setConsumedAt(now);
-        repo.save(latest);
     }
 
-    /**
-     * Attempts to classify whether a mail failure was caused by connectivity loss.
-     */
-    private boolean isConnectivityIssue(Throwable ex) {
-        Throwable cause = ex;
-        while (cause != null) {
-            if (cause instanceof UnknownHostException
-                    || cause instanceof ConnectException
-                    || cause instanceof SocketTimeoutException) {
-                return true;
-            }
-            cause = cause.getCause();
-        }
-        return false;
-    }
-
-
-
-
 }
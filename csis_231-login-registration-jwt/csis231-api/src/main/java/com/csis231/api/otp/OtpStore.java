@@ -0,0 +1,63 @@
+package com.csis231.api.otp;
+
+import com.csis231.api.user.User;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+
+/**
+ * Storage for issued one-time codes, keyed by user and purpose.
+ *
+ * <p>At most one code per user and purpose is active: issuing a new one
+ * invalidates the previous. Implementations are selected with
+ * {@code otp.store} ({@code jpa}, the default, or {@code memory}).</p>
+ */
+public interface OtpStore {
+
+    /**
+     * Stores a new code, invalidating any active code for the same user and purpose.
+     *
+     * @param user      the owner of the code
+     * @param purpose   the OTP purpose
+     * @param code      the generated code
+     * @param expiresAt when the code stops being accepted
+     */
+    void issue(User user, String purpose, String code, Instant expiresAt);
+
+    /**
+     * Checks a submitted code and consumes it when it matches.
+     *
+     * <p>A mismatch counts as a failed attempt; once {@code maxAttempts} is
+     * reached the active code is invalidated.</p>
+     *
+     * @param user        the owner of the code
+     * @param purpose     the OTP purpose
+     * @param code        the submitted code
+     * @param maxAttempts failed attempts allowed before the code is burned
+     * @param now         the reference instant
+     * @return {@code true} if the code was active and matched
+     */
+    boolean consume(User user, String purpose, String code, int maxAttempts, Instant now);
+
+    /**
+     * Removes codes that expired before the given instant.
+     *
+     * @param now the reference instant
+     * @return the number of codes removed
+     */
+    long purgeExpired(Instant now);
+
+    /**
+     * Compares codes in constant time so response timing does not reveal how
+     * many leading digits were right.
+     *
+     * @param expected the stored code
+     * @param actual   the submitted code
+     * @return whether both are equal
+     */
+    static boolean matches(String expected, String actual) {
+        if (expected == null || actual == null) return false;
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
+    }
+}
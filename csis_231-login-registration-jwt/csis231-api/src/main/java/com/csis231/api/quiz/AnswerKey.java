@@ -0,0 +1,88 @@
+package com.csis231.api.quiz;
+
+import com.csis231.api.common.BadRequestException;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, precompiled answer key of a quiz used for grading.
+ *
+ * <p>Question ids and option ids are held in sorted primitive arrays; an option's
+ * question and correctness live in arrays parallel to the option ids. Lookups are
+ * binary searches, so grading a submission allocates nothing beyond the request
+ * itself. Instances are shared between threads by {@link AnswerKeyCache}.</p>
+ */
+public final class AnswerKey {
+
+    private final long[] questionIds;
+    private final long[] optionIds;
+    private final long[] optionQuestionIds;
+    private final boolean[] optionCorrect;
+
+    private AnswerKey(long[] questionIds, long[] optionIds, long[] optionQuestionIds, boolean[] optionCorrect) {
+        this.questionIds = questionIds;
+        this.optionIds = optionIds;
+        this.optionQuestionIds = optionQuestionIds;
+        this.optionCorrect = optionCorrect;
+    }
+
+    /**
+     * Compiles an answer key from the questions of a quiz and their options.
+     *
+     * @param questions the quiz questions
+     * @param options   the answer options of those questions
+     * @return the compiled {@link AnswerKey}
+     */
+    public static AnswerKey of(List<QuizQuestion> questions, List<AnswerOption> options) {
+        long[] questionIds = questions.stream().mapToLong(QuizQuestion::getId).sorted().toArray();
+
+        AnswerOption[] sorted = options.toArray(new AnswerOption[0]);
+        Arrays.sort(sorted, (a, b) -> Long.compare(a.getId(), b.getId()));
+        long[] optionIds = new long[sorted.length];
+        long[] optionQuestionIds = new long[sorted.length];
+        boolean[] optionCorrect = new boolean[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            optionIds[i] = sorted[i].getId();
+            optionQuestionIds[i] = sorted[i].getQuestion().getId();
+            optionCorrect[i] = Boolean.TRUE.equals(sorted[i].getCorrect());
+        }
+        return new AnswerKey(questionIds, optionIds, optionQuestionIds, optionCorrect);
+    }
+
+    /**
+     * Returns the number of questions in the quiz.
+     *
+     * @return the question count
+     */
+    public int questionCount() {
+        return questionIds.length;
+    }
+
+    /**
+     * Grades a submission against this key.
+     *
+     * @param answers the submitted answers
+     * @return the number of correct answers
+     * @throws BadRequestException if an answer references an unknown question or
+     *                             an option that does not belong to its question
+     */
+    public int grade(List<QuizSubmissionAnswer> answers) {
+        int score = 0;
+        for (int i = 0, n = answers.size(); i < n; i++) {
+            QuizSubmissionAnswer answer = answers.get(i);
+            Long questionId = answer.questionId();
+            if (questionId == null || Arrays.binarySearch(questionIds, questionId) < 0) {
+                throw new BadRequestException("Answer references invalid question: " + questionId);
+            }
+            int option = answer.answerId() == null ? -1 : Arrays.binarySearch(optionIds, answer.answerId());
+            if (option < 0 || optionQuestionIds[option] != questionId) {
+                throw new BadRequestException("Invalid answer option for question: " + questionId);
+            }
+            if (optionCorrect[option]) {
+                score++;
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,87 @@
+package com.csis231.api.quiz;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of compiled {@link AnswerKey}s keyed by quiz id.
+ *
+ * <p>A key is built on first use from the quiz's questions and options and reused
+ * for every later submission. {@link QuizService} invalidates it whenever the
+ * quiz's questions change or the quiz is deleted. A load that overlaps an
+ * invalidation is returned to its caller but not cached, so a stale key cannot
+ * outlive the change that made it stale.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AnswerKeyCache {
+
+    private final QuizQuestionRepository questionRepository;
+    private final AnswerOptionRepository answerOptionRepository;
+
+    private final Map<Long, AnswerKey> keys = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${quiz.answer-key-cache.max-entries:500}")
+    private int maxEntries;
+
+    /**
+     * Returns the answer key of a quiz, compiling it when not cached.
+     * Must be called inside a transaction when the key has to be loaded.
+     *
+     * @param quizId the quiz identifier
+     * @return the compiled {@link AnswerKey}
+     */
+    public AnswerKey get(Long quizId) {
+        AnswerKey cached = keys.get(quizId);
+        if (cached != null) return cached;
+
+        long generation = invalidations.get();
+        List<QuizQuestion> questions = questionRepository.findByQuiz_Id(quizId);
+        List<Long> questionIds = questions.stream().map(QuizQuestion::getId).toList();
+        List<AnswerOption> options = questionIds.isEmpty()
+                ? List.of()
+                : answerOptionRepository.findByQuestion_IdIn(questionIds);
+        AnswerKey loaded = AnswerKey.of(questions, options);
+
+        if (invalidations.get() == generation) {
+            if (keys.size() >= maxEntries) {
+                keys.clear();
+            }
+            keys.putIfAbsent(quizId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes the cached key of a quiz.
+     *
+     * <p>When called inside a transaction the key is evicted again once the
+     * transaction completes, so neither a concurrent submission nor the same
+     * transaction can leave a key built from uncommitted or old questions.</p>
+     *
+     * @param quizId the quiz identifier
+     */
+    public void invalidate(Long quizId) {
+        if (quizId == null) return;
+        invalidations.incrementAndGet();
+        keys.remove(quizId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidations.incrementAndGet();
+                    keys.remove(quizId);
+                }
+            });
+        }
+    }
+}
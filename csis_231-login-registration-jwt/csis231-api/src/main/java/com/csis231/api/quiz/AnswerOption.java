@@ -15,8 +15,12 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class AnswerOption {
+    /**
+     * Sequence-generated with pooled allocation so bulk imports can batch inserts.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_answer_seq")
+    @SequenceGenerator(name = "quiz_answer_seq", sequenceName = "quiz_answers_seq", allocationSize = QuizIdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -1,6 +1,10 @@
 package com.csis231.api.quiz;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +18,24 @@ public interface AnswerOptionRepository extends JpaRepository<AnswerOption, Long
      * @return list of {@link AnswerOption} linked to the questions
      */
     List<AnswerOption> findByQuestion_IdIn(List<Long> questionIds);
+
+    /**
+     * Retrieves ids of answer options belonging to a quiz, for chunked deletion.
+     *
+     * @param quizId the quiz identifier
+     * @param pageable limits the number of ids returned
+     * @return the next ids to delete
+     */
+    @Query("select o.id from AnswerOption o where o.question.quiz.id = :quizId")
+    List<Long> findIdsByQuizId(@Param("quizId") Long quizId, Pageable pageable);
+
+    /**
+     * Deletes answer options by id with a single statement, bypassing the persistence context.
+     *
+     * @param ids the ids to delete
+     * @return the number of rows removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from AnswerOption o where o.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,31 @@
+package com.csis231.api.quiz;
+
+/**
+ * Serialized {@link QuizDetailDto} of one quiz content version, together with the
+ * ownership data needed to authorize a viewer without reloading the quiz.
+ *
+ * @param quizId       quiz identifier
+ * @param courseId     identifier of the quiz's course
+ * @param instructorId identifier of the course instructor
+ * @param version      quiz content version
+ * @param detail       the quiz detail
+ * @param json         {@code detail} serialized as JSON
+ */
+public record CachedQuizDetail(
+        Long quizId,
+        Long courseId,
+        Long instructorId,
+        long version,
+        QuizDetailDto detail,
+        byte[] json
+) {
+
+    /**
+     * Returns the strong ETag identifying this content version.
+     *
+     * @return the quoted ETag value
+     */
+    public String etag() {
+        return "\"quiz-" + quizId + "-v" + version + "\"";
+    }
+}
@@ -0,0 +1,31 @@
+package com.csis231.api.quiz;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Stores a fixed-size histogram as a comma separated list of counts.
+ */
+@Converter
+public class HistogramConverter implements AttributeConverter<long[], String> {
+
+    @Override
+    public String convertToDatabaseColumn(long[] attribute) {
+        long[] counts = attribute == null ? new long[QuizStats.HISTOGRAM_BUCKETS] : attribute;
+        return Arrays.stream(counts).mapToObj(Long::toString).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public long[] convertToEntityAttribute(String dbData) {
+        long[] counts = new long[QuizStats.HISTOGRAM_BUCKETS];
+        if (dbData == null || dbData.isBlank()) return counts;
+        String[] parts = dbData.split(",");
+        for (int i = 0; i < Math.min(parts.length, counts.length); i++) {
+            counts[i] = Long.parseLong(parts[i].trim());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,15 @@
+package com.csis231.api.quiz;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Quizzes for which the current user's latest results are requested.
+ *
+ * @param quizIds the quiz identifiers (at most 500)
+ */
+public record MyResultsRequest(
+        @NotNull @Size(max = 500) List<Long> quizIds
+) {}
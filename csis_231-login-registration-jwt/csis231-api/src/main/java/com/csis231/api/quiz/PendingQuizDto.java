@@ -0,0 +1,35 @@
+package com.csis231.api.quiz;
+
+import java.time.Instant;
+
+/**
+ * Quiz in one of the current user's courses that they have not submitted yet.
+ */
+public record PendingQuizDto(
+        Long id,
+        Long courseId,
+        String courseTitle,
+        String name,
+        String description,
+        int questionCount,
+        Instant createdAt
+) {
+
+    /**
+     * Converts a pending-quiz row into a DTO.
+     *
+     * @param row the projection row
+     * @return the corresponding {@link PendingQuizDto}
+     */
+    public static PendingQuizDto fromRow(PendingQuizRow row) {
+        return new PendingQuizDto(
+                row.getId(),
+                row.getCourseId(),
+                row.getCourseTitle(),
+                row.getName(),
+                row.getDescription(),
+                row.getQuestionCount() == null ? 0 : row.getQuestionCount().intValue(),
+                row.getCreatedAt()
+        );
+    }
+}
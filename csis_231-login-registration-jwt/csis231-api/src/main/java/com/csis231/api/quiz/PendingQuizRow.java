@@ -0,0 +1,16 @@
+package com.csis231.api.quiz;
+
+import java.time.Instant;
+
+/**
+ * Projection of one quiz a student has not submitted yet, with its course title.
+ */
+public interface PendingQuizRow {
+    Long getId();
+    Long getCourseId();
+    String getCourseTitle();
+    String getName();
+    String getDescription();
+    Long getQuestionCount();
+    Instant getCreatedAt();
+}
@@ -0,0 +1,16 @@
+package com.csis231.api.quiz;
+
+/**
+ * Outcome of a bulk question import.
+ *
+ * @param questionsImported number of questions created
+ * @param optionsImported   number of answer options created
+ * @param elapsedMillis     time spent persisting, in milliseconds
+ * @param rowsPerSecond     inserted rows (questions + options) per second
+ */
+public record QuestionImportResult(
+        int questionsImported,
+        int optionsImported,
+        long elapsedMillis,
+        double rowsPerSecond
+) {}
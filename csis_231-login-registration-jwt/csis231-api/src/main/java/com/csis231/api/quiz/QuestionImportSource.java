@@ -0,0 +1,161 @@
+package com.csis231.api.quiz;
+
+import com.csis231.api.common.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming readers turning an uploaded question bank into
+ * {@link QuizQuestionRequest}s one at a time, so large uploads are never
+ * materialized in memory.
+ *
+ * <p>Supported formats:</p>
+ * <ul>
+ *     <li>JSON: an array of objects shaped like {@link QuizQuestionRequest}.</li>
+ *     <li>CSV: one question per line, {@code question,answer,answer,...}. Answers
+ *     prefixed with {@code *} are correct. Fields may be double-quoted, with
+ *     {@code ""} for a literal quote. Blank lines and lines starting with
+ *     {@code #} are skipped.</li>
+ * </ul>
+ */
+public final class QuestionImportSource {
+
+    private QuestionImportSource() {
+    }
+
+    /**
+     * Reads questions from a JSON array.
+     *
+     * @param in           the request body
+     * @param objectMapper the mapper used for deserialization
+     * @return a lazy iterator over the questions
+     * @throws BadRequestException if the payload is not valid JSON
+     */
+    public static Iterator<QuizQuestionRequest> json(InputStream in, ObjectMapper objectMapper) {
+        try {
+            MappingIterator<QuizQuestionRequest> values =
+                    objectMapper.readerFor(QuizQuestionRequest.class).readValues(in);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    try {
+                        return values.hasNextValue();
+                    } catch (IOException e) {
+                        throw malformedJson(e);
+                    }
+                }
+
+                @Override
+                public QuizQuestionRequest next() {
+                    try {
+                        return values.nextValue();
+                    } catch (IOException e) {
+                        throw malformedJson(e);
+                    }
+                }
+            };
+        } catch (IOException e) {
+            throw malformedJson(e);
+        }
+    }
+
+    /**
+     * Reads questions from CSV lines.
+     *
+     * @param reader the request body
+     * @return a lazy iterator over the questions
+     * @throws BadRequestException if a line is malformed
+     */
+    public static Iterator<QuizQuestionRequest> csv(Reader reader) {
+        BufferedReader lines = reader instanceof BufferedReader b ? b : new BufferedReader(reader);
+        return new Iterator<>() {
+            private QuizQuestionRequest next;
+            private int lineNumber;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    String line;
+                    try {
+                        line = lines.readLine();
+                    } catch (IOException e) {
+                        throw new BadRequestException("Could not read CSV line " + (lineNumber + 1) + ": " + e.getMessage());
+                    }
+                    if (line == null) return false;
+                    lineNumber++;
+                    if (line.isBlank() || line.stripLeading().startsWith("#")) continue;
+                    next = parseCsvLine(line, lineNumber);
+                }
+                return true;
+            }
+
+            @Override
+            public QuizQuestionRequest next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                QuizQuestionRequest current = next;
+                next = null;
+                return current;
+            }
+        };
+    }
+
+    private static BadRequestException malformedJson(IOException e) {
+        String detail = e instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage();
+        return new BadRequestException("Malformed question JSON: " + detail);
+    }
+
+    private static QuizQuestionRequest parseCsvLine(String line, int lineNumber) {
+        List<String> fields = splitCsv(line, lineNumber);
+        List<AnswerCreateRequest> answers = new ArrayList<>();
+        for (int i = 1; i < fields.size(); i++) {
+            String field = fields.get(i).strip();
+            if (field.isEmpty()) continue;
+            boolean correct = field.startsWith("*");
+            answers.add(new AnswerCreateRequest(correct ? field.substring(1).strip() : field, correct));
+        }
+        return new QuizQuestionRequest(fields.get(0).strip(), answers);
+    }
+
+    private static List<String> splitCsv(String line, int lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new BadRequestException("Unterminated quote on CSV line " + lineNumber);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
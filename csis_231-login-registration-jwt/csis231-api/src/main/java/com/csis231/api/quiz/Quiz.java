@@ -34,7 +34,22 @@ public class Quiz {
 
     private String description;
 
+    /**
+     * Incremented whenever the quiz's questions change; identifies the
+     * delivered content version (see {@link QuizDetailCache}).
+     */
+    @Column(name = "content_version")
+    @Builder.Default
+    private Long contentVersion = 0L;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
+
+    /**
+     * Advances the content version after the quiz's questions changed.
+     */
+    public void bumpContentVersion() {
+        contentVersion = (contentVersion == null ? 0L : contentVersion) + 1;
+    }
 }
@@ -1,16 +1,26 @@
 package com.csis231.api.quiz;
 
-import com.csis231.api.common.ResourceNotFoundException;
-import com.csis231.api.common.UnauthorizedException;
+import com.csis231.api.common.BadRequestException;
+import com.csis231.api.common.PagedResponse;
+import com.csis231.api.user.CurrentUser;
 import com.csis231.api.user.User;
-import com.csis231.api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST endpoints for quiz authoring and delivery.
@@ -20,19 +30,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class QuizController {
     private final QuizService quizService;
-    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    private static final Map<String, String> RESULT_SORT_KEYS = Map.of(
+            "completedAt", "completedAt",
+            "score", "score",
+            "student", "studentUsername");
 
     /**
      * Creates a new quiz for the specified course.
      *
      * @param request        the quiz creation payload
-     * @param authentication the authenticated instructor/admin creating the quiz
+     * @param actor          the authenticated instructor/admin creating the quiz
      * @return {@code 201 Created} with the created quiz summary
      */
     @PostMapping
     public ResponseEntity<QuizSummaryDto> create(@Valid @RequestBody QuizCreateRequest request,
-                                                 Authentication authentication) {
-        User actor = resolveUser(authentication);
+                                                 @CurrentUser User actor) {
         Quiz quiz = quizService.createQuiz(request, actor);
         QuizSummaryDto dto = QuizMapper.toSummaryDto(quiz, 0);
         return ResponseEntity.status(201).body(dto);
@@ -43,29 +57,80 @@ public class QuizController {
      *
      * @param quizId         the quiz identifier
      * @param questions      the questions to add
-     * @param authentication the authenticated principal
+     * @param actor          the authenticated user
      * @return {@code 201 Created} on success
      */
     @PostMapping("/{quizId}/questions")
     public ResponseEntity<Void> addQuestions(@PathVariable Long quizId,
                                              @Valid @RequestBody List<QuizQuestionRequest> questions,
-                                             Authentication authentication) {
-        User actor = resolveUser(authentication);
+                                             @CurrentUser User actor) {
         quizService.addQuestions(quizId, questions, actor);
         return ResponseEntity.status(201).build();
     }
 
+    /**
+     * Imports a question bank uploaded as a JSON array of questions.
+     * The body is streamed, so uploads of thousands of questions are supported.
+     *
+     * @param quizId         the quiz identifier
+     * @param request        the raw request carrying the JSON body
+     * @param actor          the authenticated user
+     * @return {@code 201 Created} with import counts and throughput
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/{quizId}/questions/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<QuestionImportResult> importJson(@PathVariable Long quizId,
+                                                           HttpServletRequest request,
+                                                           @CurrentUser User actor) throws IOException {
+        QuestionImportResult result = quizService.importQuestions(quizId,
+                QuestionImportSource.json(request.getInputStream(), objectMapper), actor);
+        return ResponseEntity.status(201).body(result);
+    }
+
+    /**
+     * Imports a question bank uploaded as CSV ({@code question,answer,answer,...},
+     * correct answers prefixed with {@code *}).
+     *
+     * @param quizId         the quiz identifier
+     * @param request        the raw request carrying the CSV body
+     * @param actor          the authenticated user
+     * @return {@code 201 Created} with import counts and throughput
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/{quizId}/questions/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<QuestionImportResult> importCsv(@PathVariable Long quizId,
+                                                          HttpServletRequest request,
+                                                          @CurrentUser User actor) throws IOException {
+        if (request.getCharacterEncoding() == null) {
+            request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+        QuestionImportResult result = quizService.importQuestions(quizId,
+                QuestionImportSource.csv(request.getReader()), actor);
+        return ResponseEntity.status(201).body(result);
+    }
+
     /**
      * Retrieves quiz details (questions and options) for viewing/taking.
      *
+     * <p>The response carries an ETag for the quiz content version; a request whose
+     * {@code If-None-Match} matches it receives {@code 304 Not Modified}.</p>
+     *
      * @param quizId         the quiz identifier
-     * @param authentication the authenticated principal
-     * @return the {@link QuizDetailDto} for the quiz
+     * @param viewer         the authenticated user
+     * @param request        the current request, used for conditional handling
+     * @return the serialized {@link QuizDetailDto}, or {@code null} when not modified
      */
     @GetMapping("/{quizId}")
-    public QuizDetailDto get(@PathVariable Long quizId, Authentication authentication) {
-        User viewer = resolveUser(authentication);
-        return quizService.getQuizDetail(quizId, viewer);
+    public ResponseEntity<byte[]> get(@PathVariable Long quizId, @CurrentUser User viewer, WebRequest request) {
+        CachedQuizDetail detail = quizService.getCachedQuizDetail(quizId, viewer);
+        if (request.checkNotModified(detail.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(detail.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(detail.json());
     }
 
     /**
@@ -73,14 +138,13 @@ public class QuizController {
      *
      * @param quizId         the quiz identifier
      * @param request        the submission payload
-     * @param authentication the authenticated principal
+     * @param actor          the authenticated user
      * @return a {@link QuizSubmissionResponse} summarizing the result
      */
     @PostMapping("/{quizId}/submit")
     public QuizSubmissionResponse submit(@PathVariable Long quizId,
                                          @Valid @RequestBody QuizSubmissionRequest request,
-                                         Authentication authentication) {
-        User actor = resolveUser(authentication);
+                                         @CurrentUser User actor) {
         return quizService.submitQuiz(quizId, request, actor);
     }
 
@@ -88,47 +152,82 @@ public class QuizController {
      * Lists all results for a quiz (admin/instructor only).
      *
      * @param quizId         the quiz identifier
-     * @param authentication the authenticated principal
+     * @param actor          the authenticated user
      * @return list of {@link QuizResultDto} for the quiz
      */
     @GetMapping("/{quizId}/results")
-    public List<QuizResultDto> results(@PathVariable Long quizId, Authentication authentication) {
-        User actor = resolveUser(authentication);
+    public List<QuizResultDto> results(@PathVariable Long quizId, @CurrentUser User actor) {
         return quizService.resultsForQuiz(quizId, actor);
     }
 
+    /**
+     * Pages through a quiz's results with student username and name included
+     * (admin/instructor only).
+     *
+     * @param quizId         the quiz identifier
+     * @param page           zero-based page index
+     * @param size           page size (1-200)
+     * @param sort           {@code completedAt}, {@code score} or {@code student}
+     * @param direction      {@code asc} or {@code desc}
+     * @param actor          the authenticated user
+     * @return a {@link PagedResponse} of {@link QuizResultWithStudentDto}
+     */
+    @GetMapping("/{quizId}/results/page")
+    public PagedResponse<QuizResultWithStudentDto> resultPage(@PathVariable Long quizId,
+                                                              @RequestParam(defaultValue = "0") int page,
+                                                              @RequestParam(defaultValue = "50") int size,
+                                                              @RequestParam(defaultValue = "completedAt") String sort,
+                                                              @RequestParam(defaultValue = "desc") String direction,
+                                                              @CurrentUser User actor) {
+        if (size <= 0 || size > 200) {
+            throw new BadRequestException("Size must be between 1 and 200");
+        }
+        String property = RESULT_SORT_KEYS.get(sort);
+        if (property == null) {
+            throw new BadRequestException("Unsupported sort: " + sort);
+        }
+        Sort.Direction dir = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new BadRequestException("Unsupported direction: " + direction));
+        Pageable pageable = PageRequest.of(Math.max(0, page), size, Sort.by(dir, property).and(Sort.by("id")));
+        return PagedResponse.fromPage(quizService.resultPageForQuiz(quizId, pageable, actor));
+    }
+
     /**
      * Retrieves the most recent result for the current user on the given quiz.
      *
      * @param quizId         the quiz identifier
-     * @param authentication the authenticated principal
+     * @param actor          the authenticated user
      * @return the latest {@link QuizResultDto} for the user, or {@code null} if none
      */
     @GetMapping("/{quizId}/my-result")
-    public QuizResultDto myResult(@PathVariable Long quizId, Authentication authentication) {
-        User actor = resolveUser(authentication);
+    public QuizResultDto myResult(@PathVariable Long quizId, @CurrentUser User actor) {
         return quizService.latestResultForUser(quizId, actor);
     }
 
+    /**
+     * Retrieves the current user's latest result for each of the given quizzes
+     * in one call. Quizzes the user has not submitted are omitted.
+     *
+     * @param request        the quiz ids (at most 500)
+     * @param actor          the authenticated user
+     * @return the latest {@link QuizResultDto} per submitted quiz
+     */
+    @PostMapping("/my-results")
+    public List<QuizResultDto> myResults(@Valid @RequestBody MyResultsRequest request,
+                                         @CurrentUser User actor) {
+        return quizService.latestResultsForUser(request.quizIds(), actor);
+    }
+
     /**
      * Deletes a quiz and its related artifacts.
      *
      * @param quizId         the quiz identifier
-     * @param authentication the authenticated principal
+     * @param actor          the authenticated user
      * @return {@link ResponseEntity} with no content on success
      */
     @DeleteMapping("/{quizId}")
-    public ResponseEntity<Void> delete(@PathVariable Long quizId, Authentication authentication) {
-        User actor = resolveUser(authentication);
+    public ResponseEntity<Void> delete(@PathVariable Long quizId, @CurrentUser User actor) {
         quizService.deleteQuiz(quizId, actor);
         return ResponseEntity.noContent().build();
     }
-
-    private User resolveUser(Authentication authentication) {
-        if (authentication == null || authentication.getName() == null) {
-            throw new UnauthorizedException("Authentication required");
-        }
-        return userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + authentication.getName()));
-    }
 }
@@ -0,0 +1,57 @@
+package com.csis231.api.quiz;
+
+import com.csis231.api.common.ChunkedDeleter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Removes a quiz and everything that depends on it with set-based deletes.
+ *
+ * <p>Results, answer options and questions are deleted in bounded chunks through
+ * {@link ChunkedDeleter}, so no entities are loaded and no statement touches an
+ * unbounded number of rows. Outside a transaction every chunk commits on its own.
+ * The quiz row and its statistics rollup are removed last, in one short
+ * transaction that locks the quiz row, sweeps up anything attached to the quiz
+ * while the chunks ran and then deletes it. If a chunk fails, the quiz is still
+ * there with fewer dependents and the purge can simply be repeated.
+ * Authorization is the caller's job.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizDeletionService {
+
+    private final ChunkedDeleter chunkedDeleter;
+    private final QuizRepository quizRepository;
+    private final QuizQuestionRepository questionRepository;
+    private final AnswerOptionRepository answerOptionRepository;
+    private final QuizResultRepository resultRepository;
+    private final QuizStatsService statsService;
+    private final AnswerKeyCache answerKeyCache;
+    private final QuizDetailCache quizDetailCache;
+
+    /**
+     * Deletes a quiz with its results, questions, answer options and statistics.
+     *
+     * @param quizId the quiz identifier
+     */
+    public void purge(Long quizId) {
+        purgeDependents(quizId);
+        chunkedDeleter.inTransaction(() -> {
+            if (quizRepository.findForUpdateById(quizId).isEmpty()) return 0;
+            purgeDependents(quizId);
+            statsService.delete(quizId);
+            answerKeyCache.invalidate(quizId);
+            quizDetailCache.invalidate(quizId);
+            return quizRepository.deleteQuizById(quizId);
+        });
+    }
+
+    private void purgeDependents(Long quizId) {
+        chunkedDeleter.deleteAll(page -> resultRepository.findIdsByQuizId(quizId, page),
+                resultRepository::deleteByIds);
+        chunkedDeleter.deleteAll(page -> answerOptionRepository.findIdsByQuizId(quizId, page),
+                answerOptionRepository::deleteByIds);
+        chunkedDeleter.deleteAll(page -> questionRepository.findIdsByQuizId(quizId, page),
+                questionRepository::deleteByIds);
+    }
+}
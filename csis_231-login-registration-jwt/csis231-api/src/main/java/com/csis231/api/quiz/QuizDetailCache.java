@@ -0,0 +1,119 @@
+package com.csis231.api.quiz;
+
+import com.csis231.api.common.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory cache of serialized quiz details keyed by quiz id.
+ *
+ * <p>Each entry belongs to one {@link Quiz#getContentVersion() content version}.
+ * {@link QuizService} invalidates the entry when questions are added or the quiz
+ * is deleted, and bumps the version so clients holding the old ETag refetch.
+ * A load that overlaps an invalidation is returned but not cached.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizDetailCache {
+
+    private final QuizRepository quizRepository;
+    private final QuizQuestionRepository questionRepository;
+    private final AnswerOptionRepository answerOptionRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, CachedQuizDetail> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${quiz.detail-cache.max-entries:500}")
+    private int maxEntries;
+
+    /**
+     * Returns the cached detail of a quiz, loading and serializing it when absent.
+     * Must be called inside a transaction when the detail has to be loaded.
+     *
+     * @param quizId the quiz identifier
+     * @return the {@link CachedQuizDetail}
+     * @throws ResourceNotFoundException if the quiz is not found
+     */
+    public CachedQuizDetail get(Long quizId) {
+        CachedQuizDetail cached = entries.get(quizId);
+        if (cached != null) return cached;
+
+        long generation = invalidations.get();
+        CachedQuizDetail loaded = load(quizId);
+        if (invalidations.get() == generation) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.putIfAbsent(quizId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes the cached detail of a quiz, again once the surrounding
+     * transaction (if any) completes.
+     *
+     * @param quizId the quiz identifier
+     */
+    public void invalidate(Long quizId) {
+        if (quizId == null) return;
+        invalidations.incrementAndGet();
+        entries.remove(quizId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidations.incrementAndGet();
+                    entries.remove(quizId);
+                }
+            });
+        }
+    }
+
+    private CachedQuizDetail load(Long quizId) {
+        Quiz quiz = quizRepository.findById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found: " + quizId));
+
+        List<QuizQuestion> questions = questionRepository.findByQuiz_Id(quizId);
+        List<Long> questionIds = questions.stream().map(QuizQuestion::getId).toList();
+        Map<Long, List<AnswerOption>> optionsByQuestion = questionIds.isEmpty()
+                ? Collections.emptyMap()
+                : answerOptionRepository.findByQuestion_IdIn(questionIds).stream()
+                        .collect(Collectors.groupingBy(opt -> opt.getQuestion().getId()));
+
+        List<QuizQuestionDto> questionDtos = questions.stream().map(q -> {
+            List<AnswerOptionDto> options = optionsByQuestion.getOrDefault(q.getId(), Collections.emptyList())
+                    .stream()
+                    .map(opt -> new AnswerOptionDto(opt.getId(), opt.getAnswerText()))
+                    .toList();
+            return new QuizQuestionDto(q.getId(), q.getQuestionText(), options);
+        }).toList();
+        QuizDetailDto detail = QuizMapper.toDetailDto(quiz, questionDtos);
+
+        try {
+            return new CachedQuizDetail(
+                    quiz.getId(),
+                    quiz.getCourse().getId(),
+                    quiz.getCourse().getInstructor() != null ? quiz.getCourse().getInstructor().getId() : null,
+                    quiz.getContentVersion() == null ? 0L : quiz.getContentVersion(),
+                    detail,
+                    objectMapper.writeValueAsBytes(detail)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize quiz " + quizId, e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.csis231.api.quiz;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Map;
+
+/**
+ * Keeps the id sequences of {@link QuizQuestion} and {@link AnswerOption} ahead of
+ * existing rows.
+ *
+ * <p>Both tables used identity columns before switching to pooled sequences. On
+ * PostgreSQL, a freshly created sequence would start below the ids already in use,
+ * so at startup each sequence is moved past {@code max(id)} when needed. Other
+ * databases (H2 in tests) start empty and are left alone.</p>
+ *
+ * <p>This runs once all singletons, including the entity manager factory and its
+ * schema update, are initialized, but before the embedded web server starts, so no
+ * request can insert with a stale sequence. A versioned migration would be the
+ * natural home for it once the project adopts Flyway.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizIdSequences implements SmartInitializingSingleton {
+
+    /** Ids reserved per sequence call; must match the sequences' increment. */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "quiz_questions_seq", "quiz_questions",
+            "quiz_answers_seq", "quiz_answers"
+    );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String product;
+        try {
+            product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not determine the database product", e);
+        }
+        if (!"PostgreSQL".equalsIgnoreCase(product)) return;
+        SEQUENCES.forEach(this::align);
+    }
+
+    private void align(String sequence, String table) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        Map<String, Object> state = jdbcTemplate.queryForMap("select last_value, is_called from " + sequence);
+        long lastValue = ((Number) state.get("last_value")).longValue();
+        boolean called = Boolean.TRUE.equals(state.get("is_called"));
+        long nextValue = called ? lastValue + ALLOCATION_SIZE : lastValue;
+        // the pooled optimizer hands out (nextValue - ALLOCATION_SIZE, nextValue]
+        if (maxId != null && nextValue - ALLOCATION_SIZE < maxId) {
+            long target = maxId + ALLOCATION_SIZE;
+            jdbcTemplate.queryForObject("select setval(?, ?, false)", Long.class, sequence, target);
+            log.info("Moved sequence {} to {} past existing ids of {}", sequence, target, table);
+        }
+    }
+}
@@ -15,8 +15,12 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class QuizQuestion {
+    /**
+     * Sequence-generated with pooled allocation so bulk imports can batch inserts.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_question_seq")
+    @SequenceGenerator(name = "quiz_question_seq", sequenceName = "quiz_questions_seq", allocationSize = QuizIdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
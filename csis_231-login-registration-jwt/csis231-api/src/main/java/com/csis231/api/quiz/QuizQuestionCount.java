@@ -0,0 +1,10 @@
+package com.csis231.api.quiz;
+
+/**
+ * Projection carrying the number of questions of a quiz.
+ */
+public interface QuizQuestionCount {
+    Long getQuizId();
+
+    Long getQuestionCount();
+}
@@ -1,9 +1,16 @@
 package com.csis231.api.quiz;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, Long> {
@@ -14,4 +21,56 @@ public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, Long
      * @return list of {@link QuizQuestion} for the quiz
      */
     List<QuizQuestion> findByQuiz_Id(Long quizId);
+
+    /**
+     * Counts questions per quiz for a set of quizzes in one grouped query.
+     * Quizzes without questions are absent from the result.
+     *
+     * @param quizIds the quiz identifiers
+     * @return one {@link QuizQuestionCount} row per quiz that has questions
+     */
+    @Query("""
+           select q.quiz.id as quizId, count(q) as questionCount
+           from QuizQuestion q
+           where q.quiz.id in :quizIds
+           group by q.quiz.id
+           """)
+    List<QuizQuestionCount> countByQuizIds(@Param("quizIds") List<Long> quizIds);
+
+    /**
+     * Returns the question count for each of the given quizzes, using
+     * {@link #countByQuizIds(List)}. Quizzes without questions map to zero.
+     *
+     * @param quizIds the quiz identifiers
+     * @return map of quiz id to question count
+     */
+    default Map<Long, Integer> questionCountsByQuiz(List<Long> quizIds) {
+        if (quizIds == null || quizIds.isEmpty()) return Collections.emptyMap();
+        Map<Long, Integer> counts = new HashMap<>();
+        quizIds.forEach(id -> counts.put(id, 0));
+        for (QuizQuestionCount row : countByQuizIds(quizIds)) {
+            counts.put(row.getQuizId(), row.getQuestionCount().intValue());
+        }
+        return counts;
+    }
+
+    /**
+     * Retrieves ids of questions belonging to a quiz, for chunked deletion.
+     *
+     * @param quizId the quiz identifier
+     * @param pageable limits the number of ids returned
+     * @return the next ids to delete
+     */
+    @Query("select q.id from QuizQuestion q where q.quiz.id = :quizId")
+    List<Long> findIdsByQuizId(@Param("quizId") Long quizId, Pageable pageable);
+
+    /**
+     * Deletes questions by id with a single statement, bypassing the persistence context.
+     *
+     * @param ids the ids to delete
+     * @return the number of rows removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from QuizQuestion q where q.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
@@ -1,9 +1,16 @@
 package com.csis231.api.quiz;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for {@link Quiz}.
@@ -17,4 +24,86 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
      * @return list of {@link Quiz} entities for the course
      */
     List<Quiz> findByCourse_Id(Long courseId);
+
+    /**
+     * Retrieves quizzes belonging to any of the given courses.
+     *
+     * @param courseIds the course identifiers
+     * @return list of {@link Quiz} entities for the courses
+     */
+    List<Quiz> findByCourse_IdIn(List<Long> courseIds);
+
+    /**
+     * Retrieves quiz ids greater than {@code afterId} in ascending order, for
+     * walking all quizzes in batches.
+     *
+     * @param afterId  exclusive lower bound (use 0 to start)
+     * @param pageable limits the batch size
+     * @return the next batch of quiz ids
+     */
+    @Query("select q.id from Quiz q where q.id > :afterId order by q.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Finds a quiz with its course fetched in the same query.
+     *
+     * @param id the quiz identifier
+     * @return an optional containing the quiz with an initialized course
+     */
+    @Query("select q from Quiz q join fetch q.course where q.id = :id")
+    Optional<Quiz> findWithCourseById(@Param("id") Long id);
+
+    /**
+     * Loads a quiz and locks its row for the rest of the transaction, so no
+     * questions or results can be attached to it concurrently.
+     *
+     * @param id the quiz identifier
+     * @return an optional containing the locked quiz
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select q from Quiz q where q.id = :id")
+    Optional<Quiz> findForUpdateById(@Param("id") Long id);
+
+    /**
+     * Retrieves the ids of all quizzes of a course.
+     *
+     * @param courseId the course identifier
+     * @return list of quiz ids
+     */
+    @Query("select q.id from Quiz q where q.course.id = :courseId")
+    List<Long> findIdsByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Lists quizzes of every course the student is enrolled in that the
+     * student has no result for, with course title and question count, in one
+     * query.
+     *
+     * @param studentId the student identifier
+     * @return the pending quizzes, oldest first
+     */
+    @Query("""
+           select q.id as id,
+                  c.id as courseId,
+                  c.title as courseTitle,
+                  q.name as name,
+                  q.description as description,
+                  (select count(qq) from QuizQuestion qq where qq.quiz = q) as questionCount,
+                  q.createdAt as createdAt
+           from Quiz q join q.course c
+           where exists (select e.id from CourseEnrollment e where e.course = c and e.student.id = :studentId)
+             and not exists (select r.id from QuizResult r where r.quiz = q and r.student.id = :studentId)
+           order by q.createdAt, q.id
+           """)
+    List<PendingQuizRow> findPendingForStudent(@Param("studentId") Long studentId);
+
+    /**
+     * Deletes a quiz row with a single statement. Its questions, options and
+     * results must already be removed.
+     *
+     * @param id the quiz identifier
+     * @return the number of rows removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Quiz q where q.id = :id")
+    int deleteQuizById(@Param("id") Long id);
 }
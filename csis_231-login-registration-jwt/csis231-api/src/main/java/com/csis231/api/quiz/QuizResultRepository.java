@@ -1,8 +1,14 @@
 package com.csis231.api.quiz;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,6 +27,31 @@ public interface QuizResultRepository extends JpaRepository<QuizResult, Long> {
      * @return list of {@link QuizResult}
      */
     List<QuizResult> findByQuiz_Id(Long quizId);
+
+    /**
+     * Pages through the results of a quiz with each student's identity taken
+     * from the same join. Sort keys refer to the select aliases
+     * ({@code completedAt}, {@code score}, {@code studentUsername}, {@code id}).
+     *
+     * @param quizId   the quiz identifier
+     * @param pageable pagination and sorting information
+     * @return a page of {@link QuizResultRow}
+     */
+    @Query(value = """
+           select r.id as id,
+                  r.quiz.id as quizId,
+                  s.id as studentUserId,
+                  s.username as studentUsername,
+                  s.firstName as studentFirstName,
+                  s.lastName as studentLastName,
+                  r.score as score,
+                  r.totalQuestions as totalQuestions,
+                  r.completedAt as completedAt
+           from QuizResult r join r.student s
+           where r.quiz.id = :quizId
+           """,
+           countQuery = "select count(r) from QuizResult r where r.quiz.id = :quizId")
+    Page<QuizResultRow> findRowsByQuizId(@Param("quizId") Long quizId, Pageable pageable);
     List<QuizResult> findByQuiz_Course_Id(Long courseId);
 
     /**
@@ -31,4 +62,75 @@ public interface QuizResultRepository extends JpaRepository<QuizResult, Long> {
      * @return an optional containing the latest {@link QuizResult} if present
      */
     java.util.Optional<QuizResult> findTop1ByQuiz_IdAndStudent_IdOrderByCompletedAtDesc(Long quizId, Long studentId);
+
+    /**
+     * Retrieves a student's latest result for each of the given quizzes with a
+     * single window-function query. Quizzes without a result are absent.
+     *
+     * @param studentId the student identifier
+     * @param quizIds   the quiz identifiers
+     * @return at most one {@link QuizResult} per quiz
+     */
+    @Query(value = """
+           select id, quiz_id, student_user_id, score, total_questions, completed_at
+           from (select r.*,
+                        row_number() over (partition by r.quiz_id
+                                           order by r.completed_at desc, r.id desc) as rn
+                 from quiz_results r
+                 where r.student_user_id = :studentId and r.quiz_id in (:quizIds)) latest
+           where rn = 1
+           """, nativeQuery = true)
+    List<QuizResult> findLatestByStudentAndQuizIds(@Param("studentId") Long studentId,
+                                                   @Param("quizIds") Collection<Long> quizIds);
+
+    /**
+     * Counts submissions per distinct (score, total questions) pair for every
+     * quiz of a course. The number of rows is bounded by the number of distinct
+     * outcomes, not by the number of submissions.
+     *
+     * @param courseId the course identifier
+     * @return list of {@link QuizScoreFrequency} rows
+     */
+    @Query("""
+           select r.quiz.id as quizId, r.score as score, r.totalQuestions as totalQuestions, count(r) as frequency
+           from QuizResult r
+           where r.quiz.course.id = :courseId
+           group by r.quiz.id, r.score, r.totalQuestions
+           """)
+    List<QuizScoreFrequency> scoreFrequenciesByCourse(@Param("courseId") Long courseId);
+
+    /**
+     * Counts submissions per distinct (score, total questions) pair for the
+     * given quizzes.
+     *
+     * @param quizIds the quiz identifiers
+     * @return list of {@link QuizScoreFrequency} rows
+     */
+    @Query("""
+           select r.quiz.id as quizId, r.score as score, r.totalQuestions as totalQuestions, count(r) as frequency
+           from QuizResult r
+           where r.quiz.id in :quizIds
+           group by r.quiz.id, r.score, r.totalQuestions
+           """)
+    List<QuizScoreFrequency> scoreFrequenciesByQuizIds(@Param("quizIds") List<Long> quizIds);
+
+    /**
+     * Retrieves ids of results belonging to a quiz, for chunked deletion.
+     *
+     * @param quizId the quiz identifier
+     * @param pageable limits the number of ids returned
+     * @return the next ids to delete
+     */
+    @Query("select r.id from QuizResult r where r.quiz.id = :quizId")
+    List<Long> findIdsByQuizId(@Param("quizId") Long quizId, Pageable pageable);
+
+    /**
+     * Deletes results by id with a single statement, bypassing the persistence context.
+     *
+     * @param ids the ids to delete
+     * @return the number of rows removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from QuizResult r where r.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
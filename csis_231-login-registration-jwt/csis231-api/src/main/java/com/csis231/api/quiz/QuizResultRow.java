@@ -0,0 +1,18 @@
+package com.csis231.api.quiz;
+
+import java.time.Instant;
+
+/**
+ * Projection of one quiz result joined with its student's identity.
+ */
+public interface QuizResultRow {
+    Long getId();
+    Long getQuizId();
+    Long getStudentUserId();
+    String getStudentUsername();
+    String getStudentFirstName();
+    String getStudentLastName();
+    Integer getScore();
+    Integer getTotalQuestions();
+    Instant getCompletedAt();
+}
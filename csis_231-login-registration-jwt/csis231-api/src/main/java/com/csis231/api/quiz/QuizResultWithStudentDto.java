@@ -0,0 +1,41 @@
+package com.csis231.api.quiz;
+
+import java.time.Instant;
+
+/**
+ * Quiz result carrying the submitting student's username and display name,
+ * so result tables need no per-row user lookup.
+ */
+public record QuizResultWithStudentDto(
+        Long id,
+        Long quizId,
+        Long studentUserId,
+        String studentUsername,
+        String studentName,
+        int score,
+        int totalQuestions,
+        Instant completedAt
+) {
+
+    /**
+     * Converts a joined result row into a DTO; {@code studentName} is the
+     * student's first and last name, or {@code null} when both are blank.
+     *
+     * @param row the projection row
+     * @return the corresponding {@link QuizResultWithStudentDto}
+     */
+    public static QuizResultWithStudentDto fromRow(QuizResultRow row) {
+        String name = ((row.getStudentFirstName() == null ? "" : row.getStudentFirstName()) + " "
+                + (row.getStudentLastName() == null ? "" : row.getStudentLastName())).trim();
+        return new QuizResultWithStudentDto(
+                row.getId(),
+                row.getQuizId(),
+                row.getStudentUserId(),
+                row.getStudentUsername(),
+                name.isEmpty() ? null : name,
+                row.getScore() == null ? 0 : row.getScore(),
+                row.getTotalQuestions() == null ? 0 : row.getTotalQuestions(),
+                row.getCompletedAt()
+        );
+    }
+}
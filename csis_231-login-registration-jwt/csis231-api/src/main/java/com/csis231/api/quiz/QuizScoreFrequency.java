@@ -0,0 +1,15 @@
+package com.csis231.api.quiz;
+
+/**
+ * Projection carrying how many submissions of a quiz share the same
+ * score and question total.
+ */
+public interface QuizScoreFrequency {
+    Long getQuizId();
+
+    Integer getScore();
+
+    Integer getTotalQuestions();
+
+    Long getFrequency();
+}
@@ -7,9 +7,15 @@ import com.csis231.api.course.Course;
 import com.csis231.api.course.CourseRepository;
 import com.csis231.api.enrollment.EnrollmentService;
 import com.csis231.api.user.User;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -26,6 +32,15 @@ public class QuizService {
     private final QuizResultRepository resultRepository;
     private final CourseRepository courseRepository;
     private final EnrollmentService enrollmentService;
+    private final QuizStatsService statsService;
+    private final AnswerKeyCache answerKeyCache;
+    private final QuizDetailCache quizDetailCache;
+    private final QuizDeletionService quizDeletionService;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${quiz.import.chunk-size:500}")
+    private int importChunkSize;
 
     /**
      * Creates a new quiz under the given course for the instructor/admin actor.
@@ -49,7 +64,9 @@ public class QuizService {
                 .name(req.name())
                 .description(req.description())
                 .build();
-        return quizRepository.save(quiz);
+        Quiz saved = quizRepository.save(quiz);
+        statsService.initialize(saved.getId());
+        return saved;
     }
 
     /**
@@ -77,25 +94,94 @@ public class QuizService {
             if (!hasCorrect) {
                 throw new BadRequestException("Each question must have at least one correct answer");
             }
-            QuizQuestion question = QuizQuestion.builder()
-                    .quiz(quiz)
-                    .questionText(request.questionText())
-                    .build();
-            QuizQuestion saved = questionRepository.save(question);
-            createdQuestions.add(saved);
-
-            for (AnswerCreateRequest answerReq : request.answers()) {
-                AnswerOption option = AnswerOption.builder()
-                        .question(saved)
-                        .answerText(answerReq.answerText())
-                        .correct(answerReq.correct())
-                        .build();
-                answerOptionRepository.save(option);
-            }
+            createdQuestions.add(persistQuestion(quiz, request));
         }
+        quiz.bumpContentVersion();
+        answerKeyCache.invalidate(quizId);
+        quizDetailCache.invalidate(quizId);
         return createdQuestions;
     }
 
+    /**
+     * Imports a large question bank into a quiz.
+     *
+     * <p>Questions are consumed lazily from {@code questions} and written in chunks
+     * of {@code quiz.import.chunk-size}. Each chunk is read and validated outside
+     * any transaction, so a slow upload never keeps a transaction or its locks
+     * open, and is then inserted as JDBC batches in its own short transaction. When called
+     * inside an existing transaction the chunks join it instead.</p>
+     *
+     * <p>The import is therefore not atomic: if a question is invalid or the upload
+     * breaks off, the chunks committed before it stay in the quiz and the error
+     * names the offending question. The quiz's content version is bumped and its
+     * caches are invalidated whenever at least one chunk was written.</p>
+     *
+     * @param quizId    the quiz identifier
+     * @param questions the questions to import, typically a {@link QuestionImportSource}
+     * @param actor     the authenticated user performing the action
+     * @return a {@link QuestionImportResult} with counts and throughput
+     * @throws BadRequestException        if the upload is empty or a question is invalid
+     * @throws ResourceNotFoundException  if the quiz is not found
+     * @throws UnauthorizedException      if the actor cannot modify the quiz
+     */
+    public QuestionImportResult importQuestions(Long quizId, Iterator<QuizQuestionRequest> questions, User actor) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            Quiz quiz = quizRepository.findWithCourseById(quizId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Quiz not found: " + quizId));
+            ensureCourseOwnership(actor, quiz.getCourse());
+        });
+
+        long elapsedNanos = 0;
+        int questionCount = 0;
+        int optionCount = 0;
+        List<QuizQuestionRequest> chunk = new ArrayList<>(Math.max(1, importChunkSize));
+        try {
+            while (questions.hasNext()) {
+                QuizQuestionRequest request = questions.next();
+                validateImported(request, questionCount + chunk.size() + 1);
+                chunk.add(request);
+                if (chunk.size() >= importChunkSize || !questions.hasNext()) {
+                    long start = System.nanoTime();
+                    tx.executeWithoutResult(status -> persistChunk(quizId, chunk));
+                    elapsedNanos += System.nanoTime() - start;
+                    questionCount += chunk.size();
+                    optionCount += chunk.stream().mapToInt(q -> q.answers().size()).sum();
+                    chunk.clear();
+                }
+            }
+        } finally {
+            if (questionCount > 0) {
+                tx.executeWithoutResult(status -> quizRepository.findById(quizId).ifPresent(Quiz::bumpContentVersion));
+                answerKeyCache.invalidate(quizId);
+                quizDetailCache.invalidate(quizId);
+            }
+        }
+        if (questionCount == 0) throw new BadRequestException("Questions are required");
+
+        int rows = questionCount + optionCount;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new QuestionImportResult(
+                questionCount,
+                optionCount,
+                elapsedNanos / 1_000_000,
+                seconds > 0 ? rows / seconds : rows
+        );
+    }
+
+    /**
+     * Inserts one chunk of imported questions, then detaches them so the
+     * persistence context does not grow with the upload.
+     */
+    private void persistChunk(Long quizId, List<QuizQuestionRequest> chunk) {
+        Quiz quiz = entityManager.getReference(Quiz.class, quizId);
+        for (QuizQuestionRequest request : chunk) {
+            persistQuestion(quiz, request);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
     /**
      * Retrieves quiz details (questions and options) visible to the viewer.
      *
@@ -107,24 +193,24 @@ public class QuizService {
      */
     @Transactional(readOnly = true)
     public QuizDetailDto getQuizDetail(Long quizId, User viewer) {
-        Quiz quiz = quizRepository.findById(quizId)
-                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found: " + quizId));
-        enforceQuizAccessForView(quiz, viewer);
-
-        List<QuizQuestion> questions = questionRepository.findByQuiz_Id(quizId);
-        List<Long> questionIds = questions.stream().map(QuizQuestion::getId).toList();
-        Map<Long, List<AnswerOption>> optionsByQuestion = answerOptionRepository.findByQuestion_IdIn(questionIds).stream()
-                .collect(Collectors.groupingBy(opt -> opt.getQuestion().getId()));
-
-        List<QuizQuestionDto> questionDtos = questions.stream().map(q -> {
-            List<AnswerOptionDto> options = optionsByQuestion.getOrDefault(q.getId(), Collections.emptyList())
-                    .stream()
-                    .map(opt -> new AnswerOptionDto(opt.getId(), opt.getAnswerText()))
-                    .toList();
-            return new QuizQuestionDto(q.getId(), q.getQuestionText(), options);
-        }).toList();
-
-        return QuizMapper.toDetailDto(quiz, questionDtos);
+        return getCachedQuizDetail(quizId, viewer).detail();
+    }
+
+    /**
+     * Retrieves the cached, serialized quiz detail visible to the viewer.
+     * Repeated calls for unchanged content do not query quiz tables.
+     *
+     * @param quizId the quiz identifier
+     * @param viewer the requesting user
+     * @return the {@link CachedQuizDetail} for the current content version
+     * @throws ResourceNotFoundException if the quiz is not found
+     * @throws UnauthorizedException     if the viewer cannot access the quiz
+     */
+    @Transactional(readOnly = true)
+    public CachedQuizDetail getCachedQuizDetail(Long quizId, User viewer) {
+        CachedQuizDetail cached = quizDetailCache.get(quizId);
+        enforceQuizAccessForView(cached.courseId(), cached.instructorId(), viewer);
+        return cached;
     }
 
     /**
@@ -161,32 +247,9 @@ public class QuizService {
             }
         }
 
-        List<QuizQuestion> questions = questionRepository.findByQuiz_Id(quizId);
-        Map<Long, QuizQuestion> questionMap = questions.stream()
-                .collect(Collectors.toMap(QuizQuestion::getId, q -> q));
-        List<Long> questionIds = questions.stream().map(QuizQuestion::getId).toList();
-        Map<Long, List<AnswerOption>> optionsByQuestion = answerOptionRepository.findByQuestion_IdIn(questionIds).stream()
-                .collect(Collectors.groupingBy(opt -> opt.getQuestion().getId()));
-
-        int totalQuestions = questions.size();
-        int score = 0;
-
-        for (QuizSubmissionAnswer answer : request.answers()) {
-            QuizQuestion question = questionMap.get(answer.questionId());
-            if (question == null) {
-                throw new BadRequestException("Answer references invalid question: " + answer.questionId());
-            }
-            List<AnswerOption> options = optionsByQuestion.getOrDefault(question.getId(), Collections.emptyList());
-            Optional<AnswerOption> chosen = options.stream()
-                    .filter(opt -> Objects.equals(opt.getId(), answer.answerId()))
-                    .findFirst();
-            if (chosen.isEmpty()) {
-                throw new BadRequestException("Invalid answer option for question: " + question.getId());
-            }
-            if (Boolean.TRUE.equals(chosen.get().getCorrect())) {
-                score++;
-            }
-        }
+        AnswerKey answerKey = answerKeyCache.get(quizId);
+        int totalQuestions = answerKey.questionCount();
+        int score = answerKey.grade(request.answers());
 
         QuizResult result = QuizResult.builder()
                 .quiz(quiz)
@@ -195,6 +258,7 @@ public class QuizService {
                 .totalQuestions(totalQuestions)
                 .build();
         QuizResult saved = resultRepository.save(result);
+        statsService.recordAttempt(quiz.getId(), score, totalQuestions);
 
         double percentage = totalQuestions == 0 ? 0 : (score * 100.0 / totalQuestions);
         return new QuizSubmissionResponse(
@@ -227,31 +291,42 @@ public class QuizService {
     }
 
     /**
-     * Deletes a quiz along with its questions, answers, and results.
+     * Pages through the results of a quiz together with each student's
+     * username and name, read by a single join (plus a count query).
+     *
+     * @param quizId   the quiz identifier
+     * @param pageable pagination and sorting; sort keys are {@code completedAt},
+     *                 {@code score}, {@code studentUsername} and {@code id}
+     * @param actor    the authenticated user requesting the data
+     * @return a page of {@link QuizResultWithStudentDto}
+     * @throws ResourceNotFoundException if the quiz is not found
+     * @throws UnauthorizedException     if actor cannot view results
+     */
+    @Transactional(readOnly = true)
+    public Page<QuizResultWithStudentDto> resultPageForQuiz(Long quizId, Pageable pageable, User actor) {
+        Quiz quiz = quizRepository.findWithCourseById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found: " + quizId));
+        ensureCourseOwnership(actor, quiz.getCourse());
+        return resultRepository.findRowsByQuizId(quizId, pageable).map(QuizResultWithStudentDto::fromRow);
+    }
+
+    /**
+     * Deletes a quiz along with its questions, answers, results and statistics rollup.
+     *
+     * <p>Dependent rows are removed with chunked set-based deletes that commit
+     * one by one; the quiz row is only locked for the final delete (see
+     * {@link QuizDeletionService}). A failed delete can be retried.</p>
      *
      * @param quizId the quiz identifier
      * @param actor  the authenticated user performing deletion
      * @throws ResourceNotFoundException if the quiz is not found
      * @throws UnauthorizedException     if actor cannot manage the course
      */
-    @Transactional
     public void deleteQuiz(Long quizId, User actor) {
-        Quiz quiz = quizRepository.findById(quizId)
+        Quiz quiz = quizRepository.findWithCourseById(quizId)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz not found: " + quizId));
         ensureCourseOwnership(actor, quiz.getCourse());
-
-        List<QuizQuestion> questions = questionRepository.findByQuiz_Id(quizId);
-        List<Long> questionIds = questions.stream().map(QuizQuestion::getId).toList();
-
-        if (!questionIds.isEmpty()) {
-            var options = answerOptionRepository.findByQuestion_IdIn(questionIds);
-            answerOptionRepository.deleteAll(options);
-            questionRepository.deleteAll(questions);
-        }
-        var results = resultRepository.findByQuiz_Id(quizId);
-        resultRepository.deleteAll(results);
-
-        quizRepository.delete(quiz);
+        quizDeletionService.purge(quizId);
     }
 
     /**
@@ -288,6 +363,76 @@ public class QuizService {
                 .orElse(null);
     }
 
+    /**
+     * Returns the latest result of the given user for each of the given
+     * quizzes in one query. Only the user's own results are read, so no
+     * per-quiz access check is needed; quizzes without a result are omitted.
+     *
+     * @param quizIds the quiz identifiers
+     * @param actor   the authenticated user requesting their results
+     * @return the latest {@link QuizResultDto} per quiz that has one
+     * @throws UnauthorizedException if no user is authenticated
+     */
+    @Transactional(readOnly = true)
+    public List<QuizResultDto> latestResultsForUser(List<Long> quizIds, User actor) {
+        if (actor == null) throw new UnauthorizedException("Authentication required");
+        Set<Long> ids = quizIds == null ? Set.of() : quizIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.isEmpty()) return List.of();
+        return resultRepository.findLatestByStudentAndQuizIds(actor.getId(), ids).stream()
+                .map(QuizMapper::toResultDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lists quizzes in the user's enrolled courses that the user has not
+     * submitted yet, computed by a single anti-join.
+     *
+     * @param actor the authenticated user
+     * @return the pending quizzes, oldest first
+     * @throws UnauthorizedException if no user is authenticated
+     */
+    @Transactional(readOnly = true)
+    public List<PendingQuizDto> pendingQuizzesFor(User actor) {
+        if (actor == null) throw new UnauthorizedException("Authentication required");
+        return quizRepository.findPendingForStudent(actor.getId()).stream()
+                .map(PendingQuizDto::fromRow)
+                .collect(Collectors.toList());
+    }
+
+    private QuizQuestion persistQuestion(Quiz quiz, QuizQuestionRequest request) {
+        QuizQuestion saved = questionRepository.save(QuizQuestion.builder()
+                .quiz(quiz)
+                .questionText(request.questionText())
+                .build());
+        for (AnswerCreateRequest answerReq : request.answers()) {
+            answerOptionRepository.save(AnswerOption.builder()
+                    .question(saved)
+                    .answerText(answerReq.answerText())
+                    .correct(answerReq.correct())
+                    .build());
+        }
+        return saved;
+    }
+
+    private static void validateImported(QuizQuestionRequest request, int number) {
+        if (request == null || request.questionText() == null || request.questionText().isBlank()) {
+            throw new BadRequestException("Question " + number + ": question text is required");
+        }
+        if (request.answers() == null || request.answers().isEmpty()) {
+            throw new BadRequestException("Question " + number + ": answers are required");
+        }
+        for (AnswerCreateRequest answer : request.answers()) {
+            if (answer == null || answer.answerText() == null || answer.answerText().isBlank()) {
+                throw new BadRequestException("Question " + number + ": answer text is required");
+            }
+        }
+        if (request.answers().stream().noneMatch(AnswerCreateRequest::correct)) {
+            throw new BadRequestException("Question " + number + ": at least one answer must be correct");
+        }
+    }
+
     private static void requireInstructorOrAdmin(User actor) {
         if (actor == null) throw new UnauthorizedException("Authentication required");
         if (actor.getRole() == User.Role.ADMIN || actor.getRole() == User.Role.INSTRUCTOR) return;
@@ -303,16 +448,25 @@ public class QuizService {
     }
 
     private void enforceQuizAccessForView(Quiz quiz, User viewer) {
+        Course course = quiz.getCourse();
+        enforceQuizAccessForView(course.getId(),
+                course.getInstructor() != null ? course.getInstructor().getId() : null,
+                viewer);
+    }
+
+    private void enforceQuizAccessForView(Long courseId, Long instructorId, User viewer) {
         if (viewer == null) {
             throw new UnauthorizedException("Authentication required");
         }
         if (viewer.getRole() == User.Role.ADMIN) return;
         if (viewer.getRole() == User.Role.INSTRUCTOR) {
-            ensureCourseOwnership(viewer, quiz.getCourse());
+            if (!Objects.equals(instructorId, viewer.getId())) {
+                throw new UnauthorizedException("You can only manage quizzes for your own courses");
+            }
             return;
         }
         if (viewer.getRole() == User.Role.STUDENT) {
-            boolean enrolled = enrollmentService.isStudentEnrolled(viewer.getId(), quiz.getCourse().getId());
+            boolean enrolled = enrollmentService.isStudentEnrolled(viewer.getId(), courseId);
             if (!enrolled) {
                 throw new UnauthorizedException("Enroll in the course to access this quiz");
             }
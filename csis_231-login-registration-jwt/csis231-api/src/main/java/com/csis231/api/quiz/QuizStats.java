@@ -0,0 +1,124 @@
+package com.csis231.api.quiz;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Rollup of all submissions for one quiz, maintained alongside {@link QuizResult}.
+ *
+ * <p>Scores are kept as sums so averages stay exact; best/worst and the histogram
+ * are expressed in percent (0-100). The histogram has {@link #HISTOGRAM_BUCKETS}
+ * buckets of equal width, with a perfect score counted in the last one.</p>
+ */
+@Entity
+@Table(name = "quiz_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizStats {
+
+    public static final int HISTOGRAM_BUCKETS = 10;
+
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    @Column(name = "attempt_count", nullable = false)
+    private long attemptCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    @Column(name = "question_sum", nullable = false)
+    private long questionSum;
+
+    @Column(name = "best_percentage")
+    private Double bestPercentage;
+
+    @Column(name = "worst_percentage")
+    private Double worstPercentage;
+
+    @Convert(converter = HistogramConverter.class)
+    @Column(name = "histogram", nullable = false)
+    @Builder.Default
+    private long[] histogram = new long[HISTOGRAM_BUCKETS];
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    /**
+     * Creates an empty rollup for a quiz.
+     *
+     * @param quizId the quiz identifier
+     * @return a rollup with no attempts
+     */
+    public static QuizStats empty(Long quizId) {
+        return QuizStats.builder().quizId(quizId).build();
+    }
+
+    /**
+     * Adds the given number of identical attempts to the rollup.
+     *
+     * @param score          correct answers per attempt
+     * @param totalQuestions questions per attempt
+     * @param count          number of attempts with this outcome
+     */
+    public void record(int score, int totalQuestions, long count) {
+        double percentage = percentage(score, totalQuestions);
+        attemptCount += count;
+        scoreSum += (long) score * count;
+        questionSum += (long) totalQuestions * count;
+        bestPercentage = bestPercentage == null ? percentage : Math.max(bestPercentage, percentage);
+        worstPercentage = worstPercentage == null ? percentage : Math.min(worstPercentage, percentage);
+        histogram[bucketOf(percentage)] += count;
+    }
+
+    /**
+     * Clears all accumulated values.
+     */
+    public void reset() {
+        attemptCount = 0;
+        scoreSum = 0;
+        questionSum = 0;
+        bestPercentage = null;
+        worstPercentage = null;
+        histogram = new long[HISTOGRAM_BUCKETS];
+    }
+
+    /**
+     * Returns the average score in percent, weighted by question count.
+     *
+     * @return the average percentage, or {@code 0} when there are no attempts
+     */
+    public double averagePercentage() {
+        return questionSum == 0 ? 0d : (double) scoreSum / questionSum * 100.0;
+    }
+
+    /**
+     * Converts a score into a percentage; attempts without questions count as zero.
+     *
+     * @param score          correct answers
+     * @param totalQuestions number of questions
+     * @return the percentage (0-100)
+     */
+    public static double percentage(int score, int totalQuestions) {
+        return totalQuestions == 0 ? 0d : score * 100.0 / totalQuestions;
+    }
+
+    /**
+     * Returns the histogram bucket for a percentage.
+     *
+     * @param percentage the percentage (0-100)
+     * @return the bucket index
+     */
+    public static int bucketOf(double percentage) {
+        int bucket = (int) (percentage / (100.0 / HISTOGRAM_BUCKETS));
+        return Math.max(0, Math.min(HISTOGRAM_BUCKETS - 1, bucket));
+    }
+}
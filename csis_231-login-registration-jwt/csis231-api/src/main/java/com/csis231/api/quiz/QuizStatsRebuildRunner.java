@@ -0,0 +1,46 @@
+package com.csis231.api.quiz;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Rebuilds every {@link QuizStats} rollup from stored results when the
+ * application is started with {@code --rebuild-quiz-stats}.
+ *
+ * <p>Quizzes are processed in batches of {@code quiz.stats.rebuild-batch-size},
+ * each in its own transaction, so existing data can be backfilled without one
+ * long-running transaction.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizStatsRebuildRunner implements ApplicationRunner {
+
+    private static final String OPTION = "rebuild-quiz-stats";
+
+    private final QuizStatsService statsService;
+
+    @Value("${quiz.stats.rebuild-batch-size:200}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) return;
+        long rebuilt = 0;
+        Long afterId = 0L;
+        List<Long> batch;
+        while (!(batch = statsService.nextBatch(afterId, Math.max(1, batchSize))).isEmpty()) {
+            statsService.rebuild(batch);
+            rebuilt += batch.size();
+            afterId = batch.get(batch.size() - 1);
+            log.info("Rebuilt quiz stats for {} quizzes (last id {})", rebuilt, afterId);
+        }
+        log.info("Quiz stats rebuild finished: {} quizzes", rebuilt);
+    }
+}
@@ -0,0 +1,53 @@
+package com.csis231.api.quiz;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface QuizStatsRepository extends JpaRepository<QuizStats, Long> {
+
+    /**
+     * Loads the rollup of a quiz and locks it for the rest of the transaction.
+     *
+     * @param quizId the quiz identifier
+     * @return an optional containing the locked {@link QuizStats}
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from QuizStats s where s.quizId = :quizId")
+    Optional<QuizStats> findForUpdate(@Param("quizId") Long quizId);
+
+    /**
+     * Loads and locks the rollups of several quizzes.
+     *
+     * @param quizIds the quiz identifiers
+     * @return list of locked {@link QuizStats}
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from QuizStats s where s.quizId in :quizIds")
+    List<QuizStats> findAllForUpdate(@Param("quizIds") List<Long> quizIds);
+
+    /**
+     * Retrieves the rollups of several quizzes.
+     *
+     * @param quizIds the quiz identifiers
+     * @return list of {@link QuizStats}; quizzes without a rollup are absent
+     */
+    List<QuizStats> findByQuizIdIn(List<Long> quizIds);
+
+    /**
+     * Removes the rollup of a quiz.
+     *
+     * @param quizId the quiz identifier
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from QuizStats s where s.quizId = :quizId")
+    void deleteByQuizId(@Param("quizId") Long quizId);
+}
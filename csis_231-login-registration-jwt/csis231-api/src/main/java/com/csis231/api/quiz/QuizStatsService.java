@@ -0,0 +1,128 @@
+package com.csis231.api.quiz;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the {@link QuizStats} rollup.
+ *
+ * <p>Submissions update the rollup row under a row lock in the same transaction
+ * that stores the {@link QuizResult}, so readers see consistent totals without
+ * scanning results. {@link #rebuild(List)} recomputes rollups from history.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizStatsService {
+
+    private final QuizStatsRepository statsRepository;
+    private final QuizResultRepository resultRepository;
+    private final QuizRepository quizRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Creates the empty rollup for a newly created quiz.
+     *
+     * @param quizId the quiz identifier
+     */
+    @Transactional
+    public void initialize(Long quizId) {
+        statsRepository.save(QuizStats.empty(quizId));
+    }
+
+    /**
+     * Adds a stored attempt to the quiz rollup. Must run in the transaction that
+     * saved the result. Quizzes without a rollup (created before it existed) get
+     * an empty row first, committed on its own so that concurrent first
+     * submissions all end up locking the same row, and are then rebuilt from
+     * their history, which already includes this attempt.
+     *
+     * @param quizId         the quiz identifier
+     * @param score          correct answers
+     * @param totalQuestions number of questions
+     */
+    @Transactional
+    public void recordAttempt(Long quizId, int score, int totalQuestions) {
+        statsRepository.findForUpdate(quizId).ifPresentOrElse(
+                stats -> stats.record(score, totalQuestions, 1),
+                () -> {
+                    createIfAbsent(quizId);
+                    rebuild(List.of(quizId));
+                });
+    }
+
+    /**
+     * Inserts an empty rollup in a separate transaction. Losing the race to a
+     * concurrent submission is fine: either way the row exists afterwards.
+     */
+    private void createIfAbsent(Long quizId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            tx.executeWithoutResult(status -> {
+                if (!statsRepository.existsById(quizId)) {
+                    statsRepository.saveAndFlush(QuizStats.empty(quizId));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // created concurrently
+        }
+    }
+
+    /**
+     * Removes the rollup of a deleted quiz.
+     *
+     * @param quizId the quiz identifier
+     */
+    @Transactional
+    public void delete(Long quizId) {
+        statsRepository.deleteByQuizId(quizId);
+    }
+
+    /**
+     * Recomputes the rollups of the given quizzes from their stored results.
+     * Existing rows are locked first so concurrent submissions apply on top of
+     * the rebuilt values.
+     *
+     * @param quizIds the quiz identifiers
+     */
+    @Transactional
+    public void rebuild(List<Long> quizIds) {
+        if (quizIds.isEmpty()) return;
+        Map<Long, QuizStats> existing = statsRepository.findAllForUpdate(quizIds).stream()
+                .collect(Collectors.toMap(QuizStats::getQuizId, Function.identity()));
+        Map<Long, QuizStats> rebuilt = quizIds.stream()
+                .collect(Collectors.toMap(Function.identity(), id -> {
+                    QuizStats stats = existing.getOrDefault(id, QuizStats.empty(id));
+                    stats.reset();
+                    return stats;
+                }, (a, b) -> a));
+        for (QuizScoreFrequency frequency : resultRepository.scoreFrequenciesByQuizIds(quizIds)) {
+            rebuilt.get(frequency.getQuizId())
+                    .record(frequency.getScore(), frequency.getTotalQuestions(), frequency.getFrequency());
+        }
+        statsRepository.saveAll(rebuilt.values());
+    }
+
+    /**
+     * Returns the next batch of quiz ids to rebuild.
+     *
+     * @param afterId   exclusive lower bound (0 to start)
+     * @param batchSize maximum number of ids
+     * @return quiz ids in ascending order
+     */
+    @Transactional(readOnly = true)
+    public List<Long> nextBatch(Long afterId, int batchSize) {
+        return quizRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+    }
+}
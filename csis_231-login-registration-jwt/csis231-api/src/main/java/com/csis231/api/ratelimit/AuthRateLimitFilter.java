@@ -0,0 +1,286 @@
+package com.csis231.api.ratelimit;
+
+import com.csis231.api.common.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Rate limits the public authentication endpoints ({@code /api/auth/**}).
+ *
+ * <p>Every request takes a token from the bucket of its client IP. JSON
+ * {@code POST} requests additionally take a token from the bucket of the
+ * account they target, so a single account cannot be brute-forced from many
+ * addresses and cannot be used to flood the OTP mailer. The account is read
+ * from the {@code username} (or {@code email}) field and resolved the same way
+ * the auth endpoints do, so a username and the e-mail of the same user share
+ * one bucket; identifiers that match no user are bucketed by their normalized
+ * text. To read the field the body is buffered and replayed to the
+ * controller. Bodies over {@link #MAX_INSPECTED_BODY} bytes are rejected with
+ * {@code 413 Payload Too Large}, since no auth request needs that much and
+ * passing them through unread would skip the account check.</p>
+ *
+ * <p>Rejected requests get {@code 429 Too Many Requests} with a
+ * {@code Retry-After} header and never reach Spring Security or the
+ * controllers, so they cost no BCrypt check and no e-mail. Decisions are
+ * counted in {@code auth.rate_limit.requests}, tagged by scope and outcome.</p>
+ *
+ * <p>Behind reverse proxies the client IP is read from {@code X-Forwarded-For}.
+ * Each proxy appends the address it received the request from, so only the
+ * rightmost {@code trustedProxies} entries are trustworthy; everything left of
+ * them is supplied by the client. The filter therefore takes the entry added
+ * by the outermost trusted proxy.</p>
+ */
+@Slf4j
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    /** Largest JSON body accepted on the auth endpoints. */
+    static final int MAX_INSPECTED_BODY = 8 * 1024;
+
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter accountLimiter;
+    private final Function<String, Optional<Long>> accountIds;
+    private final ObjectMapper objectMapper;
+    private final int trustedProxies;
+    private final Counter ipAllowed;
+    private final Counter ipRejected;
+    private final Counter accountAllowed;
+    private final Counter accountRejected;
+
+    /**
+     * Creates the filter.
+     *
+     * @param ipLimiter         limiter keyed by client IP
+     * @param accountLimiter    limiter keyed by account
+     * @param accountIds        resolves a username or e-mail to the id of its user
+     * @param objectMapper      mapper used to read request bodies and write errors
+     * @param meterRegistry     registry receiving the decision counters
+     * @param trustedProxies    number of reverse proxies in front of the application
+     *                          whose {@code X-Forwarded-For} entries are trusted;
+     *                          {@code 0} ignores the header
+     */
+    public AuthRateLimitFilter(TokenBucketLimiter ipLimiter,
+                               TokenBucketLimiter accountLimiter,
+                               Function<String, Optional<Long>> accountIds,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               int trustedProxies) {
+        this.ipLimiter = ipLimiter;
+        this.accountLimiter = accountLimiter;
+        this.accountIds = accountIds;
+        this.objectMapper = objectMapper;
+        this.trustedProxies = Math.max(0, trustedProxies);
+        this.ipAllowed = counter(meterRegistry, "ip", "allowed");
+        this.ipRejected = counter(meterRegistry, "ip", "rejected");
+        this.accountAllowed = counter(meterRegistry, "account", "allowed");
+        this.accountRejected = counter(meterRegistry, "account", "rejected");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long wait = ipLimiter.tryAcquire(clientIp(request));
+        if (wait > 0) {
+            ipRejected.increment();
+            reject(request, response, wait);
+            return;
+        }
+        ipAllowed.increment();
+
+        HttpServletRequest forwarded = request;
+        if (inspectable(request)) {
+            byte[] body = request.getInputStream().readNBytes(MAX_INSPECTED_BODY + 1);
+            if (body.length > MAX_INSPECTED_BODY) {
+                writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "PAYLOAD_TOO_LARGE",
+                        "Request body exceeds " + MAX_INSPECTED_BODY + " bytes");
+                return;
+            }
+            String account = account(body);
+            if (account != null) {
+                wait = accountLimiter.tryAcquire(account);
+                if (wait > 0) {
+                    accountRejected.increment();
+                    log.warn("Rate limited auth request {} for account '{}'", request.getRequestURI(), account);
+                    reject(request, response, wait);
+                    return;
+                }
+                accountAllowed.increment();
+            }
+            forwarded = new ReplayedBodyRequest(request, body);
+        }
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private boolean inspectable(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) return false;
+        String contentType = request.getContentType();
+        if (contentType == null) return false;
+        try {
+            return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private String account(byte[] body) {
+        if (body.length == 0) return null;
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            if (root == null || !root.isObject()) return null;
+            JsonNode value = root.hasNonNull("username") ? root.get("username") : root.get("email");
+            if (value == null || !value.isTextual() || value.asText().isBlank()) return null;
+            return accountKey(value.asText().trim());
+        } catch (IOException ex) {
+            // malformed JSON is rejected by the controller; only the IP bucket applies
+            return null;
+        }
+    }
+
+    private String accountKey(String identifier) {
+        return accountIds.apply(identifier)
+                .map(id -> "user:" + id)
+                .orElseGet(() -> "name:" + identifier.toLowerCase(Locale.ROOT));
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustedProxies > 0) {
+            String header = request.getHeader("X-Forwarded-For");
+            if (header != null && !header.isBlank()) {
+                String[] hops = header.split(",");
+                String ip = hops[Math.max(0, hops.length - trustedProxies)].trim();
+                if (!ip.isEmpty()) return ip;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long seconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        writeError(request, response, HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS",
+                "Too many requests, please retry in " + seconds + " seconds");
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String code, String message) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .message(message)
+                .code(code)
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static Counter counter(MeterRegistry registry, String scope, String outcome) {
+        return Counter.builder("auth.rate_limit.requests")
+                .description("Authentication requests checked by the rate limiter")
+                .tag("scope", scope)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Request wrapper serving an already-read body to downstream readers.
+     */
+    private static final class ReplayedBodyRequest extends HttpServletRequestWrapper {
+        private final int bufferedLength;
+        private final ServletInputStream stream;
+
+        ReplayedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.bufferedLength = body.length;
+            InputStream source = new ByteArrayInputStream(body);
+            this.stream = new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public int read() throws IOException {
+                    int b = source.read();
+                    if (b < 0) finished = true;
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = source.read(b, off, len);
+                    if (n < 0) finished = true;
+                    return n;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return stream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(stream,
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return bufferedLength;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return bufferedLength;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.csis231.api.ratelimit;
+
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the authentication rate limits.
+ *
+ * <p>The filter is registered directly with the servlet container, ordered
+ * ahead of the Spring Security filter chain, and only for
+ * {@code /api/auth/*}. Limits are configured with
+ * {@code auth.rate-limit.ip.*} and {@code auth.rate-limit.account.*}; set
+ * {@code auth.rate-limit.enabled=false} to turn the filter off. Behind reverse
+ * proxies, set {@code auth.rate-limit.trust-forwarded-for=true} and
+ * {@code auth.rate-limit.trusted-proxies} to the number of proxy hops.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "auth.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    /**
+     * Bucket per client IP, shared by every auth endpoint.
+     *
+     * @param capacity        burst size
+     * @param refillPerMinute sustained requests per minute
+     * @param maxKeys         maximum number of tracked IPs
+     * @param registry        registry receiving the tracked-keys gauge
+     * @return the IP limiter
+     */
+    @Bean
+    public TokenBucketLimiter authIpRateLimiter(@Value("${auth.rate-limit.ip.capacity:30}") int capacity,
+                                                @Value("${auth.rate-limit.ip.refill-per-minute:30}") double refillPerMinute,
+                                                @Value("${auth.rate-limit.ip.max-keys:100000}") int maxKeys,
+                                                MeterRegistry registry) {
+        return gauged(new TokenBucketLimiter("ip", capacity, refillPerMinute, maxKeys, System::nanoTime), registry);
+    }
+
+    /**
+     * Bucket per username / e-mail, shared by login, OTP and password reset.
+     *
+     * @param capacity        burst size
+     * @param refillPerMinute sustained requests per minute
+     * @param maxKeys         maximum number of tracked accounts
+     * @param registry        registry receiving the tracked-keys gauge
+     * @return the account limiter
+     */
+    @Bean
+    public TokenBucketLimiter authAccountRateLimiter(@Value("${auth.rate-limit.account.capacity:10}") int capacity,
+                                                     @Value("${auth.rate-limit.account.refill-per-minute:5}") double refillPerMinute,
+                                                     @Value("${auth.rate-limit.account.max-keys:100000}") int maxKeys,
+                                                     MeterRegistry registry) {
+        return gauged(new TokenBucketLimiter("account", capacity, refillPerMinute, maxKeys, System::nanoTime), registry);
+    }
+
+    /**
+     * Registers {@link AuthRateLimitFilter} in front of the security chain.
+     * Accounts are resolved like the auth endpoints resolve them: by username
+     * first, then by e-mail.
+     *
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilter(
+            @Qualifier("authIpRateLimiter") TokenBucketLimiter ipLimiter,
+            @Qualifier("authAccountRateLimiter") TokenBucketLimiter accountLimiter,
+            UserRepository userRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${auth.rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor,
+            @Value("${auth.rate-limit.trusted-proxies:1}") int trustedProxies) {
+        FilterRegistrationBean<AuthRateLimitFilter> registration = new FilterRegistrationBean<>(
+                new AuthRateLimitFilter(ipLimiter, accountLimiter,
+                        id -> userRepository.findByUsername(id)
+                                .or(() -> userRepository.findByEmail(id))
+                                .map(User::getId),
+                        objectMapper, registry,
+                        trustForwardedFor ? Math.max(1, trustedProxies) : 0));
+        registration.addUrlPatterns("/api/auth/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+    private static TokenBucketLimiter gauged(TokenBucketLimiter limiter, MeterRegistry registry) {
+        Gauge.builder("auth.rate_limit.keys", limiter, TokenBucketLimiter::trackedKeys)
+                .description("Keys currently tracked by the authentication rate limiter")
+                .tag("scope", limiter.getName())
+                .register(registry);
+        return limiter;
+    }
+}
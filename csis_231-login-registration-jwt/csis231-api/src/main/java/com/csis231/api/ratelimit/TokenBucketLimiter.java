@@ -0,0 +1,137 @@
+package com.csis231.api.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-key token bucket with bounded memory.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding its "theoretical
+ * arrival time" (the GCRA formulation of a token bucket): a request is allowed
+ * when pushing that time forward by one emission interval stays within the
+ * burst window, and the update is a plain compare-and-set, so concurrent
+ * requests never block each other.</p>
+ *
+ * <p>Keys are spread over independent stripes, each capped at
+ * {@code maxKeys / stripes} entries. When a stripe is full, buckets that have
+ * refilled completely are dropped first (forgetting them changes nothing);
+ * if that is not enough an arbitrary bucket is evicted.</p>
+ */
+public class TokenBucketLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final String name;
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final int maxKeysPerStripe;
+    private final LongSupplier nanoClock;
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes = new ConcurrentHashMap[STRIPES];
+
+    /**
+     * Creates a limiter.
+     *
+     * @param name             name used in metrics and logs
+     * @param capacity         maximum burst, in requests
+     * @param refillPerMinute  sustained rate, in requests per minute
+     * @param maxKeys          upper bound on the number of tracked keys
+     * @param nanoClock        monotonic clock in nanoseconds, e.g. {@code System::nanoTime}
+     */
+    public TokenBucketLimiter(String name, int capacity, double refillPerMinute, int maxKeys, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("Rate limit '" + name + "' needs a positive capacity and refill rate");
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1L, (long) (60_000_000_000d / refillPerMinute));
+        this.burstWindowNanos = emissionIntervalNanos * capacity;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.nanoClock = nanoClock;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Takes one token from the bucket of {@code key}.
+     *
+     * @param key the bucket key, e.g. a client IP or username
+     * @return {@code 0} when the request is allowed, otherwise the number of
+     *         nanoseconds until a token becomes available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = bucket(key, now);
+        while (true) {
+            long tat = bucket.get();
+            long next = Math.max(tat - now, 0L) + emissionIntervalNanos;
+            if (next > burstWindowNanos) {
+                return next - burstWindowNanos;
+            }
+            if (bucket.compareAndSet(tat, now + next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Forgets every bucket, e.g. between tests.
+     */
+    public void reset() {
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * @return the number of keys currently tracked
+     */
+    public long trackedKeys() {
+        long total = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            total += stripe.mappingCount();
+        }
+        return total;
+    }
+
+    /**
+     * @return the limiter name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the maximum burst, in requests
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null) return bucket;
+        if (stripe.size() >= maxKeysPerStripe) {
+            evict(stripe, now);
+        }
+        // a new bucket starts full: its arrival time is "now"
+        AtomicLong created = new AtomicLong(now);
+        AtomicLong existing = stripe.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    private void evict(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+        stripe.values().removeIf(tat -> tat.get() - now <= 0);
+        Iterator<Map.Entry<String, AtomicLong>> it = stripe.entrySet().iterator();
+        while (stripe.size() >= maxKeysPerStripe && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.csis231.api.user;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method parameter of type {@link User} that should be
+ * resolved to the currently authenticated user.
+ *
+ * <p>Resolved by {@link CurrentUserArgumentResolver}. When {@link #required()}
+ * is {@code true} (the default) an anonymous request fails with
+ * {@link com.csis231.api.common.UnauthorizedException}; otherwise
+ * {@code null} is injected.</p>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+
+    /**
+     * Whether an authenticated user is required.
+     *
+     * @return {@code false} to inject {@code null} for anonymous requests
+     */
+    boolean required() default true;
+}
@@ -0,0 +1,69 @@
+package com.csis231.api.user;
+
+import com.csis231.api.common.ResourceNotFoundException;
+import com.csis231.api.common.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUser}-annotated {@link User} parameters from the
+ * authenticated principal.
+ *
+ * <p>The user is looked up through {@link UserCache} and stored as a request
+ * attribute, so each request costs at most one user query no matter how many
+ * parameters need it.</p>
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".USER";
+
+    private final UserCache userCache;
+
+    public CurrentUserArgumentResolver(UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && User.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        boolean required = parameter.getParameterAnnotation(CurrentUser.class).required();
+
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request != null && request.getAttribute(REQUEST_ATTRIBUTE) instanceof User user) {
+            return user;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated() || authentication.getName() == null) {
+            if (required) throw new UnauthorizedException("Authentication required");
+            return null;
+        }
+
+        String username = authentication.getName();
+        User user = required
+                ? userCache.findByUsername(username)
+                        .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username))
+                : userCache.findByUsername(username).orElse(null);
+
+        if (request != null && user != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, user);
+        }
+        return user;
+    }
+}
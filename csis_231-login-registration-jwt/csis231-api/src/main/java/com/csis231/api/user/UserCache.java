@@ -0,0 +1,120 @@
+package com.csis231.api.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived in-memory cache of {@link User} entities keyed by username.
+ *
+ * <p>Used to resolve the authenticated user for controller methods without a
+ * database round-trip on every request. Entries expire after
+ * {@code user.cache.ttl-seconds} and are evicted explicitly by
+ * {@link UserService} when a user is updated or deleted. Entries hold an
+ * immutable snapshot of the row and every lookup returns a fresh detached
+ * copy, so a caller changing its copy cannot leak state into other requests.
+ * When the cache is full, expired entries are dropped first and then the
+ * oldest one.</p>
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${user.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${user.cache.max-entries:1000}")
+    private int maxEntries;
+
+    public UserCache(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Returns the user with the given username, loading it from the
+     * repository when it is not cached or its entry has expired.
+     *
+     * @param username the username to look up
+     * @return an {@link Optional} containing the user if found
+     */
+    public Optional<User> findByUsername(String username) {
+        if (username == null) return Optional.empty();
+        long now = System.nanoTime();
+        Entry entry = entries.get(username);
+        if (entry != null && now - entry.loadedAt() < ttlSeconds * 1_000_000_000L) {
+            return Optional.of(entry.user().toUser());
+        }
+
+        Optional<User> loaded = userRepository.findByUsername(username);
+        if (loaded.isPresent()) {
+            if (entries.size() >= maxEntries) {
+                entries.values().removeIf(e -> now - e.loadedAt() >= ttlSeconds * 1_000_000_000L);
+                if (entries.size() >= maxEntries) {
+                    evictOldest();
+                }
+            }
+            entries.put(username, new Entry(Snapshot.of(loaded.get()), now));
+        } else {
+            entries.remove(username);
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes the cached entry for the given username, if any.
+     *
+     * <p>When called inside a transaction the entry is evicted again after
+     * commit, so a concurrent request cannot re-cache the old row.</p>
+     *
+     * @param username the username to evict
+     */
+    public void evict(String username) {
+        if (username == null) return;
+        entries.remove(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(username);
+                }
+            });
+        }
+    }
+
+    private void evictOldest() {
+        entries.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().loadedAt()))
+                .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+    }
+
+    private record Entry(Snapshot user, long loadedAt) {}
+
+    /**
+     * Immutable copy of the columns of a {@link User} row.
+     */
+    private record Snapshot(Long id, String username, String email, String password,
+                            String firstName, String lastName, String phone,
+                            Boolean isActive, Boolean emailVerified, Boolean twoFactorEnabled,
+                            User.Role role) {
+
+        static Snapshot of(User user) {
+            return new Snapshot(user.getId(), user.getUsername(), user.getEmail(), user.getPassword(),
+                    user.getFirstName(), user.getLastName(), user.getPhone(),
+                    user.getIsActive(), user.getEmailVerified(), user.getTwoFactorEnabled(),
+                    user.getRole());
+        }
+
+        User toUser() {
+            return new User(id, username, email, password, firstName, lastName, phone,
+                    isActive, emailVerified, twoFactorEnabled, role);
+        }
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -96,20 +95,16 @@ public class UserController {
     /**
      * Returns profile information about the currently authenticated user.
      *
-     * <p>The username is taken from the {@link Authentication} object and the
-     * corresponding {@link User} is mapped to a {@link com.csis231.api.user.MeResponse}
-     * DTO that is safe to expose to the frontend.</p>
+     * <p>The current {@link User} is resolved via {@link CurrentUser} and mapped
+     * to a {@link com.csis231.api.user.MeResponse} DTO that is safe to expose
+     * to the frontend.</p>
      *
-     * @param authentication the Spring Security authentication of the current request
+     * @param u the authenticated user of the current request
      * @return a {@link com.csis231.api.user.MeResponse} containing basic user data
      */
 
     @GetMapping("/me")
-    public com.csis231.api.user.MeResponse me(Authentication authentication) {
-        String username = authentication.getName();
-        User u = userService.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found: " + username));
-
+    public com.csis231.api.user.MeResponse me(@CurrentUser User u) {
         return new com.csis231.api.user.MeResponse(
                 u.getId(),
                 u.getUsername(),
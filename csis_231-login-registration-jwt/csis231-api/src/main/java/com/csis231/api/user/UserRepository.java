@@ -1,6 +1,9 @@
 package com.csis231.api.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -50,4 +53,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
 
     boolean existsByEmail(String email);
+
+    /**
+     * Replaces a user's password hash, but only if it still equals
+     * {@code previousHash}, so a concurrent password change is never undone.
+     *
+     * @param username     the user whose hash is replaced
+     * @param previousHash the hash the caller verified against
+     * @param newHash      the replacement hash
+     * @return the number of updated rows (0 or 1)
+     */
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.password = :newHash where u.username = :username and u.password = :previousHash")
+    int replacePasswordHash(@Param("username") String username,
+                            @Param("previousHash") String previousHash,
+                            @Param("newHash") String newHash);
 }
@@ -3,10 +3,12 @@ package com.csis231.api.user;
 import com.csis231.api.common.BadRequestException;
 import com.csis231.api.common.ConflictException;
 import com.csis231.api.common.ResourceNotFoundException;
+import com.csis231.api.jwt.RefreshTokenService;
+import com.csis231.api.jwt.TokenRevocationCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,11 +22,20 @@ import java.util.Optional;
 @Service
 public class UserService {
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationCache revocationCache;
+    private final RefreshTokenService refreshTokenService;
+    private final UserCache userCache;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       TokenRevocationCache revocationCache, RefreshTokenService refreshTokenService,
+                       UserCache userCache) {
         this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.revocationCache = revocationCache;
+        this.refreshTokenService = refreshTokenService;
+        this.userCache = userCache;
     }
 
     /**
@@ -103,12 +114,16 @@ public class UserService {
             throw new BadRequestException("User payload is required");
         }
         return userRepository.findById(id).map(existing -> {
+            // tokens carry username, role and active flag as claims, so any change to them revokes old tokens
+            String previousUsername = existing.getUsername();
+            boolean revokeTokens = false;
             // username change
             if (updated.getUsername() != null && !updated.getUsername().equals(existing.getUsername())) {
                 if (userRepository.existsByUsername(updated.getUsername())) {
                     throw new ConflictException("Username already in use");
                 }
                 existing.setUsername(updated.getUsername());
+                revokeTokens = true;
             }
             // email change
             if (updated.getEmail() != null && !updated.getEmail().equals(existing.getEmail())) {
@@ -120,15 +135,27 @@ public class UserService {
             // password change
             if (updated.getPassword() != null && !updated.getPassword().isBlank()) {
                 existing.setPassword(passwordEncoder.encode(updated.getPassword()));
+                revokeTokens = true;
             }
             // update other properties if present
             if (updated.getFirstName() != null) existing.setFirstName(updated.getFirstName());
             if (updated.getLastName() != null) existing.setLastName(updated.getLastName());
             if (updated.getPhone() != null) existing.setPhone(updated.getPhone());
-            if (updated.getIsActive() != null) existing.setIsActive(updated.getIsActive());
+            if (updated.getIsActive() != null && !updated.getIsActive().equals(existing.getIsActive())) {
+                existing.setIsActive(updated.getIsActive());
+                revokeTokens = true;
+            }
             if (updated.getEmailVerified() != null) existing.setEmailVerified(updated.getEmailVerified());
             if (updated.getTwoFactorEnabled() != null) existing.setTwoFactorEnabled(updated.getTwoFactorEnabled());
-            if (updated.getRole() != null) existing.setRole(updated.getRole());
+            if (updated.getRole() != null && updated.getRole() != existing.getRole()) {
+                existing.setRole(updated.getRole());
+                revokeTokens = true;
+            }
+            if (revokeTokens) {
+                revocationCache.revokeAll(previousUsername);
+                refreshTokenService.revokeAll(existing.getId());
+            }
+            userCache.evict(previousUsername);
             return userRepository.save(existing);
         });
     }
@@ -142,10 +169,12 @@ public class UserService {
      */
     @Transactional
     public boolean deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + id));
+        userRepository.delete(user);
+        revocationCache.revokeAll(user.getUsername());
+        refreshTokenService.revokeAll(user.getId());
+        userCache.evict(user.getUsername());
         return true;
     }
 
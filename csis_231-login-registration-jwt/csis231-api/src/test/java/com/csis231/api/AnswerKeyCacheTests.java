@@ -0,0 +1,80 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.common.BadRequestException;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class})
+@Import(TestMailConfig.class)
+@Transactional
+class AnswerKeyCacheTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private AnswerOptionRepository answerOptionRepository;
+    @Autowired
+    private AnswerKeyCache answerKeyCache;
+
+    @Test
+    void answerKeyIsReusedAndRebuiltAfterQuestionsChange() {
+        User instructor = TestUsers.save(userRepository, "key-instr", User.Role.INSTRUCTOR);
+        Category category = categoryRepository.save(Category.builder().name("Keys").build());
+        Course course = courseService.createCourse(
+                new CourseRequest("Keys", "Desc", category.getId(), true), instructor);
+        Quiz quiz = quizService.createQuiz(new QuizCreateRequest(course.getId(), "Key quiz", null), instructor);
+        QuizQuestion first = quizService.addQuestions(quiz.getId(), List.of(question("Q1")), instructor).get(0);
+
+        AnswerKey key = answerKeyCache.get(quiz.getId());
+        assertThat(key.questionCount()).isEqualTo(1);
+        assertThat(answerKeyCache.get(quiz.getId())).isSameAs(key);
+        assertThat(key.grade(List.of(answer(first, true)))).isEqualTo(1);
+        assertThat(key.grade(List.of(answer(first, false)))).isZero();
+
+        QuizQuestion second = quizService.addQuestions(quiz.getId(), List.of(question("Q2")), instructor).get(0);
+        AnswerKey rebuilt = answerKeyCache.get(quiz.getId());
+        assertThat(rebuilt).isNotSameAs(key);
+        assertThat(rebuilt.questionCount()).isEqualTo(2);
+        assertThat(rebuilt.grade(List.of(answer(first, true), answer(second, true)))).isEqualTo(2);
+
+        assertThatThrownBy(() -> rebuilt.grade(List.of(new QuizSubmissionAnswer(second.getId(), answer(first, true).answerId()))))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> rebuilt.grade(List.of(new QuizSubmissionAnswer(-1L, 1L))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private QuizQuestionRequest question(String text) {
+        return new QuizQuestionRequest(text,
+                List.of(new AnswerCreateRequest("right", true), new AnswerCreateRequest("wrong", false)));
+    }
+
+    private QuizSubmissionAnswer answer(QuizQuestion question, boolean correct) {
+        AnswerOption option = answerOptionRepository.findByQuestion_IdIn(List.of(question.getId())).stream()
+                .filter(o -> Boolean.valueOf(correct).equals(o.getCorrect()))
+                .findFirst()
+                .orElseThrow();
+        return new QuizSubmissionAnswer(question.getId(), option.getId());
+    }
+}
@@ -0,0 +1,200 @@
+package com.csis231.api;
+
+import com.csis231.api.ratelimit.AuthRateLimitFilter;
+import com.csis231.api.ratelimit.TokenBucketLimiter;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = {
+                "auth.rate-limit.ip.capacity=5",
+                "auth.rate-limit.ip.refill-per-minute=1",
+                "auth.rate-limit.account.capacity=2",
+                "auth.rate-limit.account.refill-per-minute=1"
+        })
+@Import(TestMailConfig.class)
+class AuthRateLimitTests {
+
+    @Autowired
+    private FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilter;
+    @Autowired
+    @Qualifier("authIpRateLimiter")
+    private TokenBucketLimiter ipLimiter;
+    @Autowired
+    @Qualifier("authAccountRateLimiter")
+    private TokenBucketLimiter accountLimiter;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void resetBuckets() {
+        ipLimiter.reset();
+        accountLimiter.reset();
+    }
+
+    @Test
+    void bucketRefillsAtTheConfiguredRate() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketLimiter limiter = new TokenBucketLimiter("test", 3, 60, 1000, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("k")).isZero();
+        }
+        long wait = limiter.tryAcquire("k");
+        assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+        clock.addAndGet(wait);
+        assertThat(limiter.tryAcquire("k")).isZero();
+        assertThat(limiter.tryAcquire("k")).isPositive();
+        assertThat(limiter.tryAcquire("other")).isZero();
+    }
+
+    @Test
+    void trackedKeysStayBoundedAndRefilledBucketsAreEvictedFirst() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketLimiter limiter = new TokenBucketLimiter("test", 1, 60, 160, clock::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+        assertThat(limiter.trackedKeys()).isLessThanOrEqualTo(160);
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertThat(limiter.tryAcquire("fresh")).isZero();
+        assertThat(limiter.trackedKeys()).isLessThanOrEqualTo(160);
+    }
+
+    @Test
+    void sameAccountIsLimitedAcrossAddressesAndBodyStillReachesTheController() throws Exception {
+        String body = "{\"username\":\"Victim\",\"password\":\"guess\"}";
+
+        MockFilterChain first = new MockFilterChain();
+        MockHttpServletResponse ok = call(login("10.0.0.1", body), first);
+        assertThat(ok.getStatus()).isEqualTo(200);
+        String replayed = new String(first.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(replayed).isEqualTo(body);
+
+        assertThat(call(login("10.0.0.2", body.replace("Victim", " victim ")), new MockFilterChain()).getStatus())
+                .isEqualTo(200);
+
+        MockHttpServletResponse limited = call(login("10.0.0.3", body), new MockFilterChain());
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isNotNull();
+        assertThat(Long.parseLong(limited.getHeader("Retry-After"))).isPositive();
+        assertThat(limited.getContentAsString()).contains("TOO_MANY_REQUESTS");
+
+        assertThat(call(login("10.0.0.3", body.replace("Victim", "someone-else")), new MockFilterChain()).getStatus())
+                .isEqualTo(200);
+        assertThat(meterRegistry.get("auth.rate_limit.requests")
+                .tag("scope", "account").tag("outcome", "rejected").counter().count()).isPositive();
+    }
+
+    @Test
+    void usernameAndEmailOfOneUserShareABucket() throws Exception {
+        User user = TestUsers.saveStudent(userRepository, "rl-both");
+        try {
+            assertThat(call(login("10.0.4.1", "{\"username\":\"rl-both\"}"), new MockFilterChain()).getStatus())
+                    .isEqualTo(200);
+            assertThat(call(login("10.0.4.2", "{\"username\":\"rl-both@example.com\"}"), new MockFilterChain())
+                    .getStatus()).isEqualTo(200);
+            assertThat(call(login("10.0.4.3", "{\"email\":\"rl-both@example.com\"}"), new MockFilterChain())
+                    .getStatus()).isEqualTo(429);
+        } finally {
+            userRepository.delete(user);
+        }
+    }
+
+    @Test
+    void oversizedBodiesAreRejectedBeforeReachingTheController() throws Exception {
+        String body = "{\"username\":\"big\",\"password\":\"" + "x".repeat(9 * 1024) + "\"}";
+        MockFilterChain chain = new MockFilterChain();
+
+        MockHttpServletResponse response = call(login("10.0.5.1", body), chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(response.getContentAsString()).contains("PAYLOAD_TOO_LARGE");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void singleAddressIsLimitedAcrossAccounts() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            String body = "{\"username\":\"user-" + i + "\",\"password\":\"x\"}";
+            assertThat(call(login("10.0.1.1", body), new MockFilterChain()).getStatus()).isEqualTo(200);
+        }
+        MockHttpServletResponse limited = call(login("10.0.1.1", "{\"username\":\"user-9\"}"), new MockFilterChain());
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(call(login("10.0.1.2", "{\"username\":\"user-9\"}"), new MockFilterChain()).getStatus())
+                .isEqualTo(200);
+    }
+
+    @Test
+    void spoofedForwardedForEntriesDoNotEscapeTheAddressBucket() throws Exception {
+        AuthRateLimitFilter filter = new AuthRateLimitFilter(ipLimiter, accountLimiter,
+                id -> Optional.empty(), objectMapper, meterRegistry, 1);
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = login("10.0.3.1", "{\"username\":\"proxied-" + i + "\"}");
+            request.addHeader("X-Forwarded-For", "192.0.2." + i + ", 203.0.113.7");
+            assertThat(call(filter, request, new MockFilterChain()).getStatus()).isEqualTo(200);
+        }
+        MockHttpServletRequest spoofed = login("10.0.3.1", "{\"username\":\"proxied-9\"}");
+        spoofed.addHeader("X-Forwarded-For", "192.0.2.99, 203.0.113.7");
+        assertThat(call(filter, spoofed, new MockFilterChain()).getStatus()).isEqualTo(429);
+
+        MockHttpServletRequest other = login("10.0.3.1", "{\"username\":\"proxied-9\"}");
+        other.addHeader("X-Forwarded-For", "203.0.113.8");
+        assertThat(call(filter, other, new MockFilterChain()).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void endpointsOutsideAuthAreNotLimited() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+            request.setRemoteAddr("10.0.2.1");
+            assertThat(call(request, new MockFilterChain()).getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse call(MockHttpServletRequest request, MockFilterChain chain) throws Exception {
+        return call(authRateLimitFilter.getFilter(), request, chain);
+    }
+
+    private static MockHttpServletResponse call(AuthRateLimitFilter filter, MockHttpServletRequest request,
+                                                MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest login(String ip, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,91 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.common.BadRequestException;
+import com.csis231.api.common.CursorPage;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseDto;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class})
+@Import(TestMailConfig.class)
+@Transactional
+class CourseCursorPaginationTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+
+    @Test
+    void cursorWalksEveryPublishedCourseOnceNewestFirst() {
+        User instructor = TestUsers.save(userRepository, "cursor-instr", User.Role.INSTRUCTOR);
+        Category category = categoryRepository.save(Category.builder().name("Cursor").build());
+        List<Course> published = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            published.add(courseService.createCourse(
+                    new CourseRequest("Cursor course " + i, "Desc", category.getId(), true), instructor));
+        }
+        courseService.createCourse(new CourseRequest("Cursor draft", "Desc", category.getId(), false), instructor);
+
+        List<Long> seen = new ArrayList<>();
+        String after = null;
+        int slices = 0;
+        do {
+            CursorPage<CourseDto> page = courseService.listPublishedAfter(category.getId(), null, after, 3, false);
+            assertThat(page.content()).hasSizeLessThanOrEqualTo(3);
+            assertThat(page.totalElements()).isNull();
+            page.content().forEach(c -> seen.add(c.id()));
+            after = page.nextCursor();
+            assertThat(page.hasMore()).isEqualTo(after != null);
+            slices++;
+        } while (after != null);
+
+        List<Long> expected = published.stream()
+                .sorted(Comparator.comparing(Course::getCreatedAt).thenComparing(Course::getId).reversed())
+                .map(Course::getId)
+                .toList();
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(slices).isEqualTo(3);
+    }
+
+    @Test
+    void totalIsOnlyCountedWhenRequested() {
+        User instructor = TestUsers.save(userRepository, "cursor-total", User.Role.INSTRUCTOR);
+        Category category = categoryRepository.save(Category.builder().name("Cursor total").build());
+        for (int i = 0; i < 4; i++) {
+            courseService.createCourse(new CourseRequest("Algebra " + i, "Desc", category.getId(), true), instructor);
+        }
+        courseService.createCourse(new CourseRequest("Biology", "Desc", category.getId(), true), instructor);
+
+        CursorPage<CourseDto> page = courseService.listPublishedAfter(category.getId(), "algebra", null, 2, true);
+
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.totalElements()).isEqualTo(4L);
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> courseService.listPublishedAfter(null, null, "not-a-cursor", 5, false))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
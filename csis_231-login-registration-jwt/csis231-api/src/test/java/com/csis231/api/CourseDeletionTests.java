@@ -0,0 +1,135 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRepository;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.coursematerial.CourseMaterialRepository;
+import com.csis231.api.coursematerial.CourseMaterialRequest;
+import com.csis231.api.coursematerial.CourseMaterialService;
+import com.csis231.api.enrollment.CourseEnrollmentRepository;
+import com.csis231.api.enrollment.EnrollmentRequest;
+import com.csis231.api.enrollment.EnrollmentService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = "bulk-delete.chunk-size=3")
+@Import(TestMailConfig.class)
+@Transactional
+class CourseDeletionTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CourseMaterialService materialService;
+    @Autowired
+    private CourseMaterialRepository materialRepository;
+    @Autowired
+    private EnrollmentService enrollmentService;
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuizQuestionRepository questionRepository;
+    @Autowired
+    private AnswerOptionRepository answerOptionRepository;
+    @Autowired
+    private QuizResultRepository resultRepository;
+    @Autowired
+    private QuizStatsRepository statsRepository;
+
+    @Test
+    void deletingCourseRemovesQuizzesMaterialsAndEnrollmentsInChunks() {
+        User instructor = TestUsers.save(userRepository, "delete-instr", User.Role.INSTRUCTOR);
+        Category category = categoryRepository.save(Category.builder().name("Delete").build());
+        Course course = courseService.createCourse(
+                new CourseRequest("Doomed", "Desc", category.getId(), true), instructor);
+        Course survivor = courseService.createCourse(
+                new CourseRequest("Survivor", "Desc", category.getId(), true), instructor);
+        Quiz kept = quizService.createQuiz(new QuizCreateRequest(survivor.getId(), "Kept", null), instructor);
+
+        List<Long> quizIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Quiz quiz = quizService.createQuiz(new QuizCreateRequest(course.getId(), "Quiz " + i, null), instructor);
+            quizService.addQuestions(quiz.getId(), List.of(
+                    new QuizQuestionRequest("Q1", List.of(new AnswerCreateRequest("a", true), new AnswerCreateRequest("b", false))),
+                    new QuizQuestionRequest("Q2", List.of(new AnswerCreateRequest("a", true), new AnswerCreateRequest("b", false)))
+            ), instructor);
+            quizIds.add(quiz.getId());
+        }
+        for (int i = 0; i < 7; i++) {
+            User student = TestUsers.save(userRepository, "delete-student-" + i, User.Role.STUDENT);
+            enrollmentService.enroll(student, new EnrollmentRequest(null, course.getId()));
+            for (Long quizId : quizIds) {
+                resultRepository.save(QuizResult.builder()
+                        .quiz(quizRepository.getReferenceById(quizId)).student(student)
+                        .score(1).totalQuestions(2).build());
+            }
+        }
+        materialService.addMaterial(course.getId(), new CourseMaterialRequest("Slides", "PDF", null, null), instructor);
+
+        courseService.deleteCourse(course.getId(), instructor);
+
+        assertThat(courseRepository.findById(course.getId())).isEmpty();
+        assertThat(quizRepository.findIdsByCourseId(course.getId())).isEmpty();
+        assertThat(materialRepository.findByCourse_Id(course.getId())).isEmpty();
+        assertThat(enrollmentRepository.countByCourse_Id(course.getId())).isZero();
+        for (Long quizId : quizIds) {
+            assertThat(questionRepository.findByQuiz_Id(quizId)).isEmpty();
+            assertThat(answerOptionRepository.findIdsByQuizId(quizId, PageRequest.of(0, 1))).isEmpty();
+            assertThat(resultRepository.findByQuiz_Id(quizId)).isEmpty();
+            assertThat(statsRepository.findById(quizId)).isEmpty();
+        }
+        assertThat(quizRepository.findById(kept.getId())).isPresent();
+        assertThat(courseRepository.findById(survivor.getId())).isPresent();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void deletingCourseOutsideATransactionCommitsChunkByChunk() {
+        User instructor = TestUsers.save(userRepository, "commit-delete-instr", User.Role.INSTRUCTOR);
+        Category category = categoryRepository.save(Category.builder().name("Commit delete").build());
+        Course course = courseService.createCourse(
+                new CourseRequest("Committed", "Desc", category.getId(), true), instructor);
+        Quiz quiz = quizService.createQuiz(new QuizCreateRequest(course.getId(), "Quiz", null), instructor);
+        quizService.addQuestions(quiz.getId(), List.of(
+                new QuizQuestionRequest("Q1", List.of(new AnswerCreateRequest("a", true), new AnswerCreateRequest("b", false)))
+        ), instructor);
+        for (int i = 0; i < 7; i++) {
+            User student = TestUsers.save(userRepository, "commit-delete-student-" + i, User.Role.STUDENT);
+            enrollmentService.enroll(student, new EnrollmentRequest(null, course.getId()));
+        }
+
+        courseService.deleteCourse(course.getId(), instructor);
+
+        assertThat(courseRepository.findById(course.getId())).isEmpty();
+        assertThat(quizRepository.findById(quiz.getId())).isEmpty();
+        assertThat(enrollmentRepository.countByCourse_Id(course.getId())).isZero();
+        assertThat(questionRepository.findByQuiz_Id(quiz.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseDetailDto;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+                "otp.outbox.dispatcher.enabled=false"})
+@Import(TestMailConfig.class)
+@Transactional
+class CourseDetailQueryCountTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void courseDetailUsesFixedNumberOfQueriesRegardlessOfQuizCount() {
+        User instructor = TestUsers.save(userRepository, "detail-instr", User.Role.INSTRUCTOR);
+        Category category = categoryRepository.save(Category.builder().name("Detail").build());
+
+        Course small = createCourseWithQuizzes("Small course", category, instructor, 1);
+        Course large = createCourseWithQuizzes("Large course", category, instructor, 12);
+
+        long smallQueries = countQueries(() -> courseService.getCourseDetail(small.getId(), instructor));
+        long largeQueries = countQueries(() -> courseService.getCourseDetail(large.getId(), instructor));
+
+        assertThat(largeQueries).isEqualTo(smallQueries);
+        assertThat(largeQueries).isLessThanOrEqualTo(4);
+
+        entityManager.clear();
+        CourseDetailDto detail = courseService.getCourseDetail(large.getId(), instructor);
+        assertThat(detail.quizzes()).hasSize(12);
+        assertThat(detail.quizzes()).allSatisfy(q -> assertThat(q.questionCount()).isEqualTo(3));
+        assertThat(detail.instructorName()).isEqualTo("detail-instr");
+    }
+
+    private Course createCourseWithQuizzes(String title, Category category, User instructor, int quizCount) {
+        Course course = courseService.createCourse(
+                new CourseRequest(title, "Desc", category.getId(), true), instructor);
+        for (int i = 0; i < quizCount; i++) {
+            Quiz quiz = quizService.createQuiz(new QuizCreateRequest(course.getId(), "Quiz " + i, null), instructor);
+            List<QuizQuestionRequest> questions = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                questions.add(new QuizQuestionRequest("Question " + j,
+                        List.of(new AnswerCreateRequest("yes", true), new AnswerCreateRequest("no", false))));
+            }
+            quizService.addQuestions(quiz.getId(), questions, instructor);
+        }
+        return course;
+    }
+
+    private long countQueries(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
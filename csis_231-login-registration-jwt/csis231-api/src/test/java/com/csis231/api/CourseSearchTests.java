@@ -0,0 +1,98 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseSearchHit;
+import com.csis231.api.course.CourseSearchResponse;
+import com.csis231.api.course.CourseSearchService;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class})
+@Import(TestMailConfig.class)
+@Transactional
+class CourseSearchTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private CourseSearchService courseSearchService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void prefixQueryRanksTitleMatchesAboveDescriptionMatches() {
+        User instructor = TestUsers.save(userRepository, "search-instr", User.Role.INSTRUCTOR);
+        Category category = categoryRepository.save(Category.builder().name("Search").build());
+        Course described = courseService.createCourse(
+                new CourseRequest("Linear systems", "Covers zyxquantum mechanics basics", category.getId(), true), instructor);
+        Course titled = courseService.createCourse(
+                new CourseRequest("Zyxquantum computing", "Qubits and gates", category.getId(), true), instructor);
+        courseService.createCourse(
+                new CourseRequest("Zyxquantum drafts", "Unpublished", category.getId(), false), instructor);
+
+        CourseSearchResponse response = courseSearchService.search("zyxquan", null, 10);
+
+        assertThat(response.engine()).isEqualTo("memory");
+        assertThat(response.results()).extracting(hit -> hit.course().id())
+                .containsExactly(titled.getId(), described.getId());
+        assertThat(response.results().get(0).rank()).isGreaterThan(response.results().get(1).rank());
+        assertThat(response.tookMillis()).isGreaterThanOrEqualTo(response.indexMillis());
+        assertThat(meterRegistry.find("course.search").tag("engine", "memory").timer()).isNotNull();
+    }
+
+    @Test
+    void everyTermMustMatchAndCategoryFilters() {
+        User instructor = TestUsers.save(userRepository, "search-terms", User.Role.INSTRUCTOR);
+        Category math = categoryRepository.save(Category.builder().name("Search math").build());
+        Category art = categoryRepository.save(Category.builder().name("Search art").build());
+        Course both = courseService.createCourse(
+                new CourseRequest("Qwvhistory of qwvpainting", "Desc", art.getId(), true), instructor);
+        courseService.createCourse(new CourseRequest("Qwvhistory of numbers", "Desc", math.getId(), true), instructor);
+
+        assertThat(courseSearchService.search("qwvhist qwvpaint", null, 10).results())
+                .extracting(hit -> hit.course().id())
+                .containsExactly(both.getId());
+        assertThat(courseSearchService.search("qwvhistory", math.getId(), 10).results())
+                .extracting(hit -> hit.course().title())
+                .containsExactly("Qwvhistory of numbers");
+    }
+
+    @Test
+    void updatesAndListFiltersUseTheIndex() {
+        User instructor = TestUsers.save(userRepository, "search-update", User.Role.INSTRUCTOR);
+        Category category = categoryRepository.save(Category.builder().name("Search update").build());
+        Course course = courseService.createCourse(
+                new CourseRequest("Pjkorigami basics", "Desc", category.getId(), true), instructor);
+
+        courseService.updateCourse(course.getId(),
+                new CourseRequest("Pjkcalligraphy basics", null, null, null), instructor);
+
+        assertThat(courseSearchService.search("pjkorigami", null, 10).results()).isEmpty();
+        List<CourseSearchHit> hits = courseSearchService.search("pjkcalli", null, 10).results();
+        assertThat(hits).extracting(hit -> hit.course().id()).containsExactly(course.getId());
+
+        assertThat(courseService.listPublished(category.getId(), "pjkcall", PageRequest.of(0, 10)).getContent())
+                .extracting(Course::getId)
+                .containsExactly(course.getId());
+        assertThat(courseService.listPublishedAfter(category.getId(), "pjkori", null, 10, false).content()).isEmpty();
+    }
+}
@@ -0,0 +1,90 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.dashboard.CourseStatsDto;
+import com.csis231.api.dashboard.DashboardController;
+import com.csis231.api.dashboard.InstructorDashboardResponse;
+import com.csis231.api.enrollment.EnrollmentRequest;
+import com.csis231.api.enrollment.EnrollmentService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class})
+@Import(TestMailConfig.class)
+@Transactional
+class InstructorDashboardStatsTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private EnrollmentService enrollmentService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizResultRepository resultRepository;
+    @Autowired
+    private QuizStatsService quizStatsService;
+    @Autowired
+    private DashboardController dashboardController;
+
+    @Test
+    void instructorDashboardReturnsAggregatedStatsPerPage() {
+        User instructor = TestUsers.save(userRepository, "stats-instr", User.Role.INSTRUCTOR);
+        User student = TestUsers.save(userRepository, "stats-student", User.Role.STUDENT);
+        Category category = categoryRepository.save(Category.builder().name("Stats").build());
+
+        Course graded = courseService.createCourse(
+                new CourseRequest("Graded", "Desc", category.getId(), true), instructor);
+        Quiz first = quizService.createQuiz(new QuizCreateRequest(graded.getId(), "First", null), instructor);
+        Quiz second = quizService.createQuiz(new QuizCreateRequest(graded.getId(), "Second", null), instructor);
+        enrollmentService.enroll(student, new EnrollmentRequest(null, graded.getId()));
+        resultRepository.save(QuizResult.builder().quiz(first).student(student).score(3).totalQuestions(4).build());
+        resultRepository.save(QuizResult.builder().quiz(second).student(student).score(1).totalQuestions(4).build());
+
+        // results inserted directly bypass submitQuiz, so backfill the rollup
+        quizStatsService.rebuild(List.of(first.getId(), second.getId()));
+
+        Course empty = courseService.createCourse(
+                new CourseRequest("Empty", "Desc", category.getId(), true), instructor);
+
+        InstructorDashboardResponse firstPage = dashboardController.instructorDashboard(0, 1, instructor);
+        assertThat(firstPage.courseCount()).isEqualTo(2);
+        assertThat(firstPage.totalEnrollments()).isEqualTo(1);
+        assertThat(firstPage.totalPages()).isEqualTo(2);
+        assertThat(firstPage.latestCourseTitle()).isEqualTo("Empty");
+        assertThat(firstPage.courseStats()).hasSize(1);
+        CourseStatsDto gradedStats = firstPage.courseStats().get(0);
+        assertThat(gradedStats.courseId()).isEqualTo(graded.getId());
+        assertThat(gradedStats.enrollmentCount()).isEqualTo(1);
+        assertThat(gradedStats.quizCount()).isEqualTo(2);
+        assertThat(gradedStats.averageScore()).isEqualTo(50.0);
+
+        InstructorDashboardResponse secondPage = dashboardController.instructorDashboard(1, 1, instructor);
+        assertThat(secondPage.courses()).extracting("id").containsExactly(empty.getId());
+        CourseStatsDto emptyStats = secondPage.courseStats().get(0);
+        assertThat(emptyStats.enrollmentCount()).isZero();
+        assertThat(emptyStats.quizCount()).isZero();
+        assertThat(emptyStats.averageScore()).isNull();
+
+        assertThat(dashboardController.instructorDashboard(0, 10_000, instructor).size()).isEqualTo(200);
+        assertThat(dashboardController.instructorDashboard(0, 0, instructor).size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,120 @@
+package com.csis231.api;
+
+import com.csis231.api.otp.OtpOutboxDispatcher;
+import com.csis231.api.otp.OtpOutboxMessage;
+import com.csis231.api.otp.OtpOutboxRepository;
+import com.csis231.api.otp.OtpPurposes;
+import com.csis231.api.otp.OtpService;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = {"mail.from=noreply@test.local", "otp.outbox.dispatcher.enabled=false",
+                "otp.outbox.messages-per-session=2"})
+@Import(TestMailConfig.class)
+@Transactional
+class OtpOutboxTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OtpService otpService;
+    @Autowired
+    private OtpOutboxRepository outboxRepository;
+    @Autowired
+    private OtpOutboxDispatcher dispatcher;
+    @Autowired
+    private JavaMailSender mailSender;
+
+    private TestMailConfig.RecordingMailSender sink;
+
+    @BeforeEach
+    void resetSink() {
+        sink = (TestMailConfig.RecordingMailSender) mailSender;
+        sink.reset();
+    }
+
+    @Test
+    void otpIsQueuedInTheTransactionAndDeliveredByTheDispatcher() throws Exception {
+        User user = TestUsers.saveStudent(userRepository, "outbox-user");
+
+        String code = otpService.createAndSend(user, OtpPurposes.LOGIN_2FA);
+
+        assertThat(sink.messages()).isEmpty();
+        OtpOutboxMessage queued = single(user);
+        assertThat(queued.getStatus()).isEqualTo(OtpOutboxMessage.Status.PENDING);
+        assertThat(queued.getCode()).isEqualTo(code);
+
+        assertThat(dispatcher.dispatchDue()).isEqualTo(1);
+
+        assertThat(sink.messages()).hasSize(1);
+        MimeMessage sent = sink.messages().get(0);
+        assertThat(sent.getAllRecipients()[0].toString()).isEqualTo(user.getEmail());
+        assertThat(sent.getContent().toString()).contains(code);
+        OtpOutboxMessage delivered = single(user);
+        assertThat(delivered.getStatus()).isEqualTo(OtpOutboxMessage.Status.SENT);
+        assertThat(delivered.getSentAt()).isNotNull();
+        assertThat(delivered.getCode()).isNull();
+    }
+
+    @Test
+    void messagesAreBatchedPerSmtpSession() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User user = TestUsers.saveStudent(userRepository, "outbox-batch-" + i);
+            users.add(user);
+            otpService.createAndSend(user, OtpPurposes.PASSWORD_RESET);
+        }
+
+        dispatcher.dispatchDue();
+
+        assertThat(sink.messages()).hasSize(5);
+        assertThat(sink.sessions()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(users).allSatisfy(u -> assertThat(single(u).getStatus()).isEqualTo(OtpOutboxMessage.Status.SENT));
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithBackoff() {
+        User user = TestUsers.saveStudent(userRepository, "outbox-retry");
+        otpService.createAndSend(user, OtpPurposes.LOGIN_2FA);
+        sink.failNextSessions(1);
+
+        dispatcher.dispatchDue();
+
+        OtpOutboxMessage pending = single(user);
+        assertThat(pending.getStatus()).isEqualTo(OtpOutboxMessage.Status.PENDING);
+        assertThat(pending.getAttempts()).isEqualTo(1);
+        assertThat(pending.getLastError()).contains("Simulated SMTP failure");
+        assertThat(pending.getNextAttemptAt()).isAfter(Instant.now());
+        assertThat(sink.messages()).isEmpty();
+
+        pending.setNextAttemptAt(Instant.now().minusSeconds(1));
+        dispatcher.dispatchDue();
+
+        assertThat(sink.messages()).hasSize(1);
+        assertThat(single(user).getStatus()).isEqualTo(OtpOutboxMessage.Status.SENT);
+        assertThat(single(user).getAttempts()).isEqualTo(2);
+    }
+
+    private OtpOutboxMessage single(User user) {
+        List<OtpOutboxMessage> rows = outboxRepository.findAll().stream()
+                .filter(m -> m.getUserId().equals(user.getId()))
+                .toList();
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+}
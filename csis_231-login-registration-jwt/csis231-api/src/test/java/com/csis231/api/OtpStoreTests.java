@@ -0,0 +1,133 @@
+package com.csis231.api;
+
+import com.csis231.api.otp.InMemoryOtpStore;
+import com.csis231.api.otp.OtpCode;
+import com.csis231.api.otp.OtpCodeRepository;
+import com.csis231.api.otp.OtpPurposes;
+import com.csis231.api.otp.OtpRequiredException;
+import com.csis231.api.otp.OtpService;
+import com.csis231.api.otp.OtpStore;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = "otp.max-attempts=3")
+@Import(TestMailConfig.class)
+@Transactional
+class OtpStoreTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OtpService otpService;
+    @Autowired
+    private OtpStore otpStore;
+    @Autowired
+    private OtpCodeRepository codeRepository;
+
+    @Test
+    void reissuingInvalidatesThePreviousCodeAndCodesAreSingleUse() {
+        User user = TestUsers.saveStudent(userRepository, "otp-reissue");
+        String first = otpService.createAndSend(user, OtpPurposes.LOGIN_2FA);
+        String second = otpService.createAndSend(user, OtpPurposes.LOGIN_2FA);
+
+        if (!first.equals(second)) {
+            assertThatThrownBy(() -> otpService.verifyOtpOrThrow(user, OtpPurposes.LOGIN_2FA, first))
+                    .isInstanceOf(OtpRequiredException.class);
+        }
+        otpService.verifyOtpOrThrow(user, OtpPurposes.LOGIN_2FA, second);
+        assertThatThrownBy(() -> otpService.verifyOtpOrThrow(user, OtpPurposes.LOGIN_2FA, second))
+                .isInstanceOf(OtpRequiredException.class);
+    }
+
+    @Test
+    void codeIsBurnedAfterTooManyWrongAttempts() {
+        User user = TestUsers.saveStudent(userRepository, "otp-burn");
+        String code = otpService.createAndSend(user, OtpPurposes.PASSWORD_RESET);
+        String wrong = code.equals("000000") ? "111111" : "000000";
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> otpService.verifyOtpOrThrow(user, OtpPurposes.PASSWORD_RESET, wrong))
+                    .isInstanceOf(OtpRequiredException.class);
+        }
+
+        assertThatThrownBy(() -> otpService.verifyOtpOrThrow(user, OtpPurposes.PASSWORD_RESET, code))
+                .isInstanceOf(OtpRequiredException.class);
+    }
+
+    @Test
+    void conditionalUpdatesRecheckTheStoredRow() {
+        User user = TestUsers.saveStudent(userRepository, "otp-recheck");
+        Instant now = Instant.now();
+        OtpCode code = codeRepository.save(OtpCode.builder()
+                .user(user).code("123456").purpose(OtpPurposes.LOGIN_2FA)
+                .expiresAt(now.plusSeconds(300)).build());
+
+        assertThat(codeRepository.recordFailedAttempt(code.getId(), 2, now)).isEqualTo(1);
+        assertThat(codeRepository.recordFailedAttempt(code.getId(), 2, now)).isEqualTo(1);
+        assertThat(codeRepository.recordFailedAttempt(code.getId(), 2, now)).isZero();
+        assertThat(codeRepository.consumeIfActive(code.getId(), 2, now)).isZero();
+
+        OtpCode fresh = codeRepository.save(OtpCode.builder()
+                .user(user).code("654321").purpose(OtpPurposes.PASSWORD_RESET)
+                .expiresAt(now.plusSeconds(300)).build());
+        assertThat(codeRepository.consumeIfActive(fresh.getId(), 2, now)).isEqualTo(1);
+        assertThat(codeRepository.consumeIfActive(fresh.getId(), 2, now)).isZero();
+    }
+
+    @Test
+    void purgeRemovesOnlyExpiredRows() {
+        User user = TestUsers.saveStudent(userRepository, "otp-purge");
+        Instant now = Instant.now();
+        OtpCode expired = codeRepository.save(OtpCode.builder()
+                .user(user).code("123456").purpose(OtpPurposes.LOGIN_2FA)
+                .expiresAt(now.minusSeconds(60)).build());
+        otpService.createAndSend(user, OtpPurposes.PASSWORD_RESET);
+
+        assertThat(otpStore.purgeExpired(now)).isGreaterThanOrEqualTo(1);
+
+        assertThat(codeRepository.findById(expired.getId())).isEmpty();
+        assertThat(codeRepository.findTopByUser_IdAndPurposeOrderByIdDesc(user.getId(), OtpPurposes.PASSWORD_RESET))
+                .isPresent();
+    }
+
+    @Test
+    void inMemoryStoreEnforcesExpiryAttemptsAndSingleUse() {
+        InMemoryOtpStore store = new InMemoryOtpStore();
+        User user = User.builder().id(42L).username("mem").build();
+        Instant now = Instant.now();
+
+        store.issue(user, OtpPurposes.LOGIN_2FA, "111111", now.plusSeconds(300));
+        store.issue(user, OtpPurposes.LOGIN_2FA, "222222", now.plusSeconds(300));
+        assertThat(store.consume(user, OtpPurposes.LOGIN_2FA, "111111", 5, now)).isFalse();
+        assertThat(store.consume(user, OtpPurposes.LOGIN_2FA, "222222", 5, now)).isTrue();
+        assertThat(store.consume(user, OtpPurposes.LOGIN_2FA, "222222", 5, now)).isFalse();
+
+        store.issue(user, OtpPurposes.PASSWORD_RESET, "333333", now.plusSeconds(300));
+        assertThat(store.consume(user, OtpPurposes.PASSWORD_RESET, "000000", 2, now)).isFalse();
+        assertThat(store.consume(user, OtpPurposes.PASSWORD_RESET, "000000", 2, now)).isFalse();
+        assertThat(store.consume(user, OtpPurposes.PASSWORD_RESET, "333333", 2, now)).isFalse();
+
+        store.issue(user, OtpPurposes.PASSWORD_RESET, "666666", now.plusSeconds(300));
+        assertThat(store.consume(user, OtpPurposes.PASSWORD_RESET, "000000", 5, now)).isFalse();
+        assertThat(store.consume(user, OtpPurposes.PASSWORD_RESET, "000000", 5, now)).isFalse();
+        assertThat(store.consume(user, OtpPurposes.PASSWORD_RESET, "666666", 2, now)).isFalse();
+        assertThat(store.consume(user, OtpPurposes.PASSWORD_RESET, "666666", 5, now)).isFalse();
+
+        store.issue(user, OtpPurposes.LOGIN_2FA, "444444", now.plusSeconds(1));
+        assertThat(store.consume(user, OtpPurposes.LOGIN_2FA, "444444", 5, now.plusSeconds(2))).isFalse();
+        store.issue(user, OtpPurposes.PASSWORD_RESET, "555555", now.minusSeconds(1));
+        assertThat(store.purgeExpired(now)).isEqualTo(1);
+        assertThat(store.size()).isZero();
+    }
+}
@@ -0,0 +1,73 @@
+package com.csis231.api;
+
+import com.csis231.api.auth.BoundedPasswordEncoder;
+import com.csis231.api.common.ServiceUnavailableException;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = "auth.bcrypt.cost=5")
+@Import(TestMailConfig.class)
+@Transactional
+class PasswordHashingTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Test
+    void sharedEncoderUsesConfiguredCost() {
+        assertThat(passwordEncoder).isInstanceOf(BoundedPasswordEncoder.class);
+        String hash = passwordEncoder.encode("secret-1");
+
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches("secret-1", hash)).isTrue();
+        assertThat(passwordEncoder.matches("secret-2", hash)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(hash)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("x"))).isTrue();
+    }
+
+    @Test
+    void loginRehashesPasswordStoredWithAnotherCost() {
+        String oldHash = new BCryptPasswordEncoder(4).encode("secret-1");
+        userRepository.save(User.builder()
+                .username("rehash-user")
+                .email("rehash-user@example.com")
+                .password(oldHash)
+                .role(User.Role.STUDENT)
+                .build());
+
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("rehash-user", "secret-1"));
+
+        String stored = userRepository.findByUsername("rehash-user").orElseThrow().getPassword();
+        assertThat(stored).isNotEqualTo(oldHash).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches("secret-1", stored)).isTrue();
+    }
+
+    @Test
+    void callersGiveUpInsteadOfWaitingOnASaturatedPool() {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(12, 1, 1, Duration.ZERO,
+                new SimpleMeterRegistry())) {
+            assertThatThrownBy(() -> encoder.encode("secret"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.enrollment.EnrollmentRequest;
+import com.csis231.api.enrollment.EnrollmentService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class})
+@Import(TestMailConfig.class)
+@Transactional
+class PendingQuizzesTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private EnrollmentService enrollmentService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizResultRepository resultRepository;
+
+    @Test
+    void pendingQuizzesExcludeSubmittedAndUnenrolledCourses() {
+        User instructor = TestUsers.save(userRepository, "pending-instr", User.Role.INSTRUCTOR);
+        User student = TestUsers.save(userRepository, "pending-student", User.Role.STUDENT);
+        Category category = categoryRepository.save(Category.builder().name("Pending").build());
+        Course enrolled = courseService.createCourse(new CourseRequest("Enrolled course", "Desc", category.getId(), true), instructor);
+        Course other = courseService.createCourse(new CourseRequest("Other course", "Desc", category.getId(), true), instructor);
+        enrollmentService.enroll(student, new EnrollmentRequest(null, enrolled.getId()));
+
+        Quiz done = createQuiz(enrolled, instructor, "Done");
+        Quiz open = createQuiz(enrolled, instructor, "Open");
+        createQuiz(other, instructor, "Elsewhere");
+        resultRepository.save(QuizResult.builder().quiz(done).student(student).score(1).totalQuestions(1).build());
+
+        List<PendingQuizDto> pending = quizService.pendingQuizzesFor(student);
+
+        assertThat(pending).extracting(PendingQuizDto::id).containsExactly(open.getId());
+        assertThat(pending.get(0).courseTitle()).isEqualTo("Enrolled course");
+        assertThat(pending.get(0).questionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void myResultsReturnsOnlyTheLatestOwnResultPerQuiz() {
+        User instructor = TestUsers.save(userRepository, "results-instr", User.Role.INSTRUCTOR);
+        User student = TestUsers.save(userRepository, "results-student", User.Role.STUDENT);
+        User classmate = TestUsers.save(userRepository, "results-classmate", User.Role.STUDENT);
+        Category category = categoryRepository.save(Category.builder().name("Results").build());
+        Course course = courseService.createCourse(new CourseRequest("Results course", "Desc", category.getId(), true), instructor);
+        Quiz first = createQuiz(course, instructor, "First");
+        Quiz second = createQuiz(course, instructor, "Second");
+        Quiz untouched = createQuiz(course, instructor, "Untouched");
+
+        resultRepository.save(QuizResult.builder().quiz(first).student(student).score(0).totalQuestions(1).build());
+        QuizResult latest = resultRepository.save(QuizResult.builder().quiz(first).student(student).score(1).totalQuestions(1).build());
+        resultRepository.save(QuizResult.builder().quiz(second).student(classmate).score(1).totalQuestions(1).build());
+        resultRepository.flush();
+
+        List<QuizResultDto> results = quizService.latestResultsForUser(
+                List.of(first.getId(), second.getId(), untouched.getId()), student);
+
+        assertThat(results).extracting(QuizResultDto::id).containsExactly(latest.getId());
+        assertThat(results.get(0).studentUserId()).isEqualTo(student.getId());
+        assertThat(quizService.latestResultsForUser(List.of(), student)).isEmpty();
+    }
+
+    private Quiz createQuiz(Course course, User instructor, String name) {
+        Quiz quiz = quizService.createQuiz(new QuizCreateRequest(course.getId(), name, null), instructor);
+        quizService.addQuestions(quiz.getId(), List.of(
+                new QuizQuestionRequest("Q1", List.of(new AnswerCreateRequest("a", true), new AnswerCreateRequest("b", false)))
+        ), instructor);
+        return quiz;
+    }
+}
@@ -0,0 +1,137 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.common.BadRequestException;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class})
+@Import(TestMailConfig.class)
+@Transactional
+class QuestionImportTests {
+
+    private static final Logger log = LoggerFactory.getLogger(QuestionImportTests.class);
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizQuestionRepository questionRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User instructor;
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        instructor = TestUsers.save(userRepository, "import-instr", User.Role.INSTRUCTOR);
+        Category category = categoryRepository.save(Category.builder().name("Import").build());
+        Course course = courseService.createCourse(
+                new CourseRequest("Import", "Desc", category.getId(), true), instructor);
+        quiz = quizService.createQuiz(new QuizCreateRequest(course.getId(), "Question bank", null), instructor);
+    }
+
+    @Test
+    void importsLargeJsonQuestionBankInBatches() throws Exception {
+        int questionCount = 2_000;
+        List<QuizQuestionRequest> bank = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            bank.add(new QuizQuestionRequest("Question " + i, List.of(
+                    new AnswerCreateRequest("A", true),
+                    new AnswerCreateRequest("B", false),
+                    new AnswerCreateRequest("C", false),
+                    new AnswerCreateRequest("D", false))));
+        }
+        byte[] body = objectMapper.writeValueAsBytes(bank);
+
+        QuestionImportResult result = quizService.importQuestions(quiz.getId(),
+                QuestionImportSource.json(new ByteArrayInputStream(body), objectMapper), instructor);
+
+        log.info("Imported {} questions / {} options in {} ms ({} rows/sec)",
+                result.questionsImported(), result.optionsImported(), result.elapsedMillis(),
+                Math.round(result.rowsPerSecond()));
+        assertThat(result.questionsImported()).isEqualTo(questionCount);
+        assertThat(result.optionsImported()).isEqualTo(questionCount * 4);
+        assertThat(result.rowsPerSecond()).isPositive();
+        assertThat(questionRepository.questionCountsByQuiz(List.of(quiz.getId())))
+                .containsEntry(quiz.getId(), questionCount);
+    }
+
+    @Test
+    void importsCsvWithQuotedFieldsAndRejectsQuestionsWithoutCorrectAnswer() {
+        String csv = """
+                # question,answers (correct ones start with *)
+                "What is 2, plus 2?",3,*4,5
+                "Who wrote ""Hamlet""?",*Shakespeare,Marlowe
+
+                Pick the primes,*2,*3,4
+                """;
+
+        QuestionImportResult result = quizService.importQuestions(quiz.getId(),
+                QuestionImportSource.csv(new StringReader(csv)), instructor);
+        assertThat(result.questionsImported()).isEqualTo(3);
+        assertThat(result.optionsImported()).isEqualTo(8);
+
+        QuizDetailDto detail = quizService.getQuizDetail(quiz.getId(), instructor);
+        assertThat(detail.questions()).extracting(QuizQuestionDto::questionText)
+                .contains("What is 2, plus 2?", "Who wrote \"Hamlet\"?");
+
+        assertThatThrownBy(() -> quizService.importQuestions(quiz.getId(),
+                QuestionImportSource.csv(new StringReader("No correct answer,a,b\n")), instructor))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Question 1");
+    }
+
+    @Test
+    void unreadableOrMalformedUploadsAreBadRequests() {
+        Reader failing = new Reader() {
+            @Override
+            public int read(char[] buf, int off, int len) throws IOException {
+                throw new IOException("connection reset");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertThatThrownBy(() -> quizService.importQuestions(quiz.getId(),
+                QuestionImportSource.csv(failing), instructor))
+                .isInstanceOf(BadRequestException.class);
+
+        assertThatThrownBy(() -> quizService.importQuestions(quiz.getId(),
+                QuestionImportSource.json(new ByteArrayInputStream("[{\"questionText\": ".getBytes()), objectMapper),
+                instructor))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageStartingWith("Malformed question JSON");
+    }
+}
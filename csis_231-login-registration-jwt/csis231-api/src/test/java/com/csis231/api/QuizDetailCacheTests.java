@@ -0,0 +1,91 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+                "otp.outbox.dispatcher.enabled=false"})
+@Import(TestMailConfig.class)
+@Transactional
+class QuizDetailCacheTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizController quizController;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void quizDetailIsServedFromCacheAndVersionedByContent() {
+        User instructor = TestUsers.save(userRepository, "detail-cache-instr", User.Role.INSTRUCTOR);
+        Category category = categoryRepository.save(Category.builder().name("Detail cache").build());
+        Course course = courseService.createCourse(
+                new CourseRequest("Detail cache", "Desc", category.getId(), true), instructor);
+        Quiz quiz = quizService.createQuiz(new QuizCreateRequest(course.getId(), "Cached quiz", null), instructor);
+        quizService.addQuestions(quiz.getId(), List.of(question("Q1")), instructor);
+
+        CachedQuizDetail first = quizService.getCachedQuizDetail(quiz.getId(), instructor);
+        assertThat(first.detail().questions()).hasSize(1);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        CachedQuizDetail second = quizService.getCachedQuizDetail(quiz.getId(), instructor);
+        assertThat(second).isSameAs(first);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/api/quizzes/" + quiz.getId());
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, first.etag());
+        MockHttpServletResponse notModifiedResponse = new MockHttpServletResponse();
+        ResponseEntity<byte[]> notModified = quizController.get(quiz.getId(), instructor,
+                new ServletWebRequest(conditional, notModifiedResponse));
+        assertThat(notModified).isNull();
+        assertThat(notModifiedResponse.getStatus()).isEqualTo(304);
+
+        quizService.addQuestions(quiz.getId(), List.of(question("Q2")), instructor);
+        CachedQuizDetail updated = quizService.getCachedQuizDetail(quiz.getId(), instructor);
+        assertThat(updated.etag()).isNotEqualTo(first.etag());
+        assertThat(updated.detail().questions()).hasSize(2);
+
+        ResponseEntity<byte[]> changed = quizController.get(quiz.getId(), instructor,
+                new ServletWebRequest(conditional, new MockHttpServletResponse()));
+        assertThat(changed.getStatusCode().value()).isEqualTo(200);
+        assertThat(changed.getHeaders().getETag()).isEqualTo(updated.etag());
+        assertThat(changed.getBody()).isEqualTo(updated.json());
+    }
+
+    private QuizQuestionRequest question(String text) {
+        return new QuizQuestionRequest(text,
+                List.of(new AnswerCreateRequest("right", true), new AnswerCreateRequest("wrong", false)));
+    }
+}
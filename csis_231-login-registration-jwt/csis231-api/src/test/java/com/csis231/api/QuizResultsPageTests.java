@@ -0,0 +1,112 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.common.UnauthorizedException;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+                "otp.outbox.dispatcher.enabled=false"})
+@Import(TestMailConfig.class)
+@Transactional
+class QuizResultsPageTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizResultRepository resultRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void resultPagesCarryStudentIdentityWithoutPerRowQueries() {
+        User instructor = saveUser("page-instr", User.Role.INSTRUCTOR, null, null);
+        Quiz quiz = createQuiz(instructor);
+        for (int i = 0; i < 30; i++) {
+            User student = saveUser("page-student-" + (char) ('a' + i % 26) + i, User.Role.STUDENT, "First" + i, "Last" + i);
+            resultRepository.save(QuizResult.builder().quiz(quiz).student(student).score(i % 7).totalQuestions(7).build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<QuizResultWithStudentDto> page = quizService.resultPageForQuiz(quiz.getId(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "score").and(Sort.by("id"))), instructor);
+        long queries = statistics.getPrepareStatementCount();
+
+        assertThat(queries).isLessThanOrEqualTo(3);
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getContent()).allSatisfy(r -> {
+            assertThat(r.studentUsername()).startsWith("page-student-");
+            assertThat(r.studentName()).startsWith("First").contains(" Last");
+        });
+        assertThat(page.getContent()).extracting(QuizResultWithStudentDto::score).isSortedAccordingTo((a, b) -> b - a);
+    }
+
+    @Test
+    void resultsAreSortableByStudentAndRestrictedToTheCourseOwner() {
+        User instructor = saveUser("sort-instr", User.Role.INSTRUCTOR, null, null);
+        User stranger = saveUser("sort-stranger", User.Role.INSTRUCTOR, null, null);
+        Quiz quiz = createQuiz(instructor);
+        for (String name : List.of("sort-carol", "sort-alice", "sort-bob")) {
+            resultRepository.save(QuizResult.builder().quiz(quiz)
+                    .student(saveUser(name, User.Role.STUDENT, null, null)).score(1).totalQuestions(1).build());
+        }
+
+        Page<QuizResultWithStudentDto> page = quizService.resultPageForQuiz(quiz.getId(),
+                PageRequest.of(0, 2, Sort.by("studentUsername").and(Sort.by("id"))), instructor);
+
+        assertThat(page.getContent()).extracting(QuizResultWithStudentDto::studentUsername)
+                .containsExactly("sort-alice", "sort-bob");
+        assertThat(page.getContent()).allSatisfy(r -> assertThat(r.studentName()).isNull());
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThatThrownBy(() -> quizService.resultPageForQuiz(quiz.getId(), PageRequest.of(0, 2), stranger))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    private Quiz createQuiz(User instructor) {
+        Category category = categoryRepository.save(Category.builder().name("Results " + instructor.getUsername()).build());
+        Course course = courseService.createCourse(new CourseRequest("Results course", "Desc", category.getId(), true), instructor);
+        return quizService.createQuiz(new QuizCreateRequest(course.getId(), "Results quiz", null), instructor);
+    }
+
+    private User saveUser(String username, User.Role role, String firstName, String lastName) {
+        return userRepository.save(TestUsers.user(username, role)
+                .firstName(firstName)
+                .lastName(lastName)
+                .build());
+    }
+}
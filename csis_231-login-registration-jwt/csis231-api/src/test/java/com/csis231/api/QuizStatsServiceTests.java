@@ -0,0 +1,106 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.enrollment.EnrollmentRequest;
+import com.csis231.api.enrollment.EnrollmentService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class})
+@Import(TestMailConfig.class)
+@Transactional
+class QuizStatsServiceTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private EnrollmentService enrollmentService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private AnswerOptionRepository answerOptionRepository;
+    @Autowired
+    private QuizStatsRepository statsRepository;
+    @Autowired
+    private QuizStatsService statsService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void submissionsMaintainRollupThatMatchesRebuild() {
+        User instructor = TestUsers.save(userRepository, "rollup-instr", User.Role.INSTRUCTOR);
+        User student = TestUsers.save(userRepository, "rollup-student", User.Role.STUDENT);
+        Category category = categoryRepository.save(Category.builder().name("Rollup").build());
+        Course course = courseService.createCourse(
+                new CourseRequest("Rollup", "Desc", category.getId(), true), instructor);
+        enrollmentService.enroll(student, new EnrollmentRequest(null, course.getId()));
+
+        Quiz quiz = quizService.createQuiz(new QuizCreateRequest(course.getId(), "Rollup quiz", null), instructor);
+        List<QuizQuestion> questions = quizService.addQuestions(quiz.getId(), List.of(
+                new QuizQuestionRequest("Q1", List.of(new AnswerCreateRequest("right", true), new AnswerCreateRequest("wrong", false))),
+                new QuizQuestionRequest("Q2", List.of(new AnswerCreateRequest("right", true), new AnswerCreateRequest("wrong", false)))
+        ), instructor);
+
+        assertThat(statsRepository.findById(quiz.getId())).get()
+                .extracting(QuizStats::getAttemptCount).isEqualTo(0L);
+
+        submit(quiz, student, questions, true, true);
+        submit(quiz, student, questions, true, false);
+        submit(quiz, student, questions, false, false);
+
+        entityManager.flush();
+        entityManager.clear();
+        QuizStats incremental = statsRepository.findById(quiz.getId()).orElseThrow();
+        assertThat(incremental.getAttemptCount()).isEqualTo(3);
+        assertThat(incremental.getScoreSum()).isEqualTo(3);
+        assertThat(incremental.getQuestionSum()).isEqualTo(6);
+        assertThat(incremental.getBestPercentage()).isEqualTo(100.0);
+        assertThat(incremental.getWorstPercentage()).isEqualTo(0.0);
+        assertThat(incremental.getHistogram()).containsExactly(1, 0, 0, 0, 0, 1, 0, 0, 0, 1);
+
+        statsRepository.deleteByQuizId(quiz.getId());
+        statsService.rebuild(List.of(quiz.getId()));
+        entityManager.flush();
+        entityManager.clear();
+        QuizStats rebuilt = statsRepository.findById(quiz.getId()).orElseThrow();
+        assertThat(rebuilt).usingRecursiveComparison()
+                .ignoringFields("updatedAt")
+                .isEqualTo(incremental);
+
+        quizService.deleteQuiz(quiz.getId(), instructor);
+        assertThat(statsRepository.findById(quiz.getId())).isEmpty();
+    }
+
+    private void submit(Quiz quiz, User student, List<QuizQuestion> questions, boolean... correct) {
+        List<QuizSubmissionAnswer> answers = new ArrayList<>();
+        for (int i = 0; i < questions.size(); i++) {
+            boolean wantCorrect = correct[i];
+            AnswerOption option = answerOptionRepository.findByQuestion_IdIn(List.of(questions.get(i).getId())).stream()
+                    .filter(o -> Boolean.valueOf(wantCorrect).equals(o.getCorrect()))
+                    .findFirst()
+                    .orElseThrow();
+            answers.add(new QuizSubmissionAnswer(questions.get(i).getId(), option.getId()));
+        }
+        quizService.submitQuiz(quiz.getId(), new QuizSubmissionRequest(answers), student);
+    }
+}
@@ -0,0 +1,88 @@
+package com.csis231.api;
+
+import com.csis231.api.auth.AuthResponse;
+import com.csis231.api.auth.AuthService;
+import com.csis231.api.auth.RefreshRequest;
+import com.csis231.api.jwt.JwtUtil;
+import com.csis231.api.jwt.RefreshTokenService;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import com.csis231.api.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = "jwt.secret=refresh-token-tests-signing-key-0123456789abcdef")
+@Import(TestMailConfig.class)
+@Transactional
+class RefreshTokenTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void refreshRotatesTheTokenAndIssuesAnAccessToken() {
+        User user = TestUsers.saveStudent(userRepository, "refresh-rotate");
+        String first = refreshTokenService.issue(user);
+
+        AuthResponse refreshed = authService.refresh(new RefreshRequest(first));
+
+        assertThat(refreshed.getRefreshToken()).isNotBlank().isNotEqualTo(first);
+        assertThat(jwtUtil.parse(refreshed.getToken()).getSubject()).isEqualTo("refresh-rotate");
+        assertThat(refreshed.getId()).isEqualTo(user.getId());
+
+        AuthResponse again = authService.refresh(new RefreshRequest(refreshed.getRefreshToken()));
+        assertThat(again.getRefreshToken()).isNotEqualTo(refreshed.getRefreshToken());
+    }
+
+    @Test
+    void reusingARotatedTokenRevokesTheWholeFamily() {
+        User user = TestUsers.saveStudent(userRepository, "refresh-reuse");
+        String stolen = refreshTokenService.issue(user);
+        String current = authService.refresh(new RefreshRequest(stolen)).getRefreshToken();
+        String otherSession = refreshTokenService.issue(user);
+
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(stolen)))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(current)))
+                .isInstanceOf(BadCredentialsException.class);
+
+        assertThat(authService.refresh(new RefreshRequest(otherSession)).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void logoutAndCredentialChangesRevokeRefreshTokens() {
+        User user = TestUsers.saveStudent(userRepository, "refresh-logout");
+        String loggedOut = refreshTokenService.issue(user);
+        String beforePasswordChange = refreshTokenService.issue(user);
+
+        authService.logout(new RefreshRequest(loggedOut));
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(loggedOut)))
+                .isInstanceOf(BadCredentialsException.class);
+
+        userService.updateUser(user.getId(), User.builder().password("new-password1").isActive(null).build());
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(beforePasswordChange)))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void unknownTokensAreRejected() {
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest("not-a-token")))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+}
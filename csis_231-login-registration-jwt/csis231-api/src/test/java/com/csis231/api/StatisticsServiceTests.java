@@ -0,0 +1,81 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.dashboard.ChartPoint;
+import com.csis231.api.dashboard.QuizScoreDistributionDto;
+import com.csis231.api.dashboard.StatisticsService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class})
+@Import(TestMailConfig.class)
+@Transactional
+class StatisticsServiceTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizResultRepository resultRepository;
+    @Autowired
+    private QuizStatsService quizStatsService;
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Test
+    void quizStatisticsAreAggregatedPerQuiz() {
+        User instructor = TestUsers.save(userRepository, "chart-instr", User.Role.INSTRUCTOR);
+        User student = TestUsers.save(userRepository, "chart-student", User.Role.STUDENT);
+        Category category = categoryRepository.save(Category.builder().name("Charts").build());
+        Course course = courseService.createCourse(
+                new CourseRequest("Charts", "Desc", category.getId(), true), instructor);
+        Quiz graded = quizService.createQuiz(new QuizCreateRequest(course.getId(), "Graded", null), instructor);
+        quizService.createQuiz(new QuizCreateRequest(course.getId(), "Untaken", null), instructor);
+
+        for (int score : new int[]{0, 1, 2, 3, 4, 4, 4, 4}) {
+            resultRepository.save(QuizResult.builder()
+                    .quiz(graded).student(student).score(score).totalQuestions(4).build());
+        }
+
+        // results inserted directly bypass submitQuiz, so backfill the rollup
+        quizStatsService.rebuild(List.of(graded.getId()));
+
+        List<ChartPoint> averages = statisticsService.quizAveragesForCourse(course.getId(), instructor);
+        assertThat(averages).extracting(ChartPoint::label).containsExactly("Graded", "Untaken");
+        assertThat(averages.get(0).value()).isEqualTo(68.75);
+        assertThat(averages.get(1).value()).isZero();
+
+        List<QuizScoreDistributionDto> distributions =
+                statisticsService.quizDistributionsForCourse(course.getId(), instructor);
+        QuizScoreDistributionDto gradedDistribution = distributions.get(0);
+        assertThat(gradedDistribution.submissions()).isEqualTo(8);
+        assertThat(gradedDistribution.p25()).isEqualTo(25.0);
+        assertThat(gradedDistribution.median()).isEqualTo(75.0);
+        assertThat(gradedDistribution.p90()).isEqualTo(100.0);
+        assertThat(gradedDistribution.histogram()).containsExactly(1L, 0L, 1L, 0L, 0L, 1L, 0L, 1L, 0L, 4L);
+
+        QuizScoreDistributionDto untaken = distributions.get(1);
+        assertThat(untaken.submissions()).isZero();
+        assertThat(untaken.median()).isNull();
+        assertThat(untaken.histogram()).containsOnly(0L);
+    }
+}
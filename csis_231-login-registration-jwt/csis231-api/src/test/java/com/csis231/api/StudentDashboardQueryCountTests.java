@@ -0,0 +1,115 @@
+package com.csis231.api;
+
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.dashboard.StudentDashboardQueryService;
+import com.csis231.api.dashboard.StudentDashboardResponse;
+import com.csis231.api.enrollment.EnrollmentRequest;
+import com.csis231.api.enrollment.EnrollmentService;
+import com.csis231.api.quiz.*;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+                "otp.outbox.dispatcher.enabled=false"})
+@Import(TestMailConfig.class)
+@Transactional
+class StudentDashboardQueryCountTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private EnrollmentService enrollmentService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizResultRepository resultRepository;
+    @Autowired
+    private StudentDashboardQueryService dashboardQueryService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void studentDashboardUsesFixedNumberOfQueriesRegardlessOfEnrollmentCount() {
+        User instructor = TestUsers.save(userRepository, "dash-instr", User.Role.INSTRUCTOR);
+        User light = TestUsers.save(userRepository, "dash-light", User.Role.STUDENT);
+        User heavy = TestUsers.save(userRepository, "dash-heavy", User.Role.STUDENT);
+        Category category = categoryRepository.save(Category.builder().name("Dashboard").build());
+
+        List<Quiz> heavyQuizzes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Course course = courseService.createCourse(
+                    new CourseRequest("Course " + i, "Desc", category.getId(), true), instructor);
+            List<Quiz> quizzes = createQuizzes(course, instructor, 5);
+            enrollmentService.enroll(heavy, new EnrollmentRequest(null, course.getId()));
+            heavyQuizzes.addAll(quizzes);
+            if (i == 0) {
+                enrollmentService.enroll(light, new EnrollmentRequest(null, course.getId()));
+            }
+        }
+        for (Quiz quiz : heavyQuizzes.subList(0, 10)) {
+            resultRepository.save(QuizResult.builder()
+                    .quiz(quiz).student(heavy).score(1).totalQuestions(2).build());
+        }
+
+        long lightQueries = countQueries(() -> dashboardQueryService.build(light));
+        long heavyQueries = countQueries(() -> dashboardQueryService.build(heavy));
+
+        assertThat(heavyQueries).isEqualTo(lightQueries);
+        assertThat(heavyQueries).isLessThanOrEqualTo(4);
+
+        entityManager.clear();
+        StudentDashboardResponse response = dashboardQueryService.build(heavy);
+        assertThat(response.enrolledCourseCount()).isEqualTo(20);
+        assertThat(response.upcomingQuizzes()).hasSize(100);
+        assertThat(response.upcomingQuizzes()).allSatisfy(q -> assertThat(q.questionCount()).isEqualTo(2));
+        assertThat(response.recentQuizResults()).hasSize(5);
+        assertThat(response.enrolledCourses()).allSatisfy(c -> assertThat(c.instructorName()).isEqualTo("dash-instr"));
+    }
+
+    private List<Quiz> createQuizzes(Course course, User instructor, int quizCount) {
+        List<Quiz> quizzes = new ArrayList<>();
+        for (int i = 0; i < quizCount; i++) {
+            Quiz quiz = quizService.createQuiz(new QuizCreateRequest(course.getId(), "Quiz " + i, null), instructor);
+            quizService.addQuestions(quiz.getId(), List.of(
+                    new QuizQuestionRequest("Q1", List.of(new AnswerCreateRequest("a", true), new AnswerCreateRequest("b", false))),
+                    new QuizQuestionRequest("Q2", List.of(new AnswerCreateRequest("a", true), new AnswerCreateRequest("b", false)))
+            ), instructor);
+            quizzes.add(quiz);
+        }
+        return quizzes;
+    }
+
+    private long countQueries(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
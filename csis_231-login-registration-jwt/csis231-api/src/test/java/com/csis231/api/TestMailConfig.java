@@ -1,18 +1,74 @@
 package com.csis231.api;
 
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Provides a lightweight mail sender for tests to satisfy OTPService dependencies.
+ *
+ * <p>The sender is a local fake SMTP sink: nothing leaves the JVM, and every
+ * call that would open an SMTP session is recorded so tests can inspect the
+ * delivered messages and how they were batched.</p>
  */
 @TestConfiguration
 public class TestMailConfig {
 
     @Bean
     public JavaMailSender javaMailSender() {
-        return new JavaMailSenderImpl();
+        return new RecordingMailSender();
+    }
+
+    /**
+     * {@link JavaMailSenderImpl} that records messages instead of talking to a server.
+     */
+    public static class RecordingMailSender extends JavaMailSenderImpl {
+        private final List<List<MimeMessage>> sessions = new ArrayList<>();
+        private final AtomicInteger failuresToSimulate = new AtomicInteger();
+
+        @Override
+        protected synchronized void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+            if (failuresToSimulate.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                Map<Object, Exception> failed = new LinkedHashMap<>();
+                for (int i = 0; i < mimeMessages.length; i++) {
+                    Object key = originalMessages != null ? originalMessages[i] : mimeMessages[i];
+                    failed.put(key, new MessagingException("Simulated SMTP failure"));
+                }
+                throw new MailSendException(failed);
+            }
+            sessions.add(List.of(mimeMessages));
+        }
+
+        /** Makes the next {@code count} sessions fail for every message. */
+        public void failNextSessions(int count) {
+            failuresToSimulate.set(count);
+        }
+
+        /** Messages grouped by the session they were sent in. */
+        public synchronized List<List<MimeMessage>> sessions() {
+            return List.copyOf(sessions);
+        }
+
+        /** All messages sent so far. */
+        public synchronized List<MimeMessage> messages() {
+            return sessions.stream().flatMap(List::stream).toList();
+        }
+
+        /** Forgets recorded sessions and pending simulated failures. */
+        public synchronized void reset() {
+            sessions.clear();
+            failuresToSimulate.set(0);
+        }
     }
 }
@@ -0,0 +1,52 @@
+package com.csis231.api;
+
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+
+/**
+ * Shared user fixtures for integration tests.
+ */
+final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    /**
+     * Returns a builder for a user with the given username and role, an
+     * {@code <username>@example.com} e-mail and a placeholder password.
+     *
+     * @param username the username
+     * @param role     the role
+     * @return a pre-filled builder
+     */
+    static User.UserBuilder user(String username, User.Role role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password1")
+                .role(role);
+    }
+
+    /**
+     * Saves a user with the given username and role.
+     *
+     * @param userRepository the repository to save with
+     * @param username       the username
+     * @param role           the role
+     * @return the saved user
+     */
+    static User save(UserRepository userRepository, String username, User.Role role) {
+        return userRepository.save(user(username, role).build());
+    }
+
+    /**
+     * Saves a student with the given username.
+     *
+     * @param userRepository the repository to save with
+     * @param username       the username
+     * @return the saved user
+     */
+    static User saveStudent(UserRepository userRepository, String username) {
+        return save(userRepository, username, User.Role.STUDENT);
+    }
+}
@@ -0,0 +1,47 @@
+package com.csis231.api;
+
+import com.csis231.api.jwt.TokenRevocationCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = "jwt.revocation.max-entries=3")
+@Import(TestMailConfig.class)
+class TokenRevocationCacheTests {
+
+    @Autowired
+    private TokenRevocationCache revocationCache;
+
+    @Test
+    void tokensIssuedUpToTheRevocationSecondAreRejected() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revocationCache.revokeAll("revoked-user", now);
+
+        assertThat(revocationCache.isRevoked("revoked-user", now.minusSeconds(5))).isTrue();
+        assertThat(revocationCache.isRevoked("revoked-user", now)).isTrue();
+        assertThat(revocationCache.isRevoked("revoked-user", now.plusSeconds(2))).isFalse();
+        assertThat(revocationCache.isRevoked("other-user", now.minusSeconds(5))).isFalse();
+    }
+
+    @Test
+    void overflowFoldsEvictedEntriesIntoAGlobalFloor() {
+        Instant base = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(600);
+        for (int i = 0; i < 10; i++) {
+            revocationCache.revokeAll("bounded-user-" + i, base.plusSeconds(i));
+        }
+
+        assertThat(revocationCache.size()).isLessThanOrEqualTo(3);
+        assertThat(revocationCache.isRevoked("bounded-user-9", base.plusSeconds(9))).isTrue();
+        assertThat(revocationCache.isRevoked("bounded-user-0", base)).isTrue();
+        assertThat(revocationCache.isRevoked("bounded-user-6", base.plusSeconds(6))).isTrue();
+        assertThat(revocationCache.isRevoked("bystander", base.plusSeconds(6))).isTrue();
+        assertThat(revocationCache.isRevoked("bystander", base.plusSeconds(8))).isFalse();
+    }
+}
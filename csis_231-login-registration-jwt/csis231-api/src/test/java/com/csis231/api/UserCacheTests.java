@@ -0,0 +1,57 @@
+package com.csis231.api;
+
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserCache;
+import com.csis231.api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ApiApplication.class, TestMailConfig.class},
+        properties = "user.cache.max-entries=2")
+@Import(TestMailConfig.class)
+@Transactional
+class UserCacheTests {
+
+    @Autowired
+    private UserCache userCache;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void cachedLookupsReturnIndependentCopies() {
+        TestUsers.saveStudent(userRepository, "cache-copy");
+
+        User first = userCache.findByUsername("cache-copy").orElseThrow();
+        User second = userCache.findByUsername("cache-copy").orElseThrow();
+        second.setRole(User.Role.ADMIN);
+        second.setFirstName("Changed");
+        User third = userCache.findByUsername("cache-copy").orElseThrow();
+
+        assertThat(third).isNotSameAs(second);
+        assertThat(third.getRole()).isEqualTo(User.Role.STUDENT);
+        assertThat(third.getFirstName()).isNull();
+        assertThat(third.getId()).isEqualTo(first.getId());
+    }
+
+    @Test
+    void overflowEvictsOnlyTheOldestEntry() {
+        User a = TestUsers.saveStudent(userRepository, "cache-a");
+        User b = TestUsers.saveStudent(userRepository, "cache-b");
+        TestUsers.saveStudent(userRepository, "cache-c");
+
+        userCache.findByUsername("cache-a");
+        userCache.findByUsername("cache-b");
+        userCache.findByUsername("cache-c");
+        a.setFirstName("Updated");
+        b.setFirstName("Updated");
+        userRepository.flush();
+
+        assertThat(userCache.findByUsername("cache-b").orElseThrow().getFirstName()).isNull();
+        assertThat(userCache.findByUsername("cache-a").orElseThrow().getFirstName()).isEqualTo("Updated");
+    }
+}
@@ -0,0 +1,83 @@
+package com.csis231.api.benchmark;
+
+import com.csis231.api.jwt.JwtUtil;
+import com.csis231.api.jwt.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification throughput: the old path (key and parser rebuilt for
+ * every call) against {@link JwtUtil#verify(String)} with and without its
+ * verified-token cache.
+ *
+ * <p>Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="JwtVerifyBenchmark"}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+
+    private JwtUtil cached;
+    private JwtUtil uncached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cached = jwtUtil(1024);
+        uncached = jwtUtil(0);
+        token = cached.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public Claims rebuildKeyAndParserPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public VerifiedToken sharedParser() {
+        return uncached.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken sharedParserWithCache() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public VerifiedToken sharedParserWithCacheContended() {
+        return cached.verify(token);
+    }
+
+    private static JwtUtil jwtUtil(int cacheEntries) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secret", SECRET);
+        ReflectionTestUtils.setField(util, "expiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(util, "cacheMaxEntries", cacheEntries);
+        return util;
+    }
+}
@@ -0,0 +1,81 @@
+package com.csis231.api.benchmark;
+
+import com.csis231.api.auth.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt hashes per second for each cost factor: the plain encoder on the
+ * calling thread against {@link BoundedPasswordEncoder}, alone and with more
+ * callers than pool workers.
+ *
+ * <p>Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="PasswordHashBenchmark"}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"8", "10", "12"})
+    public int cost;
+
+    private BCryptPasswordEncoder plain;
+    private BoundedPasswordEncoder bounded;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        plain = new BCryptPasswordEncoder(cost);
+        int workers = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        // generous queue and wait, so saturation shows up as lower throughput rather than rejections
+        bounded = new BoundedPasswordEncoder(cost, workers, 1024, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        hash = plain.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        bounded.close();
+    }
+
+    @Benchmark
+    public String encodeOnCallerThread() {
+        return plain.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matchesOnCallerThread() {
+        return plain.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public boolean matchesOnPool() {
+        return bounded.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean matchesOnPoolContended() {
+        return bounded.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,131 @@
+package com.csis231.api.benchmark;
+
+import com.csis231.api.ApiApplication;
+import com.csis231.api.TestMailConfig;
+import com.csis231.api.category.Category;
+import com.csis231.api.category.CategoryRepository;
+import com.csis231.api.course.Course;
+import com.csis231.api.course.CourseRequest;
+import com.csis231.api.course.CourseService;
+import com.csis231.api.quiz.AnswerCreateRequest;
+import com.csis231.api.quiz.QuestionImportResult;
+import com.csis231.api.quiz.QuestionImportSource;
+import com.csis231.api.quiz.Quiz;
+import com.csis231.api.quiz.QuizCreateRequest;
+import com.csis231.api.quiz.QuizQuestionRequest;
+import com.csis231.api.quiz.QuizService;
+import com.csis231.api.user.User;
+import com.csis231.api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk question import throughput against the test (H2) database, reported as
+ * imports per second plus inserted rows (questions and options) per second.
+ *
+ * <p>Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="QuestionImportBenchmark"}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class QuestionImportBenchmark {
+
+    private static final int QUESTIONS = 2_000;
+    private static final int ANSWERS_PER_QUESTION = 4;
+
+    @Param({"100", "500", "2000"})
+    public int chunkSize;
+
+    private ConfigurableApplicationContext context;
+    private QuizService quizService;
+    private ObjectMapper objectMapper;
+    private User instructor;
+    private Long quizId;
+    private byte[] body;
+
+    /**
+     * Counts inserted rows so JMH reports them as a rate next to the import score.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(ApiApplication.class, TestMailConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("quiz.import.chunk-size=" + chunkSize,
+                        "otp.outbox.dispatcher.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        quizService = context.getBean(QuizService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        instructor = context.getBean(UserRepository.class).save(User.builder()
+                .username("bench-instr")
+                .email("bench-instr@example.com")
+                .password("password1")
+                .role(User.Role.INSTRUCTOR)
+                .build());
+        Category category = context.getBean(CategoryRepository.class)
+                .save(Category.builder().name("Benchmark").build());
+        Course course = context.getBean(CourseService.class).createCourse(
+                new CourseRequest("Benchmark", "Desc", category.getId(), true), instructor);
+        Quiz quiz = quizService.createQuiz(new QuizCreateRequest(course.getId(), "Bank", null), instructor);
+        quizId = quiz.getId();
+
+        List<QuizQuestionRequest> bank = new ArrayList<>(QUESTIONS);
+        for (int i = 0; i < QUESTIONS; i++) {
+            List<AnswerCreateRequest> answers = new ArrayList<>(ANSWERS_PER_QUESTION);
+            for (int a = 0; a < ANSWERS_PER_QUESTION; a++) {
+                answers.add(new AnswerCreateRequest("Answer " + a, a == 0));
+            }
+            bank.add(new QuizQuestionRequest("Question " + i, answers));
+        }
+        body = objectMapper.writeValueAsBytes(bank);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public QuestionImportResult importJson(Rows counter) {
+        QuestionImportResult result = quizService.importQuestions(quizId,
+                QuestionImportSource.json(new ByteArrayInputStream(body), objectMapper), instructor);
+        counter.rows += result.questionsImported() + result.optionsImported();
+        return result;
+    }
+}
@@ -2,8 +2,9 @@ package com.example.demo.admin;
 
 import com.example.demo.Launcher;
 import com.example.demo.common.AlertUtils;
-import com.example.demo.common.ApiException;
+import com.example.demo.common.ApiClient;
 import com.example.demo.common.ErrorDialog;
+import com.example.demo.common.FxAsync;
 import com.example.demo.common.SessionStore;
 import com.example.demo.common.TokenStore;
 import com.example.demo.model.CourseDto;
@@ -12,7 +13,6 @@ import com.example.demo.model.User;
 import com.example.demo.student.EnrollmentApi;
 import com.example.demo.admin.UserApi;
 import com.example.demo.course.CourseApi;
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -21,6 +21,7 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.paint.Color;
 
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import com.example.demo.common.TableUtils;
 
@@ -57,6 +58,9 @@ public class AdminEnrollmentsController {
     private final ObservableList<EnrollmentResponse> enrollments = FXCollections.observableArrayList();
     private final ObservableList<CourseDto> instructorCourses = FXCollections.observableArrayList();
     private final ObservableList<User> instructors = FXCollections.observableArrayList();
+    private CompletableFuture<?> pendingStudentEnrollments;
+    private CompletableFuture<?> pendingInstructorCourses;
+    private CompletableFuture<?> pendingCourseEnrollments;
 
     @FXML
     /**
@@ -110,30 +114,26 @@ public class AdminEnrollmentsController {
 
         loadStudentButton.setDisable(true);
         studentStatusLabel.setText("Loading...");
-        CompletableFuture.runAsync(() -> {
-            try {
-                Long studentId = userApi.findByIdentifier(identifier)
-                        .map(com.example.demo.model.User::getId)
-                        .orElse(null);
-                if (studentId == null) {
-                    Platform.runLater(() -> {
-                        studentStatusLabel.setText("User not found");
-                        enrollments.clear();
-                    });
-                    return;
-                }
-                EnrollmentResponse[] resp = enrollmentApi.listByStudent(studentId);
-                Platform.runLater(() -> {
-                    enrollments.setAll(resp != null ? Arrays.asList(resp) : java.util.List.of());
-                    studentStatusLabel.setText(enrollments.size() + " enrollments");
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load enrollments: " + ex.getMessage()));
-            } finally {
-                Platform.runLater(() -> loadStudentButton.setDisable(false));
+        // empty when the user does not exist, otherwise their (possibly empty) enrollments
+        CompletableFuture<Optional<EnrollmentResponse[]>> lookup = ApiClient.compose(
+                userApi.findByIdentifierAsync(identifier),
+                user -> user.isEmpty()
+                        ? CompletableFuture.completedFuture(Optional.empty())
+                        : ApiClient.map(enrollmentApi.listByStudentAsync(user.get().getId()),
+                                resp -> Optional.of(resp != null ? resp : new EnrollmentResponse[0])));
+        if (pendingStudentEnrollments != null) pendingStudentEnrollments.cancel(true);
+        pendingStudentEnrollments = FxAsync.deliver(lookup, resp -> {
+            loadStudentButton.setDisable(false);
+            if (resp.isEmpty()) {
+                studentStatusLabel.setText("User not found");
+                enrollments.clear();
+                return;
             }
+            enrollments.setAll(Arrays.asList(resp.get()));
+            studentStatusLabel.setText(enrollments.size() + " enrollments");
+        }, ex -> {
+            loadStudentButton.setDisable(false);
+            ErrorDialog.showFailure("Failed to load enrollments", ex);
         });
     }
 
@@ -147,21 +147,14 @@ public class AdminEnrollmentsController {
 
         loadInstructorButton.setDisable(true);
         instructorStatusLabel.setText("Loading...");
-        CompletableFuture.runAsync(() -> {
-            try {
-                CourseDto[] resp = courseApi.listInstructorCourses(instructor.getId());
-                Platform.runLater(() -> {
-
-                    instructorCourses.setAll(resp != null ? Arrays.asList(resp) : java.util.List.of());
-                    instructorStatusLabel.setText(instructorCourses.size() + " courses");
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load courses: " + ex.getMessage()));
-            } finally {
-                Platform.runLater(() -> loadInstructorButton.setDisable(false));
-            }
+        if (pendingInstructorCourses != null) pendingInstructorCourses.cancel(true);
+        pendingInstructorCourses = FxAsync.deliver(courseApi.listInstructorCoursesAsync(instructor.getId()), resp -> {
+            loadInstructorButton.setDisable(false);
+            instructorCourses.setAll(resp != null ? Arrays.asList(resp) : java.util.List.of());
+            instructorStatusLabel.setText(instructorCourses.size() + " courses");
+        }, ex -> {
+            loadInstructorButton.setDisable(false);
+            ErrorDialog.showFailure("Failed to load courses", ex);
         });
     }
 
@@ -177,33 +170,34 @@ public class AdminEnrollmentsController {
 
         loadCourseEnrollmentsButton.setDisable(true);
         instructorStatusLabel.setText("Loading course enrollments...");
-        CompletableFuture.runAsync(() -> {
-            try {
-                CourseDto[] courses = courseApi.listInstructorCourses(instructor.getId());
-                CourseDto match = null;
-                if (courses != null) {
-                    for (CourseDto c : courses) {
-                        if (c.getTitle() != null && c.getTitle().equalsIgnoreCase(courseName)) {
-                            match = c; break;
+        // empty when the instructor has no course with that title
+        CompletableFuture<Optional<EnrollmentResponse[]>> lookup = ApiClient.compose(
+                courseApi.listInstructorCoursesAsync(instructor.getId()),
+                courses -> {
+                    CourseDto match = null;
+                    if (courses != null) {
+                        for (CourseDto c : courses) {
+                            if (c.getTitle() != null && c.getTitle().equalsIgnoreCase(courseName)) {
+                                match = c; break;
+                            }
                         }
                     }
-                }
-                if (match == null) {
-                    Platform.runLater(() -> instructorStatusLabel.setText("Course not found for that instructor"));
-                    return;
-                }
-                EnrollmentResponse[] resp = courseApi.listCourseEnrollments(match.getId());
-                Platform.runLater(() -> {
-                    enrollments.setAll(resp != null ? java.util.Arrays.asList(resp) : java.util.List.of());
-                    instructorStatusLabel.setText(enrollments.size() + " users enrolled");
+                    if (match == null) return CompletableFuture.completedFuture(Optional.empty());
+                    return ApiClient.map(courseApi.listCourseEnrollmentsAsync(match.getId()),
+                            resp -> Optional.of(resp != null ? resp : new EnrollmentResponse[0]));
                 });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load course enrollments: " + ex.getMessage()));
-            } finally {
-                Platform.runLater(() -> loadCourseEnrollmentsButton.setDisable(false));
+        if (pendingCourseEnrollments != null) pendingCourseEnrollments.cancel(true);
+        pendingCourseEnrollments = FxAsync.deliver(lookup, resp -> {
+            loadCourseEnrollmentsButton.setDisable(false);
+            if (resp.isEmpty()) {
+                instructorStatusLabel.setText("Course not found for that instructor");
+                return;
             }
+            enrollments.setAll(Arrays.asList(resp.get()));
+            instructorStatusLabel.setText(enrollments.size() + " users enrolled");
+        }, ex -> {
+            loadCourseEnrollmentsButton.setDisable(false);
+            ErrorDialog.showFailure("Failed to load course enrollments", ex);
         });
     }
 
@@ -221,14 +215,8 @@ public class AdminEnrollmentsController {
     }
 
     private void loadInstructors() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                var list = userApi.listInstructors(300);
-                Platform.runLater(() -> instructors.setAll(list));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load instructors: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(userApi.listInstructorsAsync(300), instructors::setAll,
+                ex -> ErrorDialog.showFailure("Failed to load instructors", ex));
     }
 
     private void hookButtonStates() {
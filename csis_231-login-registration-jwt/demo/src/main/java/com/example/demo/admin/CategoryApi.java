@@ -7,6 +7,8 @@ import com.example.demo.common.PagedResponse;
 import com.example.demo.model.Category;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * API client for category management.
  */
@@ -25,6 +27,18 @@ public class CategoryApi {
         return client.getPage(path, Category.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #list(int, int)}; cancelling the future
+     * aborts the request.
+     *
+     * @param page the zero-based page index
+     * @param size the number of categories per page
+     * @return a future completing with the page of categories
+     */
+    public CompletableFuture<PageResponse<Category>> listAsync(int page, int size) {
+        return client.getPageAsync("/api/categories?page=" + page + "&size=" + size, Category.class);
+    }
+
 
     /**
      * Creates a new category with the given name.
@@ -38,6 +52,18 @@ public class CategoryApi {
         return client.post("/api/categories", body, new TypeReference<Category>() {}).getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #create(String)}.
+     *
+     * @param name the category name to create
+     * @return a future completing with the created {@link Category}
+     */
+    public CompletableFuture<Category> createAsync(String name) {
+        Category body = new Category();
+        body.setName(name);
+        return ApiClient.bodyOf(client.postAsync("/api/categories", body, new TypeReference<Category>() {}));
+    }
+
     /**
      * Updates the name of an existing category.
      *
@@ -51,6 +77,19 @@ public class CategoryApi {
         return client.put("/api/categories/" + id, body, new TypeReference<Category>() {}).getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #update(Long, String)}.
+     *
+     * @param id   the category identifier
+     * @param name the new name to apply
+     * @return a future completing with the updated {@link Category}
+     */
+    public CompletableFuture<Category> updateAsync(Long id, String name) {
+        Category body = new Category();
+        body.setName(name);
+        return ApiClient.bodyOf(client.putAsync("/api/categories/" + id, body, new TypeReference<Category>() {}));
+    }
+
     /**
      * Deletes a category by identifier.
      *
@@ -59,4 +98,14 @@ public class CategoryApi {
     public void delete(Long id) {
         client.delete("/api/categories/" + id);
     }
+
+    /**
+     * Asynchronous variant of {@link #delete(Long)}.
+     *
+     * @param id the category identifier
+     * @return a future completing once the category is deleted
+     */
+    public CompletableFuture<Void> deleteAsync(Long id) {
+        return ApiClient.bodyOf(client.deleteAsync("/api/categories/" + id));
+    }
 }
@@ -3,7 +3,6 @@ package com.example.demo.admin;
 import com.example.demo.Launcher;
 import com.example.demo.common.*;
 import com.example.demo.model.Category;
-import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -43,6 +42,13 @@ public class CategoryController {
     private final FilteredList<Category> filtered = new FilteredList<>(master, c -> true);
     private final SortedList<Category>   sorted   = new SortedList<>(filtered);
     private long totalCategories;
+    private CompletableFuture<?> pendingLoad;
+
+    // Filtering is local, so the pipeline only debounces keystrokes (no cache needed)
+    private final DebouncedSearch<String> categorySearch = DebouncedSearch.of(q -> q.toLowerCase())
+            .onResult(this::applySearch)
+            .cache(0, null)
+            .build();
 
     /**
      * Initializes the category table, search, and loads the initial data set.
@@ -64,17 +70,8 @@ public class CategoryController {
             if (c != null) categoryNameField.setText(c.getName());
         });
 
-        // Live search
-        categorySearchField.textProperty().addListener((obs, o, n) -> {
-            final String q = n == null ? "" : n.toLowerCase().trim();
-            filtered.setPredicate(c -> {
-                if (c == null) return false;
-                boolean byName = c.getName() != null && c.getName().toLowerCase().contains(q);
-                boolean byId   = c.getId() != null && String.valueOf(c.getId()).contains(q);
-                return q.isEmpty() || byName || byId;
-            });
-            updateCount();
-        });
+        // Live search (debounced)
+        categorySearchField.textProperty().addListener((obs, o, n) -> categorySearch.submit(n));
 
         // Not ambiguous: explicitly ListChangeListener
         filtered.addListener((ListChangeListener<Category>) change -> updateCount());
@@ -84,26 +81,32 @@ public class CategoryController {
     }
 
     /**
-     * Fetches categories asynchronously and refreshes the table.
+     * Fetches categories asynchronously and refreshes the table. A newer load
+     * cancels the one still in flight.
      */
     private void loadCategories() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                PageResponse<Category> response = categoryApi.list(0, 50);
-                List<Category> list = response != null && response.getContent() != null
-                        ? response.getContent()
-                        : Collections.emptyList();
-                totalCategories = response != null ? response.getTotalElements() : list.size();
-                Platform.runLater(() -> {
-                    master.setAll(list);
-                    updateCount();
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load categories: " + ex.getMessage()));
-            }
+        if (pendingLoad != null) pendingLoad.cancel(true);
+        pendingLoad = FxAsync.deliver(categoryApi.listAsync(0, 50), response -> {
+            List<Category> list = response != null && response.getContent() != null
+                    ? response.getContent()
+                    : Collections.emptyList();
+            totalCategories = response != null ? response.getTotalElements() : list.size();
+            master.setAll(list);
+            updateCount();
+        }, ex -> ErrorDialog.showFailure("Failed to load categories", ex));
+    }
+
+    /**
+     * Filters the table by name or id using the (lower-cased) search text.
+     */
+    private void applySearch(String q) {
+        filtered.setPredicate(c -> {
+            if (c == null) return false;
+            boolean byName = c.getName() != null && c.getName().toLowerCase().contains(q);
+            boolean byId   = c.getId() != null && String.valueOf(c.getId()).contains(q);
+            return q.isEmpty() || byName || byId;
         });
+        updateCount();
     }
 
     /**
@@ -138,21 +141,12 @@ public class CategoryController {
     private void onAddCategory() {
         String name = categoryNameField.getText().trim();
         if (name.isEmpty()) { AlertUtils.warn("Please enter a category name."); return; }
-        CompletableFuture.runAsync(() -> {
-            try {
-                Category created = categoryApi.create(name);
-                Platform.runLater(() -> {
-                    master.add(created);
-                    clearForm();
-                    updateCount();
-                    AlertUtils.info("Category added successfully!");
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to add category: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(categoryApi.createAsync(name), created -> {
+            master.add(created);
+            clearForm();
+            updateCount();
+            AlertUtils.info("Category added successfully!");
+        }, ex -> ErrorDialog.showFailure("Failed to add category", ex));
     }
 
     /**
@@ -165,26 +159,17 @@ public class CategoryController {
         String name = categoryNameField.getText().trim();
         if (name.isEmpty()) { AlertUtils.warn("Category name cannot be empty."); return; }
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                Category updated = categoryApi.update(selected.getId(), name);
-                Platform.runLater(() -> {
-                    for (int i = 0; i < master.size(); i++) {
-                        if (master.get(i).getId().equals(selected.getId())) {
-                            master.set(i, updated);
-                            break;
-                        }
-                    }
-                    clearForm();
-                    updateCount();
-                    AlertUtils.info("Category updated successfully!");
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to update category: " + ex.getMessage()));
+        FxAsync.deliver(categoryApi.updateAsync(selected.getId(), name), updated -> {
+            for (int i = 0; i < master.size(); i++) {
+                if (master.get(i).getId().equals(selected.getId())) {
+                    master.set(i, updated);
+                    break;
+                }
             }
-        });
+            clearForm();
+            updateCount();
+            AlertUtils.info("Category updated successfully!");
+        }, ex -> ErrorDialog.showFailure("Failed to update category", ex));
     }
 
     /**
@@ -194,21 +179,12 @@ public class CategoryController {
     private void onDeleteCategory() {
         Category selected = categoryTable.getSelectionModel().getSelectedItem();
         if (selected == null) { AlertUtils.warn("Please select a category to delete."); return; }
-        CompletableFuture.runAsync(() -> {
-            try {
-                categoryApi.delete(selected.getId());
-                Platform.runLater(() -> {
-                    master.removeIf(c -> c.getId().equals(selected.getId()));
-                    clearForm();
-                    updateCount();
-                    AlertUtils.info("Category deleted successfully!");
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to delete category: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(categoryApi.deleteAsync(selected.getId()), ignored -> {
+            master.removeIf(c -> c.getId().equals(selected.getId()));
+            clearForm();
+            updateCount();
+            AlertUtils.info("Category deleted successfully!");
+        }, ex -> ErrorDialog.showFailure("Failed to delete category", ex));
     }
 
     /**
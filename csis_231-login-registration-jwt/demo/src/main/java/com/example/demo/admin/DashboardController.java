@@ -3,19 +3,17 @@ package com.example.demo.admin;
 import com.example.demo.Launcher;
 import com.example.demo.auth.AuthApi;
 import com.example.demo.common.AlertUtils;
-import com.example.demo.common.ApiException;
 import com.example.demo.common.ErrorDialog;
+import com.example.demo.common.FxAsync;
 import com.example.demo.common.SessionStore;
 import com.example.demo.common.TokenStore;
 import com.example.demo.common.TableUtils;
-import com.example.demo.model.CourseDetailDto;
 import com.example.demo.model.CourseDto;
 import com.example.demo.model.EnrollmentResponse;
 import com.example.demo.model.MeResponse;
-import com.example.demo.model.QuizResultDto;
+import com.example.demo.model.PendingQuizDto;
 import com.example.demo.model.QuizSummaryDto;
 import com.example.demo.student.EnrollmentApi;
-import com.example.demo.course.CourseApi;
 import com.example.demo.quiz.QuizApi;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -27,7 +25,6 @@ import javafx.scene.control.TableCell;
 import javafx.scene.control.Button;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import java.util.concurrent.CompletableFuture;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -60,7 +57,6 @@ public class DashboardController {
     private final ObservableList<EnrollmentResponse> myEnrollments = FXCollections.observableArrayList();
     private final ObservableList<QuizSummaryDto> upcomingQuizzes = FXCollections.observableArrayList();
     private final EnrollmentApi enrollmentApi = new EnrollmentApi();
-    private final CourseApi courseApi = new CourseApi();
     private final QuizApi quizApi = new QuizApi();
     private final Map<Long, String> courseTitles = new ConcurrentHashMap<>();
 
@@ -71,7 +67,7 @@ public class DashboardController {
      * <ul>
      *   <li>Checks that a JWT is present in {@link TokenStore}; if not, the
      *       user is redirected back to the login screen</li>
-     *   <li>Calls {@link AuthApi#me()} to fetch the current user's profile</li>
+     *   <li>Calls {@link AuthApi#meAsync()} to fetch the current user's profile</li>
      *   <li>Builds a display name from first and last name (or falls back to
      *       the username) and updates the welcome labels accordingly</li>
      * </ul>
@@ -134,76 +130,48 @@ public class DashboardController {
         }
 
         Platform.runLater(() -> {
-            try {
-                if (!TokenStore.hasToken()) {
-                    AlertUtils.warn("No token present. Please login again.");
-                    Launcher.go("login.fxml", "Login");
-                    return;
-                }
-                MeResponse me = authApi.me(); // your tolerant/profile call
-                SessionStore.setMe(me);
-                String full = (me.getFirstName() == null ? "" : me.getFirstName());
-                if (me.getLastName() != null && !me.getLastName().isBlank()) full += (full.isBlank() ? "" : " ") + me.getLastName();
-                if (full.isBlank()) full = me.getUsername();
-
-                welcome.setText(full.isBlank() ? "Welcome" : ("Welcome, " + full));
-                name.setText(full);
-                email.setText(me.getEmail());
-                role.setText(me.getRole());
-                loadMyEnrollments(me.getId());
-                loadUpcomingQuizzes(me.getId());
-            } catch (ApiException ex) {
-                ErrorDialog.showError(ex.getMessage(), ex.getErrorCode());
-            } catch (Exception ex) {
-                ErrorDialog.showError("Failed to load profile: " + ex.getMessage());
+            if (!TokenStore.hasToken()) {
+                AlertUtils.warn("No token present. Please login again.");
+                Launcher.go("login.fxml", "Login");
+                return;
             }
+            FxAsync.deliver(authApi.meAsync(), this::showProfile,
+                    ex -> ErrorDialog.showFailure("Failed to load profile", ex));
         });
     }
 
+    private void showProfile(MeResponse me) {
+        SessionStore.setMe(me);
+        String full = (me.getFirstName() == null ? "" : me.getFirstName());
+        if (me.getLastName() != null && !me.getLastName().isBlank()) full += (full.isBlank() ? "" : " ") + me.getLastName();
+        if (full.isBlank()) full = me.getUsername();
+
+        welcome.setText(full.isBlank() ? "Welcome" : ("Welcome, " + full));
+        name.setText(full);
+        email.setText(me.getEmail());
+        role.setText(me.getRole());
+        loadMyEnrollments(me.getId());
+        loadUpcomingQuizzes(me.getId());
+    }
+
     private void loadMyEnrollments(Long userId) {
         if (userId == null || myEnrollmentsTable == null) return;
-        CompletableFuture.runAsync(() -> {
-            try {
-                var resp = enrollmentApi.listByCurrentUser(userId);
-                Platform.runLater(() -> myEnrollments.setAll(resp != null ? java.util.Arrays.asList(resp) : java.util.List.of()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load your enrollments: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(enrollmentApi.listByStudentAsync(userId),
+                resp -> myEnrollments.setAll(resp != null ? java.util.Arrays.asList(resp) : java.util.List.of()),
+                ex -> ErrorDialog.showFailure("Failed to load your enrollments", ex));
     }
 
     private void loadUpcomingQuizzes(Long userId) {
         if (userId == null || upcomingQuizTable == null) return;
-        CompletableFuture.runAsync(() -> {
-            try {
-                var enrollments = enrollmentApi.listByCurrentUser(userId);
-                if (enrollments == null) enrollments = new EnrollmentResponse[0];
-                courseTitles.clear();
-                List<QuizSummaryDto> pending = new ArrayList<>();
-                Set<Long> added = new HashSet<>();
-                for (EnrollmentResponse er : enrollments) {
-                    if (er.getCourseId() == null) continue;
-                    try {
-                        CourseDetailDto detail = courseApi.get(er.getCourseId());
-                        if (detail == null) continue;
-                        courseTitles.put(detail.getId(), detail.getTitle());
-                        if (detail.getQuizzes() == null) continue;
-                        for (QuizSummaryDto q : detail.getQuizzes()) {
-                            if (q == null || q.getId() == null || added.contains(q.getId())) continue;
-                            QuizResultDto r = null;
-                            try { r = quizApi.myResult(q.getId()); } catch (Exception ignored) {}
-                            if (r == null) {
-                                pending.add(q);
-                                added.add(q.getId());
-                            }
-                        }
-                    } catch (Exception ignored) {}
+        FxAsync.deliver(quizApi.pendingQuizzesAsync(), pending -> {
+            courseTitles.clear();
+            for (PendingQuizDto q : pending) {
+                if (q.getCourseId() != null && q.getCourseTitle() != null) {
+                    courseTitles.put(q.getCourseId(), q.getCourseTitle());
                 }
-                Platform.runLater(() -> upcomingQuizzes.setAll(pending));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load upcoming quizzes: " + ex.getMessage()));
             }
-        });
+            upcomingQuizzes.setAll(List.<QuizSummaryDto>of(pending));
+        }, ex -> ErrorDialog.showFailure("Failed to load upcoming quizzes", ex));
     }
 
     private void openCourse(EnrollmentResponse er) {
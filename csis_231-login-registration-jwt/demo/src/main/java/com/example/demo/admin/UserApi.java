@@ -7,6 +7,8 @@ import com.example.demo.common.PagedResponse;
 import com.example.demo.model.User;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * API client for user management endpoints.
  */
@@ -25,6 +27,18 @@ public class UserApi {
         return client.getPage(path, User.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #list(int, int)}; cancelling the future
+     * aborts the request.
+     *
+     * @param page the zero-based page index
+     * @param size the number of users per page
+     * @return a future completing with the page of users
+     */
+    public CompletableFuture<PageResponse<User>> listAsync(int page, int size) {
+        return client.getPageAsync("/api/csis-users?page=" + page + "&size=" + size, User.class);
+    }
+
     /**
      * Finds first user whose username or email matches the given identifier.
      * Scans first 200 results to avoid backend changes.
@@ -32,16 +46,34 @@ public class UserApi {
     public java.util.Optional<User> findByIdentifier(String identifier) {
         if (identifier == null || identifier.isBlank()) return java.util.Optional.empty();
         try {
-            PageResponse<User> page = client.getPage("/api/csis-users?page=0&size=200", User.class);
+            PageResponse<User> page = client.getPage("/api/csis-users?page=0&size=200", User.class,
+                    u -> identifier.equalsIgnoreCase(u.getUsername()) || identifier.equalsIgnoreCase(u.getEmail()));
             if (page != null && page.getContent() != null) {
-                return page.getContent().stream()
-                        .filter(u -> identifier.equalsIgnoreCase(u.getUsername()) || identifier.equalsIgnoreCase(u.getEmail()))
-                        .findFirst();
+                return page.getContent().stream().findFirst();
             }
         } catch (Exception ignored) {}
         return java.util.Optional.empty();
     }
 
+    /**
+     * Asynchronous variant of {@link #findByIdentifier(String)}. Unlike the
+     * blocking method, a failed lookup completes the future exceptionally
+     * instead of reporting "not found".
+     *
+     * @param identifier the username or e-mail to look for
+     * @return a future completing with the first matching user, if any
+     */
+    public CompletableFuture<java.util.Optional<User>> findByIdentifierAsync(String identifier) {
+        if (identifier == null || identifier.isBlank()) {
+            return CompletableFuture.completedFuture(java.util.Optional.empty());
+        }
+        return ApiClient.map(client.getPageAsync("/api/csis-users?page=0&size=200", User.class,
+                        u -> identifier.equalsIgnoreCase(u.getUsername()) || identifier.equalsIgnoreCase(u.getEmail())),
+                page -> page != null && page.getContent() != null
+                        ? page.getContent().stream().findFirst()
+                        : java.util.Optional.<User>empty());
+    }
+
     /**
      * Returns a filtered list of instructors (role = INSTRUCTOR) from the first page.
      *
@@ -49,15 +81,26 @@ public class UserApi {
      * @return list of instructor users
      */
     public java.util.List<User> listInstructors(int pageSize) {
-        PageResponse<User> page = client.getPage("/api/csis-users?page=0&size=" + pageSize, User.class);
+        PageResponse<User> page = client.getPage("/api/csis-users?page=0&size=" + pageSize, User.class,
+                u -> "INSTRUCTOR".equalsIgnoreCase(u.getRole()));
         if (page != null && page.getContent() != null) {
-            return page.getContent().stream()
-                    .filter(u -> "INSTRUCTOR".equalsIgnoreCase(u.getRole()))
-                    .toList();
+            return page.getContent();
         }
         return java.util.List.of();
     }
 
+    /**
+     * Asynchronous variant of {@link #listInstructors(int)}.
+     *
+     * @param pageSize the number of users to fetch from the first page
+     * @return a future completing with the instructor users
+     */
+    public CompletableFuture<java.util.List<User>> listInstructorsAsync(int pageSize) {
+        return ApiClient.map(client.getPageAsync("/api/csis-users?page=0&size=" + pageSize, User.class,
+                        u -> "INSTRUCTOR".equalsIgnoreCase(u.getRole())),
+                page -> page != null && page.getContent() != null ? page.getContent() : java.util.List.<User>of());
+    }
+
 
     /**
      * Retrieves a user by identifier.
@@ -79,6 +122,16 @@ public class UserApi {
         return client.post("/api/csis-users", user, new TypeReference<User>() {}).getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #create(User)}.
+     *
+     * @param user the user payload
+     * @return a future completing with the created {@link User}
+     */
+    public CompletableFuture<User> createAsync(User user) {
+        return ApiClient.bodyOf(client.postAsync("/api/csis-users", user, new TypeReference<User>() {}));
+    }
+
     /**
      * Updates an existing user; the user id must be present.
      *
@@ -92,6 +145,19 @@ public class UserApi {
         return client.put("/api/csis-users/" + user.getId(), user, new TypeReference<User>() {}).getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #update(User)}; the user id must be present.
+     *
+     * @param user the user payload with id
+     * @return a future completing with the updated {@link User}
+     */
+    public CompletableFuture<User> updateAsync(User user) {
+        if (user.getId() == null) {
+            throw new IllegalArgumentException("User id must not be null for update");
+        }
+        return ApiClient.bodyOf(client.putAsync("/api/csis-users/" + user.getId(), user, new TypeReference<User>() {}));
+    }
+
     /**
      * Deletes a user by identifier.
      *
@@ -100,4 +166,14 @@ public class UserApi {
     public void delete(Long id) {
         client.delete("/api/csis-users/" + id);
     }
+
+    /**
+     * Asynchronous variant of {@link #delete(Long)}.
+     *
+     * @param id the user id
+     * @return a future completing once the user is deleted
+     */
+    public CompletableFuture<Void> deleteAsync(Long id) {
+        return ApiClient.bodyOf(client.deleteAsync("/api/csis-users/" + id));
+    }
 }
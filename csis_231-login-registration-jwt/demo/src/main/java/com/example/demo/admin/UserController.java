@@ -3,7 +3,6 @@ package com.example.demo.admin;
 import com.example.demo.Launcher;
 import com.example.demo.common.*;
 import com.example.demo.model.User;
-import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -46,6 +45,7 @@ public class UserController {
     @FXML private Label userCountLabel;
 
     private final UserApi userApi = new UserApi();
+    private CompletableFuture<?> pendingLoad;
 
     // Data pipeline (strictly User)
     private final ObservableList<User> master   = FXCollections.observableArrayList();
@@ -53,6 +53,12 @@ public class UserController {
     private final SortedList<User>     sorted   = new SortedList<>(filtered);
     private long totalUsers;
 
+    // Filtering is local, so the pipeline only debounces keystrokes (no cache needed)
+    private final DebouncedSearch<String> userSearch = DebouncedSearch.of(q -> q)
+            .onResult(q -> refreshUserFilters())
+            .cache(0, null)
+            .build();
+
     @FXML
     /**
      * Initializes table bindings, filters, and triggers the initial load of users.
@@ -126,9 +132,9 @@ public class UserController {
             activeFilterChoice.getSelectionModel().select("All");
         }
 
-        // Live filtering
+        // Live filtering (typing is debounced; choice boxes apply at once)
         ChangeListener<Object> refilter = (obs, o, n) -> refreshUserFilters();
-        userSearchField.textProperty().addListener(refilter);
+        userSearchField.textProperty().addListener((obs, o, n) -> userSearch.submit(n));
         roleFilter.getSelectionModel().selectedItemProperty().addListener(refilter);
         activeFilterChoice.getSelectionModel().selectedItemProperty().addListener(refilter);
 
@@ -140,27 +146,20 @@ public class UserController {
     }
 
     /**
-     * Loads users asynchronously and populates the table.
+     * Loads users asynchronously and populates the table. A newer load
+     * cancels the one still in flight.
      */
     private void loadUsers() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                PageResponse<User> response = userApi.list(0, 50);
-                List<User> list = response != null && response.getContent() != null
-                        ? response.getContent()
-                        : Collections.emptyList();
-                totalUsers = response != null ? response.getTotalElements() : list.size();
-                Platform.runLater(() -> {
-                    master.setAll(list);
-                    refreshUserFilters(); // applies defaults and shows all rows
-                    updateUserCount();
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load users: " + ex.getMessage()));
-            }
-        });
+        if (pendingLoad != null) pendingLoad.cancel(true);
+        pendingLoad = FxAsync.deliver(userApi.listAsync(0, 50), response -> {
+            List<User> list = response != null && response.getContent() != null
+                    ? response.getContent()
+                    : Collections.emptyList();
+            totalUsers = response != null ? response.getTotalElements() : list.size();
+            master.setAll(list);
+            refreshUserFilters(); // applies defaults and shows all rows
+            updateUserCount();
+        }, ex -> ErrorDialog.showFailure("Failed to load users", ex));
     }
 
     private void refreshUserFilters() {
@@ -226,34 +225,25 @@ public class UserController {
             AlertUtils.warn("Please fill in username, email and password.");
             return;
         }
-        CompletableFuture.runAsync(() -> {
-            try {
-                User u = new User();
-                u.setUsername(username);
-                u.setEmail(email);
-                u.setPassword(password);
-                u.setFirstName(trimOrNull(firstNameField.getText()));
-                u.setLastName(trimOrNull(lastNameField.getText()));
-                u.setPhone(trimOrNull(phoneField.getText()));
-                u.setRole(userRoleChoiceBox.getValue());
-                u.setIsActive(activeCheck.isSelected());
-                u.setTwoFactorEnabled(twoFaCheck.isSelected());
-                u.setEmailVerified(emailVerifiedCheck.isSelected());
-
-                User created = userApi.create(u);
-                Platform.runLater(() -> {
-                    master.add(created);
-                    totalUsers++;
-                    clearForm();
-                    updateUserCount();
-                    // No need to call refresh; current predicate already shows all when q is empty
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to add user: " + ex.getMessage()));
-            }
-        });
+        User u = new User();
+        u.setUsername(username);
+        u.setEmail(email);
+        u.setPassword(password);
+        u.setFirstName(trimOrNull(firstNameField.getText()));
+        u.setLastName(trimOrNull(lastNameField.getText()));
+        u.setPhone(trimOrNull(phoneField.getText()));
+        u.setRole(userRoleChoiceBox.getValue());
+        u.setIsActive(activeCheck.isSelected());
+        u.setTwoFactorEnabled(twoFaCheck.isSelected());
+        u.setEmailVerified(emailVerifiedCheck.isSelected());
+
+        FxAsync.deliver(userApi.createAsync(u), created -> {
+            master.add(created);
+            totalUsers++;
+            clearForm();
+            updateUserCount();
+            // No need to call refresh; current predicate already shows all when q is empty
+        }, ex -> ErrorDialog.showFailure("Failed to add user", ex));
     }
 
     @FXML
@@ -271,40 +261,31 @@ public class UserController {
             return;
         }
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                User u = new User();
-                u.setId(selected.getId());
-                u.setUsername(username);
-                u.setEmail(email);
-                String pw = userPasswordField.getText();
-                if (pw != null && !pw.isBlank()) u.setPassword(pw);
-
-                u.setFirstName(trimOrNull(firstNameField.getText()));
-                u.setLastName(trimOrNull(lastNameField.getText()));
-                u.setPhone(trimOrNull(phoneField.getText()));
-                u.setRole(userRoleChoiceBox.getValue());
-                u.setIsActive(activeCheck.isSelected());
-                u.setTwoFactorEnabled(twoFaCheck.isSelected());
-                u.setEmailVerified(emailVerifiedCheck.isSelected());
-
-                User updated = userApi.update(u);
-                Platform.runLater(() -> {
-                    for (int i = 0; i < master.size(); i++) {
-                        if (master.get(i).getId().equals(selected.getId())) {
-                            master.set(i, updated);
-                            break;
-                        }
-                    }
-                    clearForm();
-                    updateUserCount();
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to update user: " + ex.getMessage()));
+        User u = new User();
+        u.setId(selected.getId());
+        u.setUsername(username);
+        u.setEmail(email);
+        String pw = userPasswordField.getText();
+        if (pw != null && !pw.isBlank()) u.setPassword(pw);
+
+        u.setFirstName(trimOrNull(firstNameField.getText()));
+        u.setLastName(trimOrNull(lastNameField.getText()));
+        u.setPhone(trimOrNull(phoneField.getText()));
+        u.setRole(userRoleChoiceBox.getValue());
+        u.setIsActive(activeCheck.isSelected());
+        u.setTwoFactorEnabled(twoFaCheck.isSelected());
+        u.setEmailVerified(emailVerifiedCheck.isSelected());
+
+        FxAsync.deliver(userApi.updateAsync(u), updated -> {
+            for (int i = 0; i < master.size(); i++) {
+                if (master.get(i).getId().equals(selected.getId())) {
+                    master.set(i, updated);
+                    break;
+                }
             }
-        });
+            clearForm();
+            updateUserCount();
+        }, ex -> ErrorDialog.showFailure("Failed to update user", ex));
     }
 
     @FXML
@@ -314,21 +295,12 @@ public class UserController {
     private void onDeleteUser() {
         User selected = userTable.getSelectionModel().getSelectedItem();
         if (selected == null) { AlertUtils.warn("Please select a user to delete."); return; }
-        CompletableFuture.runAsync(() -> {
-            try {
-                userApi.delete(selected.getId());
-                Platform.runLater(() -> {
-                    master.removeIf(u -> u.getId().equals(selected.getId()));
-                    if (totalUsers > 0) { totalUsers--; }
-                    clearForm();
-                    updateUserCount();
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to delete user: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(userApi.deleteAsync(selected.getId()), ignored -> {
+            master.removeIf(u -> u.getId().equals(selected.getId()));
+            if (totalUsers > 0) { totalUsers--; }
+            clearForm();
+            updateUserCount();
+        }, ex -> ErrorDialog.showFailure("Failed to delete user", ex));
     }
 
     private void clearForm() {
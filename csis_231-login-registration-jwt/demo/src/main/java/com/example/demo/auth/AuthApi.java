@@ -3,6 +3,7 @@ package com.example.demo.auth;
 import com.example.demo.common.AlertUtils;
 import com.example.demo.common.ApiClient;
 import com.example.demo.common.ApiResponse;
+import com.example.demo.common.SessionStore;
 import com.example.demo.common.TokenStore;
 import com.example.demo.model.AuthResponse;
 import com.example.demo.model.LoginRequest;
@@ -13,6 +14,7 @@ import com.example.demo.model.ResetPasswordRequest;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Authentication API wrapper used by the JavaFX client.
@@ -41,7 +43,7 @@ public class AuthApi {
 
         AuthResponse auth = client.read(response.getRawBody(), new TypeReference<AuthResponse>() {});
         if (auth != null && auth.getToken() != null && !auth.getToken().isBlank()) {
-            TokenStore.set(auth.getToken());
+            TokenStore.set(auth.getToken(), auth.getRefreshToken());
         }
         return auth;
     }
@@ -56,7 +58,7 @@ public class AuthApi {
     }
 
     /**
-     * Verifies an OTP and stores the issued JWT on success.
+     * Verifies an OTP and stores the issued JWT and refresh token on success.
      *
      * @param req the OTP verification payload
      * @return the authenticated {@link AuthResponse}
@@ -65,7 +67,7 @@ public class AuthApi {
         ApiResponse<AuthResponse> resp = client.post("/api/auth/otp/verify", req, new TypeReference<AuthResponse>() {});
         AuthResponse body = resp.getBody();
         if (body != null && body.getToken() != null && !body.getToken().isBlank()) {
-            TokenStore.set(body.getToken());
+            TokenStore.set(body.getToken(), body.getRefreshToken());
         }
         return body;
     }
@@ -105,4 +107,29 @@ public class AuthApi {
     public MeResponse me() {
         return client.get("/api/csis-users/me", new TypeReference<MeResponse>() {}).getBody();
     }
+
+    /**
+     * Asynchronous variant of {@link #me()}; cancelling the future aborts the
+     * request.
+     *
+     * @return a future completing with the current user's profile
+     */
+    public CompletableFuture<MeResponse> meAsync() {
+        return ApiClient.bodyOf(client.getAsync("/api/csis-users/me", new TypeReference<MeResponse>() {}));
+    }
+
+    /**
+     * Returns the profile cached in {@link SessionStore}, or fetches it and
+     * caches it.
+     *
+     * @return a future completing with the current user's profile
+     */
+    public CompletableFuture<MeResponse> currentUserAsync() {
+        MeResponse cached = SessionStore.getMe();
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+        return ApiClient.map(meAsync(), me -> {
+            SessionStore.setMe(me);
+            return me;
+        });
+    }
 }
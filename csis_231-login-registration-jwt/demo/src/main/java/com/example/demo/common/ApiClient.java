@@ -1,10 +1,12 @@
 package com.example.demo.common;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.example.demo.common.PageResponse;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.example.demo.model.AuthResponse;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import java.io.IOException;
@@ -12,27 +14,99 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Shared HTTP client that adds auth headers, parses JSON and normalizes errors.
+ *
+ * <p>Every call is built on {@link HttpClient#sendAsync}: the {@code *Async}
+ * methods return a {@link CompletableFuture} whose {@code cancel(true)} aborts
+ * the in-flight exchange, and the blocking methods simply wait for that
+ * future (interrupting the waiting thread cancels the request). Use
+ * {@link FxAsync#deliver} to hand results to the JavaFX thread.</p>
+ *
+ * <p>The client owns its threads: network I/O runs on the HTTP client's own
+ * daemon pool, and {@link #runAsync(Runnable)} / {@link #supplyAsync(Supplier)}
+ * run blocking API-wrapper code on a separate bounded worker pool
+ * ({@code http.client.workers}, default 8), never on the common fork-join
+ * pool.</p>
+ *
+ * <p>Access tokens are short-lived. When an authenticated request comes back
+ * {@code 401}, the client exchanges the stored refresh token at
+ * {@code /api/auth/refresh} once and replays the request with the new access
+ * token, so an expired token never sends the user back through password and
+ * OTP login. Concurrent 401s share a single refresh.</p>
+ *
+ * <p>GET responses go through a shared {@link HttpCache}: fresh entries are
+ * served locally, stale ones are revalidated with {@code If-None-Match}, and
+ * any write to a resource drops its cached entries.</p>
  */
 public class ApiClient {
     private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final ExecutorService HTTP_EXECUTOR = Executors.newCachedThreadPool(daemon("api-http"));
+    private static final ExecutorService WORKERS = workers();
     private static final HttpClient CLIENT = HttpClient.newBuilder()
             .connectTimeout(TIMEOUT)
+            .executor(HTTP_EXECUTOR)
             .build();
     private static final ObjectMapper MAPPER = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
+    private static final HttpCache CACHE = HttpCache.fromProps();
+    private static final Map<JavaType, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final JavaType ERROR_TYPE = MAPPER.constructType(ErrorResponse.class);
+    private static final byte[] EMPTY_OBJECT = {'{', '}'};
+
     private final String baseUrl;
 
+    /** Raw status and body of an exchange, possibly served from the cache. */
+    private record Reply(int statusCode, byte[] body) {
+    }
+
     public ApiClient() {
-        String url = ClientProps.getOr("baseUrl", "http://localhost:8080");
-        this.baseUrl = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        this.baseUrl = baseUrl();
+    }
+
+    /**
+     * Runs blocking client work (e.g. several API-wrapper calls) on the
+     * client's worker pool.
+     *
+     * @param task the work to run
+     * @return a future completing when the task finishes
+     */
+    public static CompletableFuture<Void> runAsync(Runnable task) {
+        return CompletableFuture.runAsync(task, WORKERS);
+    }
+
+    /**
+     * Computes a value with blocking client work on the client's worker pool.
+     *
+     * @param task the work to run
+     * @param <T>  the result type
+     * @return a future completing with the task's result
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, WORKERS);
     }
 
     /**
@@ -45,8 +119,19 @@ public class ApiClient {
      * @throws ApiException if the server returns a non-2xx status or parsing fails
      */
     public <T> ApiResponse<T> get(String path, TypeReference<T> typeRef) {
-        HttpRequest request = baseRequest(path).GET().build();
-        return send(request, typeRef);
+        return await(getAsync(path, typeRef));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, TypeReference)}.
+     *
+     * @param path    the relative or absolute path to invoke
+     * @param typeRef the target type for the JSON body
+     * @param <T>     the generic response type
+     * @return a cancellable future completing with the response or an {@link ApiException}
+     */
+    public <T> CompletableFuture<ApiResponse<T>> getAsync(String path, TypeReference<T> typeRef) {
+        return sendAsync(baseRequest(path).GET().build(), typeRef);
     }
 
     /**
@@ -58,12 +143,7 @@ public class ApiClient {
      * @throws ApiException if the server returns a non-2xx status or parsing fails
      */
     public ApiResponse<String> post(String path, Object payload) {
-        HttpRequest request = baseRequest(path)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(toJson(payload)))
-                .build();
-
-        return send(request, null);
+        return await(postAsync(path, payload, null));
     }
 
     /**
@@ -77,11 +157,24 @@ public class ApiClient {
      * @throws ApiException if the server returns a non-2xx status or parsing fails
      */
     public <T> ApiResponse<T> post(String path, Object payload, TypeReference<T> typeRef) {
+        return await(postAsync(path, payload, typeRef));
+    }
+
+    /**
+     * Asynchronous variant of {@link #post(String, Object, TypeReference)}.
+     *
+     * @param path    the relative or absolute path to invoke
+     * @param payload the payload to serialize as JSON
+     * @param typeRef the target type for the JSON body, or {@code null} to skip parsing
+     * @param <T>     the generic response type
+     * @return a cancellable future completing with the response or an {@link ApiException}
+     */
+    public <T> CompletableFuture<ApiResponse<T>> postAsync(String path, Object payload, TypeReference<T> typeRef) {
         HttpRequest request = baseRequest(path)
                 .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(toJson(payload)))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(payload)))
                 .build();
-        return send(request, typeRef);
+        return sendAsync(request, typeRef);
     }
 
     /**
@@ -95,11 +188,24 @@ public class ApiClient {
      * @throws ApiException if the server returns a non-2xx status or parsing fails
      */
     public <T> ApiResponse<T> put(String path, Object payload, TypeReference<T> typeRef) {
+        return await(putAsync(path, payload, typeRef));
+    }
+
+    /**
+     * Asynchronous variant of {@link #put(String, Object, TypeReference)}.
+     *
+     * @param path    the relative or absolute path to invoke
+     * @param payload the payload to serialize as JSON
+     * @param typeRef the target type for the JSON body
+     * @param <T>     the generic response type
+     * @return a cancellable future completing with the response or an {@link ApiException}
+     */
+    public <T> CompletableFuture<ApiResponse<T>> putAsync(String path, Object payload, TypeReference<T> typeRef) {
         HttpRequest request = baseRequest(path)
                 .header("Content-Type", "application/json")
-                .PUT(HttpRequest.BodyPublishers.ofString(toJson(payload)))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(toJson(payload)))
                 .build();
-        return send(request, typeRef);
+        return sendAsync(request, typeRef);
     }
 
     /**
@@ -109,8 +215,82 @@ public class ApiClient {
      * @throws ApiException if the server returns a non-2xx status or parsing fails
      */
     public void delete(String path) {
-        HttpRequest request = baseRequest(path).DELETE().build();
-        send(request, null);
+        await(deleteAsync(path));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @param path the relative or absolute path to invoke
+     * @return a cancellable future completing when the resource is deleted
+     */
+    public CompletableFuture<ApiResponse<Void>> deleteAsync(String path) {
+        return sendAsync(baseRequest(path).DELETE().build(), null);
+    }
+
+    /**
+     * Maps a response future to its body; cancelling the returned future
+     * still aborts the underlying request.
+     *
+     * @param response the pending response
+     * @param <T>      the body type
+     * @return a future completing with the parsed body
+     */
+    public static <T> CompletableFuture<T> bodyOf(CompletableFuture<ApiResponse<T>> response) {
+        return mapCancellable(response, ApiResponse::getBody);
+    }
+
+    /**
+     * Maps a pending result; cancelling the returned future still aborts the
+     * underlying request.
+     *
+     * @param source the pending result
+     * @param fn     the mapping, run on the thread that completes {@code source}
+     * @param <A>    the source type
+     * @param <B>    the mapped type
+     * @return a future completing with the mapped result
+     */
+    public static <A, B> CompletableFuture<B> map(CompletableFuture<A> source, Function<? super A, ? extends B> fn) {
+        return mapCancellable(source, fn::apply);
+    }
+
+    /**
+     * Starts {@code next} with the result of {@code first}, for requests that
+     * depend on an earlier response. Cancelling the returned future aborts
+     * whichever request is in flight.
+     *
+     * @param first the first pending result
+     * @param next  starts the follow-up request
+     * @param <A>   the first result type
+     * @param <B>   the final result type
+     * @return a future completing with the follow-up's result
+     */
+    public static <A, B> CompletableFuture<B> compose(CompletableFuture<A> first,
+                                                      Function<? super A, ? extends CompletableFuture<B>> next) {
+        CompletableFuture<B> result = new CompletableFuture<>();
+        AtomicReference<Future<?>> inFlight = new AtomicReference<>();
+        result.whenComplete((r, ex) -> {
+            Future<?> step = inFlight.get();
+            if (result.isCancelled() && step != null) step.cancel(true);
+        });
+        track(result, inFlight, first).whenComplete((value, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(FxAsync.unwrap(ex));
+                return;
+            }
+            CompletableFuture<B> second;
+            try {
+                second = next.apply(value);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            track(result, inFlight, second).whenComplete((b, nextEx) -> {
+                if (nextEx != null) result.completeExceptionally(FxAsync.unwrap(nextEx));
+                else result.complete(b);
+            });
+        });
+        return result;
     }
 
     /**
@@ -122,7 +302,22 @@ public class ApiClient {
      * @return the parsed object
      */
     public <T> T read(String payload, TypeReference<T> typeRef) {
-        return parseBody(payload, typeRef);
+        if (typeRef == null || payload == null || payload.isBlank()) {
+            return null;
+        }
+        try {
+            return reader(typeRef).readValue(payload);
+        } catch (Exception e) {
+            String snippet = payload.length() > 400 ? payload.substring(0, 400) + "..." : payload;
+            throw new ApiException(0, "Unexpected response format: " + snippet, null, e);
+        }
+    }
+
+    /**
+     * Drops every cached GET response, e.g. when the user logs out.
+     */
+    public static void clearCache() {
+        CACHE.clear();
     }
 
     private HttpRequest.Builder baseRequest(String path) {
@@ -137,120 +332,354 @@ public class ApiClient {
         return builder;
     }
 
-    private <T> ApiResponse<T> send(HttpRequest request, TypeReference<T> typeRef) {
-        try {
-            HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+    private <T> CompletableFuture<ApiResponse<T>> sendAsync(HttpRequest request, TypeReference<T> typeRef) {
+        return mapCancellable(exchangeAsync(request), response -> {
             int status = response.statusCode();
 
             if (status < 200 || status >= 300) {
-                ErrorResponse err = parseBody(response.body(), new TypeReference<ErrorResponse>() {});
-                String message = err != null && err.getMessage() != null
-                        ? err.getMessage()
-                        : (response.body() != null && !response.body().isBlank() ? response.body() : "Request failed");
-                String code = err != null ? err.getCode() : null;
-                throw new ApiException(status, message, code);
+                throw error(status, response.body(), "Request failed");
             }
 
             T body = parseBody(response.body(), typeRef);
             return new ApiResponse<>(status, body, response.body());
-        } catch (ApiException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new ApiException(0, "Request failed: " + e.getMessage(), null, e);
+        });
+    }
+
+    private CompletableFuture<Reply> exchangeAsync(HttpRequest request) {
+        if (!"GET".equals(request.method())) {
+            CompletableFuture<HttpResponse<byte[]>> write = executeAsync(request);
+            write.whenComplete((r, ex) -> CACHE.invalidate(request.uri()));
+            return mapCancellable(write, response -> new Reply(response.statusCode(), response.body()));
+        }
+        Optional<HttpCache.Entry> cached = CACHE.get(request.uri());
+        if (cached.isPresent() && cached.get().isFresh()) {
+            return CompletableFuture.completedFuture(new Reply(200, cached.get().body()));
+        }
+        HttpRequest conditional = cached.filter(HttpCache.Entry::hasValidator)
+                .map(entry -> conditional(request, entry))
+                .orElse(request);
+        return mapCancellable(executeAsync(conditional), response -> {
+            if (response.statusCode() == 304 && cached.isPresent()) {
+                CACHE.refresh(request.uri(), cached.get(), response.headers());
+                return new Reply(200, cached.get().body());
+            }
+            if (response.statusCode() == 200) {
+                CACHE.put(request.uri(), response.body(), response.headers());
+            }
+            return new Reply(response.statusCode(), response.body());
+        });
+    }
+
+    private static HttpRequest conditional(HttpRequest request, HttpCache.Entry entry) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true);
+        if (entry.etag() != null) builder.header("If-None-Match", entry.etag());
+        if (entry.lastModified() != null) builder.header("If-Modified-Since", entry.lastModified());
+        return builder.build();
+    }
+
+    /**
+     * Sends the request and, on a {@code 401}, refreshes the tokens once and
+     * replays it. Cancelling the returned future cancels whichever step is
+     * in flight.
+     */
+    private CompletableFuture<HttpResponse<byte[]>> executeAsync(HttpRequest request) {
+        CompletableFuture<HttpResponse<byte[]>> result = new CompletableFuture<>();
+        AtomicReference<Future<?>> inFlight = new AtomicReference<>();
+        result.whenComplete((r, ex) -> {
+            Future<?> step = inFlight.get();
+            if (result.isCancelled() && step != null) step.cancel(true);
+        });
+
+        track(result, inFlight, CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()))
+                .whenComplete((response, ex) -> {
+                    if (ex != null) {
+                        result.completeExceptionally(FxAsync.unwrap(ex));
+                        return;
+                    }
+                    if (response.statusCode() != 401 || !canRefresh(request)) {
+                        result.complete(response);
+                        return;
+                    }
+                    String staleToken = request.headers().firstValue("Authorization")
+                            .map(h -> h.substring("Bearer ".length()))
+                            .orElse("");
+                    track(result, inFlight, CompletableFuture.supplyAsync(() -> refreshQuietly(staleToken), HTTP_EXECUTOR))
+                            .whenComplete((refreshed, refreshEx) -> {
+                                if (refreshEx != null || !Boolean.TRUE.equals(refreshed)) {
+                                    result.complete(response);
+                                    return;
+                                }
+                                HttpRequest retry = HttpRequest.newBuilder(request,
+                                                (name, value) -> !"Authorization".equalsIgnoreCase(name))
+                                        .header("Authorization", "Bearer " + TokenStore.get())
+                                        .build();
+                                track(result, inFlight, CLIENT.sendAsync(retry, HttpResponse.BodyHandlers.ofByteArray()))
+                                        .whenComplete((retried, retryEx) -> {
+                                            if (retryEx != null) result.completeExceptionally(FxAsync.unwrap(retryEx));
+                                            else result.complete(retried);
+                                        });
+                            });
+                });
+        return result;
+    }
+
+    private static <T> CompletableFuture<T> track(CompletableFuture<?> result, AtomicReference<Future<?>> inFlight,
+                                                  CompletableFuture<T> step) {
+        inFlight.set(step);
+        if (result.isCancelled()) step.cancel(true);
+        return step;
+    }
+
+    /**
+     * Like {@code source.thenApply(fn)}, but cancelling the returned future
+     * also cancels {@code source}.
+     */
+    private static <A, B> CompletableFuture<B> mapCancellable(CompletableFuture<A> source, Function<A, B> fn) {
+        CompletableFuture<B> mapped = source.thenApply(fn);
+        mapped.whenComplete((r, ex) -> {
+            if (mapped.isCancelled()) source.cancel(true);
+        });
+        return mapped;
+    }
+
+    /**
+     * Blocks until the future completes; interrupting the caller cancels the
+     * request.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiException(0, "Request interrupted", null, e);
+        } catch (ExecutionException e) {
+            Throwable cause = FxAsync.unwrap(e);
+            if (cause instanceof ApiException api) throw api;
+            throw new ApiException(0, "Request failed: " + cause.getMessage(), null, cause);
+        } catch (CancellationException e) {
+            throw new ApiException(0, "Request cancelled", null, e);
+        }
+    }
+
+    private static boolean canRefresh(HttpRequest request) {
+        return request.headers().firstValue("Authorization").isPresent()
+                && !request.uri().getPath().startsWith("/api/auth/")
+                && TokenStore.hasRefreshToken();
+    }
+
+    private static boolean refreshQuietly(String staleToken) {
+        try {
+            return refreshTokens(staleToken);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Exchanges the stored refresh token for a new token pair. Callers that
+     * lost the race to a concurrent refresh just pick up its result.
+     *
+     * @param staleToken the access token the failed request was sent with
+     * @return {@code true} when a fresh access token is available
+     */
+    private static synchronized boolean refreshTokens(String staleToken) throws InterruptedException {
+        if (TokenStore.hasToken() && !TokenStore.get().equals(staleToken)) {
+            return true;
+        }
+        String refreshToken = TokenStore.getRefresh();
+        if (refreshToken.isBlank()) {
+            return false;
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl() + "/api/auth/refresh"))
+                    .timeout(TIMEOUT)
+                    .header("Accept", "application/json")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            MAPPER.writeValueAsBytes(Map.of("refreshToken", refreshToken))))
+                    .build();
+            HttpResponse<byte[]> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 401 || response.statusCode() == 400) {
+                // refresh token expired, revoked or reused: the user has to log in again
+                TokenStore.clear();
+                return false;
+            }
+            if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                return false;
+            }
+            AuthResponse auth = reader(MAPPER.constructType(AuthResponse.class)).readValue(response.body());
+            if (auth == null || auth.getToken() == null || auth.getToken().isBlank()) {
+                return false;
+            }
+            TokenStore.set(auth.getToken(), auth.getRefreshToken());
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String baseUrl() {
+        String url = ClientProps.getOr("baseUrl", "http://localhost:8080");
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static ExecutorService workers() {
+        int size;
+        try {
+            size = Math.max(1, Integer.parseInt(ClientProps.getOr("http.client.workers", "8").trim()));
+        } catch (NumberFormatException e) {
+            size = 8;
         }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemon("api-worker"));
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
     }
 
-    private String toJson(Object payload) {
+    private byte[] toJson(Object payload) {
         try {
             if (payload == null) {
-                return "{}";
+                return EMPTY_OBJECT;
             }
             if (payload instanceof String s) {
-                return s;
+                return s.getBytes(StandardCharsets.UTF_8);
             }
-            return MAPPER.writeValueAsString(payload);
+            return MAPPER.writeValueAsBytes(payload);
         } catch (Exception e) {
             throw new ApiException(0, "Could not serialize request body", null, e);
         }
     }
 
-    private <T> T parseBody(String body, TypeReference<T> typeRef) {
-        if (typeRef == null || body == null || body.isBlank()) {
+    private <T> T parseBody(byte[] body, TypeReference<T> typeRef) {
+        if (typeRef == null || isBlank(body)) {
             return null;
         }
         try {
-            return MAPPER.readValue(body, typeRef);
+            return reader(typeRef).readValue(body);
         } catch (Exception e) {
+            String text = new String(body, StandardCharsets.UTF_8);
             // TEMPORARY DEBUG LOGGING
             System.err.println("=== JSON PARSE ERROR ===");
             System.err.println("Target type: " + typeRef.getType());
             System.err.println("Raw response body:");
-            System.err.println(body);
+            System.err.println(text);
             System.err.println("========================");
-            String snippet = body.length() > 400 ? body.substring(0, 400) + "..." : body;
+            String snippet = text.length() > 400 ? text.substring(0, 400) + "..." : text;
             throw new ApiException(0, "Unexpected response format: " + snippet, null, e);
         }
     }
+
+    /**
+     * Builds the exception for a non-2xx response, using the standard error
+     * shape when the body has one.
+     */
+    private ApiException error(int status, byte[] body, String fallback) {
+        ErrorResponse err = null;
+        if (!isBlank(body)) {
+            try {
+                err = reader(ERROR_TYPE).readValue(body);
+            } catch (Exception ignore) {
+                // fall back to the raw body
+            }
+        }
+        String message = err != null && err.getMessage() != null
+                ? err.getMessage()
+                : (!isBlank(body) ? new String(body, StandardCharsets.UTF_8) : fallback);
+        String code = err != null ? err.getCode() : null;
+        return new ApiException(status, message, code);
+    }
+
+    /**
+     * Returns the shared reader for a target type, creating it on first use.
+     */
+    private static ObjectReader reader(TypeReference<?> typeRef) {
+        return reader(MAPPER.getTypeFactory().constructType(typeRef));
+    }
+
+    private static ObjectReader reader(JavaType type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    private static boolean isBlank(byte[] body) {
+        if (body == null) return true;
+        for (byte b : body) {
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') return false;
+        }
+        return true;
+    }
+
     /**
      * Helper for paginated endpoints (Page<T> style JSON).
-     * It parses the page envelope manually and maps each item to the given itemClass.
+     * Items are bound one by one while the body is parsed, without building
+     * a JSON tree (see {@link PageReader}).
      */
     public <T> PageResponse<T> getPage(String path, Class<T> itemClass) {
+        return getPage(path, itemClass, item -> true);
+    }
+
+    /**
+     * Like {@link #getPage(String, Class)}, but only keeps the items accepted
+     * by {@code keep}; the others are discarded as soon as they are parsed.
+     *
+     * @param path      the relative or absolute path to invoke
+     * @param itemClass the page item type
+     * @param keep      decides which items end up in the page content
+     * @param <T>       the item type
+     * @return the page metadata and the kept items
+     */
+    public <T> PageResponse<T> getPage(String path, Class<T> itemClass, Predicate<? super T> keep) {
+        return await(getPageAsync(path, itemClass, keep));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPage(String, Class)}.
+     *
+     * @param path      the relative or absolute path to invoke
+     * @param itemClass the page item type
+     * @param <T>       the item type
+     * @return a cancellable future completing with the page or an {@link ApiException}
+     */
+    public <T> CompletableFuture<PageResponse<T>> getPageAsync(String path, Class<T> itemClass) {
+        return getPageAsync(path, itemClass, item -> true);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPage(String, Class, Predicate)}.
+     *
+     * @param path      the relative or absolute path to invoke
+     * @param itemClass the page item type
+     * @param keep      decides which items end up in the page content
+     * @param <T>       the item type
+     * @return a cancellable future completing with the page or an {@link ApiException}
+     */
+    public <T> CompletableFuture<PageResponse<T>> getPageAsync(String path, Class<T> itemClass,
+                                                               Predicate<? super T> keep) {
         HttpRequest request = baseRequest(path)
                 .GET()
                 .build();
-
-        try {
-            HttpResponse<String> response =
-                    CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-
+        return mapCancellable(exchangeAsync(request), response -> {
             int status = response.statusCode();
-            String body = response.body();
-
             if (status < 200 || status >= 300) {
-                // Try to parse the standard error shape
-                ErrorResponse err = null;
-                try {
-                    err = MAPPER.readValue(body, ErrorResponse.class);
-                } catch (Exception ignore) {
-                    // fall back to generic message
-                }
-
-                String message = (err != null && err.getMessage() != null)
-                        ? err.getMessage()
-                        : ("Request failed with HTTP status " + status);
-                String code = (err != null ? err.getCode() : null);
-
-                throw new ApiException(status, message, code);
+                throw error(status, response.body(), "Request failed with HTTP status " + status);
             }
-
-            // ✅ Manually parse the page JSON
-            JsonNode root = MAPPER.readTree(body);
-
-            PageResponse<T> page = new PageResponse<>();
-            page.setNumber(root.path("number").asInt());
-            page.setSize(root.path("size").asInt());
-            page.setTotalElements(root.path("totalElements").asLong());
-            page.setTotalPages(root.path("totalPages").asInt());
-            page.setFirst(root.path("first").asBoolean());
-            page.setLast(root.path("last").asBoolean());
-
-            List<T> items = new ArrayList<>();
-            JsonNode contentNode = root.path("content");
-            if (contentNode.isArray()) {
-                for (JsonNode node : contentNode) {
-                    T item = MAPPER.treeToValue(node, itemClass);
-                    items.add(item);
-                }
+            try (JsonParser parser = MAPPER.createParser(response.body())) {
+                return new PageReader<T>(reader(MAPPER.constructType(itemClass))).read(parser, keep);
+            } catch (IOException e) {
+                throw new ApiException(0, "Could not parse page response", null, e);
             }
-            page.setContent(items);
-
-            return page;
-        } catch (IOException | InterruptedException e) {
-            throw new ApiException(0, "Request failed: " + e.getMessage(), null, e);
-        } catch (Exception e) {
-            throw new ApiException(0, "Could not parse page response", null, e);
-        }
+        });
     }
 
 }
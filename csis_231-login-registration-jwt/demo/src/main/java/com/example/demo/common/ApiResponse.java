@@ -1,19 +1,32 @@
 package com.example.demo.common;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Wrapper around an HTTP response with both parsed and raw payloads.
+ *
+ * <p>The raw payload is kept as bytes and only decoded to a {@code String}
+ * when {@link #getRawBody()} is called.</p>
  */
 public class ApiResponse<T> {
     private final int statusCode;
     private final T body;
-    private final String rawBody;
+    private final byte[] rawBytes;
+    private String rawBody;
 
     public ApiResponse(int statusCode, T body, String rawBody) {
         this.statusCode = statusCode;
         this.body = body;
+        this.rawBytes = null;
         this.rawBody = rawBody;
     }
 
+    public ApiResponse(int statusCode, T body, byte[] rawBytes) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.rawBytes = rawBytes;
+    }
+
     public int getStatusCode() {
         return statusCode;
     }
@@ -23,6 +36,9 @@ public class ApiResponse<T> {
     }
 
     public String getRawBody() {
+        if (rawBody == null && rawBytes != null) {
+            rawBody = new String(rawBytes, StandardCharsets.UTF_8);
+        }
         return rawBody;
     }
 }
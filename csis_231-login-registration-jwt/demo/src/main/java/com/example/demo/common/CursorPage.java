@@ -0,0 +1,63 @@
+package com.example.demo.common;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+/**
+ * Client-side projection of the API's cursor-paginated payload.
+ *
+ * <p>Pass {@link #getNextCursor()} back to the same endpoint to fetch the next
+ * slice; it is {@code null} on the last one. {@link #getTotalElements()} is
+ * only present when the caller asked for the total.</p>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasMore;
+    private Long totalElements;
+
+    public CursorPage() {
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+}
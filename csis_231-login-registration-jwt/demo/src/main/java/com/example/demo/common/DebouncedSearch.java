@@ -0,0 +1,235 @@
+package com.example.demo.common;
+
+import javafx.application.Platform;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Debounced, cancellable type-ahead pipeline for search fields.
+ *
+ * <p>Call {@link #submit(String)} on every text change. The query only runs
+ * once the text has been stable for the quiet period; a newer submission
+ * cancels the pending or in-flight one (interrupting a blocking HTTP call).
+ * Only the result of the latest submission is delivered, on the JavaFX
+ * application thread, so a slow stale response can never overwrite a newer
+ * one. Recent results are kept in a small per-query cache.</p>
+ *
+ * <p>Queries run on a shared pool of daemon threads, so a pipeline needs no
+ * explicit shutdown.</p>
+ *
+ * @param <T> the result type
+ */
+public final class DebouncedSearch<T> {
+
+    /** Quiet period used when none is given, overridable via {@code search.debounce-ms}. */
+    public static final Duration DEFAULT_QUIET_PERIOD =
+            Duration.ofMillis(parseLong(ClientProps.getOr("search.debounce-ms", "250"), 250));
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ScheduledExecutorService EXEC = Executors.newScheduledThreadPool(2, r -> {
+        Thread t = new Thread(r, "DebouncedSearch-" + THREADS.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Function<String, T> query;
+    private final Consumer<T> onResult;
+    private final Consumer<Throwable> onError;
+    private final Duration quietPeriod;
+    private final Duration cacheTtl;
+    private final Map<String, CachedResult<T>> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private Future<?> pending;
+
+    private record CachedResult<T>(T value, long storedAtNanos) {
+    }
+
+    private DebouncedSearch(Builder<T> b) {
+        this.query = b.query;
+        this.onResult = b.onResult;
+        this.onError = b.onError;
+        this.quietPeriod = b.quietPeriod;
+        this.cacheTtl = b.cacheTtl;
+        int maxEntries = b.cacheSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult<T>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Starts building a pipeline around a blocking query function.
+     *
+     * @param query runs off the FX thread with the normalized (trimmed) text
+     * @param <T>   the result type
+     * @return a builder
+     */
+    public static <T> Builder<T> of(Function<String, T> query) {
+        return new Builder<>(query);
+    }
+
+    /**
+     * Schedules a query for the given text after the quiet period, replacing
+     * any earlier submission.
+     *
+     * @param text the current search text (may be {@code null})
+     */
+    public void submit(String text) {
+        schedule(text, quietPeriod.toMillis());
+    }
+
+    /**
+     * Runs a query for the given text immediately, e.g. from a refresh button,
+     * replacing any earlier submission.
+     *
+     * @param text the current search text (may be {@code null})
+     */
+    public void submitNow(String text) {
+        schedule(text, 0);
+    }
+
+    /**
+     * Drops cached results, e.g. after the underlying data was modified.
+     */
+    public void invalidate() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Cancels any pending or in-flight query; nothing more will be delivered
+     * until the next submission.
+     */
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+        if (pending != null) pending.cancel(true);
+        pending = null;
+    }
+
+    private synchronized void schedule(String text, long delayMillis) {
+        String key = text == null ? "" : text.trim();
+        long gen = generation.incrementAndGet();
+        if (pending != null) pending.cancel(true);
+
+        T cached = cached(key);
+        if (cached != null) {
+            pending = null;
+            deliver(gen, cached);
+            return;
+        }
+        pending = EXEC.schedule(() -> run(gen, key), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void run(long gen, String key) {
+        if (gen != generation.get()) return;
+        try {
+            T result = query.apply(key);
+            if (Thread.currentThread().isInterrupted()) return;
+            store(key, result);
+            deliver(gen, result);
+        } catch (Throwable ex) {
+            if (gen != generation.get() || Thread.currentThread().isInterrupted()) return;
+            Platform.runLater(() -> {
+                if (gen == generation.get()) onError.accept(ex);
+            });
+        }
+    }
+
+    private void deliver(long gen, T result) {
+        Platform.runLater(() -> {
+            if (gen == generation.get()) onResult.accept(result);
+        });
+    }
+
+    private T cached(String key) {
+        if (cacheTtl.isZero()) return null;
+        synchronized (cache) {
+            CachedResult<T> entry = cache.get(key);
+            if (entry == null) return null;
+            if (System.nanoTime() - entry.storedAtNanos() > cacheTtl.toNanos()) {
+                cache.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    private void store(String key, T result) {
+        if (cacheTtl.isZero() || result == null) return;
+        synchronized (cache) {
+            cache.put(key, new CachedResult<>(result, System.nanoTime()));
+        }
+    }
+
+    private static long parseLong(String value, long def) {
+        try { return Long.parseLong(value.trim()); }
+        catch (RuntimeException e) { return def; }
+    }
+
+    /**
+     * Builder for {@link DebouncedSearch}.
+     *
+     * @param <T> the result type
+     */
+    public static final class Builder<T> {
+        private final Function<String, T> query;
+        private Consumer<T> onResult = r -> {};
+        private Consumer<Throwable> onError = ex -> ErrorDialog.showError("Search failed: " + ex.getMessage());
+        private Duration quietPeriod = DEFAULT_QUIET_PERIOD;
+        private Duration cacheTtl = Duration.ofSeconds(30);
+        private int cacheSize = 32;
+
+        private Builder(Function<String, T> query) {
+            this.query = Objects.requireNonNull(query, "query");
+        }
+
+        /** Sets the FX-thread callback receiving the latest result. */
+        public Builder<T> onResult(Consumer<T> onResult) {
+            this.onResult = Objects.requireNonNull(onResult, "onResult");
+            return this;
+        }
+
+        /** Sets the FX-thread callback receiving failures of the latest query. */
+        public Builder<T> onError(Consumer<Throwable> onError) {
+            this.onError = Objects.requireNonNull(onError, "onError");
+            return this;
+        }
+
+        /** Sets how long the text must stay unchanged before a query runs. */
+        public Builder<T> quietPeriod(Duration quietPeriod) {
+            this.quietPeriod = quietPeriod == null || quietPeriod.isNegative() ? Duration.ZERO : quietPeriod;
+            return this;
+        }
+
+        /**
+         * Configures the result cache. A zero TTL or size disables caching.
+         *
+         * @param maxEntries maximum number of cached query strings
+         * @param ttl        how long a cached result stays valid
+         */
+        public Builder<T> cache(int maxEntries, Duration ttl) {
+            this.cacheSize = Math.max(0, maxEntries);
+            this.cacheTtl = ttl == null || ttl.isNegative() || maxEntries <= 0 ? Duration.ZERO : ttl;
+            return this;
+        }
+
+        /** Builds the pipeline. */
+        public DebouncedSearch<T> build() {
+            return new DebouncedSearch<>(this);
+        }
+    }
+}
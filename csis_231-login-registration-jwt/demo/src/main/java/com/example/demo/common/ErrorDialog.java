@@ -21,6 +21,21 @@ public final class ErrorDialog {
         show(Alert.AlertType.ERROR, "Error", text);
     }
 
+    /**
+     * Shows a failed request: the server's message and code for an
+     * {@link ApiException}, otherwise {@code action} followed by the failure.
+     *
+     * @param action what was attempted, e.g. {@code "Failed to load users"}
+     * @param ex     the failure, as delivered by {@link FxAsync}
+     */
+    public static void showFailure(String action, Throwable ex) {
+        if (ex instanceof ApiException api) {
+            showError(api.getMessage(), api.getErrorCode());
+        } else {
+            showError(action + ": " + ex.getMessage());
+        }
+    }
+
     public static void showInfo(String message) {
         show(Alert.AlertType.INFORMATION, "Info", message);
     }
@@ -0,0 +1,57 @@
+package com.example.demo.common;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Hands the outcome of an {@link ApiClient} future to the JavaFX application
+ * thread.
+ *
+ * <p>Exceptions are unwrapped from {@link CompletionException} before they
+ * reach the error callback, so callers can match on {@link ApiException}
+ * directly. Futures that were cancelled (e.g. because the view was left or a
+ * newer load replaced them) deliver nothing.</p>
+ */
+public final class FxAsync {
+
+    private FxAsync() {
+    }
+
+    /**
+     * Delivers the result of {@code future} on the FX thread.
+     *
+     * @param future    the pending operation
+     * @param onSuccess receives the result on the FX thread
+     * @param onError   receives the unwrapped failure on the FX thread
+     * @param <T>       the result type
+     * @return {@code future}, so the caller can keep it for cancellation
+     */
+    public static <T> CompletableFuture<T> deliver(CompletableFuture<T> future,
+                                                   Consumer<? super T> onSuccess,
+                                                   Consumer<Throwable> onError) {
+        future.whenComplete((value, ex) -> {
+            if (future.isCancelled()) return;
+            Runnable task = ex == null ? () -> onSuccess.accept(value) : () -> onError.accept(unwrap(ex));
+            if (Platform.isFxApplicationThread()) task.run(); else Platform.runLater(task);
+        });
+        return future;
+    }
+
+    /**
+     * Strips {@link CompletionException} / {@link ExecutionException} wrappers.
+     *
+     * @param ex the failure reported by a future
+     * @return the underlying cause
+     */
+    public static Throwable unwrap(Throwable ex) {
+        Throwable cause = ex;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
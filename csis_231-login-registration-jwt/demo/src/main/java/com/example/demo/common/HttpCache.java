@@ -0,0 +1,175 @@
+package com.example.demo.common;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Size-bounded, in-memory cache of successful GET responses used by
+ * {@link ApiClient}.
+ *
+ * <p>A response is stored when it carries a validator ({@code ETag} or
+ * {@code Last-Modified}) or a {@code Cache-Control: max-age}. While an entry
+ * is fresh it is served without contacting the server; afterwards it is
+ * revalidated with {@code If-None-Match} / {@code If-Modified-Since} and a
+ * {@code 304} answer reuses the stored body. {@code no-store} responses are
+ * never cached, {@code no-cache} ones are always revalidated.</p>
+ *
+ * <p>Entries are evicted least-recently-used once {@code http.cache.max-bytes}
+ * (default 8 MB of response bytes) or {@code http.cache.max-entries} (default 256)
+ * is exceeded. A write (POST/PUT/PATCH/DELETE) drops every cached entry of
+ * the same resource.</p>
+ */
+final class HttpCache {
+
+    /** Cached response body with its validators and freshness deadline. */
+    record Entry(byte[] body, String etag, String lastModified, long freshUntilNanos) {
+        boolean isFresh() {
+            return freshUntilNanos != 0 && System.nanoTime() - freshUntilNanos < 0;
+        }
+
+        boolean hasValidator() {
+            return etag != null || lastModified != null;
+        }
+
+        long weight() {
+            return body == null ? 0 : body.length;
+        }
+    }
+
+    private final long maxBytes;
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+
+    HttpCache(long maxBytes, int maxEntries) {
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Creates the cache configured through {@code client.properties}.
+     */
+    static HttpCache fromProps() {
+        boolean enabled = Boolean.parseBoolean(ClientProps.getOr("http.cache.enabled", "true"));
+        long maxBytes = parseLong(ClientProps.getOr("http.cache.max-bytes", "8388608"), 8L << 20);
+        int maxEntries = (int) parseLong(ClientProps.getOr("http.cache.max-entries", "256"), 256);
+        return enabled ? new HttpCache(maxBytes, maxEntries) : new HttpCache(0, 0);
+    }
+
+    synchronized Optional<Entry> get(URI uri) {
+        return Optional.ofNullable(entries.get(uri.toString()));
+    }
+
+    /**
+     * Stores (or replaces) the response for a GET, or removes the entry when
+     * the response may not be cached.
+     *
+     * @param uri     the request URI
+     * @param body    the response body
+     * @param headers the response headers
+     */
+    synchronized void put(URI uri, byte[] body, HttpHeaders headers) {
+        String key = uri.toString();
+        String cacheControl = headers.allValues("Cache-Control").stream()
+                .map(v -> v.toLowerCase(Locale.ROOT))
+                .reduce((a, b) -> a + "," + b)
+                .orElse("");
+        long maxAgeSeconds = maxAge(cacheControl);
+        Entry entry = new Entry(body,
+                headers.firstValue("ETag").orElse(null),
+                headers.firstValue("Last-Modified").orElse(null),
+                maxAgeSeconds > 0 && !cacheControl.contains("no-cache")
+                        ? System.nanoTime() + maxAgeSeconds * 1_000_000_000L : 0);
+        remove(key);
+        if (cacheControl.contains("no-store") || (!entry.hasValidator() && entry.freshUntilNanos() == 0)
+                || entry.weight() > maxBytes) {
+            return;
+        }
+        entries.put(key, entry);
+        bytes += entry.weight();
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((bytes > maxBytes || entries.size() > maxEntries) && eldest.hasNext()) {
+            bytes -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Extends a revalidated entry using the headers of a {@code 304} response.
+     *
+     * @param uri     the request URI
+     * @param entry   the entry that was revalidated
+     * @param headers the {@code 304} response headers
+     */
+    synchronized void refresh(URI uri, Entry entry, HttpHeaders headers) {
+        Map<String, List<String>> merged = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        merged.putAll(headers.map());
+        if (entry.etag() != null) merged.putIfAbsent("ETag", List.of(entry.etag()));
+        if (entry.lastModified() != null) merged.putIfAbsent("Last-Modified", List.of(entry.lastModified()));
+        put(uri, entry.body(), HttpHeaders.of(merged, (k, v) -> true));
+    }
+
+    /**
+     * Drops entries affected by a write to the given URI: everything under
+     * the same resource root (the first two path segments, e.g.
+     * {@code /api/courses}), so lists, cursors and details of that resource
+     * are all re-fetched.
+     *
+     * @param uri the URI that was written to
+     */
+    synchronized void invalidate(URI uri) {
+        String root = resourceRoot(uri.getPath());
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Entry> e = it.next();
+            String cached = URI.create(e.getKey()).getPath();
+            if (cached != null && (cached.equals(root) || cached.startsWith(root + "/"))) {
+                bytes -= e.getValue().weight();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops every entry, e.g. when the user logs out.
+     */
+    synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    private void remove(String key) {
+        Entry old = entries.remove(key);
+        if (old != null) bytes -= old.weight();
+    }
+
+    private static long maxAge(String cacheControl) {
+        for (String directive : cacheControl.split(",")) {
+            String d = directive.trim();
+            if (d.startsWith("max-age=")) {
+                return parseLong(d.substring("max-age=".length()), 0);
+            }
+        }
+        return 0;
+    }
+
+    private static String resourceRoot(String path) {
+        if (path == null || path.isEmpty()) return "";
+        int first = path.indexOf('/', 1);
+        if (first < 0) return path;
+        int second = path.indexOf('/', first + 1);
+        return second < 0 ? path : path.substring(0, second);
+    }
+
+    private static long parseLong(String value, long def) {
+        try { return Long.parseLong(value.trim().replace("\"", "")); }
+        catch (RuntimeException e) { return def; }
+    }
+}
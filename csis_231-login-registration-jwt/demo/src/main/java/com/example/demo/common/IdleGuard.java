@@ -12,6 +12,7 @@ import javafx.scene.input.ScrollEvent;
 import javafx.scene.input.TouchEvent;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -78,7 +79,10 @@ public final class IdleGuard {
 
         firing = true;
         try {
-            try { new ApiClient().post("/api/auth/logout", "{}"); } catch (Exception ignore) {}
+            String refreshToken = TokenStore.getRefresh();
+            if (!refreshToken.isBlank()) {
+                try { new ApiClient().post("/api/auth/logout", Map.of("refreshToken", refreshToken)); } catch (Exception ignore) {}
+            }
 
             Platform.runLater(() -> {
                 try { TokenStore.clear(); } catch (Throwable ignored) {}
@@ -0,0 +1,72 @@
+package com.example.demo.common;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Streaming reader for Spring Data {@code Page} JSON.
+ *
+ * <p>The envelope is walked token by token and each element of
+ * {@code content} is bound straight from the parser with a cached
+ * {@link ObjectReader}, so no intermediate tree is built. Items are handed to
+ * a filter as soon as they are read; rejected items are dropped immediately
+ * instead of being held in the page.</p>
+ *
+ * @param <T> the item type
+ */
+final class PageReader<T> {
+
+    private final ObjectReader itemReader;
+
+    PageReader(ObjectReader itemReader) {
+        this.itemReader = itemReader;
+    }
+
+    /**
+     * Reads a page from a parser positioned before its first token.
+     *
+     * @param parser the parser over the response body
+     * @param keep   decides which items end up in {@link PageResponse#getContent()}
+     * @return the page metadata and the kept items
+     * @throws IOException if the body is not a page object or an item cannot be bound
+     */
+    PageResponse<T> read(JsonParser parser, Predicate<? super T> keep) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a page object");
+        }
+        PageResponse<T> page = new PageResponse<>();
+        List<T> items = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "content" -> {
+                    if (token != JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        T item = itemReader.readValue(parser);
+                        if (keep.test(item)) items.add(item);
+                    }
+                }
+                case "number" -> page.setNumber(parser.getValueAsInt());
+                case "size" -> page.setSize(parser.getValueAsInt());
+                case "totalElements" -> page.setTotalElements(parser.getValueAsLong());
+                case "totalPages" -> page.setTotalPages(parser.getValueAsInt());
+                case "first" -> page.setFirst(parser.getValueAsBoolean());
+                case "last" -> page.setLast(parser.getValueAsBoolean());
+                default -> parser.skipChildren();
+            }
+        }
+        page.setContent(items);
+        return page;
+    }
+}
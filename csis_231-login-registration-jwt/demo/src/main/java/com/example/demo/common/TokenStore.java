@@ -8,6 +8,9 @@ import java.util.prefs.Preferences;
  * <p>The token is stored in the user's {@link Preferences} node so that
  * sessions can survive application restarts. A small in-memory cache is
  * used to avoid hitting the preferences API on every request.</p>
+ *
+ * <p>The refresh token that renews the short-lived JWT is stored the same
+ * way; {@link #clear()} removes both.</p>
  */
 
 public final class TokenStore {
@@ -16,6 +19,10 @@ public final class TokenStore {
 
     private static final String KEY = "jwt";
 
+    /** Preference key under which the refresh token is stored. */
+
+    private static final String REFRESH_KEY = "refreshToken";
+
     /**
      * Preferences node used by the client application.
      *
@@ -25,6 +32,7 @@ public final class TokenStore {
 
     private static final Preferences PREF = Preferences.userRoot().node("com.example.demo");
     private static String cached;
+    private static String cachedRefresh;
 
     /**
      * Utility class; not meant to be instantiated.
@@ -46,6 +54,46 @@ public final class TokenStore {
         try { PREF.put(KEY, token == null ? "" : token); } catch (Exception ignored) {}
     }
 
+    /**
+     * Stores a JWT together with the refresh token issued alongside it.
+     *
+     * @param token        the JWT to store
+     * @param refreshToken the refresh token, or {@code null} to keep the current one
+     */
+
+    public static void set(String token, String refreshToken) {
+        set(token);
+        if (refreshToken != null) {
+            setRefresh(refreshToken);
+        }
+    }
+
+    /**
+     * Returns the stored refresh token.
+     *
+     * @return the refresh token, or an empty string if none is stored
+     */
+
+    public static String getRefresh() {
+        if (cachedRefresh != null && !cachedRefresh.isBlank()) return cachedRefresh;
+        String v = PREF.get(REFRESH_KEY, "");
+        cachedRefresh = v;
+        return v;
+    }
+
+    /**
+     * Checks whether a non-blank refresh token is currently stored.
+     *
+     * @return {@code true} if a refresh token is available
+     */
+
+    public static boolean hasRefreshToken() { return !getRefresh().isBlank(); }
+
+    private static void setRefresh(String refreshToken) {
+        cachedRefresh = refreshToken;
+        try { PREF.put(REFRESH_KEY, refreshToken == null ? "" : refreshToken); } catch (Exception ignored) {}
+    }
+
     /**
      * Returns the currently stored JWT.
      *
@@ -73,7 +121,8 @@ public final class TokenStore {
     public static boolean hasToken() { return get() != null && !get().isBlank(); }
 
     /**
-     * Clears the stored token.
+     * Clears the stored token and refresh token, and drops cached
+     * responses of the previous user.
      *
      * <p>Internally this is equivalent to calling {@link #set(String)} with
      * an empty string.</p>
@@ -81,5 +130,7 @@ public final class TokenStore {
     public static void clear()
     {
         set("");
+        setRefresh("");
+        ApiClient.clearCache();
     }
 }
@@ -2,17 +2,25 @@ package com.example.demo.course;
 
 import com.example.demo.common.ApiClient;
 import com.example.demo.common.ApiResponse;
+import com.example.demo.common.CursorPage;
 import com.example.demo.common.PageResponse;
 import com.example.demo.model.*;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP wrapper for course-related endpoints.
  */
 public class CourseApi {
+    private static final int CURSOR_PAGE_SIZE = 50;
+
     private final ApiClient client = new ApiClient();
 
     /**
@@ -32,6 +40,83 @@ public class CourseApi {
         return resp.getBody();
     }
 
+    /**
+     * Lists published courses one slice at a time using the cursor endpoint.
+     *
+     * @param after        cursor returned by the previous slice, or {@code null} for the first
+     * @param size         slice size (values < 1 coerced to 1)
+     * @param categoryId   optional category filter
+     * @param search       optional search text
+     * @param includeTotal whether the server should also count all matching courses
+     * @return a slice of published courses and the cursor for the next one
+     */
+    public CursorPage<CourseDto> listPublished(String after, int size, Long categoryId, String search, boolean includeTotal) {
+        ApiResponse<CursorPage<CourseDto>> resp = client.get(cursorPath(after, size, categoryId, search, includeTotal),
+                new TypeReference<CursorPage<CourseDto>>() {});
+        return resp.getBody();
+    }
+
+    /**
+     * Asynchronous variant of {@link #listPublished(String, int, Long, String, boolean)};
+     * cancelling the future aborts the request.
+     */
+    public CompletableFuture<CursorPage<CourseDto>> listPublishedAsync(String after, int size, Long categoryId,
+                                                                      String search, boolean includeTotal) {
+        return ApiClient.bodyOf(client.getAsync(cursorPath(after, size, categoryId, search, includeTotal),
+                new TypeReference<CursorPage<CourseDto>>() {}));
+    }
+
+    private static String cursorPath(String after, int size, Long categoryId, String search, boolean includeTotal) {
+        StringBuilder path = new StringBuilder("/api/courses/cursor?size=" + Math.max(size, 1));
+        if (after != null && !after.isBlank()) path.append("&after=").append(encode(after));
+        if (categoryId != null) path.append("&categoryId=").append(categoryId);
+        if (search != null && !search.isBlank()) path.append("&search=").append(encode(search.trim()));
+        if (includeTotal) path.append("&includeTotal=true");
+        return path.toString();
+    }
+
+    /**
+     * Walks the cursor endpoint until {@code limit} published courses have been
+     * collected or the catalog is exhausted.
+     *
+     * @param categoryId optional category filter
+     * @param search     optional search text
+     * @param limit      maximum number of courses to return
+     * @return the collected courses, newest first
+     */
+    public List<CourseDto> listAllPublished(Long categoryId, String search, int limit) {
+        List<CourseDto> all = new ArrayList<>();
+        if (limit < 1) return all;
+        String after = null;
+        do {
+            CursorPage<CourseDto> page = listPublished(after, Math.min(CURSOR_PAGE_SIZE, limit - all.size()), categoryId, search, false);
+            if (page == null || page.getContent() == null) break;
+            all.addAll(page.getContent());
+            after = page.isHasMore() ? page.getNextCursor() : null;
+        } while (after != null && all.size() < limit);
+        return all;
+    }
+
+    /**
+     * Runs a ranked type-ahead search over published courses.
+     *
+     * @param query      search text; each word is matched as a prefix
+     * @param categoryId optional category filter
+     * @param limit      maximum number of hits
+     * @return ranked hits with server timings
+     */
+    public CourseSearchResponse search(String query, Long categoryId, int limit) {
+        StringBuilder path = new StringBuilder("/api/courses/search?q=" + encode(query == null ? "" : query.trim()));
+        if (categoryId != null) path.append("&categoryId=").append(categoryId);
+        path.append("&limit=").append(Math.max(limit, 1));
+        ApiResponse<CourseSearchResponse> resp = client.get(path.toString(), new TypeReference<CourseSearchResponse>() {});
+        return resp.getBody();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
     /**
      * Fetches a course detail by id.
      */
@@ -40,6 +125,13 @@ public class CourseApi {
         return resp.getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #get(Long)}; cancelling the future aborts the request.
+     */
+    public CompletableFuture<CourseDetailDto> getAsync(Long id) {
+        return ApiClient.bodyOf(client.getAsync("/api/courses/" + id, new TypeReference<CourseDetailDto>() {}));
+    }
+
     /**
      * Creates a new course.
      */
@@ -48,6 +140,13 @@ public class CourseApi {
         return resp.getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #create(CourseRequest)}.
+     */
+    public CompletableFuture<CourseDto> createAsync(CourseRequest req) {
+        return ApiClient.bodyOf(client.postAsync("/api/courses", req, new TypeReference<CourseDto>() {}));
+    }
+
     /**
      * Updates an existing course by id.
      */
@@ -56,6 +155,13 @@ public class CourseApi {
         return resp.getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #update(Long, CourseRequest)}.
+     */
+    public CompletableFuture<CourseDto> updateAsync(Long id, CourseRequest req) {
+        return ApiClient.bodyOf(client.putAsync("/api/courses/" + id, req, new TypeReference<CourseDto>() {}));
+    }
+
     /**
      * Deletes a course by id.
      */
@@ -63,6 +169,13 @@ public class CourseApi {
         client.delete("/api/courses/" + id);
     }
 
+    /**
+     * Asynchronous variant of {@link #delete(Long)}.
+     */
+    public CompletableFuture<Void> deleteAsync(Long id) {
+        return ApiClient.bodyOf(client.deleteAsync("/api/courses/" + id));
+    }
+
     /**
      * Adds a material to a course.
      */
@@ -71,6 +184,13 @@ public class CourseApi {
         return resp.getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #addMaterial(Long, CourseMaterialRequest)}.
+     */
+    public CompletableFuture<CourseMaterialDto> addMaterialAsync(Long courseId, CourseMaterialRequest req) {
+        return ApiClient.bodyOf(client.postAsync("/api/courses/" + courseId + "/materials", req, new TypeReference<CourseMaterialDto>() {}));
+    }
+
     /**
      * Deletes a material by id.
      */
@@ -78,6 +198,13 @@ public class CourseApi {
         client.delete("/api/materials/" + materialId);
     }
 
+    /**
+     * Asynchronous variant of {@link #deleteMaterial(Long)}.
+     */
+    public CompletableFuture<Void> deleteMaterialAsync(Long materialId) {
+        return ApiClient.bodyOf(client.deleteAsync("/api/materials/" + materialId));
+    }
+
     /**
      * Fetches a course detail and viewer-specific info (currently same as {@link #get(Long)}).
      */
@@ -93,6 +220,14 @@ public class CourseApi {
         return resp.getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #listInstructorCourses(Long)}; cancelling
+     * the future aborts the request.
+     */
+    public CompletableFuture<CourseDto[]> listInstructorCoursesAsync(Long userId) {
+        return ApiClient.bodyOf(client.getAsync("/api/instructors/" + userId + "/courses", new TypeReference<CourseDto[]>() {}));
+    }
+
     /**
      * Lists enrollments for a course.
      */
@@ -100,4 +235,12 @@ public class CourseApi {
         ApiResponse<EnrollmentResponse[]> resp = client.get("/api/courses/" + courseId + "/enrollments", new TypeReference<EnrollmentResponse[]>() {});
         return resp.getBody();
     }
+
+    /**
+     * Asynchronous variant of {@link #listCourseEnrollments(Long)}; cancelling
+     * the future aborts the request.
+     */
+    public CompletableFuture<EnrollmentResponse[]> listCourseEnrollmentsAsync(Long courseId) {
+        return ApiClient.bodyOf(client.getAsync("/api/courses/" + courseId + "/enrollments", new TypeReference<EnrollmentResponse[]>() {}));
+    }
 }
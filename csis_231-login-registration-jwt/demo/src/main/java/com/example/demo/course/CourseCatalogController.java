@@ -3,16 +3,16 @@ package com.example.demo.course;
 import com.example.demo.Launcher;
 import com.example.demo.auth.AuthApi;
 import com.example.demo.common.AlertUtils;
-import com.example.demo.common.ApiException;
+import com.example.demo.common.DebouncedSearch;
 import com.example.demo.common.ErrorDialog;
+import com.example.demo.common.FxAsync;
 import com.example.demo.common.SessionStore;
 import com.example.demo.common.TableUtils;
 import com.example.demo.model.CourseDto;
+import com.example.demo.model.CourseSearchHit;
 import com.example.demo.model.EnrollmentRequest;
-import com.example.demo.model.EnrollmentResponse;
 import com.example.demo.model.MeResponse;
 import com.example.demo.student.EnrollmentApi;
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -37,6 +37,7 @@ public class CourseCatalogController {
     @FXML private TableColumn<CourseDto, Void> actionColumn;
     @FXML private TextField searchField;
     @FXML private Button refreshButton;
+    @FXML private Button loadMoreButton;
     @FXML private Label statusLabel;
 
     private final CourseApi courseApi = new CourseApi();
@@ -45,6 +46,17 @@ public class CourseCatalogController {
     private final ObservableList<CourseDto> courses = FXCollections.observableArrayList();
     private MeResponse me;
     private final java.util.Set<Long> enrolledCourseIds = new java.util.HashSet<>();
+    private static final int PAGE_SIZE = 50;
+    private String nextCursor;
+    private CompletableFuture<?> pendingMore;
+
+    /** One table load: a catalog slice, or ranked matches when {@code search} is set. */
+    private record CatalogSlice(java.util.List<CourseDto> items, String nextCursor, boolean search) {}
+
+    private final DebouncedSearch<CatalogSlice> search = DebouncedSearch.of(this::queryCatalog)
+            .onResult(this::showSlice)
+            .onError(this::showLoadError)
+            .build();
 
     /**
      * Wires table columns, action buttons, search listener, and kicks off
@@ -90,7 +102,7 @@ public class CourseCatalogController {
         TableUtils.style(courseTable, titleColumn, instructorColumn, publishedColumn, actionColumn);
 
         if (searchField != null) {
-            searchField.textProperty().addListener((obs, o, n) -> loadCourses());
+            searchField.textProperty().addListener((obs, o, n) -> search.submit(n));
         }
         loadMeAndCourses();
     }
@@ -100,22 +112,14 @@ public class CourseCatalogController {
      * and courses.
      */
     private void loadMeAndCourses() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                MeResponse cached = SessionStore.getMe();
-                me = cached != null ? cached : authApi.me();
-                if (cached == null) SessionStore.setMe(me);
-                Platform.runLater(() -> {
-                    if (courseTable != null) {
-                        courseTable.refresh(); // ensure action column reflects updated role
-                    }
-                });
-                loadEnrollments();
-                loadCourses();
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load profile: " + ex.getMessage()));
+        FxAsync.deliver(authApi.currentUserAsync(), current -> {
+            me = current;
+            if (courseTable != null) {
+                courseTable.refresh(); // ensure action column reflects updated role
             }
-        });
+            loadEnrollments();
+            loadCourses();
+        }, ex -> ErrorDialog.showFailure("Failed to load profile", ex));
     }
 
     /**
@@ -124,41 +128,82 @@ public class CourseCatalogController {
      */
     private void loadEnrollments() {
         if (me == null || me.getId() == null) return;
-        CompletableFuture.runAsync(() -> {
-            try {
-                EnrollmentResponse[] resp = enrollmentApi.listByCurrentUser(me.getId());
-                enrolledCourseIds.clear();
-                if (resp != null) {
-                    for (EnrollmentResponse e : resp) {
-                        if (e.getCourseId() != null) enrolledCourseIds.add(e.getCourseId());
-                    }
+        FxAsync.deliver(enrollmentApi.listByStudentAsync(me.getId()), resp -> {
+            enrolledCourseIds.clear();
+            if (resp != null) {
+                for (var e : resp) {
+                    if (e.getCourseId() != null) enrolledCourseIds.add(e.getCourseId());
                 }
-            } catch (Exception ignored) {}
-        });
+            }
+            courseTable.refresh();
+        }, ignored -> {});
     }
 
     /**
-     * Loads the published courses (optionally filtered by search text) and
-     * updates the table and status label.
+     * Reloads the table immediately for the current search text, bypassing the
+     * debounce (used on screen load and by the refresh button).
      */
     private void loadCourses() {
-        String search = searchField != null ? searchField.getText() : null;
-        CompletableFuture.runAsync(() -> {
-            try {
-                var page = courseApi.listPublished(0, 50, null, search);
-                var items = page != null && page.getContent() != null
-                        ? page.getContent()
-                        : java.util.List.<CourseDto>of();
-                Platform.runLater(() -> {
-                    courses.setAll(items);
-                    statusLabel.setText(items.size() + " courses");
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load courses: " + ex.getMessage()));
-            }
-        });
+        search.submitNow(searchField != null ? searchField.getText() : null);
+    }
+
+    /**
+     * Blocking query behind the search pipeline: ranked search results when
+     * text is present (not paged), otherwise the first catalog slice.
+     */
+    private CatalogSlice queryCatalog(String text) {
+        if (!text.isEmpty()) {
+            var resp = courseApi.search(text, null, PAGE_SIZE);
+            var items = resp != null && resp.getResults() != null
+                    ? resp.getResults().stream().map(CourseSearchHit::getCourse).toList()
+                    : java.util.List.<CourseDto>of();
+            return new CatalogSlice(items, null, true);
+        }
+        var page = courseApi.listPublished(null, PAGE_SIZE, null, null, false);
+        var items = page != null && page.getContent() != null
+                ? page.getContent()
+                : java.util.List.<CourseDto>of();
+        return new CatalogSlice(items, page != null && page.isHasMore() ? page.getNextCursor() : null, false);
+    }
+
+    /**
+     * Replaces the table with the latest pipeline result (FX thread).
+     */
+    private void showSlice(CatalogSlice slice) {
+        if (pendingMore != null) pendingMore.cancel(true);
+        courses.setAll(slice.items());
+        nextCursor = slice.nextCursor();
+        if (loadMoreButton != null) loadMoreButton.setDisable(nextCursor == null);
+        statusLabel.setText(slice.search()
+                ? slice.items().size() + " matches"
+                : slice.items().size() + (nextCursor != null ? "+" : "") + " courses");
+    }
+
+    /**
+     * Reports a failed catalog query (FX thread).
+     */
+    private void showLoadError(Throwable ex) {
+        ErrorDialog.showFailure("Failed to load courses", ex);
+    }
+
+    /**
+     * Appends the next catalog slice after {@code after}. The request is
+     * cancelled when the table is reloaded in the meantime, and the result is
+     * dropped if it still arrives for a stale cursor.
+     */
+    private void fetchMore(String after) {
+        if (pendingMore != null && !pendingMore.isDone()) return;
+        pendingMore = FxAsync.deliver(courseApi.listPublishedAsync(after, PAGE_SIZE, null, null, false), page -> {
+            if (!after.equals(nextCursor)) return;
+            var items = page != null && page.getContent() != null
+                    ? page.getContent()
+                    : java.util.List.<CourseDto>of();
+            String next = page != null && page.isHasMore() ? page.getNextCursor() : null;
+            courses.addAll(items);
+            nextCursor = next;
+            if (loadMoreButton != null) loadMoreButton.setDisable(next == null);
+            statusLabel.setText(courses.size() + (next != null ? "+" : "") + " courses");
+        }, this::showLoadError);
     }
 
     /**
@@ -201,18 +246,11 @@ public class CourseCatalogController {
      */
     private void doEnroll(CourseDto course) {
         if (course == null) return;
-        CompletableFuture.runAsync(() -> {
-            try {
-                enrollmentApi.enroll(new EnrollmentRequest(null, course.getId()));
-                Platform.runLater(() -> AlertUtils.info("Enrolled in " + course.getTitle()));
-                if (course.getId() != null) enrolledCourseIds.add(course.getId());
-                courseTable.refresh();
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to enroll: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(enrollmentApi.enrollAsync(new EnrollmentRequest(null, course.getId())), ignored -> {
+            AlertUtils.info("Enrolled in " + course.getTitle());
+            if (course.getId() != null) enrolledCourseIds.add(course.getId());
+            courseTable.refresh();
+        }, ex -> ErrorDialog.showFailure("Failed to enroll", ex));
     }
 
     private boolean isStudent() { return me != null && "STUDENT".equalsIgnoreCase(me.getRole()); }
@@ -239,7 +277,15 @@ public class CourseCatalogController {
      * Manual refresh trigger for the course list.
      */
     @FXML
-    private void onRefresh() { loadCourses(); }
+    private void onRefresh() {
+        search.invalidate();
+        loadCourses();
+    }
+
+    @FXML
+    private void onLoadMore() {
+        if (nextCursor != null) fetchMore(nextCursor);
+    }
 
     /**
      * Returns to the role-appropriate dashboard.
@@ -2,8 +2,8 @@ package com.example.demo.course;
 
 import com.example.demo.Launcher;
 import com.example.demo.common.AlertUtils;
-import com.example.demo.common.ApiException;
 import com.example.demo.common.ErrorDialog;
+import com.example.demo.common.FxAsync;
 import com.example.demo.common.SessionStore;
 import com.example.demo.common.TableUtils;
 import com.example.demo.model.CourseDetailDto;
@@ -13,7 +13,6 @@ import com.example.demo.model.QuizSummaryDto;
 import com.example.demo.model.QuizResultDto;
 import com.example.demo.quiz.QuizApi;
 import javafx.beans.property.SimpleStringProperty;
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -29,7 +28,6 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -134,36 +132,23 @@ public class CourseDetailController {
      * Loads course detail asynchronously and populates the view.
      */
     private void loadDetail(Long courseId) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                CourseDetailDto detail = courseApi.get(courseId);
-                Platform.runLater(() -> populate(detail));
-                loadLatestResults(detail);
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load course: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(courseApi.getAsync(courseId), detail -> {
+            populate(detail);
+            loadLatestResults(detail);
+        }, ex -> ErrorDialog.showFailure("Failed to load course", ex));
     }
 
     /**
-     * Fetches the viewer's latest results for each quiz and refreshes the table
-     * as results arrive.
+     * Fetches the viewer's latest results for all quizzes in one call and
+     * refreshes the table.
      */
     private void loadLatestResults(CourseDetailDto d) {
-        if (d == null || d.getQuizzes() == null) return;
-        for (QuizSummaryDto quiz : d.getQuizzes()) {
-            CompletableFuture.runAsync(() -> {
-                try {
-                    QuizResultDto res = quizApi.myResult(quiz.getId());
-                    if (res != null) {
-                        latestResults.put(quiz.getId(), res);
-                        Platform.runLater(() -> quizTable.refresh());
-                    }
-                } catch (Exception ignored) {}
-            });
-        }
+        if (d == null || d.getQuizzes() == null || d.getQuizzes().isEmpty()) return;
+        java.util.List<Long> quizIds = d.getQuizzes().stream().map(QuizSummaryDto::getId).toList();
+        FxAsync.deliver(quizApi.myResultsAsync(quizIds), results -> {
+            latestResults.putAll(results);
+            quizTable.refresh();
+        }, ignored -> {});
     }
 
     /**
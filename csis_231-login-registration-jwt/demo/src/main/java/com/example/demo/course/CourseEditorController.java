@@ -3,14 +3,14 @@ package com.example.demo.course;
 import com.example.demo.Launcher;
 import com.example.demo.auth.AuthApi;
 import com.example.demo.common.AlertUtils;
-import com.example.demo.common.ApiException;
+import com.example.demo.common.ApiClient;
 import com.example.demo.common.ErrorDialog;
+import com.example.demo.common.FxAsync;
 import com.example.demo.common.SessionStore;
 import com.example.demo.common.TokenStore;
 import com.example.demo.common.TableUtils;
 import com.example.demo.model.*;
 import com.example.demo.quiz.QuizApi;
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -28,8 +28,6 @@ import javafx.beans.property.SimpleStringProperty;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Map;
-import java.util.HashMap;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -67,9 +65,10 @@ public class CourseEditorController {
     private final QuizApi quizApi = new QuizApi();
     private final AuthApi authApi = new AuthApi();
     private final com.example.demo.admin.CategoryApi categoryApi = new com.example.demo.admin.CategoryApi();
-    private final com.example.demo.admin.UserApi userApi = new com.example.demo.admin.UserApi();
+    private static final int RESULTS_PAGE_SIZE = 50;
     private CourseDto activeCourse;
     private CourseDetailDto activeDetail;
+    private CompletableFuture<?> pendingCourse;
     private final ObservableList<CourseMaterialDto> materials = FXCollections.observableArrayList();
     private final ObservableList<QuizSummaryDto> quizzes = FXCollections.observableArrayList();
 
@@ -121,27 +120,22 @@ public class CourseEditorController {
 
     /**
      * Loads the active course (if set in {@link SessionStore}) or prepares a
-     * blank editor for a new course.
+     * blank editor for a new course. A newer load cancels the one still in
+     * flight.
      */
     private void loadCourse() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                CourseDto selected = SessionStore.getActiveCourse();
-                if (selected != null && selected.getId() != null) {
-                    CourseDetailDto detail = courseApi.get(selected.getId());
-                    activeCourse = selected;
-                    activeDetail = detail;
-                    SessionStore.setActiveCourse(selected);
-                    Platform.runLater(() -> populate(detail));
-                } else {
-                    Platform.runLater(this::populateEmpty);
-                }
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load course: " + ex.getMessage()));
-            }
-        });
+        if (pendingCourse != null) pendingCourse.cancel(true);
+        CourseDto selected = SessionStore.getActiveCourse();
+        if (selected == null || selected.getId() == null) {
+            pendingCourse = null;
+            populateEmpty();
+            return;
+        }
+        pendingCourse = FxAsync.deliver(courseApi.getAsync(selected.getId()), detail -> {
+            activeCourse = selected;
+            activeDetail = detail;
+            populate(detail);
+        }, ex -> ErrorDialog.showFailure("Failed to load course", ex));
     }
 
     /**
@@ -198,24 +192,17 @@ public class CourseEditorController {
         );
 
         saveButton.setDisable(true);
-        CompletableFuture.runAsync(() -> {
-            try {
-                CourseDto updated;
-                if (activeCourse != null && activeCourse.getId() != null) {
-                    updated = courseApi.update(activeCourse.getId(), req);
-                } else {
-                    updated = courseApi.create(req);
-                }
-                SessionStore.setActiveCourse(updated);
-                loadCourse();
-                Platform.runLater(() -> AlertUtils.info("Course saved"));
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to save course: " + ex.getMessage()));
-            } finally {
-                Platform.runLater(() -> saveButton.setDisable(false));
-            }
+        CompletableFuture<CourseDto> save = activeCourse != null && activeCourse.getId() != null
+                ? courseApi.updateAsync(activeCourse.getId(), req)
+                : courseApi.createAsync(req);
+        FxAsync.deliver(save, updated -> {
+            saveButton.setDisable(false);
+            SessionStore.setActiveCourse(updated);
+            loadCourse();
+            AlertUtils.info("Course saved");
+        }, ex -> {
+            saveButton.setDisable(false);
+            ErrorDialog.showFailure("Failed to save course", ex);
         });
     }
 
@@ -227,20 +214,11 @@ public class CourseEditorController {
         if (activeCourse == null || activeCourse.getId() == null) {
             AlertUtils.warn("Select or save a course before deleting."); return;
         }
-        CompletableFuture.runAsync(() -> {
-            try {
-                courseApi.delete(activeCourse.getId());
-                SessionStore.setActiveCourse(null);
-                Platform.runLater(() -> {
-                    AlertUtils.info("Course deleted");
-                    Launcher.go("instructor_dashboard.fxml", "Instructor Dashboard");
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to delete course: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(courseApi.deleteAsync(activeCourse.getId()), ignored -> {
+            SessionStore.setActiveCourse(null);
+            AlertUtils.info("Course deleted");
+            Launcher.go("instructor_dashboard.fxml", "Instructor Dashboard");
+        }, ex -> ErrorDialog.showFailure("Failed to delete course", ex));
     }
 
     /**
@@ -257,22 +235,13 @@ public class CourseEditorController {
                 trim(materialUrlField.getText()),
                 trim(materialMetaField.getText())
         );
-        CompletableFuture.runAsync(() -> {
-            try {
-                CourseMaterialDto created = courseApi.addMaterial(activeCourse.getId(), req);
-                Platform.runLater(() -> {
-                    materials.add(created);
-                    materialTitleField.clear();
-                    materialTypeField.clear();
-                    materialUrlField.clear();
-                    materialMetaField.clear();
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to add material: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(courseApi.addMaterialAsync(activeCourse.getId(), req), created -> {
+            materials.add(created);
+            materialTitleField.clear();
+            materialTypeField.clear();
+            materialUrlField.clear();
+            materialMetaField.clear();
+        }, ex -> ErrorDialog.showFailure("Failed to add material", ex));
     }
 
     /**
@@ -282,16 +251,8 @@ public class CourseEditorController {
     private void onDeleteMaterial() {
         CourseMaterialDto selected = materialTable.getSelectionModel().getSelectedItem();
         if (selected == null) { AlertUtils.warn("Select a material to delete."); return; }
-        CompletableFuture.runAsync(() -> {
-            try {
-                courseApi.deleteMaterial(selected.getId());
-                Platform.runLater(() -> materials.remove(selected));
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to delete material: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(courseApi.deleteMaterialAsync(selected.getId()), ignored -> materials.remove(selected),
+                ex -> ErrorDialog.showFailure("Failed to delete material", ex));
     }
 
     /**
@@ -301,19 +262,13 @@ public class CourseEditorController {
     private void onCreateQuiz() {
         if (!ensureCourseExists()) return;
         promptQuizCreation().ifPresent(payload -> {
-            CompletableFuture.runAsync(() -> {
-                try {
-                    QuizSummaryDto quiz = quizApi.createQuiz(
-                            new QuizCreateRequest(activeCourse.getId(), payload.name, payload.description));
-                    quizApi.addQuestions(quiz.getId(), payload.questions);
-                    loadCourse();
-                    Platform.runLater(() -> AlertUtils.info("Quiz created with " + payload.questions.size() + " question(s)"));
-                } catch (ApiException ex) {
-                    Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-                } catch (Exception ex) {
-                    Platform.runLater(() -> ErrorDialog.showError("Failed to create quiz: " + ex.getMessage()));
-                }
-            });
+            CompletableFuture<Void> create = ApiClient.compose(
+                    quizApi.createQuizAsync(new QuizCreateRequest(activeCourse.getId(), payload.name, payload.description)),
+                    quiz -> quizApi.addQuestionsAsync(quiz.getId(), payload.questions));
+            FxAsync.deliver(create, ignored -> {
+                loadCourse();
+                AlertUtils.info("Quiz created with " + payload.questions.size() + " question(s)");
+            }, ex -> ErrorDialog.showFailure("Failed to create quiz", ex));
         });
     }
 
@@ -434,126 +389,151 @@ public class CourseEditorController {
      * Loads categories for the course selector.
      */
     private void loadCategories() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                var page = categoryApi.list(0, 100);
-                var items = page != null && page.getContent() != null ? page.getContent() : List.<com.example.demo.model.Category>of();
-                Platform.runLater(() -> {
-                    categoryChoiceBox.getItems().setAll(items);
-                    categoryChoiceBox.setCellFactory(listView -> new ListCell<>() {
-                        @Override protected void updateItem(com.example.demo.model.Category item, boolean empty) {
-                            super.updateItem(item, empty);
-                            setText(empty || item == null ? null : item.getName() + " (ID " + item.getId() + ")");
-                        }
-                    });
-                    categoryChoiceBox.setButtonCell(new ListCell<>() {
-                        @Override protected void updateItem(com.example.demo.model.Category item, boolean empty) {
-                            super.updateItem(item, empty);
-                            setText(empty || item == null ? null : item.getName());
-                        }
-                    });
-                });
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load categories: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(categoryApi.listAsync(0, 100), page -> {
+            var items = page != null && page.getContent() != null ? page.getContent() : List.<com.example.demo.model.Category>of();
+            categoryChoiceBox.getItems().setAll(items);
+            categoryChoiceBox.setCellFactory(listView -> new ListCell<>() {
+                @Override protected void updateItem(com.example.demo.model.Category item, boolean empty) {
+                    super.updateItem(item, empty);
+                    setText(empty || item == null ? null : item.getName() + " (ID " + item.getId() + ")");
+                }
+            });
+            categoryChoiceBox.setButtonCell(new ListCell<>() {
+                @Override protected void updateItem(com.example.demo.model.Category item, boolean empty) {
+                    super.updateItem(item, empty);
+                    setText(empty || item == null ? null : item.getName());
+                }
+            });
+        }, ex -> ErrorDialog.showFailure("Failed to load categories", ex));
     }
 
     /**
-     * Retrieves quiz results and shows them in a dialog.
+     * Opens the results dialog for a quiz.
      */
     private void onViewResults(QuizSummaryDto quiz) {
         if (quiz == null) { AlertUtils.warn("Select a quiz first."); return; }
-        CompletableFuture.runAsync(() -> {
-            try {
-                QuizResultDto[] res = quizApi.results(quiz.getId());
-                Map<Long, String> names = new HashMap<>();
-                if (res != null) {
-                    for (QuizResultDto r : res) {
-                        if (r != null && r.getStudentUserId() != null && !names.containsKey(r.getStudentUserId())) {
-                            try {
-                                var u = userApi.get(r.getStudentUserId());
-                                if (u != null && u.getUsername() != null) {
-                                    names.put(r.getStudentUserId(), u.getUsername());
-                                }
-                            } catch (Exception ignored) {}
-                        }
-                    }
-                }
-                Platform.runLater(() -> showResultsDialog(quiz, res != null ? List.of(res) : List.of(), names));
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load results: " + ex.getMessage()));
-            }
-        });
+        showResultsDialog(quiz);
     }
 
     /**
-     * Displays quiz results in a modal table with usernames where available.
+     * Displays quiz results in a modal table. Results are loaded from the
+     * server one page at a time, already sorted and carrying student names.
      */
-    private void showResultsDialog(QuizSummaryDto quiz, List<QuizResultDto> results, Map<Long, String> usernames) {
+    private void showResultsDialog(QuizSummaryDto quiz) {
         Stage stage = new Stage();
         stage.initModality(Modality.APPLICATION_MODAL);
-        stage.setTitle("Results - " + (quiz != null ? quiz.getName() : ""));
-
-        TableView<QuizResultDto> table = new TableView<>();
+        stage.setTitle("Results - " + quiz.getName());
 
+        TableView<QuizResultWithStudentDto> table = new TableView<>();
         table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
-        table.setItems(FXCollections.observableArrayList(results));
 
-        TableColumn<QuizResultDto, String> studentCol = new TableColumn<>("Student");
+        TableColumn<QuizResultWithStudentDto, String> studentCol = new TableColumn<>("Student");
         studentCol.setCellValueFactory(c -> {
-            QuizResultDto r = c.getValue();
-            Long id = r.getStudentUserId();
-            String name = id != null ? usernames.getOrDefault(id, String.valueOf(id)) : "";
-            return new SimpleStringProperty(name);
+            QuizResultWithStudentDto r = c.getValue();
+            String username = r.getStudentUsername() != null ? r.getStudentUsername() : String.valueOf(r.getStudentUserId());
+            return new SimpleStringProperty(r.getStudentName() != null ? r.getStudentName() + " (" + username + ")" : username);
         });
-        TableColumn<QuizResultDto, String> scoreCol = new TableColumn<>("Score");
+        TableColumn<QuizResultWithStudentDto, String> scoreCol = new TableColumn<>("Score");
         scoreCol.setCellValueFactory(c -> {
-            QuizResultDto r = c.getValue();
+            QuizResultWithStudentDto r = c.getValue();
             return new SimpleStringProperty(r.getScore() + "/" + r.getTotalQuestions());
         });
-        TableColumn<QuizResultDto, String> completedCol = new TableColumn<>("Completed At");
+        TableColumn<QuizResultWithStudentDto, String> completedCol = new TableColumn<>("Completed At");
         completedCol.setCellValueFactory(c -> new SimpleStringProperty(
                 c.getValue().getCompletedAt() != null ? c.getValue().getCompletedAt().toString() : ""
         ));
+        // ordering is done by the server across all pages
+        studentCol.setSortable(false);
+        scoreCol.setSortable(false);
+        completedCol.setSortable(false);
 
         table.getColumns().addAll(studentCol, scoreCol, completedCol);
         TableUtils.style(table, studentCol, scoreCol, completedCol);
         table.setPrefHeight(360);
 
-        VBox root = new VBox(12, new Label("Results"), table);
+        ComboBox<ResultOrder> orderBox = new ComboBox<>(FXCollections.observableArrayList(ResultOrder.values()));
+        orderBox.getSelectionModel().selectFirst();
+        Button prev = new Button("Previous");
+        Button next = new Button("Next");
+        Label pageLabel = new Label();
+        HBox controls = new HBox(8, new Label("Sort:"), orderBox, prev, next, pageLabel);
+
+        int[] pageIndex = {0};
+        List<CompletableFuture<?>> pending = new ArrayList<>(1);
+        Runnable load = () -> {
+            pending.forEach(f -> f.cancel(true));
+            pending.clear();
+            ResultOrder order = orderBox.getValue();
+            int requested = pageIndex[0];
+            prev.setDisable(true);
+            next.setDisable(true);
+            pageLabel.setText("Loading...");
+            pending.add(FxAsync.deliver(
+                    quizApi.resultPageAsync(quiz.getId(), requested, RESULTS_PAGE_SIZE, order.sort, order.direction),
+                    page -> {
+                        table.getItems().setAll(page.getContent() != null ? page.getContent() : List.of());
+                        pageLabel.setText("Page " + (page.getNumber() + 1) + " of " + Math.max(1, page.getTotalPages())
+                                + " (" + page.getTotalElements() + " results)");
+                        prev.setDisable(page.isFirst());
+                        next.setDisable(page.isLast());
+                    },
+                    ex -> {
+                        pageLabel.setText("Unable to load results.");
+                        ErrorDialog.showFailure("Failed to load results", ex);
+                    }));
+        };
+        prev.setOnAction(e -> { pageIndex[0] = Math.max(0, pageIndex[0] - 1); load.run(); });
+        next.setOnAction(e -> { pageIndex[0]++; load.run(); });
+        orderBox.setOnAction(e -> { pageIndex[0] = 0; load.run(); });
+        stage.setOnHidden(e -> pending.forEach(f -> f.cancel(true)));
+
+        VBox root = new VBox(12, new Label("Results"), controls, table);
         root.setPadding(new javafx.geometry.Insets(16));
         VBox.setVgrow(table, Priority.ALWAYS);
 
-        Scene scene = new Scene(root, 600, 420);
+        Scene scene = new Scene(root, 640, 460);
         String css = com.example.demo.HelloApplication.class
                 .getResource("/com/example/demo/styles.css")
                 .toExternalForm();
         scene.getStylesheets().add(css);
         stage.setScene(scene);
+        load.run();
         stage.showAndWait();
     }
 
+    /** Server-side orderings offered in the results dialog. */
+    private enum ResultOrder {
+        NEWEST("Newest first", "completedAt", "desc"),
+        OLDEST("Oldest first", "completedAt", "asc"),
+        HIGHEST("Highest score", "score", "desc"),
+        LOWEST("Lowest score", "score", "asc"),
+        STUDENT("Student A-Z", "student", "asc");
+
+        private final String label;
+        private final String sort;
+        private final String direction;
+
+        ResultOrder(String label, String sort, String direction) {
+            this.label = label;
+            this.sort = sort;
+            this.direction = direction;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
     /**
      * Deletes a quiz and removes it from the table.
      */
     private void onDeleteQuiz(QuizSummaryDto quiz) {
         if (quiz == null) return;
-        CompletableFuture.runAsync(() -> {
-            try {
-                quizApi.deleteQuiz(quiz.getId());
-                Platform.runLater(() -> {
-                    quizzes.remove(quiz);
-                    AlertUtils.info("Quiz deleted");
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to delete quiz: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(quizApi.deleteQuizAsync(quiz.getId()), ignored -> {
+            quizzes.remove(quiz);
+            AlertUtils.info("Quiz deleted");
+        }, ex -> ErrorDialog.showFailure("Failed to delete quiz", ex));
     }
 
     /**
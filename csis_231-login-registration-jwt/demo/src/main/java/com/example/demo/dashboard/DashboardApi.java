@@ -6,10 +6,15 @@ import com.example.demo.model.InstructorDashboardResponse;
 import com.example.demo.model.StudentDashboardResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Wrapper for dashboard endpoints.
  */
 public class DashboardApi {
+    private static final int INSTRUCTOR_PAGE_SIZE = 50;
+    private static final TypeReference<InstructorDashboardResponse> INSTRUCTOR_TYPE = new TypeReference<>() {};
+
     private final ApiClient client = new ApiClient();
 
     /**
@@ -23,12 +28,58 @@ public class DashboardApi {
     }
 
     /**
-     * Fetches the instructor dashboard summary for the current authenticated user.
+     * Fetches the first page of the instructor dashboard for the current
+     * authenticated user.
      *
-     * @return course counts and enrollment stats
+     * @return course counts, enrollment stats and the first page of courses
      */
     public InstructorDashboardResponse instructorDashboard() {
-        ApiResponse<InstructorDashboardResponse> resp = client.get("/api/instructor/dashboard", new TypeReference<InstructorDashboardResponse>() {});
+        return instructorDashboard(0);
+    }
+
+    /**
+     * Fetches one page of the instructor dashboard for the current authenticated user.
+     *
+     * @param page zero-based page index
+     * @return course counts, enrollment stats and the requested page of courses
+     */
+    public InstructorDashboardResponse instructorDashboard(int page) {
+        ApiResponse<InstructorDashboardResponse> resp = client.get(instructorPath(page), INSTRUCTOR_TYPE);
         return resp.getBody();
     }
+
+    /**
+     * Asynchronous variant of {@link #studentDashboard()}; cancelling the
+     * future aborts the request.
+     *
+     * @return a future completing with the student dashboard
+     */
+    public CompletableFuture<StudentDashboardResponse> studentDashboardAsync() {
+        return ApiClient.bodyOf(client.getAsync("/api/student/dashboard", new TypeReference<StudentDashboardResponse>() {}));
+    }
+
+    /**
+     * Asynchronous variant of {@link #instructorDashboard()}; cancelling the
+     * future aborts the request.
+     *
+     * @return a future completing with the first dashboard page
+     */
+    public CompletableFuture<InstructorDashboardResponse> instructorDashboardAsync() {
+        return instructorDashboardAsync(0);
+    }
+
+    /**
+     * Asynchronous variant of {@link #instructorDashboard(int)}; cancelling the
+     * future aborts the request.
+     *
+     * @param page zero-based page index
+     * @return a future completing with the requested dashboard page
+     */
+    public CompletableFuture<InstructorDashboardResponse> instructorDashboardAsync(int page) {
+        return ApiClient.bodyOf(client.getAsync(instructorPath(page), INSTRUCTOR_TYPE));
+    }
+
+    private static String instructorPath(int page) {
+        return "/api/instructor/dashboard?page=" + page + "&size=" + INSTRUCTOR_PAGE_SIZE;
+    }
 }
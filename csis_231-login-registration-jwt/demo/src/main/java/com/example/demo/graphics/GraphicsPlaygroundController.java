@@ -2,8 +2,10 @@ package com.example.demo.graphics;
 
 import com.example.demo.Launcher;
 import com.example.demo.auth.AuthApi;
+import com.example.demo.common.ApiClient;
 import com.example.demo.common.ApiException;
 import com.example.demo.common.ErrorDialog;
+import com.example.demo.common.FxAsync;
 import com.example.demo.common.SessionStore;
 import com.example.demo.course.CourseApi;
 import com.example.demo.dashboard.DashboardApi;
@@ -14,6 +16,7 @@ import com.example.demo.model.MeResponse;
 import com.example.demo.model.QuizResultDto;
 import com.example.demo.model.StudentDashboardResponse;
 import com.example.demo.stats.ChartPoint;
+import com.example.demo.stats.QuizScoreDistribution;
 import com.example.demo.stats.StatsApi;
 import javafx.animation.Animation;
 import javafx.animation.RotateTransition;
@@ -40,11 +43,11 @@ import javafx.scene.transform.Rotate;
 import javafx.util.Duration;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
- * Playground view that renders instructor enrollments in 3D and student quiz history in 2D.
+ * Playground view that renders instructor enrollments in 3D, student quiz history
+ * in 2D and the score distribution of each quiz in the selected course.
  */
 public class GraphicsPlaygroundController {
 
@@ -57,6 +60,11 @@ public class GraphicsPlaygroundController {
     @FXML private javafx.scene.control.Label twoDMetaLabel;
     @FXML private javafx.scene.control.Label progressNoticeLabel;
     @FXML private javafx.scene.control.Label coursePickerLabel;
+    @FXML private BarChart<String, Number> distributionChart;
+    @FXML private CategoryAxis distributionXAxis;
+    @FXML private NumberAxis distributionYAxis;
+    @FXML private javafx.scene.control.Label distributionMetaLabel;
+    @FXML private javafx.scene.control.Label distributionNoticeLabel;
 
     private final DashboardApi dashboardApi = new DashboardApi();
     private final CourseApi courseApi = new CourseApi();
@@ -79,6 +87,8 @@ public class GraphicsPlaygroundController {
         progressChart.setLegendVisible(false);
         progressXAxis.setLabel("Quiz");
         progressYAxis.setLabel("Score");
+        distributionXAxis.setLabel("Score band (%)");
+        distributionYAxis.setLabel("Submissions");
         setupCoursePicker();
         loadProfileAndData();
     }
@@ -95,6 +105,12 @@ public class GraphicsPlaygroundController {
     @FXML
     private void refresh2d() { loadStudentProgress(); }
 
+    /**
+     * Manual refresh for the score distribution chart.
+     */
+    @FXML
+    private void refreshDistributions() { loadDistributions(); }
+
     /**
      * Returns to the role-appropriate dashboard.
      */
@@ -118,7 +134,7 @@ public class GraphicsPlaygroundController {
      * and both 3D/2D visualizations based on role.
      */
     private void loadProfileAndData() {
-        CompletableFuture
+        ApiClient
                 .supplyAsync(() -> {
                     MeResponse cached = SessionStore.getMe();
                     if (cached != null) return cached;
@@ -155,21 +171,16 @@ public class GraphicsPlaygroundController {
      * Loads instructor stats and renders them; falls back to student view on 401/403.
      */
     private void fetchInstructor3dWithFallback() {
-        CompletableFuture
-                .supplyAsync(() -> dashboardApi.instructorDashboard())
-                .thenAccept(resp -> Platform.runLater(() -> render3d(resp, null)))
-                .exceptionally(ex -> {
-                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+        FxAsync.deliver(dashboardApi.instructorDashboardAsync(),
+                resp -> render3d(resp, null),
+                cause -> {
                     if (cause instanceof ApiException apiEx && (apiEx.getStatusCode() == 401 || apiEx.getStatusCode() == 403)) {
                         // fallback for non-instructor accounts without popping an error
                         fetchStudent3d();
                     } else {
-                        Platform.runLater(() -> {
-                            ErrorDialog.showError("Failed to load instructor stats: " + cause.getMessage());
-                            clear3dWithMessage("Unable to load 3D data.");
-                        });
+                        ErrorDialog.showError("Failed to load instructor stats: " + cause.getMessage());
+                        clear3dWithMessage("Unable to load 3D data.");
                     }
-                    return null;
                 });
     }
 
@@ -177,26 +188,21 @@ public class GraphicsPlaygroundController {
      * Loads the student dashboard for 3D rendering.
      */
     private void fetchStudent3d() {
-        CompletableFuture
-                .supplyAsync(() -> dashboardApi.studentDashboard())
-                .thenAccept(resp -> {
+        FxAsync.deliver(dashboardApi.studentDashboardAsync(),
+                resp -> {
                     studentCache = resp;
-                    Platform.runLater(() -> render3d(null, resp));
-                })
-                .exceptionally(ex -> {
-                    Platform.runLater(() -> {
-                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
-                        if (cause instanceof ApiException apiEx && (apiEx.getStatusCode() == 401 || apiEx.getStatusCode() == 403)) {
-                            clear3dWithMessage("3D data is unavailable for this role.");
-                        } else if (cause instanceof ApiException apiEx) {
-                            ErrorDialog.showError(apiEx.getMessage(), apiEx.getErrorCode());
-                            clear3dWithMessage("Unable to load 3D data.");
-                        } else {
-                            ErrorDialog.showError("Failed to load student data: " + cause.getMessage());
-                            clear3dWithMessage("Unable to load 3D data.");
-                        }
-                    });
-                    return null;
+                    render3d(null, resp);
+                },
+                cause -> {
+                    if (cause instanceof ApiException apiEx && (apiEx.getStatusCode() == 401 || apiEx.getStatusCode() == 403)) {
+                        clear3dWithMessage("3D data is unavailable for this role.");
+                    } else if (cause instanceof ApiException apiEx) {
+                        ErrorDialog.showError(apiEx.getMessage(), apiEx.getErrorCode());
+                        clear3dWithMessage("Unable to load 3D data.");
+                    } else {
+                        ErrorDialog.showError("Failed to load student data: " + cause.getMessage());
+                        clear3dWithMessage("Unable to load 3D data.");
+                    }
                 });
     }
 
@@ -231,27 +237,22 @@ public class GraphicsPlaygroundController {
             load2dForCourse(selectedCourseId());
             return;
         }
-        CompletableFuture
-                .supplyAsync(() -> dashboardApi.studentDashboard())
-                .thenAccept(resp -> Platform.runLater(() -> render2d(resp)))
-                .exceptionally(ex -> {
-                    Platform.runLater(() -> {
-                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
-                        if (cause instanceof ApiException apiEx && (apiEx.getStatusCode() == 401 || apiEx.getStatusCode() == 403)) {
-                            progressChart.getData().clear();
-                            updateTwoDMeta("Progress data requires a student account.");
-                            showProgressNotice("Progress data requires a student account.");
-                        } else if (cause instanceof ApiException apiEx) {
-                            ErrorDialog.showError(apiEx.getMessage(), apiEx.getErrorCode());
-                            progressChart.getData().clear();
-                            showProgressNotice("Unable to load progress.");
-                        } else {
-                            ErrorDialog.showError("Failed to load progress: " + cause.getMessage());
-                            progressChart.getData().clear();
-                            showProgressNotice("Unable to load progress.");
-                        }
-                    });
-                    return null;
+        FxAsync.deliver(dashboardApi.studentDashboardAsync(),
+                this::render2d,
+                cause -> {
+                    if (cause instanceof ApiException apiEx && (apiEx.getStatusCode() == 401 || apiEx.getStatusCode() == 403)) {
+                        progressChart.getData().clear();
+                        updateTwoDMeta("Progress data requires a student account.");
+                        showProgressNotice("Progress data requires a student account.");
+                    } else if (cause instanceof ApiException apiEx) {
+                        ErrorDialog.showError(apiEx.getMessage(), apiEx.getErrorCode());
+                        progressChart.getData().clear();
+                        showProgressNotice("Unable to load progress.");
+                    } else {
+                        ErrorDialog.showError("Failed to load progress: " + cause.getMessage());
+                        progressChart.getData().clear();
+                        showProgressNotice("Unable to load progress.");
+                    }
                 });
     }
 
@@ -385,6 +386,7 @@ public class GraphicsPlaygroundController {
             cachedCourseViz = null;
             load3dData();
             loadStudentProgress();
+            loadDistributions();
         });
     }
 
@@ -393,12 +395,11 @@ public class GraphicsPlaygroundController {
      */
     private void loadCourseChoices() {
         if (coursePicker == null) return;
-        CompletableFuture
+        ApiClient
                 .supplyAsync(() -> {
                     try {
                         if ("ADMIN".equals(SessionStore.currentRole())) {
-                            var page = courseApi.listPublished(0, 200, null, null);
-                            return page != null ? page.getContent() : List.<CourseDto>of();
+                            return courseApi.listAllPublished(null, null, 200);
                         } else if ("INSTRUCTOR".equals(SessionStore.currentRole()) && me != null) {
                             CourseDto[] courses = courseApi.listInstructorCourses(me.getId());
                             return courses != null ? List.of(courses) : List.<CourseDto>of();
@@ -428,7 +429,7 @@ public class GraphicsPlaygroundController {
      * Loads enrollment and quiz-average data for a specific course and renders both views.
      */
     private void fetchCourseViz(Long courseId) {
-        CompletableFuture
+        ApiClient
                 .supplyAsync(() -> {
                     int enrollments = 0;
                     try {
@@ -479,6 +480,81 @@ public class GraphicsPlaygroundController {
         updateThreeDMeta("Enrollments: " + viz.enrollments());
     }
 
+    /**
+     * Loads the per-quiz score distributions of the selected course.
+     */
+    private void loadDistributions() {
+        Long courseId = selectedCourseId();
+        if (distributionChart == null) return;
+        if (courseId == null) {
+            distributionChart.getData().clear();
+            showDistributionNotice("Select a course to see its score distributions.");
+            return;
+        }
+        ApiClient
+                .supplyAsync(() -> {
+                    QuizScoreDistribution[] distributions = statsApi.quizDistributions(courseId);
+                    return distributions != null ? List.of(distributions) : List.<QuizScoreDistribution>of();
+                })
+                .thenAccept(list -> Platform.runLater(() -> {
+                    if (Objects.equals(courseId, selectedCourseId())) renderDistributions(list);
+                }))
+                .exceptionally(ex -> {
+                    Platform.runLater(() -> {
+                        distributionChart.getData().clear();
+                        showDistributionNotice("Unable to load score distributions.");
+                    });
+                    return null;
+                });
+    }
+
+    /**
+     * Renders one histogram series per quiz, bucketed in ten-point score bands.
+     */
+    private void renderDistributions(List<QuizScoreDistribution> distributions) {
+        if (distributionChart == null) return;
+        distributionChart.getData().clear();
+        List<QuizScoreDistribution> submitted = distributions.stream()
+                .filter(d -> d.submissions() > 0 && d.histogram() != null)
+                .toList();
+        if (submitted.isEmpty()) {
+            showDistributionNotice(distributions.isEmpty() ? "No quizzes for this course." : "No submissions yet.");
+            if (distributionMetaLabel != null) distributionMetaLabel.setText("Quizzes: " + distributions.size());
+            return;
+        }
+        if (distributionNoticeLabel != null) {
+            distributionNoticeLabel.setVisible(false);
+            distributionNoticeLabel.setManaged(false);
+        }
+        long submissions = 0;
+        for (QuizScoreDistribution d : submitted) {
+            XYChart.Series<String, Number> series = new XYChart.Series<>();
+            series.setName(d.quizName() + (d.median() != null ? String.format(" (median %.0f%%)", d.median()) : ""));
+            for (int bucket = 0; bucket < d.histogram().size(); bucket++) {
+                series.getData().add(new XYChart.Data<>(bandLabel(bucket, d.histogram().size()), d.histogram().get(bucket)));
+            }
+            distributionChart.getData().add(series);
+            submissions += d.submissions();
+        }
+        if (distributionMetaLabel != null) {
+            distributionMetaLabel.setText("Quizzes: " + submitted.size() + " • Submissions: " + submissions);
+        }
+    }
+
+    private static String bandLabel(int bucket, int buckets) {
+        int width = 100 / Math.max(1, buckets);
+        int low = bucket * width;
+        return bucket == buckets - 1 ? low + "-100" : low + "-" + (low + width - 1);
+    }
+
+    private void showDistributionNotice(String text) {
+        if (distributionNoticeLabel != null) {
+            distributionNoticeLabel.setText(text);
+            distributionNoticeLabel.setVisible(true);
+            distributionNoticeLabel.setManaged(true);
+        }
+    }
+
     private List<QuizScorePoint> pointsToScores(ChartPoint[] points) {
         return Arrays.stream(points)
                 .map(p -> new QuizScorePoint(p.label(), p.value()))
@@ -493,7 +569,7 @@ public class GraphicsPlaygroundController {
             renderCourse2d(pointsToScores(cachedCourseViz.points()));
             return;
         }
-        CompletableFuture
+        ApiClient
                 .supplyAsync(() -> {
                     try {
                         ChartPoint[] points = statsApi.quizAverages(courseId);
@@ -3,8 +3,8 @@ package com.example.demo.instructor;
 import com.example.demo.Launcher;
 import com.example.demo.auth.AuthApi;
 import com.example.demo.common.AlertUtils;
-import com.example.demo.common.ApiException;
 import com.example.demo.common.ErrorDialog;
+import com.example.demo.common.FxAsync;
 import com.example.demo.common.SessionStore;
 import com.example.demo.common.TokenStore;
 import com.example.demo.common.TableUtils;
@@ -14,13 +14,11 @@ import com.example.demo.model.CourseDto;
 import com.example.demo.model.InstructorDashboardResponse;
 import com.example.demo.model.MeResponse;
 import com.example.demo.model.CourseStatsDto;
-import com.example.demo.model.CourseDetailDto;
+import com.example.demo.model.PendingQuizDto;
 import com.example.demo.model.QuizSummaryDto;
-import com.example.demo.model.QuizResultDto;
 import com.example.demo.dashboard.DashboardApi;
 import com.example.demo.student.EnrollmentApi;
 import com.example.demo.quiz.QuizApi;
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -50,6 +48,7 @@ public class InstructorDashboardController {
     @FXML private TableColumn<CourseDto, Boolean> publishedColumn;
     @FXML private TableColumn<CourseDto, String> createdColumn;
     @FXML private TableColumn<CourseDto, Void> actionsColumn;
+    @FXML private Button loadMoreCoursesButton;
 
     @FXML private TableView<EnrollmentResponse> enrollmentTable;
     @FXML private TableColumn<EnrollmentResponse, String> enrollStudentColumn;
@@ -81,6 +80,9 @@ public class InstructorDashboardController {
     private MeResponse me;
     private final Map<Long, String> courseTitles = new HashMap<>();
     private InstructorDashboardResponse lastDashboard;
+    private int loadedCoursePages;
+    private CompletableFuture<?> pendingCoursePage;
+    private CompletableFuture<?> pendingEnrollments;
 
     /**
      * Configures table columns/actions and kicks off loading of profile,
@@ -186,39 +188,26 @@ public class InstructorDashboardController {
      * Loads current user (from cache or API) then triggers dashboard data loads.
      */
     private void loadMeAndDashboard() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                MeResponse cached = SessionStore.getMe();
-                me = cached != null ? cached : authApi.me();
-                if (cached == null) SessionStore.setMe(me);
-                Platform.runLater(this::updateAnalyticsButton);
-                loadMyEnrollments();
-                loadUpcomingQuizzes();
-                loadDashboard();
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load profile: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(authApi.currentUserAsync(), current -> {
+            me = current;
+            updateAnalyticsButton();
+            loadMyEnrollments();
+            loadUpcomingQuizzes();
+            loadDashboard();
+        }, ex -> ErrorDialog.showFailure("Failed to load profile", ex));
     }
 
     /**
-     * Fetches instructor dashboard summary and populates the view.
+     * Fetches the first page of the instructor dashboard and populates the view.
+     * Further course pages are only requested through "Load more".
      */
     private void loadDashboard() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                InstructorDashboardResponse resp = dashboardApi.instructorDashboard();
-                Platform.runLater(() -> populate(resp));
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load dashboard: " + ex.getMessage()));
-            }
-        });
+        if (pendingCoursePage != null) pendingCoursePage.cancel(true);
+        pendingCoursePage = FxAsync.deliver(dashboardApi.instructorDashboardAsync(0), this::populate, this::showDashboardError);
     }
 
     /**
-     * Populates summary labels and course table from the instructor dashboard response.
+     * Populates summary labels and course table from the first dashboard page.
      */
     private void populate(InstructorDashboardResponse resp) {
         this.lastDashboard = resp;
@@ -227,17 +216,34 @@ public class InstructorDashboardController {
         }
         courseCountLabel.setText(String.valueOf(resp.getCourseCount()));
         enrollmentCountLabel.setText(String.valueOf(resp.getTotalEnrollments()));
-        if (resp.getCourses() != null && !resp.getCourses().isEmpty()) {
-            CourseDto last = resp.getCourses().get(resp.getCourses().size() - 1);
-            lastCourseLabel.setText(last.getTitle());
-        } else {
-            lastCourseLabel.setText("No courses yet");
-        }
+        lastCourseLabel.setText(resp.getLatestCourseTitle() != null ? resp.getLatestCourseTitle() : "No courses yet");
         courses.setAll(resp.getCourses() != null ? resp.getCourses() : java.util.List.of());
+        loadedCoursePages = 1;
+        loadMoreCoursesButton.setDisable(loadedCoursePages >= resp.getTotalPages());
         enrollments.clear();
         updateAnalyticsButton();
     }
 
+    @FXML
+    private void onLoadMoreCourses() {
+        if (pendingCoursePage != null && !pendingCoursePage.isDone()) return;
+        int page = loadedCoursePages;
+        loadMoreCoursesButton.setDisable(true);
+        pendingCoursePage = FxAsync.deliver(dashboardApi.instructorDashboardAsync(page), resp -> {
+            if (page != loadedCoursePages) return;
+            if (resp.getCourses() != null) courses.addAll(resp.getCourses());
+            loadedCoursePages = page + 1;
+            loadMoreCoursesButton.setDisable(loadedCoursePages >= resp.getTotalPages());
+        }, ex -> {
+            loadMoreCoursesButton.setDisable(false);
+            showDashboardError(ex);
+        });
+    }
+
+    private void showDashboardError(Throwable ex) {
+        ErrorDialog.showFailure("Failed to load dashboard", ex);
+    }
+
     private void onOpenCourse(CourseDto course) {
         SessionStore.setActiveCourse(course);
         Launcher.go("course_detail.fxml", "Course Detail");
@@ -259,16 +265,10 @@ public class InstructorDashboardController {
      * Loads enrollments for the selected course into the enrollments table.
      */
     private void loadEnrollmentsForCourse(Long courseId) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                EnrollmentResponse[] resp = courseApi.listCourseEnrollments(courseId);
-                Platform.runLater(() -> enrollments.setAll(resp != null ? java.util.Arrays.asList(resp) : java.util.List.of()));
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load enrollments: " + ex.getMessage()));
-            }
-        });
+        if (pendingEnrollments != null) pendingEnrollments.cancel(true);
+        pendingEnrollments = FxAsync.deliver(courseApi.listCourseEnrollmentsAsync(courseId),
+                resp -> enrollments.setAll(resp != null ? java.util.Arrays.asList(resp) : java.util.List.of()),
+                ex -> ErrorDialog.showFailure("Failed to load enrollments", ex));
     }
 
     /**
@@ -276,14 +276,9 @@ public class InstructorDashboardController {
      */
     private void loadMyEnrollments() {
         if (myEnrollmentTable == null || me == null || me.getId() == null) return;
-        CompletableFuture.runAsync(() -> {
-            try {
-                EnrollmentResponse[] resp = enrollmentApi.listByCurrentUser(me.getId());
-                Platform.runLater(() -> myEnrollments.setAll(resp != null ? java.util.Arrays.asList(resp) : java.util.List.of()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load your enrollments: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(enrollmentApi.listByStudentAsync(me.getId()),
+                resp -> myEnrollments.setAll(resp != null ? java.util.Arrays.asList(resp) : java.util.List.of()),
+                ex -> ErrorDialog.showFailure("Failed to load your enrollments", ex));
     }
 
     /**
@@ -291,36 +286,15 @@ public class InstructorDashboardController {
      */
     private void loadUpcomingQuizzes() {
         if (upcomingQuizTable == null || me == null || me.getId() == null) return;
-        CompletableFuture.runAsync(() -> {
-            try {
-                EnrollmentResponse[] enrolls = enrollmentApi.listByCurrentUser(me.getId());
-                if (enrolls == null) enrolls = new EnrollmentResponse[0];
-                courseTitles.clear();
-                List<QuizSummaryDto> pending = new ArrayList<>();
-                Set<Long> added = new HashSet<>();
-                for (EnrollmentResponse er : enrolls) {
-                    if (er.getCourseId() == null) continue;
-                    try {
-                        CourseDetailDto detail = courseApi.get(er.getCourseId());
-                        if (detail == null) continue;
-                        courseTitles.put(detail.getId(), detail.getTitle());
-                        if (detail.getQuizzes() == null) continue;
-                        for (QuizSummaryDto q : detail.getQuizzes()) {
-                            if (q == null || q.getId() == null || added.contains(q.getId())) continue;
-                            QuizResultDto r = null;
-                            try { r = quizApi.myResult(q.getId()); } catch (Exception ignored) {}
-                            if (r == null) {
-                                pending.add(q);
-                                added.add(q.getId());
-                            }
-                        }
-                    } catch (Exception ignored) {}
+        FxAsync.deliver(quizApi.pendingQuizzesAsync(), pending -> {
+            courseTitles.clear();
+            for (PendingQuizDto q : pending) {
+                if (q.getCourseId() != null && q.getCourseTitle() != null) {
+                    courseTitles.put(q.getCourseId(), q.getCourseTitle());
                 }
-                Platform.runLater(() -> upcomingQuizzes.setAll(pending));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load upcoming quizzes: " + ex.getMessage()));
             }
-        });
+            upcomingQuizzes.setAll(List.<QuizSummaryDto>of(pending));
+        }, ex -> ErrorDialog.showFailure("Failed to load upcoming quizzes", ex));
     }
 
     @FXML
@@ -15,6 +15,7 @@ public class AuthResponse {
     private String firstName;
     private String lastName;
     private String role;
+    private String refreshToken;
 
     public boolean isOtpRequired() {
         return otpRequired;
@@ -79,4 +80,12 @@ public class AuthResponse {
     public void setRole(String role) {
         this.role = role;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.demo.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * A ranked course search hit returned by {@code /api/courses/search}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CourseSearchHit {
+    private CourseDto course;
+    private double rank;
+
+    public CourseDto getCourse() { return course; }
+    public void setCourse(CourseDto course) { this.course = course; }
+
+    public double getRank() { return rank; }
+    public void setRank(double rank) { this.rank = rank; }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Ranked course search results plus the server-side timings reported by
+ * {@code /api/courses/search}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CourseSearchResponse {
+    private String query;
+    private String engine;
+    private List<CourseSearchHit> results;
+    private double indexMillis;
+    private double tookMillis;
+
+    public String getQuery() { return query; }
+    public void setQuery(String query) { this.query = query; }
+
+    public String getEngine() { return engine; }
+    public void setEngine(String engine) { this.engine = engine; }
+
+    public List<CourseSearchHit> getResults() { return results; }
+    public void setResults(List<CourseSearchHit> results) { this.results = results; }
+
+    public double getIndexMillis() { return indexMillis; }
+    public void setIndexMillis(double indexMillis) { this.indexMillis = indexMillis; }
+
+    public double getTookMillis() { return tookMillis; }
+    public void setTookMillis(double tookMillis) { this.tookMillis = tookMillis; }
+}
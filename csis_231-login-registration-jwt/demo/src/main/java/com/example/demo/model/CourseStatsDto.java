@@ -4,13 +4,14 @@ package com.example.demo.model;
  * Aggregated metrics for an instructor course.
  *
  * <p>Returned by instructor dashboard/analytics to show course-level enrollments
- * and quiz counts.</p>
+ * and quiz counts, plus the average quiz score (percent) when submissions exist.</p>
  */
 public class CourseStatsDto {
     private Long courseId;
     private String courseTitle;
     private long enrollmentCount;
     private int quizCount;
+    private Double averageScore;
 
     public Long getCourseId() { return courseId; }
     public void setCourseId(Long courseId) { this.courseId = courseId; }
@@ -23,4 +24,7 @@ public class CourseStatsDto {
 
     public int getQuizCount() { return quizCount; }
     public void setQuizCount(int quizCount) { this.quizCount = quizCount; }
+
+    public Double getAverageScore() { return averageScore; }
+    public void setAverageScore(Double averageScore) { this.averageScore = averageScore; }
 }
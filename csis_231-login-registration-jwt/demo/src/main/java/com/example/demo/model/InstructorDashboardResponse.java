@@ -6,14 +6,20 @@ import java.util.List;
  * Payload returned by /api/instructor/dashboard.
  *
  * <p>Summarizes instructor metrics (course count, total enrollments) and
- * includes lists used to populate course tables and analytics.</p>
+ * includes lists used to populate course tables and analytics. The course and
+ * stats lists hold one page; the counts and latest course title cover all of
+ * the instructor's courses.</p>
  */
 public class InstructorDashboardResponse {
     private Long instructorUserId;
     private int courseCount;
     private long totalEnrollments;
+    private String latestCourseTitle;
     private List<CourseDto> courses;
     private List<CourseStatsDto> courseStats;
+    private int page;
+    private int size;
+    private int totalPages;
 
     public Long getInstructorUserId() { return instructorUserId; }
     public void setInstructorUserId(Long instructorUserId) { this.instructorUserId = instructorUserId; }
@@ -24,9 +30,21 @@ public class InstructorDashboardResponse {
     public long getTotalEnrollments() { return totalEnrollments; }
     public void setTotalEnrollments(long totalEnrollments) { this.totalEnrollments = totalEnrollments; }
 
+    public String getLatestCourseTitle() { return latestCourseTitle; }
+    public void setLatestCourseTitle(String latestCourseTitle) { this.latestCourseTitle = latestCourseTitle; }
+
     public List<CourseDto> getCourses() { return courses; }
     public void setCourses(List<CourseDto> courses) { this.courses = courses; }
 
     public List<CourseStatsDto> getCourseStats() { return courseStats; }
     public void setCourseStats(List<CourseStatsDto> courseStats) { this.courseStats = courseStats; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public int getTotalPages() { return totalPages; }
+    public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
 }
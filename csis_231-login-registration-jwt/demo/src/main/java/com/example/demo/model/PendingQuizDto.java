@@ -0,0 +1,13 @@
+package com.example.demo.model;
+
+/**
+ * Quiz the current user has not submitted yet, as returned by
+ * {@code GET /api/me/pending-quizzes}; carries its course title so dashboards
+ * need no extra course lookup.
+ */
+public class PendingQuizDto extends QuizSummaryDto {
+    private String courseTitle;
+
+    public String getCourseTitle() { return courseTitle; }
+    public void setCourseTitle(String courseTitle) { this.courseTitle = courseTitle; }
+}
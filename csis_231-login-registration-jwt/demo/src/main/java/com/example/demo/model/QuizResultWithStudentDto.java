@@ -0,0 +1,16 @@
+package com.example.demo.model;
+
+/**
+ * Quiz result row for instructor result tables, carrying the student's
+ * username and display name so no per-row user lookup is needed.
+ */
+public class QuizResultWithStudentDto extends QuizResultDto {
+    private String studentUsername;
+    private String studentName;
+
+    public String getStudentUsername() { return studentUsername; }
+    public void setStudentUsername(String studentUsername) { this.studentUsername = studentUsername; }
+
+    public String getStudentName() { return studentName; }
+    public void setStudentName(String studentName) { this.studentName = studentName; }
+}
@@ -2,10 +2,16 @@ package com.example.demo.quiz;
 
 import com.example.demo.common.ApiClient;
 import com.example.demo.common.ApiResponse;
+import com.example.demo.common.PageResponse;
 import com.example.demo.model.*;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP wrapper for quiz endpoints (create, fetch, submit, results).
@@ -21,6 +27,13 @@ public class QuizApi {
         return resp.getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #getQuiz(Long)}; cancelling the future aborts the request.
+     */
+    public CompletableFuture<QuizDetailDto> getQuizAsync(Long quizId) {
+        return ApiClient.bodyOf(client.getAsync("/api/quizzes/" + quizId, new TypeReference<QuizDetailDto>() {}));
+    }
+
     /**
      * Creates a quiz and returns its summary.
      */
@@ -29,6 +42,13 @@ public class QuizApi {
         return resp.getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #createQuiz(QuizCreateRequest)}.
+     */
+    public CompletableFuture<QuizSummaryDto> createQuizAsync(QuizCreateRequest req) {
+        return ApiClient.bodyOf(client.postAsync("/api/quizzes", req, new TypeReference<QuizSummaryDto>() {}));
+    }
+
     /**
      * Adds a batch of questions to a quiz.
      */
@@ -36,6 +56,13 @@ public class QuizApi {
         client.post("/api/quizzes/" + quizId + "/questions", questions);
     }
 
+    /**
+     * Asynchronous variant of {@link #addQuestions(Long, List)}.
+     */
+    public CompletableFuture<Void> addQuestionsAsync(Long quizId, List<QuizQuestionRequest> questions) {
+        return ApiClient.bodyOf(client.<Void>postAsync("/api/quizzes/" + quizId + "/questions", questions, null));
+    }
+
     /**
      * Submits quiz answers and returns the scored result.
      */
@@ -44,6 +71,13 @@ public class QuizApi {
         return resp.getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #submit(Long, QuizSubmissionRequest)}.
+     */
+    public CompletableFuture<QuizSubmissionResponse> submitAsync(Long quizId, QuizSubmissionRequest req) {
+        return ApiClient.bodyOf(client.postAsync("/api/quizzes/" + quizId + "/submit", req, new TypeReference<QuizSubmissionResponse>() {}));
+    }
+
     /**
      * Lists all results for a quiz (for instructors/admins).
      */
@@ -52,6 +86,30 @@ public class QuizApi {
         return resp.getBody();
     }
 
+    /**
+     * Fetches one page of a quiz's results with student names (for instructors/admins).
+     *
+     * @param sort      {@code completedAt}, {@code score} or {@code student}
+     * @param direction {@code asc} or {@code desc}
+     */
+    public PageResponse<QuizResultWithStudentDto> resultPage(Long quizId, int page, int size, String sort, String direction) {
+        return client.getPage(resultPagePath(quizId, page, size, sort, direction), QuizResultWithStudentDto.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #resultPage(Long, int, int, String, String)};
+     * cancelling the future aborts the request.
+     */
+    public CompletableFuture<PageResponse<QuizResultWithStudentDto>> resultPageAsync(Long quizId, int page, int size,
+                                                                                   String sort, String direction) {
+        return client.getPageAsync(resultPagePath(quizId, page, size, sort, direction), QuizResultWithStudentDto.class);
+    }
+
+    private static String resultPagePath(Long quizId, int page, int size, String sort, String direction) {
+        return "/api/quizzes/" + quizId + "/results/page?page=" + page + "&size=" + size
+                + "&sort=" + sort + "&direction=" + direction;
+    }
+
     /**
      * Deletes a quiz by id.
      */
@@ -59,6 +117,13 @@ public class QuizApi {
         client.delete("/api/quizzes/" + quizId);
     }
 
+    /**
+     * Asynchronous variant of {@link #deleteQuiz(Long)}.
+     */
+    public CompletableFuture<Void> deleteQuizAsync(Long quizId) {
+        return ApiClient.bodyOf(client.deleteAsync("/api/quizzes/" + quizId));
+    }
+
     /**
      * Fetches the current user's latest result for a quiz, if any.
      */
@@ -66,4 +131,56 @@ public class QuizApi {
         ApiResponse<QuizResultDto> resp = client.get("/api/quizzes/" + quizId + "/my-result", new TypeReference<QuizResultDto>() {});
         return resp.getBody();
     }
+
+    /**
+     * Fetches the current user's latest results for many quizzes in one call,
+     * keyed by quiz id; quizzes without a result are absent.
+     */
+    public Map<Long, QuizResultDto> myResults(Collection<Long> quizIds) {
+        if (quizIds == null || quizIds.isEmpty()) return Map.of();
+        ApiResponse<QuizResultDto[]> resp = client.post("/api/quizzes/my-results",
+                myResultsBody(quizIds), new TypeReference<QuizResultDto[]>() {});
+        return byQuiz(resp.getBody());
+    }
+
+    /**
+     * Asynchronous variant of {@link #myResults(Collection)}; cancelling the
+     * future aborts the request.
+     */
+    public CompletableFuture<Map<Long, QuizResultDto>> myResultsAsync(Collection<Long> quizIds) {
+        if (quizIds == null || quizIds.isEmpty()) return CompletableFuture.completedFuture(Map.of());
+        return ApiClient.map(ApiClient.bodyOf(client.postAsync("/api/quizzes/my-results",
+                myResultsBody(quizIds), new TypeReference<QuizResultDto[]>() {})), QuizApi::byQuiz);
+    }
+
+    private static Map<String, Object> myResultsBody(Collection<Long> quizIds) {
+        return Map.of("quizIds", quizIds.stream().filter(Objects::nonNull).distinct().toList());
+    }
+
+    private static Map<Long, QuizResultDto> byQuiz(QuizResultDto[] results) {
+        Map<Long, QuizResultDto> byQuiz = new HashMap<>();
+        if (results != null) {
+            for (QuizResultDto r : results) {
+                if (r != null && r.getQuizId() != null) byQuiz.put(r.getQuizId(), r);
+            }
+        }
+        return byQuiz;
+    }
+
+    /**
+     * Lists quizzes in the current user's enrolled courses that they have not submitted yet.
+     */
+    public PendingQuizDto[] pendingQuizzes() {
+        ApiResponse<PendingQuizDto[]> resp = client.get("/api/me/pending-quizzes", new TypeReference<PendingQuizDto[]>() {});
+        return resp.getBody() != null ? resp.getBody() : new PendingQuizDto[0];
+    }
+
+    /**
+     * Asynchronous variant of {@link #pendingQuizzes()}; cancelling the future
+     * aborts the request.
+     */
+    public CompletableFuture<PendingQuizDto[]> pendingQuizzesAsync() {
+        return ApiClient.map(ApiClient.bodyOf(client.getAsync("/api/me/pending-quizzes", new TypeReference<PendingQuizDto[]>() {})),
+                body -> body != null ? body : new PendingQuizDto[0]);
+    }
 }
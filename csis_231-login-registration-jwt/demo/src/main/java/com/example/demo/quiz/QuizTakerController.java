@@ -2,18 +2,16 @@ package com.example.demo.quiz;
 
 import com.example.demo.Launcher;
 import com.example.demo.common.AlertUtils;
-import com.example.demo.common.ApiException;
 import com.example.demo.common.ErrorDialog;
+import com.example.demo.common.FxAsync;
 import com.example.demo.common.SessionStore;
 import com.example.demo.model.*;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Simple quiz-taking screen that fetches a quiz and walks the user through
@@ -49,19 +47,10 @@ public class QuizTakerController {
      * Fetches quiz detail and renders the first question.
      */
     private void loadQuiz(Long quizId) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                QuizDetailDto detail = quizApi.getQuiz(quizId);
-                Platform.runLater(() -> {
-                    quiz = detail;
-                    showCurrent();
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load quiz: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(quizApi.getQuizAsync(quizId), detail -> {
+            quiz = detail;
+            showCurrent();
+        }, ex -> ErrorDialog.showFailure("Failed to load quiz", ex));
     }
 
     /**
@@ -140,21 +129,14 @@ public class QuizTakerController {
             return;
         }
         nextButton.setDisable(true);
-        CompletableFuture.runAsync(() -> {
-            try {
-                QuizSubmissionResponse resp = quizApi.submit(quiz.getId(), new QuizSubmissionRequest(payload));
-                Platform.runLater(() -> {
-                    AlertUtils.info("Score: " + resp.getScore() + "/" + resp.getTotalQuestions()
-                            + " (" + Math.round(resp.getPercentage()) + "%)");
-                    navigateHome();
-                });
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to submit quiz: " + ex.getMessage()));
-            } finally {
-                Platform.runLater(() -> nextButton.setDisable(false));
-            }
+        FxAsync.deliver(quizApi.submitAsync(quiz.getId(), new QuizSubmissionRequest(payload)), resp -> {
+            nextButton.setDisable(false);
+            AlertUtils.info("Score: " + resp.getScore() + "/" + resp.getTotalQuestions()
+                    + " (" + Math.round(resp.getPercentage()) + "%)");
+            navigateHome();
+        }, ex -> {
+            nextButton.setDisable(false);
+            ErrorDialog.showFailure("Failed to submit quiz", ex);
         });
     }
 
@@ -0,0 +1,21 @@
+package com.example.demo.stats;
+
+import java.util.List;
+
+/**
+ * Score distribution of a quiz returned by the statistics endpoints.
+ *
+ * <p>All scores are percentages (0-100). Percentiles are {@code null} when the
+ * quiz has no submissions; {@code histogram} holds ten buckets of ten points.</p>
+ */
+public record QuizScoreDistribution(
+        Long quizId,
+        String quizName,
+        long submissions,
+        double averageScore,
+        Double p25,
+        Double median,
+        Double p75,
+        Double p90,
+        List<Long> histogram
+) { }
@@ -23,4 +23,18 @@ public class StatsApi {
                 new TypeReference<ChartPoint[]>() {});
         return resp.getBody();
     }
+
+    /**
+     * Returns the per-quiz score distribution (average, percentiles, histogram)
+     * for the given course.
+     *
+     * @param courseId course identifier
+     * @return array of quiz score distributions
+     */
+    public QuizScoreDistribution[] quizDistributions(Long courseId) {
+        ApiResponse<QuizScoreDistribution[]> resp = client.get(
+                "/api/statistics/courses/" + courseId + "/quiz-distributions",
+                new TypeReference<QuizScoreDistribution[]>() {});
+        return resp.getBody();
+    }
 }
@@ -6,6 +6,8 @@ import com.example.demo.model.EnrollmentRequest;
 import com.example.demo.model.EnrollmentResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Client for enrollment endpoints.
  *
@@ -23,6 +25,13 @@ public class EnrollmentApi {
         return resp.getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #enroll(EnrollmentRequest)}.
+     */
+    public CompletableFuture<EnrollmentResponse> enrollAsync(EnrollmentRequest req) {
+        return ApiClient.bodyOf(client.postAsync("/api/enrollments/enroll", req, new TypeReference<EnrollmentResponse>() {}));
+    }
+
     /**
      * Lists enrollments for the given student id.
      */
@@ -31,6 +40,14 @@ public class EnrollmentApi {
         return resp.getBody();
     }
 
+    /**
+     * Asynchronous variant of {@link #listByStudent(Long)}; cancelling the
+     * future aborts the request.
+     */
+    public CompletableFuture<EnrollmentResponse[]> listByStudentAsync(Long userId) {
+        return ApiClient.bodyOf(client.getAsync("/api/students/" + userId + "/enrollments", new TypeReference<EnrollmentResponse[]>() {}));
+    }
+
     /**
      * Alias for listing the current user's enrollments.
      */
@@ -2,15 +2,14 @@ package com.example.demo.student;
 
 import com.example.demo.Launcher;
 import com.example.demo.auth.AuthApi;
-import com.example.demo.common.ApiException;
 import com.example.demo.common.ErrorDialog;
+import com.example.demo.common.FxAsync;
 import com.example.demo.common.SessionStore;
 import com.example.demo.common.TokenStore;
 import com.example.demo.common.TableUtils;
 import com.example.demo.dashboard.DashboardApi;
 import com.example.demo.model.*;
 import com.example.demo.quiz.QuizApi;
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -54,6 +53,8 @@ public class StudentDashboardController {
     private final QuizApi quizApi = new QuizApi();
     private MeResponse me;
     private StudentDashboardResponse lastDashboard;
+    private CompletableFuture<?> pendingDashboard;
+    private CompletableFuture<?> pendingFilter;
 
     /**
      * Configures tables/actions and kicks off profile + dashboard load.
@@ -101,33 +102,21 @@ public class StudentDashboardController {
      * Loads the current user (cached or via API) then dashboard data.
      */
     private void loadMeAndDashboard() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                MeResponse cached = SessionStore.getMe();
-                me = cached != null ? cached : authApi.me();
-                if (cached == null) SessionStore.setMe(me);
-                Platform.runLater(this::updateVisualizeButton);
-                loadDashboard();
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load profile: " + ex.getMessage()));
-            }
-        });
+        FxAsync.deliver(authApi.currentUserAsync(), current -> {
+            me = current;
+            updateVisualizeButton();
+            loadDashboard();
+        }, ex -> ErrorDialog.showFailure("Failed to load profile", ex));
     }
 
     /**
-     * Fetches the student dashboard payload and populates the view.
+     * Fetches the student dashboard payload and populates the view. A newer
+     * load cancels the one still in flight.
      */
     private void loadDashboard() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                StudentDashboardResponse resp = dashboardApi.studentDashboard();
-                Platform.runLater(() -> populate(resp));
-            } catch (ApiException ex) {
-                Platform.runLater(() -> ErrorDialog.showError(ex.getMessage(), ex.getErrorCode()));
-            } catch (Exception ex) {
-                Platform.runLater(() -> ErrorDialog.showError("Failed to load dashboard: " + ex.getMessage()));
-            }
-        });
+        if (pendingDashboard != null) pendingDashboard.cancel(true);
+        pendingDashboard = FxAsync.deliver(dashboardApi.studentDashboardAsync(), this::populate,
+                ex -> ErrorDialog.showFailure("Failed to load dashboard", ex));
     }
 
     /**
@@ -156,24 +145,17 @@ public class StudentDashboardController {
      */
     private void filterUpcomingByResult() {
         var items = new java.util.ArrayList<>(upcomingQuizzes);
-        CompletableFuture.runAsync(() -> {
-            java.util.List<QuizSummaryDto> remaining = new java.util.ArrayList<>();
-            for (QuizSummaryDto q : items) {
-                try {
-                    QuizResultDto r = quizApi.myResult(q.getId());
-                    if (r == null) {
-                        remaining.add(q);
-                    }
-                } catch (Exception ex) {
-                    // if API fails, keep it visible
-                    remaining.add(q);
-                }
-            }
-            Platform.runLater(() -> {
-                upcomingQuizzes.setAll(remaining);
-                upcomingCountLabel.setText(String.valueOf(remaining.size()));
-            });
-        });
+        if (pendingFilter != null) pendingFilter.cancel(true);
+        pendingFilter = FxAsync.deliver(quizApi.myResultsAsync(items.stream().map(QuizSummaryDto::getId).toList()), results -> {
+            java.util.List<QuizSummaryDto> remaining = new java.util.ArrayList<>(items);
+            remaining.removeIf(q -> results.containsKey(q.getId()));
+            showUpcoming(remaining);
+        }, ex -> showUpcoming(items)); // if API fails, keep them visible
+    }
+
+    private void showUpcoming(java.util.List<QuizSummaryDto> remaining) {
+        upcomingQuizzes.setAll(remaining);
+        upcomingCountLabel.setText(String.valueOf(remaining.size()));
     }
 
     private void onOpenCourse(CourseDto course) {
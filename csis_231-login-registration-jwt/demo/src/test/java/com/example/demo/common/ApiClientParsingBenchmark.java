@@ -0,0 +1,131 @@
+package com.example.demo.common;
+
+import com.example.demo.model.User;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response parsing in {@link ApiClient}: the previous path (body decoded to a
+ * {@code String}, pages turned into a {@link JsonNode} tree and bound item by
+ * item with {@code treeToValue}) against the current one (bytes bound with a
+ * cached {@link ObjectReader}, pages streamed through {@link PageReader}).
+ *
+ * <p>Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="ApiClientParsingBenchmark -prof gc"};
+ * the GC profiler reports allocation per operation next to the time.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiClientParsingBenchmark {
+
+    private static final TypeReference<List<User>> USER_LIST = new TypeReference<>() {
+    };
+
+    @Param({"50", "1000"})
+    public int items;
+
+    private ObjectMapper mapper;
+    private ObjectReader listReader;
+    private PageReader<User> pageReader;
+    private byte[] page;
+    private byte[] list;
+
+    @Setup
+    public void setUp() throws IOException {
+        // same configuration as ApiClient's mapper
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        listReader = mapper.readerFor(USER_LIST);
+        pageReader = new PageReader<>(mapper.readerFor(User.class));
+
+        List<Map<String, Object>> users = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            Map<String, Object> user = new HashMap<>();
+            user.put("id", (long) i);
+            user.put("username", "user" + i);
+            user.put("email", "user" + i + "@example.com");
+            user.put("firstName", "First" + i);
+            user.put("lastName", "Last" + i);
+            user.put("phone", "+961 70 000 " + i);
+            user.put("isActive", true);
+            user.put("emailVerified", i % 2 == 0);
+            user.put("twoFactorEnabled", false);
+            user.put("role", "STUDENT");
+            users.add(user);
+        }
+        Map<String, Object> envelope = new HashMap<>();
+        envelope.put("content", users);
+        envelope.put("number", 0);
+        envelope.put("size", items);
+        envelope.put("totalElements", (long) items);
+        envelope.put("totalPages", 1);
+        envelope.put("first", true);
+        envelope.put("last", true);
+        envelope.put("pageable", Map.of("pageNumber", 0, "pageSize", items));
+        page = mapper.writeValueAsBytes(envelope);
+        list = mapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public PageResponse<User> pageViaStringAndTree() throws IOException {
+        JsonNode root = mapper.readTree(new String(page, StandardCharsets.UTF_8));
+        PageResponse<User> result = new PageResponse<>();
+        result.setNumber(root.path("number").asInt());
+        result.setSize(root.path("size").asInt());
+        result.setTotalElements(root.path("totalElements").asLong());
+        result.setTotalPages(root.path("totalPages").asInt());
+        result.setFirst(root.path("first").asBoolean());
+        result.setLast(root.path("last").asBoolean());
+        List<User> content = new ArrayList<>();
+        for (JsonNode node : root.path("content")) {
+            content.add(mapper.treeToValue(node, User.class));
+        }
+        result.setContent(content);
+        return result;
+    }
+
+    @Benchmark
+    public PageResponse<User> pageViaStreamingReader() throws IOException {
+        try (JsonParser parser = mapper.createParser(page)) {
+            return pageReader.read(parser, item -> true);
+        }
+    }
+
+    @Benchmark
+    public List<User> listViaString() throws IOException {
+        return mapper.readValue(new String(list, StandardCharsets.UTF_8), USER_LIST);
+    }
+
+    @Benchmark
+    public List<User> listViaCachedReader() throws IOException {
+        return listReader.readValue(list);
+    }
+}